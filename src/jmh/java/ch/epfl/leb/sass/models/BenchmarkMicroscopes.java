@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models;
+
+import ch.epfl.leb.sass.models.backgrounds.internal.commands.GenerateUniformBackground;
+import ch.epfl.leb.sass.models.components.internal.DefaultCamera;
+import ch.epfl.leb.sass.models.components.internal.DefaultLaser;
+import ch.epfl.leb.sass.models.components.internal.DefaultObjective;
+import ch.epfl.leb.sass.models.components.internal.DefaultStage;
+import ch.epfl.leb.sass.models.fluorophores.commands.internal.GenerateFluorophoresGrid2D;
+import ch.epfl.leb.sass.models.illuminations.internal.SquareUniformIllumination;
+import ch.epfl.leb.sass.models.obstructors.internal.commands.GenerateFiducialsRandom2D;
+import ch.epfl.leb.sass.models.photophysics.FluorophoreDynamicsBuilder;
+import ch.epfl.leb.sass.models.photophysics.internal.PalmDynamics;
+import ch.epfl.leb.sass.models.photophysics.internal.SimpleDynamics;
+import ch.epfl.leb.sass.models.photophysics.internal.StormDynamics;
+import ch.epfl.leb.sass.models.psfs.internal.Gaussian2D;
+import ch.epfl.leb.sass.models.samples.internal.UniformRefractiveIndex;
+
+import org.apache.commons.math3.complex.Complex;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+/**
+ * Creates the microscopes that are shared by the benchmarks.
+ *
+ * The optical and camera parameters are the same as those of the
+ * integration tests; only the sensor size, the fluorophore density and the
+ * photophysics vary.
+ */
+public final class BenchmarkMicroscopes {
+
+    /**
+     * The camera pixel size in microns.
+     */
+    private static final double PIXEL_SIZE = 6.45;
+
+    /**
+     * The magnification of the objective.
+     */
+    private static final double MAG = 60;
+
+    private BenchmarkMicroscopes() {}
+
+    /**
+     * Returns the builder for the named fluorophore dynamics.
+     *
+     * @param dynamics One of "Simple", "PALM" or "STORM".
+     * @return The builder for the fluorophore dynamics.
+     */
+    public static FluorophoreDynamicsBuilder dynamics(String dynamics) {
+        if (dynamics.equals("Simple")) {
+            SimpleDynamics.Builder builder = new SimpleDynamics.Builder();
+            builder.signal(2500).wavelength(0.6).tOn(3).tOff(100).tBl(10000);
+            return builder;
+        } else if (dynamics.equals("PALM")) {
+            PalmDynamics.Builder builder = new PalmDynamics.Builder();
+            builder.signal(2500).wavelength(0.6).kA(100).kB(0).kD1(0.065)
+                   .kD2(0.013).kR1(0.004).kR2(0.157);
+            return builder;
+        } else if (dynamics.equals("STORM")) {
+            StormDynamics.Builder builder = new StormDynamics.Builder();
+            builder.signal(2500).wavelength(0.6).kBl(0.001).kTriplet(0.1)
+                   .kTripletRecovery(0.01).kDark(15).kDarkRecovery(0.1)
+                   .kDarkRecoveryConstant(0.001);
+            return builder;
+        }
+        throw new IllegalArgumentException(
+                "Unknown fluorophore dynamics: " + dynamics);
+    }
+
+    /**
+     * Creates a microscope with fluorophores on a square grid.
+     *
+     * @param nPixels The number of pixels along each side of the sensor.
+     * @param spacing The distance between fluorophores in pixels.
+     * @param dynamics One of "Simple", "PALM" or "STORM".
+     * @param laserPower The laser power.
+     * @return A new microscope.
+     */
+    public static Microscope create(int nPixels, int spacing, String dynamics,
+                                    double laserPower) {
+        DefaultCamera.Builder cameraBuilder = new DefaultCamera.Builder();
+        cameraBuilder.nX(nPixels).nY(nPixels).readoutNoise(1.6)
+                     .darkCurrent(0.06).quantumEfficiency(0.8)
+                     .aduPerElectron(2.2).emGain(0).baseline(100)
+                     .pixelSize(PIXEL_SIZE).thermalNoise(0.05);
+
+        DefaultObjective.Builder objectiveBuilder =
+                new DefaultObjective.Builder();
+        objectiveBuilder.NA(1.3).mag(MAG);
+
+        DefaultLaser.Builder laserBuilder = new DefaultLaser.Builder();
+        laserBuilder.currentPower(laserPower).minPower(0.0).maxPower(500.0)
+                    .wavelength(0.642);
+
+        SquareUniformIllumination.Builder illumBuilder
+                = new SquareUniformIllumination.Builder();
+        illumBuilder.height(nPixels * PIXEL_SIZE / MAG)
+                    .width(nPixels * PIXEL_SIZE / MAG)
+                    .orientation(new Vector3D(1.0, 0, 0))
+                    .refractiveIndex(
+                        new UniformRefractiveIndex(new Complex(1.33)));
+
+        DefaultStage.Builder stageBuilder = new DefaultStage.Builder();
+        stageBuilder.x(0).y(0).z(0);
+
+        GenerateFluorophoresGrid2D.Builder fluorPosBuilder =
+                new GenerateFluorophoresGrid2D.Builder();
+        fluorPosBuilder.spacing(spacing);
+
+        GenerateFiducialsRandom2D.Builder fidBuilder =
+                new GenerateFiducialsRandom2D.Builder();
+        fidBuilder.numFiducials(0).brightness(3000);
+
+        GenerateUniformBackground.Builder backgroundBuilder =
+                new GenerateUniformBackground.Builder();
+        backgroundBuilder.backgroundSignal(10);
+
+        return new Microscope(
+            cameraBuilder,
+            laserBuilder,
+            objectiveBuilder,
+            new Gaussian2D.Builder(),
+            stageBuilder,
+            fluorPosBuilder,
+            dynamics(dynamics),
+            fidBuilder,
+            backgroundBuilder,
+            illumBuilder);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models;
+
+import ch.epfl.leb.sass.utils.RNG;
+import ch.epfl.leb.sass.utils.images.ImageS;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the simulation of whole frames by the Microscope.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MicroscopeBenchmark {
+
+    /**
+     * The number of pixels along each side of the sensor.
+     */
+    @Param({"64", "256", "512"})
+    public int nPixels;
+
+    /**
+     * The distance between fluorophores in pixels.
+     */
+    @Param({"4", "16"})
+    public int spacing;
+
+    private Microscope microscope;
+
+    private float[][] image;
+
+    @Setup
+    public void setUp() {
+        RNG.setSeed(42);
+        microscope = BenchmarkMicroscopes.create(nPixels, spacing, "PALM", 0.1);
+        image = new float[nPixels][nPixels];
+    }
+
+    @Benchmark
+    public ImageS simulateFrame() {
+        return microscope.simulateFrame();
+    }
+
+    @Benchmark
+    public short[] readOut() {
+        for (float[] row : image) {
+            Arrays.fill(row, 10.0f);
+        }
+        return microscope.readOut(image, null);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores.internal;
+
+import ch.epfl.leb.sass.models.BenchmarkMicroscopes;
+import ch.epfl.leb.sass.models.Microscope;
+import ch.epfl.leb.sass.utils.RNG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the simulation of one frame of a fluorophore's photophysics.
+ *
+ * The fluorophore is recreated for every iteration so that iterations do not
+ * merely measure the cost of a bleached fluorophore.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultFluorophoreBenchmark {
+
+    /**
+     * The fluorophore dynamics to benchmark.
+     */
+    @Param({"Simple", "PALM", "STORM"})
+    public String dynamics;
+
+    /**
+     * The laser power.
+     */
+    @Param({"0.1", "1", "100"})
+    public double laserPower;
+
+    /**
+     * Whether frames are integrated analytically when many transitions are
+     * expected.
+     */
+    @Param({"false", "true"})
+    public boolean frameIntegration;
+
+    private DefaultFluorophore fluorophore;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        RNG.setSeed(42);
+        Microscope microscope = BenchmarkMicroscopes.create(
+                16, 8, dynamics, laserPower);
+        microscope.setFrameIntegration(frameIntegration);
+        fluorophore = (DefaultFluorophore) microscope.getFluorophores().get(0);
+    }
+
+    @Benchmark
+    public double simulateBrightness() {
+        return fluorophore.simulateBrightness();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.psfs.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the computation of a single plane of the Gibson-Lanni PSF.
+ *
+ * The interpolant cache is cleared before every invocation so that each one
+ * measures a full computation. The Bessel basis of the pupil is either
+ * computed as well or, as for every plane but the first, reused.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class GibsonLanniPSFBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cachedBasis;
+
+    private GibsonLanniPSF psf;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        psf = PSFBenchmark.gibsonLanniBuilder().eX(0).eY(0).eZ(0.5).build();
+        if (cachedBasis) {
+            GibsonLanniPSF.clearPlanes();
+        } else {
+            GibsonLanniPSF.clearCache();
+        }
+    }
+
+    @Benchmark
+    public GibsonLanniPSF computeDigitalPSF() {
+        psf.computeDigitalPSF(-2);
+        return psf;
+    }
+}
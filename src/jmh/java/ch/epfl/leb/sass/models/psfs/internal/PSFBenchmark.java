@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.psfs.internal;
+
+import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter;
+import ch.epfl.leb.sass.models.emitters.internal.Pixel;
+import ch.epfl.leb.sass.models.psfs.PSF;
+import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the computation of the pixel signatures of the PSFs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PSFBenchmark {
+
+    /**
+     * The PSF model to benchmark.
+     */
+    @Param({"Gaussian2D", "Gaussian3D", "GibsonLanni"})
+    public String psfModel;
+
+    private PSF psf;
+
+    private ArrayList<Pixel> pixels;
+
+    /**
+     * Returns a Gibson-Lanni PSF builder with the parameters of the tests.
+     */
+    static GibsonLanniPSF.Builder gibsonLanniBuilder() {
+        GibsonLanniPSF.Builder builder = new GibsonLanniPSF.Builder();
+        builder.numBasis(100).numSamples(1000).sizeX(256).sizeY(256)
+               .NA(1.4).wavelength(0.610).ns(1.33).ng0(1.5).ng(1.5)
+               .ni0(1.5).ni(1.5).ti0(150).tg0(170).tg(170).resLateral(0.1)
+               .oversampling(2).resPSF(0.02).stageDisplacement(-2)
+               .solver("svd").resPSFAxial(0.005).maxRadius(5);
+        return builder;
+    }
+
+    @Setup
+    public void setUp() {
+        PSFBuilder builder;
+        if (psfModel.equals("Gaussian2D")) {
+            builder = new Gaussian2D.Builder().FWHM(3);
+        } else if (psfModel.equals("Gaussian3D")) {
+            builder = new Gaussian3D.Builder().FWHM(3).NA(1.3);
+        } else {
+            builder = gibsonLanniBuilder();
+        }
+        double x = 10.3;
+        double y = 12.6;
+        double z = 0.5;
+        psf = builder.eX(x).eY(y).eZ(z).build();
+        pixels = AbstractEmitter.getPixelsWithinRadius(
+                new Point2D.Double(x, y), 5);
+    }
+
+    @Benchmark
+    public ArrayList<Pixel> generateSignature() {
+        psf.generateSignature(pixels);
+        return pixels;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.server;
+
+import ch.epfl.leb.sass.client.RPCClient;
+import ch.epfl.leb.sass.models.BenchmarkMicroscopes;
+import ch.epfl.leb.sass.simulator.SimulationManager;
+import ch.epfl.leb.sass.simulator.Simulator;
+import ch.epfl.leb.sass.simulator.internal.DefaultSimulationManager;
+import ch.epfl.leb.sass.simulator.internal.RPCSimulator;
+import ch.epfl.leb.sass.utils.RNG;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the retrieval of images from a server on the loopback interface.
+ *
+ * This includes the simulation of the frame, its serialization and its
+ * transfer through Thrift. A new simulation is started for every iteration
+ * because the simulator keeps every frame that it generates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RPCServerBenchmark {
+
+    /**
+     * The number of pixels along each side of the sensor.
+     */
+    @Param({"64", "128"})
+    public int nPixels;
+
+    private final SimulationManager manager = new DefaultSimulationManager();
+
+    private RPCServer server;
+
+    private RPCClient client;
+
+    private int id;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        int port;
+        ServerSocket socket = new ServerSocket(0);
+        try {
+            port = socket.getLocalPort();
+        } finally {
+            socket.close();
+        }
+
+        server = new RPCServer(manager, port);
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                server.serve();
+            }
+        });
+        thread.setDaemon(true);
+        thread.start();
+        while (!server.isServing()) {
+            Thread.sleep(10);
+        }
+        client = new RPCClient("localhost", port);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpSimulation() {
+        RNG.setSeed(42);
+        Simulator sim = new RPCSimulator(
+                BenchmarkMicroscopes.create(nPixels, 8, "PALM", 0.1));
+        manager.addSimulator(sim);
+        id = sim.getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownSimulation() {
+        manager.removeSimulator(id);
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        client.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public ByteBuffer getNextImage() throws TException {
+        return client.getClient().getNextImage(id);
+    }
+}
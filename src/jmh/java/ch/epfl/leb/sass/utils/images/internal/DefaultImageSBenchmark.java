@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.images.internal;
+
+import ch.epfl.leb.sass.utils.RNG;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the serialization of images for transfer over the network.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultImageSBenchmark {
+
+    /**
+     * The number of pixels along each side of the image.
+     */
+    @Param({"64", "256", "512"})
+    public int nPixels;
+
+    private DefaultImageS image;
+
+    @Setup
+    public void setUp() {
+        RNG.setSeed(42);
+        Random random = RNG.getUniformGenerator();
+        float[][] pixels = new float[nPixels][nPixels];
+        for (int x = 0; x < nPixels; x++) {
+            for (int y = 0; y < nPixels; y++) {
+                pixels[x][y] = 100 + 1000 * random.nextFloat();
+            }
+        }
+        image = new DefaultImageS(pixels);
+    }
+
+    @Benchmark
+    public byte[] serializeToArray() {
+        return image.serializeToArray();
+    }
+}
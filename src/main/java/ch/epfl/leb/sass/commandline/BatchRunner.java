@@ -0,0 +1,453 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.commandline;
+
+import ch.epfl.leb.sass.ijplugin.IJPluginModel;
+import ch.epfl.leb.sass.models.Microscope;
+import ch.epfl.leb.sass.utils.RNG;
+import ch.epfl.leb.sass.utils.images.ImageS;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a parameter sweep over a simulation model without a user interface.
+ *
+ * A sweep is described by a JSON file such as
+ * <pre>
+ * {
+ *   "model": "model.sass",
+ *   "frames": 1000,
+ *   "threads": 8,
+ *   "seed": 42,
+ *   "output": "sweep",
+ *   "parameters": {
+ *     "laserCurrentPower": [0.5, 1.0, 2.0],
+ *     "emittersRandomNumber": [100, 500]
+ *   }
+ * }
+ * </pre>
+ *
+ * The model is a file that was saved from the ImageJ plugin. Each key in
+ * "parameters" is the name of an {@link IJPluginModel} property and the
+ * runner simulates every combination of the listed values. Only "model" is
+ * required; the number of threads defaults to the number of available
+ * processors.
+ *
+ * Runs are executed concurrently on a bounded pool of worker threads. Each run
+ * has its own random number generators seeded with seed + (run index), so the
+ * output of a run does not depend on how the runs are scheduled. Read-only
+ * data such as PSF planes and background images are cached by the models
+ * themselves and are therefore shared between runs.
+ *
+ * The frames of each run are streamed to disk as they are simulated, as raw
+ * 16-bit unsigned big-endian images (run-NNNN.raw), next to a JSON file that
+ * describes the run (run-NNNN.json).
+ */
+public final class BatchRunner {
+
+    private final static Logger LOGGER = Logger.getLogger(
+            BatchRunner.class.getName());
+
+    /**
+     * The serialized base model; each run deserializes its own copy.
+     */
+    private final byte[] baseModel;
+
+    /**
+     * The parameter values of every run in the sweep.
+     */
+    private final List<Map<String, JsonElement>> runs;
+
+    /**
+     * The number of frames to simulate per run.
+     */
+    private final int frames;
+
+    /**
+     * The number of worker threads.
+     */
+    private final int threads;
+
+    /**
+     * The seed of the first run.
+     */
+    private final int seed;
+
+    /**
+     * The directory that receives the outputs.
+     */
+    private final File outputDir;
+
+    /**
+     * Creates a batch runner from a sweep specification.
+     *
+     * @param spec The sweep specification.
+     * @param baseDir The directory against which relative paths in the
+     *                specification are resolved.
+     * @throws IOException If the model cannot be read.
+     * @throws IllegalArgumentException If the specification is invalid.
+     */
+    public BatchRunner(JsonObject spec, File baseDir) throws IOException {
+        if (!spec.has("model")) {
+            throw new IllegalArgumentException(
+                    "The sweep specification does not name a model.");
+        }
+
+        File modelFile = resolve(baseDir, spec.get("model").getAsString());
+        IJPluginModel model = IJPluginModel.read(new FileInputStream(modelFile));
+        if (model == null) {
+            throw new IOException("Could not read the model in " + modelFile);
+        }
+        this.baseModel = serialize(model);
+
+        this.frames = spec.has("frames") ? spec.get("frames").getAsInt() : 100;
+        this.threads = spec.has("threads") && spec.get("threads").getAsInt() > 0
+                     ? spec.get("threads").getAsInt()
+                     : Runtime.getRuntime().availableProcessors();
+        this.seed = spec.has("seed") ? spec.get("seed").getAsInt() : 1;
+        this.outputDir = resolve(
+                baseDir,
+                spec.has("output") ? spec.get("output").getAsString() : "sweep");
+
+        JsonObject params = spec.has("parameters")
+                          ? spec.getAsJsonObject("parameters")
+                          : new JsonObject();
+        this.runs = expand(params);
+
+        // Fail before anything is simulated if a parameter is unknown.
+        for (Map<String, JsonElement> run : runs) {
+            applyParameters(new IJPluginModel(), run);
+        }
+    }
+
+    /**
+     * Reads a sweep specification from a JSON file.
+     *
+     * @param specFile The file containing the sweep specification.
+     * @return A batch runner for the sweep.
+     * @throws IOException If the specification or the model cannot be read.
+     */
+    public static BatchRunner fromFile(File specFile) throws IOException {
+        try (Reader reader = new InputStreamReader(
+                new FileInputStream(specFile), StandardCharsets.UTF_8)) {
+            JsonObject spec = new JsonParser().parse(reader).getAsJsonObject();
+            File baseDir = specFile.getAbsoluteFile().getParentFile();
+            return new BatchRunner(spec, baseDir);
+        }
+    }
+
+    /**
+     * Returns the number of runs in the sweep.
+     *
+     * @return The number of parameter combinations.
+     */
+    public int getNumRuns() {
+        return runs.size();
+    }
+
+    /**
+     * Simulates all runs of the sweep.
+     *
+     * @param out The stream to which progress and throughput are reported.
+     * @return The number of runs that failed.
+     * @throws IOException If the output directory cannot be created.
+     * @throws InterruptedException If interrupted while waiting for the runs.
+     */
+    public int run(PrintStream out) throws IOException, InterruptedException {
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IOException("Could not create " + outputDir);
+        }
+
+        int poolSize = Math.max(1, Math.min(threads, runs.size()));
+        out.println("Running " + runs.size() + " simulations of " + frames
+                    + " frames on " + poolSize + " threads...");
+
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize);
+        AtomicInteger completed = new AtomicInteger();
+        List<Future<RunStatistics>> results = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                results.add(pool.submit(new Run(i, out, completed)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        int failed = 0;
+        long totalFrames = 0;
+        long totalPixels = 0;
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                RunStatistics stats = results.get(i).get();
+                totalFrames += stats.frames;
+                totalPixels += stats.pixels;
+            } catch (ExecutionException ex) {
+                failed++;
+                LOGGER.log(Level.SEVERE, "Run " + i + " failed.", ex.getCause());
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        out.println(String.format(
+                "Simulated %d frames in %d runs in %.2f s: %.1f frames/s, "
+                + "%.2f Mpixels/s, %.1f runs/min (%d failed).",
+                totalFrames, runs.size() - failed, seconds,
+                totalFrames / seconds, totalPixels / seconds / 1e6,
+                (runs.size() - failed) / seconds * 60, failed));
+        return failed;
+    }
+
+    /**
+     * Simulates one run of the sweep and streams its frames to disk.
+     */
+    private final class Run implements Callable<RunStatistics> {
+        private final int index;
+        private final PrintStream out;
+        private final AtomicInteger completed;
+
+        private Run(int index, PrintStream out, AtomicInteger completed) {
+            this.index = index;
+            this.out = out;
+            this.completed = completed;
+        }
+
+        @Override
+        public RunStatistics call() throws Exception {
+            Map<String, JsonElement> params = runs.get(index);
+            IJPluginModel model = deserialize(baseModel);
+            applyParameters(model, params);
+
+            // The generators are captured by the model's components when
+            // they are built.
+            long buildStart = System.nanoTime();
+            Microscope microscope;
+            RNG.setThreadSeed(seed + index);
+            try {
+                microscope = model.build();
+            } finally {
+                RNG.clearThreadSeed();
+            }
+            double buildSeconds = (System.nanoTime() - buildStart) / 1e9;
+
+            String name = String.format("run-%04d", index);
+            int[] res = microscope.getResolution();
+            long simStart = System.nanoTime();
+            try (DataOutputStream data = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(
+                            new File(outputDir, name + ".raw")), 1 << 16))) {
+                for (int frame = 0; frame < frames; frame++) {
+                    ImageS image = microscope.simulateFrame();
+                    for (short value : image.getPixelData(0)) {
+                        data.writeShort(value);
+                    }
+                }
+            }
+            double simSeconds = (System.nanoTime() - simStart) / 1e9;
+
+            JsonObject description = new JsonObject();
+            JsonObject jsonParams = new JsonObject();
+            for (Map.Entry<String, JsonElement> e : params.entrySet()) {
+                jsonParams.add(e.getKey(), e.getValue());
+            }
+            description.add("parameters", jsonParams);
+            description.addProperty("seed", seed + index);
+            description.addProperty("width", res[0]);
+            description.addProperty("height", res[1]);
+            description.addProperty("frames", frames);
+            description.addProperty("format", "16-bit unsigned, big-endian");
+            description.addProperty("buildSeconds", buildSeconds);
+            description.addProperty("simulationSeconds", simSeconds);
+            description.addProperty("framesPerSecond", frames / simSeconds);
+            description.add("metrics", microscope.getMetrics().toJson());
+            Gson gson = new GsonBuilder().setPrettyPrinting().create();
+            try (Writer writer = new OutputStreamWriter(
+                    new FileOutputStream(new File(outputDir, name + ".json")),
+                    StandardCharsets.UTF_8)) {
+                gson.toJson(description, writer);
+            }
+
+            out.println(String.format(
+                    "[%d/%d] %s: built in %.2f s, %d frames in %.2f s "
+                    + "(%.1f frames/s)",
+                    completed.incrementAndGet(), runs.size(), name,
+                    buildSeconds, frames, simSeconds, frames / simSeconds));
+            return new RunStatistics(frames, (long) frames * res[0] * res[1]);
+        }
+    }
+
+    /**
+     * Throughput counters of a finished run.
+     */
+    private static final class RunStatistics {
+        private final long frames;
+        private final long pixels;
+
+        private RunStatistics(long frames, long pixels) {
+            this.frames = frames;
+            this.pixels = pixels;
+        }
+    }
+
+    /**
+     * Expands the swept parameters into the list of all their combinations.
+     *
+     * The first parameter varies the slowest.
+     *
+     * @param params The values of each parameter.
+     * @return One map of parameter values per run.
+     */
+    static List<Map<String, JsonElement>> expand(JsonObject params) {
+        List<Map<String, JsonElement>> combinations = new ArrayList<>();
+        combinations.add(new LinkedHashMap<String, JsonElement>());
+        for (Map.Entry<String, JsonElement> param : params.entrySet()) {
+            JsonArray values;
+            if (param.getValue().isJsonArray()) {
+                values = param.getValue().getAsJsonArray();
+            } else {
+                values = new JsonArray();
+                values.add(param.getValue());
+            }
+
+            List<Map<String, JsonElement>> next = new ArrayList<>();
+            for (Map<String, JsonElement> combination : combinations) {
+                for (JsonElement value : values) {
+                    Map<String, JsonElement> extended =
+                            new LinkedHashMap<>(combination);
+                    extended.put(param.getKey(), value);
+                    next.add(extended);
+                }
+            }
+            combinations = next;
+        }
+        return Collections.unmodifiableList(combinations);
+    }
+
+    /**
+     * Sets the parameters of a run on a model through its setters.
+     *
+     * @param model The model to modify.
+     * @param params The names and values of the properties to set.
+     * @throws IllegalArgumentException If a property does not exist or its
+     *                                  value has the wrong type.
+     */
+    static void applyParameters(IJPluginModel model,
+                                Map<String, JsonElement> params) {
+        for (Map.Entry<String, JsonElement> param : params.entrySet()) {
+            String name = param.getKey();
+            String setterName = "set" + Character.toUpperCase(name.charAt(0))
+                              + name.substring(1);
+            Method setter = null;
+            for (Method m : IJPluginModel.class.getMethods()) {
+                if (m.getName().equals(setterName)
+                        && m.getParameterTypes().length == 1) {
+                    setter = m;
+                    break;
+                }
+            }
+            if (setter == null) {
+                throw new IllegalArgumentException(
+                        "Unknown model parameter: " + name);
+            }
+
+            try {
+                setter.invoke(model, convert(param.getValue(),
+                                             setter.getParameterTypes()[0]));
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                throw new IllegalArgumentException(
+                        "Invalid value for parameter " + name + ": "
+                        + param.getValue(), ex);
+            }
+        }
+    }
+
+    /**
+     * Converts a JSON value to the type of a setter's argument.
+     */
+    private static Object convert(JsonElement value, Class<?> type) {
+        if (type == int.class) {
+            return value.getAsInt();
+        } else if (type == double.class) {
+            return value.getAsDouble();
+        } else if (type == float.class) {
+            return value.getAsFloat();
+        } else if (type == boolean.class) {
+            return value.getAsBoolean();
+        } else if (type == String.class) {
+            return value.getAsString();
+        }
+        throw new IllegalArgumentException("Unsupported type: " + type);
+    }
+
+    private static File resolve(File baseDir, String path) {
+        File file = new File(path);
+        return file.isAbsolute() ? file : new File(baseDir, path);
+    }
+
+    private static byte[] serialize(IJPluginModel model) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(model);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static IJPluginModel deserialize(byte[] bytes)
+            throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(bytes))) {
+            return (IJPluginModel) in.readObject();
+        }
+    }
+}
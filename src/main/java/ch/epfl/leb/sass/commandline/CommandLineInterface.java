@@ -65,6 +65,7 @@ public final class CommandLineInterface {
         options.addOption("s", "script", true, "Executes a BeanShell script. (Can be combined with -i.)");
         options.addOption("r", "rpc_server", true, "Launches the RPC server with the simulation model in the file specified by the given argument.");
         options.addOption("p", "port", true, "The port number for RPC server communications. This requires an argument for --rpc_server.");
+        options.addOption("b", "batch", true, "Runs the parameter sweep described by the given JSON file without a user interface.");
         options.addOption("h", "help", false, "Shows this help menu.");
         return options;
     }
@@ -157,6 +158,22 @@ public final class CommandLineInterface {
             System.out.println("Starting RPC server...");
             server.serve();
             
+        // Runs a parameter sweep in the current process and exits.
+        } else if (line.hasOption("batch")) {
+            File file = new File(line.getOptionValue("batch"));
+            int failed = 0;
+            try {
+                BatchRunner runner = BatchRunner.fromFile(file);
+                failed = runner.run(System.out);
+            } catch (IOException | IllegalArgumentException ex) {
+                System.out.println("Error: " + ex.getMessage());
+                System.exit(1);
+            } catch (InterruptedException ex) {
+                Logger.getLogger(CommandLineInterface.class.getName()).log(Level.SEVERE, "Batch run interrupted.", ex);
+                System.exit(1);
+            }
+            System.exit(failed == 0 ? 0 : 1);
+            
         } else if (line.hasOption("port") & !line.hasOption("rpc_server")) {
             System.out.println("Error: Port number provided without requesting the RPC server. Exiting...");
             System.exit(1);
@@ -20,6 +20,7 @@
 package ch.epfl.leb.sass.ijplugin;
 
 import ch.epfl.leb.sass.simulator.internal.ImageJSimulator;
+import ch.epfl.leb.sass.utils.metrics.SimulationMetrics;
 import ch.epfl.leb.sass.models.Microscope;
 import ch.epfl.leb.alica.interfaces.Analyzer;
 import ch.epfl.leb.alica.interfaces.Controller;
@@ -186,10 +187,9 @@ class Worker extends Thread {
                         time_start
                 );
                 time_end = System.nanoTime();
-                System.out.format(
-                        "%s: Image analyzed in %d microseconds.\n",
-                        analyzer.getName(),
-                        (time_end - time_start)/1000
+                app.getMetrics().record(
+                        SimulationMetrics.Stage.ANALYSIS,
+                        time_end - time_start
                 );
 
                 if (app.getImageCount() % app.getControllerTickrate() == 0) {
@@ -22,6 +22,8 @@ import cern.jet.random.Normal;
 import cern.jet.random.Poisson;
 
 import ch.epfl.leb.sass.utils.RNG;
+import ch.epfl.leb.sass.utils.metrics.SimulationMetrics;
+import ch.epfl.leb.sass.utils.jfr.FlightRecorderEvents;
 import ch.epfl.leb.sass.utils.images.ImageS;
 import ch.epfl.leb.sass.utils.images.internal.DefaultImageS;
 import ch.epfl.leb.sass.models.psfs.PSFBuilder;
@@ -29,12 +31,19 @@ import ch.epfl.leb.sass.models.components.Laser;
 import ch.epfl.leb.sass.models.components.Stage;
 import ch.epfl.leb.sass.models.components.Camera;
 import ch.epfl.leb.sass.models.components.Objective;
+import ch.epfl.leb.sass.models.components.FrameTiming;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
 import ch.epfl.leb.sass.models.components.internal.DefaultStage;
 import ch.epfl.leb.sass.models.components.internal.DefaultLaser;
 import ch.epfl.leb.sass.models.components.internal.DefaultCamera;
 import ch.epfl.leb.sass.models.components.internal.DefaultObjective;
 import ch.epfl.leb.sass.models.obstructors.Obstructor;
+import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter;
+import ch.epfl.leb.sass.models.emitters.internal.FootprintCache;
 import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
+import ch.epfl.leb.sass.models.fluorophores.FluorophoreStatistics;
+import ch.epfl.leb.sass.models.fluorophores.internal.FluorophoreIndex;
+import ch.epfl.leb.sass.models.fluorophores.internal.FluorophorePopulation;
 import ch.epfl.leb.sass.models.illuminations.Illumination;
 import ch.epfl.leb.sass.models.illuminations.IlluminationBuilder;
 import ch.epfl.leb.sass.models.backgrounds.BackgroundCommand;
@@ -45,6 +54,7 @@ import ch.epfl.leb.sass.models.fluorophores.commands.FluorophoreCommand;
 import ch.epfl.leb.sass.models.photophysics.FluorophoreDynamics;
 import ch.epfl.leb.sass.models.fluorophores.commands.FluorophoreCommandBuilder;
 import ch.epfl.leb.sass.models.photophysics.FluorophoreDynamicsBuilder;
+import ch.epfl.leb.sass.models.photophysics.StateDistribution;
 
 import java.util.List;
 import java.util.Arrays;
@@ -65,15 +75,102 @@ public class Microscope implements Serializable {
     private final Stage stage;
     private final FluorophoreDynamics fluorDynamics;
     private final List<Fluorophore> fluorophores;
+    
+    /**
+     * Spatial index over the lateral positions of the fluorophores.
+     */
+    private final FluorophoreIndex fluorophoreIndex;
+    
+    /**
+     * Indexes of the fluorophores whose images reach the camera's region of
+     * interest, in ascending order. The others are not rendered.
+     */
+    private int[] visibleFluorophores;
+    
+    /**
+     * The largest radius of the fluorophores' footprints that have been
+     * computed, which bounds the search for fluorophores near the region of
+     * interest. [pixels]
+     */
+    private double maxFootprintRadius;
+    
+    /**
+     * Ground truth statistics of the fluorophores, updated while they evolve.
+     */
+    private final FluorophoreStatistics statistics;
     private final List<Obstructor> obstructors;
     private final BackgroundCommand background;
     private final Illumination illumination;
     
+    /**
+     * Bounds the memory of the rendered footprints of this microscope's
+     * emitters.
+     */
+    private final FootprintCache footprintCache = new FootprintCache();
+    
     // Random number generators
     private final Poisson poisson = RNG.getPoissonGenerator();
     private final Gamma gamma = RNG.getGammaGenerator();
     private final Normal gaussian = RNG.getGaussianGenerator();
     
+    /**
+     * Timing and throughput statistics of the frame generation.
+     */
+    private final SimulationMetrics metrics = new SimulationMetrics();
+    
+    /**
+     * The stages of the frame simulation, in the order they are executed.
+     */
+    private static final SimulationMetrics.Stage[] STAGES = {
+        SimulationMetrics.Stage.OBSTRUCTORS,
+        SimulationMetrics.Stage.DYNAMICS,
+        SimulationMetrics.Stage.PSF,
+        SimulationMetrics.Stage.BACKGROUND,
+        SimulationMetrics.Stage.NOISE,
+        SimulationMetrics.Stage.CONVERSION
+    };
+    
+    /**
+     * The number of frames that have been simulated.
+     */
+    private long frameCount = 0;
+    
+    /**
+     * The lateral stage position when the microscope was built. The images
+     * of the emitters are shifted by the displacement from this position.
+     */
+    private final double initialStageX;
+    private final double initialStageY;
+    
+    /**
+     * The stage position that the images of the emitters currently follow.
+     */
+    private double appliedStageX;
+    private double appliedStageY;
+    private double appliedStageZ;
+    
+    /**
+     * Stage positions for the next frames, or null if the stage only moves
+     * when it is told to.
+     */
+    private double[][] stageTrajectory;
+    
+    /**
+     * The index of the next position of the stage trajectory.
+     */
+    private int stageTrajectoryIndex;
+    
+    /**
+     * The laser power schedule that the fluorophores follow, or null if the
+     * laser power only changes when it is told to.
+     */
+    private LaserSchedule laserSchedule;
+    
+    /**
+     * The time since the start of the laser power schedule.
+     */
+    private double laserScheduleTime;
+    
     /** 
      * Initializes the microscope for simulations.
      * 
@@ -131,12 +228,42 @@ public class Microscope implements Serializable {
                     .illumination(illumination);
         FluorophoreCommand fluorCommand = fluorBuilder.build();
         this.fluorophores = fluorCommand.generateFluorophores();
+        if (!camera.getFrameTiming().isUnitFrame()) {
+            // Populations are advanced by whole frames only.
+            for (Fluorophore f: fluorophores) {
+                if (f instanceof FluorophorePopulation) {
+                    throw new IllegalArgumentException("Fluorophore "
+                            + "populations require a camera whose frames "
+                            + "are exposed for their whole duration of 1.");
+                }
+            }
+        }
+        this.fluorophoreIndex = new FluorophoreIndex(this.fluorophores);
+        this.maxFootprintRadius = findMaxFootprintRadius();
+        this.visibleFluorophores = findVisibleFluorophores(0, 0);
+        this.statistics = new FluorophoreStatistics(
+                this.fluorophores,
+                this.fluorDynamics.getStateSystem().getNStates());
         
         // Build the obstructors
         obstructorBuilder.camera(camera).stage(stage).psfBuilder(psfBuilder);
         ObstructorCommand obstrCommand = obstructorBuilder.build();
         this.obstructors = obstrCommand.generateObstructors();
         
+        // Bound the memory of the emitters' footprints
+        for (Fluorophore f: fluorophores) {
+            if (f instanceof AbstractEmitter) {
+                ((AbstractEmitter) f).setFootprintCache(footprintCache);
+            }
+        }
+        if (obstructors != null) {
+            for (Obstructor o: obstructors) {
+                if (o instanceof AbstractEmitter) {
+                    ((AbstractEmitter) o).setFootprintCache(footprintCache);
+                }
+            }
+        }
+        
         // Set the size of the background image and build it
         backgroundBuilder.nX(camera.getNX()).nY(camera.getNY());
         this.background = backgroundBuilder.build();
@@ -148,59 +275,213 @@ public class Microscope implements Serializable {
         
         // Connects the laser to the illumination profile for messaging.
         this.laser.addListener(this.illumination);
+        
+        this.initialStageX = this.appliedStageX = stage.getX();
+        this.initialStageY = this.appliedStageY = stage.getY();
+        this.appliedStageZ = stage.getZ();
     }
     
     /**
-     * Adds the background signal to the image.
-     * @param image The image to which a background will be added.
+     * Moves the images of the emitters if the stage has moved since the last
+     * frame.
+     * 
+     * Lateral stage positions are in the same units as the object space
+     * pixel size and the axial position is the PSF's stage displacement.
+     * Only the fluorophores near the region of interest are moved; the
+     * others keep their previous images until the stage brings them near
+     * the region, since their images are not drawn until then.
      */
-    private void addBackground(float[][] image) {
-        float[][] backgroundSignal = this.background.generateBackground();
+    private void updateStagePosition() {
+        if (stage.getX() == appliedStageX && stage.getY() == appliedStageY
+                && stage.getZ() == appliedStageZ) {
+            return;
+        }
+        appliedStageX = stage.getX();
+        appliedStageY = stage.getY();
+        appliedStageZ = stage.getZ();
         
-        for (int row=0; row < image.length; row++) {
-            for (int col=0; col < image[row].length; col++) {
-                image[row][col] += backgroundSignal[row][col];
+        double pixelSize = getObjectSpacePixelSize();
+        double dx = (appliedStageX - initialStageX) / pixelSize;
+        double dy = (appliedStageY - initialStageY) / pixelSize;
+        moveFluorophoresNearRoi(dx, dy, appliedStageZ);
+        if (obstructors != null) {
+            for (Obstructor o: obstructors) {
+                o.setStagePosition(dx, dy, appliedStageZ);
             }
         }
+        this.visibleFluorophores = findVisibleFluorophores(dx, dy);
     }
     
     /**
-     * Simulates noise sources.
-     * @param image image to be noised up.
+     * Moves the images of the fluorophores that may reach the region of
+     * interest.
+     * 
+     * The fluorophores are found as in
+     * {@link #findVisibleFluorophores(double, double)}. A moved footprint
+     * may be larger than all the previous ones, for example when the stage
+     * moves out of focus, in which case the search is repeated with the
+     * larger radius.
+     * 
+     * @param dx The lateral displacement of the images in x. [pixels]
+     * @param dy The lateral displacement of the images in y. [pixels]
+     * @param stageZ The axial displacement of the stage.
      */
-    private void addNoise(float[][] image) {
-        
-        // Poisson noise
-        addPoissonNoise(image);
-        
-        for (int row=0; row < image.length; row++) {
-            // Multiplication noise from the EM gain register
-            for (int col=0; col < image[row].length; col++) {
-                if (this.camera.getEmGain() != 0) {
-                    // lambda parameter of nextDouble() is inverse of EM_gain.
-                    image[row][col] = (float) gamma.nextDouble(
-                            image[row][col]+0.01f,
-                            1.0 / ((double) this.camera.getEmGain()));
-                }
-                
-                // Dark noises (readout and thermal)
-                image[row][col] += 
-                        this.camera.getReadoutNoise()*gaussian.nextDouble() +
-                        this.camera.getThermalNoise()*gaussian.nextDouble();
+    private void moveFluorophoresNearRoi(double dx, double dy, double stageZ) {
+        double searched;
+        do {
+            searched = maxFootprintRadius;
+            for (int i: findFluorophoresNearRoi(dx, dy, searched)) {
+                Fluorophore f = fluorophores.get(i);
+                f.setStagePosition(dx, dy, stageZ);
+                maxFootprintRadius = Math.max(maxFootprintRadius,
+                                              f.getFootprintRadius());
             }
+        } while (maxFootprintRadius > searched);
+    }
+    
+    /**
+     * Returns the largest radius of the fluorophores' footprints.
+     * 
+     * @return The largest radius. [pixels]
+     */
+    private double findMaxFootprintRadius() {
+        double radius = 0;
+        for (Fluorophore f: fluorophores) {
+            radius = Math.max(radius, f.getFootprintRadius());
         }
+        return radius;
+    }
+    
+    /**
+     * Finds the fluorophores whose images reach the region of interest.
+     * 
+     * Only the fluorophores that the index finds near the region are
+     * checked.
+     * 
+     * @param dx The lateral displacement of the images in x. [pixels]
+     * @param dy The lateral displacement of the images in y. [pixels]
+     * @return The indexes of the fluorophores in ascending order.
+     */
+    private int[] findVisibleFluorophores(double dx, double dy) {
+        int[] candidates = findFluorophoresNearRoi(dx, dy, maxFootprintRadius);
+        int[] visible = new int[candidates.length];
+        int count = 0;
+        for (int i: candidates) {
+            if (fluorophores.get(i).overlaps(
+                    camera.getRoiX(), camera.getRoiY(),
+                    camera.getRoiWidth(), camera.getRoiHeight())) {
+                visible[count++] = i;
+            }
+        }
+        return Arrays.copyOf(visible, count);
+    }
+    
+    /**
+     * Finds the fluorophores whose images may reach the region of interest.
+     * 
+     * The region is moved back by the stage displacement into the
+     * coordinates of the sample and widened by the radius, plus one pixel
+     * for footprints that are smaller than a pixel, before the index is
+     * queried.
+     * 
+     * @param dx The lateral displacement of the images in x. [pixels]
+     * @param dy The lateral displacement of the images in y. [pixels]
+     * @param radius The largest radius of the images. [pixels]
+     * @return The indexes of the fluorophores in ascending order.
+     */
+    private int[] findFluorophoresNearRoi(double dx, double dy,
+                                          double radius) {
+        double margin = radius + 1;
+        double x0 = camera.getRoiX() - dx;
+        double y0 = camera.getRoiY() - dy;
+        return fluorophoreIndex.query(
+                x0 - margin, y0 - margin,
+                x0 + camera.getRoiWidth() + margin,
+                y0 + camera.getRoiHeight() + margin);
     }
     
     /**
-     * Adds Poisson noise to the image.
-     * @param image input image
+     * Reads out the sensor, from the photons of the region of interest to
+     * the 16-bit pixels of the frame.
+     * 
+     * The background is added to the photons and the pixels are binned, as
+     * in hardware binning. Then the shot noise, the multiplication noise of
+     * the EM gain register, the readout and thermal noises, the conversion to
+     * ADU with the baseline and the saturation to 16 bits are applied to each
+     * binned pixel in turn, so that the frame is traversed only once and the
+     * band of rows that a binned pixel reads stays in the cache. Each noise
+     * source has its own random number generator and the pixels are visited
+     * in the same order as by separate passes over the image, so the noise
+     * is the same.
+     * 
+     * This method is package-private so that it may be benchmarked.
+     * 
+     * @param image The photons of the region of interest.
+     * @param backgroundSignal The background photons of the whole sensor, or
+     *                         null for none.
+     * @return The pixels of the frame; the pixel (x, y) is at the index
+     *         y * width + x.
      */
-    private void addPoissonNoise(float[][] image) {
-        for (int x = 0; x < image.length; x++) {
-            for (int y = 0; y < image[0].length; y++) {
-                image[x][y] = (float) poisson.nextInt(image[x][y]);
+    short[] readOut(float[][] image, float[][] backgroundSignal) {
+        final int b = camera.getBinning();
+        final int width = image.length / b;
+        final int height = image[0].length / b;
+        final int x0 = camera.getRoiX();
+        final int y0 = camera.getRoiY();
+        final int emGain = camera.getEmGain();
+        final double inverseGain = 1.0 / ((double) emGain);
+        final double readoutNoise = camera.getReadoutNoise();
+        final double thermalNoise = camera.getThermalNoise();
+        final double aduPerElectron = camera.getAduPerElectron();
+        final int baseline = camera.getBaseline();
+        
+        short[] frame = new short[width * height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                // Sum the charge of the binned pixels.
+                float signal = 0;
+                for (int dx = 0; dx < b; dx++) {
+                    float[] row = image[x * b + dx];
+                    float[] backgroundRow = backgroundSignal == null
+                            ? null : backgroundSignal[x0 + x * b + dx];
+                    for (int dy = 0; dy < b; dy++) {
+                        float photons = row[y * b + dy];
+                        if (backgroundRow != null) {
+                            photons += backgroundRow[y0 + y * b + dy];
+                        }
+                        signal += photons;
+                    }
+                }
+                
+                // Poisson noise
+                signal = (float) poisson.nextInt(signal);
+                
+                // Multiplication noise from the EM gain register
+                if (emGain != 0) {
+                    // lambda parameter of nextDouble() is inverse of EM_gain.
+                    signal = (float) gamma.nextDouble(signal + 0.01f,
+                                                      inverseGain);
+                }
+                
+                // Dark noises (readout and thermal)
+                signal += readoutNoise * gaussian.nextDouble() +
+                          thermalNoise * gaussian.nextDouble();
+                
+                // Convert signal to ADU and add baseline.
+                signal *= aduPerElectron;
+                signal += baseline;
+                
+                // Saturate and round to 16 bits.
+                double value = signal;
+                if (value < 0) {
+                    value = 0;
+                } else if (value > 65535) {
+                    value = 65535;
+                }
+                frame[y * width + x] = (short) (int) (value + 0.5);
             }
         }
+        return frame;
     }
     
     /**
@@ -212,6 +493,23 @@ public class Microscope implements Serializable {
         return this.fluorophores;
     }
     
+    /**
+     * Returns the fluorophores whose positions lie inside a rectangle.
+     * 
+     * The bounds are in units of camera pixels; the lower bounds are
+     * inclusive and the upper bounds exclusive.
+     * 
+     * @param xMin The lower bound in x.
+     * @param yMin The lower bound in y.
+     * @param xMax The upper bound in x.
+     * @param yMax The upper bound in y.
+     * @return The fluorophores inside the rectangle.
+     */
+    public List<Fluorophore> getFluorophoresInRegion(double xMin, double yMin,
+                                                     double xMax, double yMax) {
+        return fluorophoreIndex.getFluorophores(xMin, yMin, xMax, yMax);
+    }
+    
     /**
      * Returns the size of the field-of-view in object space units.
      * 
@@ -219,7 +517,7 @@ public class Microscope implements Serializable {
      */
     public double getFovSize() {
         return (getObjectSpacePixelSize() * getObjectSpacePixelSize()) 
-               * camera.getNX() * camera.getNY();
+               * camera.getRoiWidth() * camera.getRoiHeight();
     }
     
     /**
@@ -237,14 +535,152 @@ public class Microscope implements Serializable {
      * @param laserPower new laser power
      */
     public void setLaserPower(double laserPower) {
+        if (laserSchedule != null) {
+            setLaserSchedule(null);
+        }
         laser.setPower(laserPower);
     }
     
+    /**
+     * Modulates the laser power with a schedule.
+     * 
+     * The schedule starts with the next frame and is evaluated by the
+     * fluorophores while they sample their transitions, so the power may
+     * change within frames. The laser power is left unchanged; setting it
+     * removes the schedule.
+     * 
+     * @param schedule The laser power schedule, or null to return to the
+     *                 laser power.
+     * @throws UnsupportedOperationException if the fluorophores cannot
+     *         follow a schedule.
+     */
+    public void setLaserSchedule(LaserSchedule schedule) {
+        try {
+            for (Fluorophore f: fluorophores) {
+                f.setLaserSchedule(schedule);
+            }
+        } catch (UnsupportedOperationException ex) {
+            // Leave the fluorophores as they were.
+            for (Fluorophore f: fluorophores) {
+                f.setLaserSchedule(laserSchedule);
+            }
+            throw ex;
+        }
+        laserSchedule = schedule;
+        laserScheduleTime = 0;
+    }
+    
+    /**
+     * Returns the laser power schedule.
+     * 
+     * @return The laser power schedule, or null if there is none.
+     */
+    public LaserSchedule getLaserSchedule() {
+        return laserSchedule;
+    }
+    
+    /**
+     * Enables or disables the analytic integration of the fluorophores'
+     * photophysics over whole frames.
+     * 
+     * This speeds up simulations in which the fluorophores undergo many
+     * transitions per frame, for example at high laser powers. Fluorophores
+     * whose transitions are logged are always simulated transition by
+     * transition.
+     * 
+     * @param enabled True to enable the frame integration.
+     * @see ch.epfl.leb.sass.models.photophysics.FrameIntegrator
+     */
+    public void setFrameIntegration(boolean enabled) {
+        fluorDynamics.getStateSystem().setFrameIntegration(enabled);
+    }
+    
+    /**
+     * Moves the stage.
+     * 
+     * The images of the emitters follow the stage from the next frame on.
+     * Lateral positions are in the same units as the object space pixel
+     * size; the axial position is the stage displacement of the PSF. Any
+     * stage trajectory is cancelled.
+     * 
+     * @param x The stage's x-position.
+     * @param y The stage's y-position.
+     * @param z The stage's z-position.
+     */
+    public void setStagePosition(double x, double y, double z) {
+        stageTrajectory = null;
+        stage.setX(x);
+        stage.setY(y);
+        stage.setZ(z);
+        updateStagePosition();
+    }
+    
+    /**
+     * Moves the stage along a trajectory, one position per frame.
+     * 
+     * The first position is used for the next frame. The stage stays at the
+     * last position once the trajectory is finished. This may be used for
+     * z-stacks or to simulate drift.
+     * 
+     * @param positions The (x, y, z) positions of the stage for each frame.
+     * @throws IllegalArgumentException if there are no positions or if a
+     *         position does not have three coordinates.
+     * @see #setStagePosition(double, double, double)
+     */
+    public void setStageTrajectory(double[][] positions) {
+        if (positions.length == 0) {
+            throw new IllegalArgumentException(
+                    "The stage trajectory must contain at least one position.");
+        }
+        double[][] trajectory = new double[positions.length][];
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i].length != 3) {
+                throw new IllegalArgumentException(
+                        "Stage positions must have three coordinates.");
+            }
+            trajectory[i] = positions[i].clone();
+        }
+        stageTrajectory = trajectory;
+        stageTrajectoryIndex = 0;
+    }
+    
+    /**
+     * Returns the stage position.
+     * 
+     * @return The stage's x-, y- and z-positions.
+     */
+    public double[] getStagePosition() {
+        return new double[] {stage.getX(), stage.getY(), stage.getZ()};
+    }
+    
+    /**
+     * Moves the stage to the next position of its trajectory, if any.
+     */
+    private void advanceStageTrajectory() {
+        if (stageTrajectory == null) {
+            return;
+        }
+        double[] position = stageTrajectory[stageTrajectoryIndex++];
+        stage.setX(position[0]);
+        stage.setY(position[1]);
+        stage.setZ(position[2]);
+        if (stageTrajectoryIndex == stageTrajectory.length) {
+            stageTrajectory = null;
+        }
+    }
+    
     /**
      * Return current power of the laser.
+     * 
+     * When a laser power schedule is active, this is the power of the
+     * schedule at the start of the next frame.
+     * 
      * @return laser power
      */
     public double getLaserPower() {
+        if (laserSchedule != null) {
+            return laserSchedule.getPower(laserScheduleTime);
+        }
         return laser.getPower();
     }
     
@@ -253,22 +689,67 @@ public class Microscope implements Serializable {
      * @return number of shining emitters
      */
     public double getOnEmitterCount() {
+        return statistics.getOnCount();
+    }
+    
+    /**
+     * Returns the ground truth statistics of the fluorophores.
+     * 
+     * The statistics are updated while the fluorophores evolve and one frame
+     * of history is recorded for every simulated or advanced frame.
+     * 
+     * @return The statistics of the fluorophores.
+     */
+    public FluorophoreStatistics getStatistics() {
+        return statistics;
+    }
+    
+    /**
+     * Tracks the number of active emitters inside a rectangle from now on.
+     * 
+     * @param xMin The inclusive lower bound in x. [pixels]
+     * @param yMin The inclusive lower bound in y. [pixels]
+     * @param xMax The exclusive upper bound in x. [pixels]
+     * @param yMax The exclusive upper bound in y. [pixels]
+     * @return The index of the region in the statistics.
+     * @see #getStatistics()
+     */
+    public int addStatisticsRegion(double xMin, double yMin,
+                                   double xMax, double yMax) {
+        return statistics.addRegion(
+                fluorophoreIndex.query(xMin, yMin, xMax, yMax));
+    }
+    
+    /**
+     * Returns the number of currently active emitters inside a rectangle.
+     * 
+     * @param xMin The inclusive lower bound in x. [pixels]
+     * @param yMin The inclusive lower bound in y. [pixels]
+     * @param xMax The exclusive upper bound in x. [pixels]
+     * @param yMax The exclusive upper bound in y. [pixels]
+     * @return number of shining emitters inside the rectangle
+     */
+    public int getOnEmitterCount(double xMin, double yMin,
+                                 double xMax, double yMax) {
         int count = 0;
-        for (Fluorophore e: fluorophores) {
-            if (e.isOn()) {
-                count++;
-            }
+        for (int i: fluorophoreIndex.query(xMin, yMin, xMax, yMax)) {
+            count += fluorophores.get(i).getOnEmitterCount();
         }
         return count;
     }
     
     /**
-     * Return the number of camera pixels in x and y.
+     * Return the number of pixels in x and y of the simulated frames.
+     * 
+     * This is the size of the camera's region of interest divided by the
+     * binning factor.
+     * 
      * @return 2D array with number of pixels in x and y.
      */
     public int[] getResolution() {
         int[] result = new int[2];
-        result[0] = camera.getNX(); result[1] = camera.getNY();
+        result[0] = camera.getRoiWidth() / camera.getBinning();
+        result[1] = camera.getRoiHeight() / camera.getBinning();
         return result;
     }
     
@@ -281,36 +762,223 @@ public class Microscope implements Serializable {
      * @return A simulated image of the next camera frame.
      */
     public ImageS simulateFrame() {
-        float[][] pixels = new float[this.camera.getNX()][this.camera.getNY()];
-        for (int row = 0; row < pixels.length; row++)
-            Arrays.fill(pixels[row], 0.0f);
+        // Follow the stage before the frame is timed.
+        advanceStageTrajectory();
+        updateStagePosition();
+        
+        // The clock is only read when the metrics or the flight recorder
+        // event are enabled.
+        final Object event = FlightRecorderEvents.beginFrame();
+        final boolean recorded = metrics.isEnabled();
+        final long[] times = (recorded || event != null)
+                           ? new long[STAGES.length + 1] : null;
+        if (times != null) times[0] = System.nanoTime();
+        
+        // Only the camera's region of interest is rendered.
+        final int x0 = this.camera.getRoiX();
+        final int y0 = this.camera.getRoiY();
+        float[][] pixels = new float[this.camera.getRoiWidth()]
+                                    [this.camera.getRoiHeight()];
         
         // Add obstructions
         if (obstructors != null) {
             for (Obstructor o: obstructors) {
-                o.applyTo(pixels);
+                o.applyTo(pixels, x0, y0);
             }
         }
-        // Add fluorophores
-        // The applyTo method also handles fluorophore state changes by calling
-        // the simulateBrightness() method of an emitter.
-        for (Fluorophore f: fluorophores) {
-            f.applyTo(pixels);
-        }
+        if (times != null) times[1] = System.nanoTime();
         
-        addBackground(pixels);
-        addNoise(pixels);
+        // Advance the fluorophores' states, then render them. The two loops
+        // are separate so that the photophysics and the PSF rendering can be
+        // timed independently; the rendering does not use random numbers, so
+        // the frames are the same as when each fluorophore is done at once.
+        // Every fluorophore evolves, but only those whose images reach the
+        // region of interest are rendered.
+        // With exposure and readout times, each fluorophore yields the photons
+        // of the exposure windows of the rows that its image spans.
+        // The statistics are recorded at the beginning of the frame.
+        final FrameTiming timing = this.camera.getFrameTiming();
+        final int statisticsFrame = statistics.recordFrame();
+        double[] brightness = new double[fluorophores.size()];
+        double[][] windowPhotons = null;
+        double totalPhotons = 0;
+        if (timing.isUnitFrame()) {
+            int i = 0;
+            for (Fluorophore f: fluorophores) {
+                statistics.beginUpdate(f);
+                brightness[i] = f.simulateBrightness();
+                statistics.endUpdate(i, f);
+                totalPhotons += brightness[i++];
+            }
+        } else {
+            windowPhotons = new double[fluorophores.size()][];
+            int i = 0;
+            for (Fluorophore f: fluorophores) {
+                statistics.beginUpdate(f);
+                windowPhotons[i] = f.simulateBrightness(timing);
+                statistics.endUpdate(i, f);
+                for (double photons: windowPhotons[i]) {
+                    brightness[i] += photons;
+                }
+                totalPhotons += brightness[i++];
+            }
+        }
+        statistics.setPhotons(statisticsFrame, totalPhotons);
+        if (laserSchedule != null) {
+            laserScheduleTime += timing.getPeriod();
+        }
+        if (times != null) times[2] = System.nanoTime();
         
-        // Convert signal to ADU and add baseline.
-        for (int x = 0; x < pixels.length; x++) {
-            for (int y = 0; y < pixels[0].length; y++) {
-                pixels[x][y] *= this.camera.getAduPerElectron();
-                pixels[x][y] += this.camera.getBaseline();
+        // Dark fluorophores are skipped so that their footprints are not
+        // computed.
+        for (int index: visibleFluorophores) {
+            if (brightness[index] == 0) {
+                continue;
+            }
+            if (windowPhotons == null) {
+                fluorophores.get(index).applyTo(pixels, x0, y0,
+                                                brightness[index]);
+            } else {
+                fluorophores.get(index).applyTo(pixels, x0, y0, timing,
+                                                windowPhotons[index]);
             }
         }
+        if (times != null) times[3] = System.nanoTime();
+        
+        float[][] backgroundSignal = this.background.generateBackground();
+        if (times != null) times[4] = System.nanoTime();
+        
+        // Binning happens on the sensor, before the readout noise is added.
+        short[] frameBuffer = readOut(pixels, backgroundSignal);
+        if (times != null) times[5] = System.nanoTime();
         
         // Convert to image
-        return new DefaultImageS(pixels);
+        int[] resolution = getResolution();
+        ImageS image = new DefaultImageS(resolution[0], resolution[1],
+                                        frameBuffer);
+        long frame = frameCount++;
+        if (times != null) {
+            times[6] = System.nanoTime();
+            long[] stageNanos = new long[STAGES.length];
+            for (int s = 0; s < STAGES.length; s++) {
+                stageNanos[s] = times[s + 1] - times[s];
+            }
+            
+            if (recorded) {
+                for (int s = 0; s < STAGES.length; s++) {
+                    metrics.record(STAGES[s], stageNanos[s]);
+                }
+                metrics.record(SimulationMetrics.Stage.FRAME,
+                               times[STAGES.length] - times[0]);
+                metrics.addFrame(fluorophores.size());
+            }
+            
+            if (event != null) {
+                int active = 0;
+                for (double b: brightness) {
+                    if (b > 0) active++;
+                }
+                FlightRecorderEvents.commitFrame(event, frame,
+                        fluorophores.size(), active, stageNanos);
+            }
+        }
+        return image;
+    }
+    
+    /**
+     * Advances the fluorophores' photophysics without rendering any frame.
+     * 
+     * Each frame evolves the fluorophores and follows the stage trajectory
+     * and the laser power schedule as {@link #simulateFrame()} does, but no
+     * photons, PSFs, background or noise are drawn. The images of the
+     * emitters catch up with the stage at the next rendered frame.
+     * 
+     * The fluorophores share the simulation's random number generators, so
+     * they are advanced one after the other to keep simulations repeatable.
+     * 
+     * @param nFrames The number of frames to advance.
+     */
+    public void advance(int nFrames) {
+        final double period = this.camera.getFrameTiming().getPeriod();
+        for (int frame = 0; frame < nFrames; frame++) {
+            advanceStageTrajectory();
+            
+            statistics.recordFrame();
+            long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+            int i = 0;
+            for (Fluorophore f: fluorophores) {
+                statistics.beginUpdate(f);
+                f.advance(period);
+                statistics.endUpdate(i++, f);
+            }
+            if (metrics.isEnabled()) {
+                metrics.lap(SimulationMetrics.Stage.DYNAMICS, start);
+            }
+            
+            if (laserSchedule != null) {
+                laserScheduleTime += period;
+            }
+            frameCount++;
+        }
+    }
+    
+    /**
+     * Starts every fluorophore in the quasi-stationary distribution of its
+     * states for the current laser power.
+     * 
+     * This replaces a long burn-in of the photophysics: the fluorophores are
+     * in the states they would be in after a long time, given that they are
+     * not bleached yet.
+     */
+    public void initializeSteadyState() {
+        initializeStates(StateDistribution.quasiStationary(
+                fluorDynamics.getStateSystem(),
+                fluorDynamics.getStartingState()));
+    }
+    
+    /**
+     * Starts every fluorophore in the distribution of its states after a
+     * given time at the current laser power.
+     * 
+     * Fluorophores may be bleached by the time.
+     * 
+     * @param time The time since the start state, in frames.
+     */
+    public void initializeStates(double time) {
+        if (time < 0) {
+            throw new IllegalArgumentException("The time must not be negative.");
+        }
+        initializeStates(StateDistribution.atTime(
+                fluorDynamics.getStateSystem(),
+                fluorDynamics.getStartingState(),
+                time));
+    }
+    
+    private void initializeStates(double[] distribution) {
+        int i = 0;
+        for (Fluorophore f: fluorophores) {
+            statistics.beginUpdate(f);
+            f.initializeState(distribution);
+            statistics.endUpdate(i++, f);
+        }
+    }
+    
+    /**
+     * Returns the timing and throughput statistics of the frame generation.
+     * 
+     * @return The metrics of this microscope.
+     */
+    public SimulationMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the cache that bounds the memory of the emitters' footprints.
+     *
+     * @return The footprint cache of this microscope.
+     */
+    public FootprintCache getFootprintCache() {
+        return footprintCache;
     }
     
     /**
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.backgrounds.internal.commands;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds background images that are shared by the simulations in a JVM.
+ * 
+ * The images are kept in the order in which they were last used, and the
+ * least recently used ones are dropped once the total number of pixels
+ * exceeds the capacity. The cached arrays are never handed out; callers
+ * receive copies that they may modify.
+ * 
+ * @param <K> The type of the keys that identify the images.
+ */
+final class BackgroundCache<K> {
+    
+    /**
+     * The default capacity of a cache [pixels].
+     */
+    static final long DEFAULT_CAPACITY = 1L << 24;
+    
+    /**
+     * The images in the order in which they were last used.
+     */
+    private final LinkedHashMap<K, float[][]> images =
+            new LinkedHashMap<>(16, 0.75f, true);
+    
+    /**
+     * The maximum number of pixels held by the cache.
+     */
+    private final long capacity;
+    
+    /**
+     * The number of pixels held by the cache.
+     */
+    private long size = 0;
+    
+    /**
+     * Creates an empty cache.
+     * 
+     * @param capacity The maximum number of pixels held by the cache.
+     */
+    BackgroundCache(long capacity) {
+        this.capacity = capacity;
+    }
+    
+    /**
+     * Returns a copy of a cached image.
+     * 
+     * @param key The key of the image.
+     * @return A copy of the image, or null if it is not cached.
+     */
+    float[][] get(K key) {
+        float[][] image;
+        synchronized (this) {
+            image = images.get(key);
+        }
+        return image == null ? null : copy(image);
+    }
+    
+    /**
+     * Caches an image, dropping the least recently used images if needed.
+     * 
+     * Images that are larger than the capacity are not cached.
+     * 
+     * @param key The key of the image.
+     * @param image The image, which must not be modified afterwards.
+     */
+    synchronized void put(K key, float[][] image) {
+        long pixels = pixels(image);
+        if (pixels > capacity) {
+            return;
+        }
+        float[][] previous = images.put(key, image);
+        if (previous != null) {
+            size -= pixels(previous);
+        }
+        size += pixels;
+        Iterator<Map.Entry<K, float[][]>> it = images.entrySet().iterator();
+        while (size > capacity && it.hasNext()) {
+            size -= pixels(it.next().getValue());
+            it.remove();
+        }
+    }
+    
+    /**
+     * Returns the number of pixels held by the cache.
+     * 
+     * @return The number of pixels.
+     */
+    synchronized long getSize() {
+        return size;
+    }
+    
+    /**
+     * Copies an image.
+     * 
+     * @param image The image to copy.
+     * @return A deep copy of the image.
+     */
+    static float[][] copy(float[][] image) {
+        float[][] copy = new float[image.length][];
+        for (int i = 0; i < image.length; i++) {
+            copy[i] = image[i].clone();
+        }
+        return copy;
+    }
+    
+    private static long pixels(float[][] image) {
+        long pixels = 0;
+        for (float[] row : image) {
+            pixels += row.length;
+        }
+        return pixels;
+    }
+}
@@ -49,6 +49,13 @@ public final class GenerateBackgroundFromFile implements BackgroundCommand  {
      */
     private final int nY;
     
+    /**
+     * Images that have already been loaded, keyed by file and modification
+     * time, so that simulations sharing a background read it only once.
+     */
+    private static final BackgroundCache<String> cache =
+            new BackgroundCache<>(BackgroundCache.DEFAULT_CAPACITY);
+    
     public static class Builder implements BackgroundCommandBuilder {
         private File file;
         private int nX;
@@ -108,10 +115,10 @@ public final class GenerateBackgroundFromFile implements BackgroundCommand  {
     
     /**
      * Creates the background image.
-     * @return The background image.
+     * @return A copy of the background image.
      */
     public float[][] generateBackground() {
-        return pixels;
+        return BackgroundCache.copy(pixels);
     }
     
     /**
@@ -119,12 +126,27 @@ public final class GenerateBackgroundFromFile implements BackgroundCommand  {
      * @param file tif stack file
      */
     private void loadFile(File file) {
+        String key = file.getAbsolutePath() + ":" + file.lastModified();
+        float[][] loaded = cache.get(key);
+        if (loaded == null) {
+            loaded = readFile(file);
+            cache.put(key, BackgroundCache.copy(loaded));
+        }
+        this.pixels = loaded;
+    }
+    
+    /**
+     * Reads the first image of a tif stack.
+     * @param file tif stack file
+     * @return The pixels of the first image.
+     */
+    private static float[][] readFile(File file) {
         Opener o = new Opener();
         ImagePlus win = o.openTiff(file.getParent().concat(File.separator),file.getName());
         ImageStack stack = win.getImageStack();
         ImageProcessor ip = stack.getProcessor(1);
         FloatProcessor fp = ip.convertToFloatProcessor();
-        this.pixels = fp.getFloatArray();
+        return fp.getFloatArray();
     }
     
     /**
@@ -20,6 +20,7 @@ package ch.epfl.leb.sass.models.backgrounds.internal.commands;
 import ch.epfl.leb.sass.models.backgrounds.BackgroundCommandBuilder;
 import ch.epfl.leb.sass.models.backgrounds.BackgroundCommand;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Generates random background patterns from a simplex noise generator.
@@ -60,6 +61,16 @@ public class GenerateRandomBackground implements BackgroundCommand {
      */
     private final int nY;
     
+    /**
+     * Backgrounds that have already been computed, keyed by their parameters.
+     * 
+     * The noise pattern is fully determined by the parameters, so it is
+     * computed once and shared by every command (and every simulation) that
+     * uses the same parameters.
+     */
+    private static final BackgroundCache<List<Object>> cache =
+            new BackgroundCache<>(BackgroundCache.DEFAULT_CAPACITY);
+    
     public static class Builder implements BackgroundCommandBuilder {
         private double featureSize;
         private int seed;
@@ -95,10 +106,26 @@ public class GenerateRandomBackground implements BackgroundCommand {
     /**
      * Create the random background signal.
      * 
-     * @return A 2D array of background photons for each pixel.
+     * @return A new 2D array of background photons for each pixel.
      */
     @Override
     public float[][] generateBackground() {
+        List<Object> key = Arrays.<Object>asList(
+                featureSize, seed, min, max, nX, nY);
+        float[][] background = cache.get(key);
+        if (background == null) {
+            background = computeBackground();
+            cache.put(key, BackgroundCache.copy(background));
+        }
+        return background;
+    }
+    
+    /**
+     * Evaluates the simplex noise on every pixel.
+     * 
+     * @return A 2D array of background photons for each pixel.
+     */
+    private float[][] computeBackground() {
         float[][] background = new float[this.nY][this.nX];
         
         OpenSimplexNoise noise = new OpenSimplexNoise();
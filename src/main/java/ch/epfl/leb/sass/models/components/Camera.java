@@ -100,4 +100,75 @@ public interface Camera extends Model {
      */
     public int getNY();
     
+    /**
+     * The x-coordinate of the first sensor pixel that is read out.
+     * 
+     * @return The offset of the region of interest in x. [pixels]
+     */
+    public int getRoiX();
+    
+    /**
+     * The y-coordinate of the first sensor pixel that is read out.
+     * 
+     * @return The offset of the region of interest in y. [pixels]
+     */
+    public int getRoiY();
+    
+    /**
+     * The number of sensor pixels that are read out in x.
+     * 
+     * @return The width of the region of interest. [pixels]
+     */
+    public int getRoiWidth();
+    
+    /**
+     * The number of sensor pixels that are read out in y.
+     * 
+     * @return The height of the region of interest. [pixels]
+     */
+    public int getRoiHeight();
+    
+    /**
+     * The number of sensor pixels along each side of a binned pixel.
+     * 
+     * The charge of binning x binning sensor pixels is summed before it is
+     * read out, so the image has getRoiWidth() / binning by
+     * getRoiHeight() / binning pixels.
+     * 
+     * @return The binning factor, 1 if there is no binning.
+     */
+    public int getBinning();
+    
+    /**
+     * The time during which each row of pixels is exposed.
+     * 
+     * Times are in the units of the fluorophores' transition rates.
+     * 
+     * @return The exposure time, 1 by default.
+     */
+    public double getExposureTime();
+    
+    /**
+     * The time between the end of an exposure and the start of the next
+     * frame.
+     * 
+     * @return The readout (dead) time, 0 by default.
+     */
+    public double getReadoutTime();
+    
+    /**
+     * The delay between the exposures of successive rows of a rolling
+     * shutter.
+     * 
+     * @return The line time, or 0 for a global shutter.
+     */
+    public double getLineTime();
+    
+    /**
+     * The exposure windows of the rows of the region of interest.
+     * 
+     * @return The timing of the camera's frames.
+     */
+    public FrameTiming getFrameTiming();
+    
 }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.components;
+
+/**
+ * The times at which the rows of a camera's region of interest are exposed
+ * during a frame.
+ * 
+ * Times are in the same units as the fluorophores' transition rates, in which
+ * a frame lasts 1 by default. A frame lasts for the exposure time plus the
+ * readout time. With a rolling shutter, the exposure of each row of (binned)
+ * pixels starts one line time after that of the previous row, so the rows
+ * are exposed during different windows of the frame. The windows are
+ * numbered from the first row of the region of interest; with a global
+ * shutter there is only one.
+ */
+public final class FrameTiming {
+    
+    private final double exposureTime;
+    private final double readoutTime;
+    private final double lineTime;
+    private final int firstRow;
+    private final int binning;
+    private final int windowCount;
+    
+    /**
+     * Creates the timing of a camera's frames.
+     * 
+     * @param exposureTime The time during which each row is exposed.
+     * @param readoutTime The time between the end of the exposure of the first
+     *                    row and the start of the next frame.
+     * @param lineTime The delay between the exposures of successive rows, or
+     *                 0 for a global shutter.
+     * @param firstRow The first sensor row of the region of interest.
+     * @param rows The number of sensor rows of the region of interest.
+     * @param binning The number of sensor rows that are read out together.
+     * @throws IllegalArgumentException if the times are negative or if the
+     *         last row is not exposed before the end of the frame.
+     */
+    public FrameTiming(double exposureTime, double readoutTime, double lineTime,
+                       int firstRow, int rows, int binning) {
+        if (!(exposureTime > 0) || readoutTime < 0 || lineTime < 0) {
+            throw new IllegalArgumentException("The exposure time must be "
+                    + "positive and the readout and line times must not be "
+                    + "negative.");
+        }
+        this.exposureTime = exposureTime;
+        this.readoutTime = readoutTime;
+        this.lineTime = lineTime;
+        this.firstRow = firstRow;
+        this.binning = binning;
+        this.windowCount = lineTime > 0 ? Math.max(1, rows / binning) : 1;
+        
+        if ((windowCount - 1) * lineTime > readoutTime) {
+            throw new IllegalArgumentException("The rolling shutter must "
+                    + "reach the last row within the readout time.");
+        }
+    }
+    
+    /**
+     * Returns the time during which each row is exposed.
+     * 
+     * @return The exposure time.
+     */
+    public double getExposureTime() {
+        return exposureTime;
+    }
+    
+    /**
+     * Returns the delay between the exposures of successive rows.
+     * 
+     * @return The line time, or 0 for a global shutter.
+     */
+    public double getLineTime() {
+        return lineTime;
+    }
+    
+    /**
+     * Returns the time between the starts of successive frames.
+     * 
+     * @return The exposure time plus the readout time.
+     */
+    public double getPeriod() {
+        return exposureTime + readoutTime;
+    }
+    
+    /**
+     * Returns the number of distinct exposure windows.
+     * 
+     * @return The number of rows of binned pixels for a rolling shutter, or 1.
+     */
+    public int getWindowCount() {
+        return windowCount;
+    }
+    
+    /**
+     * Returns true if every row is exposed during the whole frame and the
+     * frame lasts 1, which is what the photophysics assume by default.
+     * 
+     * @return True if the frames need no timing model.
+     */
+    public boolean isUnitFrame() {
+        return exposureTime == 1 && readoutTime == 0 && lineTime == 0;
+    }
+    
+    /**
+     * Returns the exposure window of a sensor row.
+     * 
+     * Rows outside of the region of interest are assigned to the nearest
+     * window.
+     * 
+     * @param row The sensor row.
+     * @return The index of the exposure window.
+     */
+    public int getWindow(int row) {
+        if (windowCount == 1) {
+            return 0;
+        }
+        int window = Math.floorDiv(row - firstRow, binning);
+        return Math.min(Math.max(window, 0), windowCount - 1);
+    }
+    
+    /**
+     * Returns the time after the start of the frame at which a window opens.
+     * 
+     * @param window The index of the exposure window.
+     * @return The start of the exposure window.
+     */
+    public double getWindowStart(int window) {
+        return window * lineTime;
+    }
+    
+    /**
+     * Adds the overlap of an emitting interval with a range of exposure
+     * windows.
+     * 
+     * Only the windows that overlap the interval are visited, so the on-times
+     * of all windows are accumulated in a single pass over the intervals of
+     * a frame.
+     * 
+     * @param start The start of the interval after the start of the frame.
+     * @param end The end of the interval after the start of the frame.
+     * @param firstWindow The window of onTimes[0].
+     * @param onTimes The on-times of the windows firstWindow,
+     *                firstWindow + 1, ...
+     */
+    public void addOnTime(double start, double end, int firstWindow,
+                          double[] onTimes) {
+        addOnTime(start, end, 1.0, firstWindow, onTimes);
+    }
+    
+    /**
+     * Adds the weighted overlap of an emitting interval with a range of
+     * exposure windows.
+     * 
+     * @param start The start of the interval after the start of the frame.
+     * @param end The end of the interval after the start of the frame.
+     * @param weight The factor by which the overlaps are multiplied, such as
+     *               the photon flux during the interval.
+     * @param firstWindow The window of onTimes[0].
+     * @param onTimes The on-times of the windows firstWindow,
+     *                firstWindow + 1, ...
+     */
+    public void addOnTime(double start, double end, double weight,
+                          int firstWindow, double[] onTimes) {
+        int from = 0;
+        int to = onTimes.length - 1;
+        if (lineTime > 0) {
+            // Windows that open before the end of the interval and close
+            // after its start.
+            from = Math.max(from, (int) Math.floor(
+                    (start - exposureTime) / lineTime) - firstWindow);
+            to = Math.min(to, (int) Math.ceil(end / lineTime) - firstWindow);
+        }
+        for (int i = from; i <= to; i++) {
+            double windowStart = getWindowStart(firstWindow + i);
+            double overlap = Math.min(end, windowStart + exposureTime)
+                             - Math.max(start, windowStart);
+            if (overlap > 0) {
+                onTimes[i] += overlap * weight;
+            }
+        }
+    }
+}
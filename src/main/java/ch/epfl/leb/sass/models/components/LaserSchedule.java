@@ -0,0 +1,179 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.components;
+
+import java.util.Arrays;
+
+/**
+ * A piecewise-constant laser power schedule.
+ * 
+ * The schedule is a sequence of segments of constant power, such as
+ * stroboscopic pulses or a ramp in steps, that starts when it is applied to
+ * the microscope. Times are in the same units as the fluorophores' transition
+ * rates, in which a frame lasts 1 by default. A repeating schedule starts
+ * over at the end of its last segment; otherwise the power of the last
+ * segment is kept.
+ * 
+ * The powers of the segments are numbered as levels so that the fluorophores
+ * can precompute their transition rates for each distinct power.
+ */
+public final class LaserSchedule {
+    
+    private final double[] starts;
+    private final int[] levels;
+    private final double[] levelPowers;
+    private final double period;
+    private final boolean repeat;
+    
+    /**
+     * Creates a laser power schedule.
+     * 
+     * @param durations The duration of each segment.
+     * @param powers The laser power during each segment.
+     * @param repeat True to start over at the end of the last segment.
+     * @throws IllegalArgumentException if there are no segments, if the
+     *         arrays differ in length, or if a duration is not positive or a
+     *         power is negative.
+     */
+    public LaserSchedule(double[] durations, double[] powers, boolean repeat) {
+        if (durations.length == 0 || durations.length != powers.length) {
+            throw new IllegalArgumentException("A laser schedule needs one "
+                    + "power for each of its segments.");
+        }
+        
+        int n = durations.length;
+        this.starts = new double[n];
+        this.levels = new int[n];
+        double[] distinct = new double[n];
+        int nLevels = 0;
+        double time = 0;
+        for (int i = 0; i < n; i++) {
+            if (!(durations[i] > 0) || !(powers[i] >= 0)) {
+                throw new IllegalArgumentException("The durations of the "
+                        + "segments must be positive and their powers must "
+                        + "not be negative.");
+            }
+            starts[i] = time;
+            time += durations[i];
+            
+            int level = 0;
+            while (level < nLevels && distinct[level] != powers[i]) {
+                level++;
+            }
+            if (level == nLevels) {
+                distinct[nLevels++] = powers[i];
+            }
+            levels[i] = level;
+        }
+        this.levelPowers = Arrays.copyOf(distinct, nLevels);
+        this.period = time;
+        this.repeat = repeat;
+    }
+    
+    /**
+     * Returns the distinct laser powers of the schedule.
+     * 
+     * @return The power of each level.
+     */
+    public double[] getLevelPowers() {
+        return levelPowers.clone();
+    }
+    
+    /**
+     * Returns the total duration of the segments.
+     * 
+     * @return The duration of one pass through the schedule.
+     */
+    public double getPeriod() {
+        return period;
+    }
+    
+    /**
+     * Returns true if the schedule starts over after its last segment.
+     * 
+     * @return True for a repeating schedule.
+     */
+    public boolean isRepeating() {
+        return repeat;
+    }
+    
+    /**
+     * Returns the segment that is active at a given time.
+     * 
+     * Segments are numbered consecutively over the repetitions of the
+     * schedule. Times before the start of the schedule belong to the first
+     * segment.
+     * 
+     * @param time The time since the start of the schedule.
+     * @return The index of the active segment.
+     */
+    public long getSegment(double time) {
+        long cycle = 0;
+        if (repeat && time >= period) {
+            cycle = (long) Math.floor(time / period);
+            time -= cycle * period;
+        } else if (!repeat && time >= period) {
+            return starts.length - 1;
+        }
+        int i = Arrays.binarySearch(starts, time);
+        if (i < 0) {
+            i = Math.max(-i - 2, 0);
+        }
+        return cycle * starts.length + i;
+    }
+    
+    /**
+     * Returns the time at which a segment ends.
+     * 
+     * @param segment The index of the segment.
+     * @return The end of the segment since the start of the schedule, or
+     *         infinity for the last segment of a schedule that does not
+     *         repeat.
+     */
+    public double getSegmentEnd(long segment) {
+        int n = starts.length;
+        if (!repeat && segment >= n - 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        long cycle = segment / n;
+        int i = (int) (segment % n);
+        double end = i + 1 < n ? starts[i + 1] : period;
+        return cycle * period + end;
+    }
+    
+    /**
+     * Returns the power level of a segment.
+     * 
+     * @param segment The index of the segment.
+     * @return The index of the segment's power in the level powers.
+     * @see #getLevelPowers()
+     */
+    public int getLevel(long segment) {
+        return levels[(int) (segment % starts.length)];
+    }
+    
+    /**
+     * Returns the laser power at a given time.
+     * 
+     * @param time The time since the start of the schedule.
+     * @return The laser power.
+     */
+    public double getPower(double time) {
+        return levelPowers[getLevel(getSegment(time))];
+    }
+}
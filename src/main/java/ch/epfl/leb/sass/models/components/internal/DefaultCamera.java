@@ -18,6 +18,7 @@
 package ch.epfl.leb.sass.models.components.internal;
 
 import ch.epfl.leb.sass.models.components.Camera;
+import ch.epfl.leb.sass.models.components.FrameTiming;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
@@ -85,6 +86,35 @@ public final class DefaultCamera implements Camera {
      */
     private int nY;
     
+    /**
+     * offset of the region of interest [pixels]
+     */
+    private int roiX;
+    private int roiY;
+    
+    /**
+     * size of the region of interest [pixels]
+     */
+    private int roiWidth;
+    private int roiHeight;
+    
+    /**
+     * number of sensor pixels along each side of a binned pixel
+     */
+    private int binning;
+    
+    /**
+     * exposure, readout and rolling shutter line times [frames]
+     */
+    private double exposureTime;
+    private double readoutTime;
+    private double lineTime;
+    
+    /**
+     * exposure windows of the rows of the region of interest
+     */
+    private FrameTiming frameTiming;
+    
     public static class Builder {
         private double readoutNoise;
         private double darkCurrent;
@@ -96,6 +126,14 @@ public final class DefaultCamera implements Camera {
         private double thermalNoise;
         private int nX;
         private int nY;
+        private int roiX = 0;
+        private int roiY = 0;
+        private int roiWidth = 0;
+        private int roiHeight = 0;
+        private int binning = 1;
+        private double exposureTime = 1;
+        private double readoutTime = 0;
+        private double lineTime = 0;
         
         public Builder readoutNoise(double readoutNoise) {
             this.readoutNoise = readoutNoise;
@@ -132,6 +170,63 @@ public final class DefaultCamera implements Camera {
         public Builder nX(int nX) { this.nX = nX; return this; }
         public Builder nY(int nY) { this.nY = nY; return this; }
         
+        /**
+         * Sets the region of the sensor that is read out.
+         * 
+         * By default the whole sensor is read out.
+         * 
+         * @param roiX The x-coordinate of the first pixel.
+         * @param roiY The y-coordinate of the first pixel.
+         * @param roiWidth The number of pixels in x, or 0 for the rest of
+         *                 the sensor.
+         * @param roiHeight The number of pixels in y, or 0 for the rest of
+         *                  the sensor.
+         * @return This builder.
+         */
+        public Builder roi(int roiX, int roiY, int roiWidth, int roiHeight) {
+            this.roiX = roiX;
+            this.roiY = roiY;
+            this.roiWidth = roiWidth;
+            this.roiHeight = roiHeight;
+            return this;
+        }
+        public Builder binning(int binning) {
+            this.binning = binning;
+            return this;
+        }
+        
+        /**
+         * Sets the timing of the frames.
+         * 
+         * Times are in the units of the fluorophores' transition rates. By
+         * default, each frame is exposed for 1 without readout time.
+         * 
+         * @param exposureTime The time during which each row is exposed.
+         * @param readoutTime The time between the end of the exposure and
+         *                    the start of the next frame.
+         * @return This builder.
+         */
+        public Builder timing(double exposureTime, double readoutTime) {
+            this.exposureTime = exposureTime;
+            this.readoutTime = readoutTime;
+            return this;
+        }
+        
+        /**
+         * Sets the delay between the exposures of successive rows.
+         * 
+         * A line time of 0, the default, is a global shutter. The rolling
+         * shutter must reach the last row of the region of interest within
+         * the readout time.
+         * 
+         * @param lineTime The rolling shutter line time.
+         * @return This builder.
+         */
+        public Builder lineTime(double lineTime) {
+            this.lineTime = lineTime;
+            return this;
+        }
+        
         public DefaultCamera build() {
             return new DefaultCamera(this);
         }
@@ -148,6 +243,34 @@ public final class DefaultCamera implements Camera {
         this.thermal_noise = builder.thermalNoise;
         this.nX = builder.nX;
         this.nY = builder.nY;
+        this.roiX = builder.roiX;
+        this.roiY = builder.roiY;
+        this.roiWidth = builder.roiWidth > 0 ? builder.roiWidth
+                                             : builder.nX - builder.roiX;
+        this.roiHeight = builder.roiHeight > 0 ? builder.roiHeight
+                                               : builder.nY - builder.roiY;
+        this.binning = builder.binning;
+        
+        if (roiX < 0 || roiY < 0 || roiWidth < 0 || roiHeight < 0
+                || roiX + roiWidth > nX || roiY + roiHeight > nY) {
+            throw new IllegalArgumentException("The region of interest must "
+                    + "lie inside the sensor.");
+        }
+        if (roiWidth == 0 || roiHeight == 0) {
+            throw new IllegalArgumentException("The region of interest must "
+                    + "contain at least one pixel.");
+        }
+        if (binning < 1 || roiWidth % binning != 0
+                || roiHeight % binning != 0) {
+            throw new IllegalArgumentException("The size of the region of "
+                    + "interest must be a multiple of the binning factor.");
+        }
+        
+        this.exposureTime = builder.exposureTime;
+        this.readoutTime = builder.readoutTime;
+        this.lineTime = builder.lineTime;
+        this.frameTiming = new FrameTiming(exposureTime, readoutTime, lineTime,
+                                           roiY, roiHeight, binning);
     }
     
     @Override
@@ -189,6 +312,34 @@ public final class DefaultCamera implements Camera {
     public int getNY() {
         return this.nY;
     }
+    
+    @Override
+    public int getRoiX() { return this.roiX; }
+    
+    @Override
+    public int getRoiY() { return this.roiY; }
+    
+    @Override
+    public int getRoiWidth() { return this.roiWidth; }
+    
+    @Override
+    public int getRoiHeight() { return this.roiHeight; }
+    
+    @Override
+    public int getBinning() { return this.binning; }
+    
+    @Override
+    public double getExposureTime() { return this.exposureTime; }
+    
+    @Override
+    public double getReadoutTime() { return this.readoutTime; }
+    
+    @Override
+    public double getLineTime() { return this.lineTime; }
+    
+    @Override
+    public FrameTiming getFrameTiming() { return this.frameTiming; }
+    
     /**
      * Outputs the camera's properties as a JSON element.
      * 
@@ -213,6 +364,15 @@ public final class DefaultCamera implements Camera {
             result.add("emGain", new JsonPrimitive(src.getEmGain()));
             result.add("nPixelsX", new JsonPrimitive(src.getNX()));
             result.add("nPixelsY", new JsonPrimitive(src.getNY()));
+            result.add("roiX", new JsonPrimitive(src.getRoiX()));
+            result.add("roiY", new JsonPrimitive(src.getRoiY()));
+            result.add("roiWidth", new JsonPrimitive(src.getRoiWidth()));
+            result.add("roiHeight", new JsonPrimitive(src.getRoiHeight()));
+            result.add("binning", new JsonPrimitive(src.getBinning()));
+            result.add("exposureTime",
+                       new JsonPrimitive(src.getExposureTime()));
+            result.add("readoutTime", new JsonPrimitive(src.getReadoutTime()));
+            result.add("lineTime", new JsonPrimitive(src.getLineTime()));
             result.add("pixelSize", new JsonPrimitive(src.getPixelSize()));
             result.add("quantumEfficiency",
                        new JsonPrimitive(src.getQuantumEfficiency()));
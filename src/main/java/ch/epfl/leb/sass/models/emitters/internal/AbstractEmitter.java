@@ -17,6 +17,7 @@
  */
 package ch.epfl.leb.sass.models.emitters.internal;
 
+import ch.epfl.leb.sass.models.components.FrameTiming;
 import ch.epfl.leb.sass.utils.RNG;
 import cern.jet.random.Poisson;
 import java.awt.geom.Point2D;
@@ -24,6 +25,7 @@ import static java.lang.Math.sqrt;
 import static java.lang.Math.ceil;
 import static java.lang.Math.floor;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -31,6 +33,7 @@ import org.apache.commons.math.MathException;
 import org.apache.commons.math.special.Erf;
 import ch.epfl.leb.sass.models.psfs.PSF;
 import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+import ch.epfl.leb.sass.models.psfs.SeparablePSF;
 
 /**
  * A point source of light and tools to compute its signature on a digital detector.
@@ -50,7 +53,7 @@ public abstract class AbstractEmitter extends Point2D.Double  {
     /**
      * Running total of the number of emitters.
      */
-    protected static int numberOfEmitters = 0;
+    protected static final AtomicInteger numberOfEmitters = new AtomicInteger();
     
     /**
      * A unique ID assigned to this emitter.
@@ -73,10 +76,54 @@ public abstract class AbstractEmitter extends Point2D.Double  {
     public double z;
 
     /**
-     * List of pixels which are affected by this emitter's light (these pixels
-     * need to be updated when the emitter is on).
+     * The PSF and the extent of the emitter's image.
      */
-    protected ArrayList<Pixel> pixel_list;    
+    private Footprint footprint;
+    
+    /**
+     * The pixels which are affected by this emitter's light (these pixels
+     * need to be updated when the emitter is on), or null if they have not
+     * been computed yet or were released by the footprint cache.
+     */
+    private volatile Rendering rendering = null;
+    
+    /**
+     * The cache that bounds the memory of the rendered footprints, or null
+     * if the rendering is kept until the footprint changes.
+     */
+    private FootprintCache footprintCache = null;
+    
+    /**
+     * The whole-pixel shift in x of the emitter's image that is caused by a
+     * lateral displacement of the stage.
+     */
+    protected int shiftX = 0;
+    
+    /**
+     * The whole-pixel shift in y of the emitter's image that is caused by a
+     * lateral displacement of the stage.
+     */
+    protected int shiftY = 0;
+    
+    /**
+     * The sub-pixel part in x of the lateral stage displacement for which the
+     * current footprint was computed.
+     */
+    private double footprintDx = 0;
+    
+    /**
+     * The sub-pixel part in y of the lateral stage displacement for which the
+     * current footprint was computed.
+     */
+    private double footprintDy = 0;
+    
+    /**
+     * The axial stage displacement, as rounded by the PSF builder, for which
+     * the current footprint was computed, or NaN if the stage has not moved
+     * since the emitter was created.
+     */
+    private double footprintStageZ = java.lang.Double.NaN;
+    
 
     /**
      * Poisson RNG for flickering simulation.
@@ -91,27 +138,196 @@ public abstract class AbstractEmitter extends Point2D.Double  {
      * @param psfBuilder Builder for creating the emitter's PSF.
      */
     public AbstractEmitter(double x, double y, double z, PSFBuilder psfBuilder) {
+        this(x, y, z, psfBuilder, new Footprint(x, y, z, psfBuilder),
+             numberOfEmitters.incrementAndGet());
+    }
+    
+    /**
+     * Creates the emitter at given position from a precomputed image.
+     * 
+     * This allows the positions of many emitters to be filtered and their
+     * images computed before the emitters themselves are created.
+     * 
+     * @param x x-position in image [pixels, with sub-pixel precision]
+     * @param y y-position in image [pixels, with sub-pixel precision]
+     * @param z z-position in image [pixels, with sub-pixel precision]
+     * @param psfBuilder Builder for creating the emitter's PSF.
+     * @param footprint The PSF and pixels of the emitter at this position.
+     * @param id The unique ID of the emitter.
+     * @see #reserveIds(int)
+     */
+    protected AbstractEmitter(double x, double y, double z,
+                              PSFBuilder psfBuilder, Footprint footprint,
+                              int id) {
         super(x, y);
         this.z = z;
         this.builder = psfBuilder;
-        
-        // Calculate the PSF.
-        psfBuilder.eX(x).eY(y).eZ(z);
-        
-        this.psf = psfBuilder.build();
+        this.footprint = footprint;
+        this.psf = footprint.psf;
         this.poisson = RNG.getPoissonGenerator();
+        this.id = id;
+    }
+    
+    /**
+     * Reserves a block of consecutive emitter IDs.
+     * 
+     * @param count The number of IDs to reserve.
+     * @return The first ID of the block.
+     */
+    public static int reserveIds(int count) {
+        return numberOfEmitters.getAndAdd(count) + 1;
+    }
+    
+    /**
+     * The image of an emitter on the camera.
+     * 
+     * A footprint depends only on the emitter's position and the PSF, so
+     * footprints may be computed concurrently from different threads. The
+     * position is passed to the builder as arguments, so the builder is not
+     * locked unless it relies on the default
+     * {@link PSFBuilder#build(double, double, double)}. Footprints that
+     * follow the stage lock the builder because they change its stage
+     * displacement.
+     * 
+     * Only the PSF and the bounds of the image are computed here; the pixels
+     * are computed from the PSF when the emitter is first drawn.
+     */
+    public static final class Footprint {
         
-        // generate pixels which will be added to the image when emitter is on
-        // This must be called **after** super(x,y).
-        this.pixel_list = this.getPixelsWithinRadius(this, this.psf.getRadius());
+        private final PSF psf;
+        private final Point2D position;
+        private final double radius;
         
-        // Compute the signature on each pixel created by this emitter
-        this.psf.generateSignature(this.pixel_list);
+        /**
+         * The bounds of the pixels spanned by the image, inclusive.
+         */
+        private final int minX, maxX, minY, maxY;
         
-        // Increment the number of emitters and assign the id.
-        this.numberOfEmitters += 1;
-        this.id = this.numberOfEmitters;
+        /**
+         * Computes the PSF of an emitter and its signature on each pixel.
+         * 
+         * @param x x-position in image [pixels, with sub-pixel precision]
+         * @param y y-position in image [pixels, with sub-pixel precision]
+         * @param z z-position in image [pixels, with sub-pixel precision]
+         * @param psfBuilder Builder for creating the emitter's PSF.
+         */
+        public Footprint(double x, double y, double z, PSFBuilder psfBuilder) {
+            this.psf = psfBuilder.build(x, y, z);
+            this.position = new Point2D.Double(x, y);
+            this.radius = this.psf.getRadius();
+            int[] bounds = getBounds(this.position, this.radius);
+            this.minX = bounds[0];
+            this.maxX = bounds[1];
+            this.minY = bounds[2];
+            this.maxY = bounds[3];
+        }
         
+        /**
+         * Computes the PSF of an emitter for a given axial stage displacement.
+         * 
+         * The stage displacement of the builder is changed as well, so that
+         * footprints that are computed afterwards follow the stage.
+         * 
+         * @param x x-position in image [pixels, with sub-pixel precision]
+         * @param y y-position in image [pixels, with sub-pixel precision]
+         * @param z z-position in image [pixels, with sub-pixel precision]
+         * @param stageZ The axial displacement of the stage.
+         * @param psfBuilder Builder for creating the emitter's PSF.
+         */
+        public Footprint(double x, double y, double z, double stageZ,
+                         PSFBuilder psfBuilder) {
+            synchronized (psfBuilder) {
+                psfBuilder.eX(x).eY(y).eZ(z).stageDisplacement(stageZ);
+                this.psf = psfBuilder.build();
+            }
+            this.position = new Point2D.Double(x, y);
+            this.radius = this.psf.getRadius();
+            int[] bounds = getBounds(this.position, this.radius);
+            this.minX = bounds[0];
+            this.maxX = bounds[1];
+            this.minY = bounds[2];
+            this.maxY = bounds[3];
+        }
+        
+        /**
+         * Computes the signature of the PSF on the pixels it spans.
+         * 
+         * Separable PSFs are stored as the product of their signatures in x
+         * and y; the signatures of other PSFs are computed on every pixel.
+         */
+        private Rendering render(AbstractEmitter owner) {
+            if (this.psf instanceof SeparablePSF) {
+                return new Rendering.Separable(
+                        owner, (SeparablePSF) this.psf, this.position,
+                        this.radius, new int[] {minX, maxX, minY, maxY});
+            }
+            
+            // generate pixels which will be added to the image when emitter is on
+            ArrayList<Pixel> pixels = getPixelsWithinRadius(
+                    this.position, this.radius);
+            
+            // Compute the signature on each pixel created by this emitter
+            this.psf.generateSignature(pixels);
+            return new Rendering.PixelList(owner, pixels);
+        }
+    }
+    
+    /**
+     * Returns the pixels of the footprint, computing them if necessary.
+     * 
+     * @return The pixels of the footprint.
+     */
+    private Rendering getRendering() {
+        Rendering current = this.rendering;
+        FootprintCache cache = this.footprintCache;
+        if (current == null) {
+            current = this.footprint.render(this);
+            this.rendering = current;
+            if (cache != null) {
+                cache.add(current);
+            }
+        } else if (cache != null) {
+            cache.touch(current);
+        }
+        return current;
+    }
+    
+    /**
+     * Sets the cache that bounds the memory of the emitter's footprint.
+     * 
+     * Emitters that are not attached to a cache keep the pixels of their
+     * footprint until the footprint changes.
+     * 
+     * @param cache The cache, usually the one of the microscope that draws
+     *              the emitter, or null.
+     */
+    public void setFootprintCache(FootprintCache cache) {
+        releaseRendering();
+        this.footprintCache = cache;
+    }
+    
+    /**
+     * Forgets the pixels of the footprint after the cache released them.
+     * 
+     * @param released The pixels released by the cache.
+     */
+    void release(Rendering released) {
+        if (this.rendering == released) {
+            this.rendering = null;
+        }
+    }
+    
+    /**
+     * Discards the pixels of the footprint.
+     */
+    private void releaseRendering() {
+        Rendering current = this.rendering;
+        if (current != null) {
+            this.rendering = null;
+            if (footprintCache != null) {
+                footprintCache.remove(current);
+            }
+        }
     }
 
     /**
@@ -219,6 +435,79 @@ public abstract class AbstractEmitter extends Point2D.Double  {
         return result;
     }
     
+    /**
+     * Returns the bounds of the pixels within a certain radius from a point.
+     * 
+     * The pixels are the same as those of
+     * {@link #getPixelsWithinRadius(java.awt.geom.Point2D, double)}.
+     * 
+     * @param point
+     * @param radius radius value [pixels]
+     * @return the smallest and largest x and the smallest and largest y
+     */
+    private static int[] getBounds(Point2D point, double radius) {
+        if (radius < 1) {
+            int x = (int) point.getX();
+            int y = (int) point.getY();
+            return new int[] {x, x, y, y};
+        }
+        
+        final int bot_x = (int) floor(point.getX() - radius);
+        final int top_x = (int) ceil(point.getX() + radius);
+        final int bot_y = (int) floor(point.getY() - radius);
+        final int top_y = (int) ceil(point.getY() + radius);
+        final double radius2 = radius*radius;
+        
+        int[] bounds = {Integer.MAX_VALUE, Integer.MIN_VALUE,
+                        Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int i = bot_x; i<=top_x; i++) {
+            for (int j=bot_y; j<=top_y; j++) {
+                if (point.distanceSq((double) i, (double) j) <= radius2) {
+                    bounds[0] = Math.min(bounds[0], i);
+                    bounds[1] = Math.max(bounds[1], i);
+                    bounds[2] = Math.min(bounds[2], j);
+                    bounds[3] = Math.max(bounds[3], j);
+                }
+            }
+        }
+        return bounds;
+    }
+    
+    /**
+     * Moves the emitter's image to follow the sample stage.
+     * 
+     * Whole-pixel lateral displacements only shift the current footprint. The
+     * footprint is recomputed when the sub-pixel part of the lateral
+     * displacement or the axial displacement changes. The axial displacement
+     * is first rounded by the PSF builder, so stage moves that do not change
+     * the PSF, such as moves within one axial plane of the Gibson-Lanni PSF,
+     * keep the footprint. The pixels of the new footprint are computed when
+     * the emitter is next drawn.
+     * 
+     * @param dx The lateral displacement of the image in x. [pixels]
+     * @param dy The lateral displacement of the image in y. [pixels]
+     * @param stageZ The axial displacement of the stage.
+     */
+    public void setStagePosition(double dx, double dy, double stageZ) {
+        double wholeX = floor(dx);
+        double wholeY = floor(dy);
+        double fracX = dx - wholeX;
+        double fracY = dy - wholeY;
+        double planeZ = this.builder.roundStageDisplacement(stageZ);
+        if (fracX != footprintDx || fracY != footprintDy
+                || planeZ != footprintStageZ) {
+            this.footprint = new Footprint(this.x + fracX, this.y + fracY,
+                                           this.z, planeZ, this.builder);
+            this.psf = this.footprint.psf;
+            releaseRendering();
+            footprintDx = fracX;
+            footprintDy = fracY;
+            footprintStageZ = planeZ;
+        }
+        shiftX = (int) wholeX;
+        shiftY = (int) wholeY;
+    }
+    
     /**
      * Applies Poisson statistics to simulate flickering of an emitter.
      * 
@@ -231,10 +520,12 @@ public abstract class AbstractEmitter extends Point2D.Double  {
     
     /**
      * Returns list of pixels which need to be drawn on the image to accurately render the emitter.
+     * 
+     * The pixels are computed if the emitter has not been drawn recently.
      * @return list of Pixels
      */
     public ArrayList<Pixel> getPixelList() {
-        return this.pixel_list;
+        return getRendering().getPixels();
     }
     
     /**
@@ -243,15 +534,118 @@ public abstract class AbstractEmitter extends Point2D.Double  {
      * @param pixels image to be drawn on
      */
     public void applyTo(float[][] pixels) {
-        double brightness = this.simulateBrightness();
-        for (Pixel p: this.getPixelList()) {
-            try {
-                pixels[p.x][p.y] += brightness * p.getSignature();
-            } catch (ArrayIndexOutOfBoundsException ex) {
-                // pixel signature outside of frame, do nothing
-                //Logger.getLogger(Device.class.getName()).log(Level.SEVERE, null, ex);
-            }
+        applyTo(pixels, this.simulateBrightness());
+    }
+    
+    /**
+     * Renders the emitter onto the image with a given brightness.
+     * @param pixels image to be drawn on
+     * @param brightness brightness of the emitter in this frame
+     */
+    public void applyTo(float[][] pixels, double brightness) {
+        applyTo(pixels, 0, 0, brightness);
+    }
+    
+    /**
+     * Simulates the brightness pattern of this emitter for the next frame
+     * duration, and renders the emitter onto an image of a region of the
+     * sensor.
+     * @param pixels image to be drawn on
+     * @param x0 sensor x-coordinate of the first column of the image
+     * @param y0 sensor y-coordinate of the first row of the image
+     */
+    public void applyTo(float[][] pixels, int x0, int y0) {
+        applyTo(pixels, x0, y0, this.simulateBrightness());
+    }
+    
+    /**
+     * Renders the emitter with a given brightness onto an image of a region
+     * of the sensor. Pixels outside of the image are skipped.
+     * @param pixels image to be drawn on
+     * @param x0 sensor x-coordinate of the first column of the image
+     * @param y0 sensor y-coordinate of the first row of the image
+     * @param brightness brightness of the emitter in this frame
+     */
+    public void applyTo(float[][] pixels, int x0, int y0, double brightness) {
+        getRendering().applyTo(pixels, x0 - shiftX, y0 - shiftY, brightness);
+    }
+    
+    /**
+     * Renders the emitter onto an image of a region of the sensor with the
+     * brightness of each exposure window of the frame.
+     * @param pixels image to be drawn on
+     * @param x0 sensor x-coordinate of the first column of the image
+     * @param y0 sensor y-coordinate of the first row of the image
+     * @param timing timing of the camera's frames
+     * @param brightness brightness in each exposure window spanned by the
+     *                   emitter, starting with the window of its first row
+     * @see #getWindowRange(FrameTiming)
+     */
+    public void applyTo(float[][] pixels, int x0, int y0, FrameTiming timing,
+                        double[] brightness) {
+        if (brightness.length == 1) {
+            applyTo(pixels, x0, y0, brightness[0]);
+            return;
+        }
+        int firstWindow = getWindowRange(timing)[0];
+        getRendering().applyTo(pixels, x0 - shiftX, y0 - shiftY, y0, timing,
+                               firstWindow, brightness);
+    }
+    
+    /**
+     * Returns the exposure windows of the first and the last rows of the
+     * emitter's image.
+     * @param timing timing of the camera's frames
+     * @return the first and the last exposure window
+     */
+    protected final int[] getWindowRange(FrameTiming timing) {
+        if (timing.getWindowCount() == 1) {
+            return new int[] {0, 0};
+        }
+        return new int[] {timing.getWindow(footprint.minY + shiftY),
+                          timing.getWindow(footprint.maxY + shiftY)};
+    }
+    
+    /**
+     * Checks whether any pixel of the emitter's image lies in a region.
+     * @param x0 x-coordinate of the first pixel of the region
+     * @param y0 y-coordinate of the first pixel of the region
+     * @param width number of pixels of the region in x
+     * @param height number of pixels of the region in y
+     * @return true if the emitter contributes to the region
+     */
+    public boolean overlaps(int x0, int y0, int width, int height) {
+        int offsetX = x0 - shiftX;
+        int offsetY = y0 - shiftY;
+        if (footprint.maxX < offsetX || footprint.minX >= offsetX + width
+                || footprint.maxY < offsetY
+                || footprint.minY >= offsetY + height) {
+            return false;
         }
+        
+        if (footprint.radius < 1) {
+            return true;
+        }
+        
+        // The bounding box reaches the region, but its corners may lie
+        // outside of the footprint, so check the pixel of the overlap that
+        // is nearest to the emitter.
+        Point2D p = footprint.position;
+        long i = Math.min(Math.max(Math.round(p.getX()),
+                                   Math.max(footprint.minX, offsetX)),
+                          Math.min(footprint.maxX, offsetX + width - 1));
+        long j = Math.min(Math.max(Math.round(p.getY()),
+                                   Math.max(footprint.minY, offsetY)),
+                          Math.min(footprint.maxY, offsetY + height - 1));
+        return p.distanceSq(i, j) <= footprint.radius * footprint.radius;
+    }
+    
+    /**
+     * Returns the radius of the emitter's image.
+     * @return the radius of the current footprint [pixels]
+     */
+    public double getFootprintRadius() {
+        return footprint.radius;
     }
     
     /**
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.emitters.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the memory that is used by the pixels of the emitters' footprints.
+ * 
+ * Emitters compute the pixels of their footprints only when they are first
+ * drawn. The footprints are registered here and the least recently drawn
+ * ones are released once the total number of pixels exceeds the capacity;
+ * a released footprint is computed again from the emitter's PSF the next
+ * time the emitter is drawn. Most emitters of a localization microscopy
+ * simulation are dark at any moment, so the memory scales with the number of
+ * recently active emitters instead of the total number of emitters.
+ * 
+ * Each microscope owns the cache of its emitters, so simulations that run
+ * side by side neither share a lock nor evict each other's footprints.
+ * Drawing a cached footprint only stamps it with the current time of the
+ * cache; the cache is locked when footprints are added or removed, and the
+ * stamps are sorted only when footprints must be released.
+ */
+public final class FootprintCache {
+    
+    /**
+     * The default capacity of the cache [pixels].
+     */
+    public static final long DEFAULT_CAPACITY = 1L << 22;
+    
+    /**
+     * Orders footprints from the least to the most recently drawn.
+     */
+    private static final Comparator<Entry> LEAST_RECENT_FIRST =
+            new Comparator<Entry>() {
+        @Override
+        public int compare(Entry a, Entry b) {
+            return Long.compare(a.lastDrawn, b.lastDrawn);
+        }
+    };
+    
+    /**
+     * The footprints held by the cache.
+     */
+    private final HashSet<Entry> entries = new HashSet<>();
+    
+    /**
+     * The time of the cache, which advances whenever a footprint is added.
+     */
+    private final AtomicLong clock = new AtomicLong();
+    
+    /**
+     * The maximum number of pixels held by the cache.
+     */
+    private long capacity;
+    
+    /**
+     * The number of pixels held by the cache.
+     */
+    private long size = 0;
+    
+    /**
+     * A footprint whose pixels are held by the cache.
+     */
+    static abstract class Entry {
+        
+        /**
+         * The memory used by the footprint, counted in pixels or, for
+         * separable footprints, in stored signatures.
+         */
+        private final int pixels;
+        
+        /**
+         * The time of the cache when the footprint was last drawn.
+         */
+        private volatile long lastDrawn;
+        
+        protected Entry(int pixels) {
+            this.pixels = pixels;
+        }
+        
+        /**
+         * Releases the pixels of the footprint.
+         * 
+         * This is called while the cache is locked, so it must not call back
+         * into the cache.
+         */
+        protected abstract void release();
+    }
+    
+    /**
+     * Creates a cache with the default capacity.
+     */
+    public FootprintCache() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Creates a cache with a given capacity.
+     * 
+     * @param pixels The capacity of the cache. [pixels]
+     */
+    public FootprintCache(long pixels) {
+        if (pixels < 0) {
+            throw new IllegalArgumentException(
+                    "The capacity of the cache must not be negative.");
+        }
+        this.capacity = pixels;
+    }
+    
+    /**
+     * Sets the maximum number of pixels held by the cache.
+     * 
+     * The least recently drawn footprints are released until the cache fits.
+     * 
+     * @param pixels The capacity of the cache. [pixels]
+     */
+    public synchronized void setCapacity(long pixels) {
+        if (pixels < 0) {
+            throw new IllegalArgumentException(
+                    "The capacity of the cache must not be negative.");
+        }
+        capacity = pixels;
+        trim();
+    }
+    
+    /**
+     * Returns the maximum number of pixels held by the cache.
+     * 
+     * @return The capacity of the cache. [pixels]
+     */
+    public synchronized long getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * Returns the number of pixels held by the cache.
+     * 
+     * @return The number of pixels of all the cached footprints.
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+    
+    /**
+     * Releases all the footprints.
+     */
+    public synchronized void clear() {
+        for (Entry entry: entries) {
+            entry.release();
+        }
+        entries.clear();
+        size = 0;
+    }
+    
+    /**
+     * Adds a footprint, releasing the least recently drawn ones if needed.
+     * 
+     * @param entry The new footprint.
+     */
+    synchronized void add(Entry entry) {
+        entry.lastDrawn = clock.incrementAndGet();
+        if (entries.add(entry)) {
+            size += entry.pixels;
+        }
+        trim();
+    }
+    
+    /**
+     * Marks a footprint as recently drawn.
+     * 
+     * This does not lock the cache.
+     * 
+     * @param entry The footprint.
+     */
+    void touch(Entry entry) {
+        entry.lastDrawn = clock.get();
+    }
+    
+    /**
+     * Removes a footprint that is no longer used without releasing it.
+     * 
+     * @param entry The footprint.
+     */
+    synchronized void remove(Entry entry) {
+        if (entries.remove(entry)) {
+            size -= entry.pixels;
+        }
+    }
+    
+    /**
+     * Releases the least recently drawn footprints until the cache fits.
+     * 
+     * An eighth of the capacity is freed on top of that so that the stamps
+     * are not sorted again for every footprint that is added.
+     */
+    private void trim() {
+        if (size <= capacity) {
+            return;
+        }
+        Entry[] sorted = entries.toArray(new Entry[entries.size()]);
+        Arrays.sort(sorted, LEAST_RECENT_FIRST);
+        long target = capacity - capacity / 8;
+        for (int i = 0; i < sorted.length && size > target; i++) {
+            Entry eldest = sorted[i];
+            entries.remove(eldest);
+            size -= eldest.pixels;
+            eldest.release();
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.emitters.internal;
+
+import ch.epfl.leb.sass.models.components.FrameTiming;
+import ch.epfl.leb.sass.models.psfs.SeparablePSF;
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The signature of an emitter's footprint on the pixels it spans.
+ * 
+ * Renderings are held by the footprint cache, which releases them when their
+ * emitter has not been drawn recently. Regions are given by their offset,
+ * which is the position of their first pixel in the coordinates of the
+ * footprint, i.e. before the footprint is shifted to follow the stage.
+ */
+abstract class Rendering extends FootprintCache.Entry {
+    
+    /**
+     * The emitter whose footprint is rendered.
+     */
+    private final AbstractEmitter owner;
+    
+    /**
+     * @param owner The emitter whose footprint is rendered.
+     * @param size The memory used by the rendering. [pixels]
+     */
+    protected Rendering(AbstractEmitter owner, int size) {
+        super(size);
+        this.owner = owner;
+    }
+    
+    @Override
+    protected void release() {
+        owner.release(this);
+    }
+    
+    /**
+     * Returns the pixels of the footprint and their signatures.
+     * 
+     * @return The pixels, ordered by column and then by row.
+     */
+    abstract ArrayList<Pixel> getPixels();
+    
+    /**
+     * Renders the footprint onto a region.
+     * 
+     * @param pixels image of the region to be drawn on
+     * @param offsetX x-coordinate of the region's first column
+     * @param offsetY y-coordinate of the region's first row
+     * @param brightness brightness of the emitter in this frame
+     */
+    abstract void applyTo(float[][] pixels, int offsetX, int offsetY,
+                          double brightness);
+    
+    /**
+     * Renders the footprint onto a region with the brightness of each
+     * exposure window.
+     * 
+     * @param pixels image of the region to be drawn on
+     * @param offsetX x-coordinate of the region's first column
+     * @param offsetY y-coordinate of the region's first row
+     * @param y0 sensor y-coordinate of the region's first row
+     * @param timing timing of the camera's frames
+     * @param firstWindow the exposure window of brightness[0]
+     * @param brightness brightness in each exposure window
+     */
+    abstract void applyTo(float[][] pixels, int offsetX, int offsetY, int y0,
+                          FrameTiming timing, int firstWindow,
+                          double[] brightness);
+    
+    /**
+     * A footprint that is stored as a list of pixels.
+     * 
+     * The pixels that lie inside the region that the footprint was last
+     * rendered onto are kept, so the bounds of the footprint are not checked
+     * while it is rendered.
+     */
+    static final class PixelList extends Rendering {
+        
+        private final ArrayList<Pixel> pixels;
+        
+        /**
+         * The pixels of the footprint that lie inside the region that it was
+         * last rendered onto, in the coordinates of that region, or null if
+         * they must be computed again.
+         */
+        private int[] clippedX = null;
+        private int[] clippedY;
+        
+        /**
+         * The signatures of the clipped pixels.
+         */
+        private double[] clippedSignatures;
+        
+        /**
+         * The region against which the footprint was clipped.
+         */
+        private int clipX0, clipY0, clipWidth, clipHeight;
+        
+        /**
+         * @param owner The emitter whose footprint is rendered.
+         * @param pixels The pixels of the footprint and their signatures.
+         */
+        PixelList(AbstractEmitter owner, ArrayList<Pixel> pixels) {
+            super(owner, pixels.size());
+            this.pixels = pixels;
+        }
+        
+        @Override
+        ArrayList<Pixel> getPixels() {
+            return pixels;
+        }
+        
+        /**
+         * Clips the footprint against a region.
+         * 
+         * @param offsetX x-coordinate of the region's first column
+         * @param offsetY y-coordinate of the region's first row
+         * @param width number of pixels of the region in x
+         * @param height number of pixels of the region in y
+         */
+        private void clip(int offsetX, int offsetY, int width, int height) {
+            if (clippedX != null && offsetX == clipX0 && offsetY == clipY0
+                    && width == clipWidth && height == clipHeight) {
+                return;
+            }
+            int[] xs = new int[pixels.size()];
+            int[] ys = new int[pixels.size()];
+            double[] signatures = new double[pixels.size()];
+            int n = 0;
+            for (Pixel p: pixels) {
+                int x = p.x - offsetX;
+                int y = p.y - offsetY;
+                if (x >= 0 && x < width && y >= 0 && y < height) {
+                    xs[n] = x;
+                    ys[n] = y;
+                    signatures[n] = p.getSignature();
+                    n++;
+                }
+            }
+            clippedY = Arrays.copyOf(ys, n);
+            clippedSignatures = Arrays.copyOf(signatures, n);
+            clippedX = Arrays.copyOf(xs, n);
+            clipX0 = offsetX;
+            clipY0 = offsetY;
+            clipWidth = width;
+            clipHeight = height;
+        }
+        
+        @Override
+        void applyTo(float[][] pixels, int offsetX, int offsetY,
+                     double brightness) {
+            int width = pixels.length;
+            clip(offsetX, offsetY, width, width > 0 ? pixels[0].length : 0);
+            final int[] xs = clippedX;
+            final int[] ys = clippedY;
+            final double[] signatures = clippedSignatures;
+            for (int i = 0; i < xs.length; i++) {
+                pixels[xs[i]][ys[i]] += brightness * signatures[i];
+            }
+        }
+        
+        @Override
+        void applyTo(float[][] pixels, int offsetX, int offsetY, int y0,
+                     FrameTiming timing, int firstWindow,
+                     double[] brightness) {
+            int width = pixels.length;
+            clip(offsetX, offsetY, width, width > 0 ? pixels[0].length : 0);
+            final int[] xs = clippedX;
+            final int[] ys = clippedY;
+            final double[] signatures = clippedSignatures;
+            for (int i = 0; i < xs.length; i++) {
+                int window = timing.getWindow(y0 + ys[i]) - firstWindow;
+                pixels[xs[i]][ys[i]] += brightness[window] * signatures[i];
+            }
+        }
+    }
+    
+    /**
+     * A footprint whose signature is the product of a signature in x and a
+     * signature in y.
+     * 
+     * Only the two signature vectors and the range of rows spanned by each
+     * column are stored, and they are computed with a number of PSF
+     * evaluations that is proportional to the radius of the footprint.
+     */
+    static final class Separable extends Rendering {
+        
+        /**
+         * The first column and the first row of the footprint's bounding box.
+         */
+        private final int minX, minY;
+        
+        /**
+         * The signatures of the columns and the rows of the bounding box.
+         */
+        private final double[] signaturesX;
+        private final double[] signaturesY;
+        
+        /**
+         * The rows spanned by each column, relative to minY; the last row is
+         * excluded.
+         */
+        private final int[] firstRow;
+        private final int[] lastRow;
+        
+        /**
+         * Computes the signature of a separable PSF on the pixels that lie
+         * within a given radius of the emitter.
+         * 
+         * The pixels are the same as those of
+         * {@link AbstractEmitter#getPixelsWithinRadius(Point2D, double)}.
+         * 
+         * @param owner The emitter whose footprint is rendered.
+         * @param psf The PSF of the emitter.
+         * @param position The position of the emitter.
+         * @param radius The radius of the footprint.
+         * @param bounds The smallest and largest x and y of its pixels.
+         */
+        Separable(AbstractEmitter owner, SeparablePSF psf, Point2D position,
+                  double radius, int[] bounds) {
+            super(owner, 2 * (bounds[1] - bounds[0] + bounds[3] - bounds[2]
+                              + 2));
+            this.minX = bounds[0];
+            this.minY = bounds[2];
+            int width = bounds[1] - bounds[0] + 1;
+            int height = bounds[3] - bounds[2] + 1;
+            this.signaturesX = new double[width];
+            this.signaturesY = new double[height];
+            psf.generateSignatureX(minX, signaturesX);
+            psf.generateSignatureY(minY, signaturesY);
+            
+            this.firstRow = new int[width];
+            this.lastRow = new int[width];
+            final double radius2 = radius * radius;
+            for (int i = 0; i < width; i++) {
+                if (radius < 1) {
+                    lastRow[i] = 1;
+                    continue;
+                }
+                int j = 0;
+                while (j < height && position.distanceSq(
+                        minX + i, minY + j) > radius2) {
+                    j++;
+                }
+                firstRow[i] = j;
+                while (j < height && position.distanceSq(
+                        minX + i, minY + j) <= radius2) {
+                    j++;
+                }
+                lastRow[i] = j;
+            }
+        }
+        
+        @Override
+        ArrayList<Pixel> getPixels() {
+            ArrayList<Pixel> pixels = new ArrayList<>();
+            for (int i = 0; i < signaturesX.length; i++) {
+                for (int j = firstRow[i]; j < lastRow[i]; j++) {
+                    pixels.add(new Pixel(minX + i, minY + j,
+                                         signaturesX[i] * signaturesY[j]));
+                }
+            }
+            return pixels;
+        }
+        
+        @Override
+        void applyTo(float[][] pixels, int offsetX, int offsetY,
+                     double brightness) {
+            int width = pixels.length;
+            int height = width > 0 ? pixels[0].length : 0;
+            int shiftY = minY - offsetY;
+            int iStart = Math.max(0, offsetX - minX);
+            int iEnd = Math.min(signaturesX.length, offsetX - minX + width);
+            for (int i = iStart; i < iEnd; i++) {
+                final float[] column = pixels[minX + i - offsetX];
+                final double signatureX = signaturesX[i];
+                int jStart = Math.max(firstRow[i], -shiftY);
+                int jEnd = Math.min(lastRow[i], height - shiftY);
+                for (int j = jStart; j < jEnd; j++) {
+                    column[j + shiftY] += brightness
+                                          * (signatureX * signaturesY[j]);
+                }
+            }
+        }
+        
+        @Override
+        void applyTo(float[][] pixels, int offsetX, int offsetY, int y0,
+                     FrameTiming timing, int firstWindow,
+                     double[] brightness) {
+            int width = pixels.length;
+            int height = width > 0 ? pixels[0].length : 0;
+            int shiftY = minY - offsetY;
+            int iStart = Math.max(0, offsetX - minX);
+            int iEnd = Math.min(signaturesX.length, offsetX - minX + width);
+            for (int i = iStart; i < iEnd; i++) {
+                final float[] column = pixels[minX + i - offsetX];
+                final double signatureX = signaturesX[i];
+                int jStart = Math.max(firstRow[i], -shiftY);
+                int jEnd = Math.min(lastRow[i], height - shiftY);
+                for (int j = jStart; j < jEnd; j++) {
+                    int window = timing.getWindow(y0 + j + shiftY)
+                                 - firstWindow;
+                    column[j + shiftY] += brightness[window]
+                                          * (signatureX * signaturesY[j]);
+                }
+            }
+        }
+    }
+}
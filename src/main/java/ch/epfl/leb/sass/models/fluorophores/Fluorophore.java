@@ -18,6 +18,8 @@
 package ch.epfl.leb.sass.models.fluorophores;
 
 import ch.epfl.leb.sass.models.Model;
+import ch.epfl.leb.sass.models.components.FrameTiming;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
 import ch.epfl.leb.sass.logging.Listener;
 import ch.epfl.leb.sass.logging.Observable;
 
@@ -42,6 +44,24 @@ public interface Fluorophore extends Model, Observable {
      */
     public boolean isOn();
     
+    /**
+     * Returns the number of emitting molecules that this fluorophore models.
+     * 
+     * @return 1 if the fluorophore is emitting, 0 otherwise, or the number of
+     *         emitting molecules when the fluorophore models a population.
+     */
+    public int getOnEmitterCount();
+    
+    /**
+     * Adds the number of molecules in each state to an array.
+     * 
+     * A single fluorophore adds one molecule to its current state.
+     * 
+     * @param counts The number of molecules, indexed by state.
+     * @param weight The amount added per molecule, e.g. -1 to remove them.
+     */
+    public void addStateCounts(long[] counts, int weight);
+    
     /**
      * This method recalculates the lifetimes of the fluorophore's state system based on the laser power.
      * 
@@ -49,6 +69,20 @@ public interface Fluorophore extends Model, Observable {
      */
     public void recalculateLifetimes(double laserPower);
     
+    /**
+     * Makes the fluorophore follow a laser power schedule.
+     * 
+     * The schedule starts at the fluorophore's current time and overrides the
+     * laser power until it is removed. The fluorophore precomputes its
+     * photophysics for each power level of the schedule and applies the
+     * power changes while it steps through its transitions, so the laser
+     * does not need to notify its listeners of each change.
+     * 
+     * @param schedule The laser power schedule, or null to follow the laser
+     *                 power again.
+     */
+    public void setLaserSchedule(LaserSchedule schedule);
+    
     /**
      * Renders the fluorophore onto an array of pixels.
      * 
@@ -56,6 +90,123 @@ public interface Fluorophore extends Model, Observable {
      */
     public void applyTo(float[][] pixels);
     
+    /**
+     * Renders the fluorophore onto an array of pixels with a given brightness.
+     * 
+     * Unlike {@link #applyTo(float[][])}, this does not advance the state of
+     * the fluorophore.
+     * 
+     * @param pixels Image on which the fluorophore's signature will be drawn.
+     * @param brightness The number of photons emitted during the frame.
+     */
+    public void applyTo(float[][] pixels, double brightness);
+    
+    /**
+     * Renders the fluorophore onto a region of the sensor.
+     * 
+     * Pixel (0, 0) of the array corresponds to sensor pixel (x0, y0); pixels
+     * that fall outside the array are ignored.
+     * 
+     * @param pixels Image on which the fluorophore's signature will be drawn.
+     * @param x0 The sensor x-coordinate of the first column of the array.
+     * @param y0 The sensor y-coordinate of the first row of the array.
+     * @param brightness The number of photons emitted during the frame.
+     */
+    public void applyTo(float[][] pixels, int x0, int y0, double brightness);
+    
+    /**
+     * Checks whether the fluorophore's image reaches a region of the sensor.
+     * 
+     * @param x0 The x-coordinate of the first pixel of the region.
+     * @param y0 The y-coordinate of the first pixel of the region.
+     * @param width The number of pixels in x.
+     * @param height The number of pixels in y.
+     * @return True if any pixel of the fluorophore's image is inside the
+     *         region.
+     */
+    public boolean overlaps(int x0, int y0, int width, int height);
+    
+    /**
+     * Returns the radius of the fluorophore's image.
+     * 
+     * Pixels further than this from the fluorophore's image position receive
+     * none of its photons.
+     * 
+     * @return The radius of the image. [pixels]
+     */
+    public double getFootprintRadius();
+    
+    /**
+     * Moves the fluorophore's image to follow the sample stage.
+     * 
+     * The fluorophore's position in the sample does not change.
+     * 
+     * @param dx The lateral displacement of the image in x. [pixels]
+     * @param dy The lateral displacement of the image in y. [pixels]
+     * @param stageZ The axial displacement of the stage.
+     */
+    public void setStagePosition(double dx, double dy, double stageZ);
+    
+    /**
+     * Simulates the fluorophore's photophysics over the next frame.
+     * 
+     * @return The number of photons emitted during the frame.
+     */
+    public double simulateBrightness();
+    
+    /**
+     * Simulates the fluorophore's photophysics over the next frame of a
+     * camera with a given timing.
+     * 
+     * The fluorophore evolves over the whole frame period, but only the
+     * photons that are emitted while a row is exposed reach that row. The
+     * on-times of all the exposure windows are accumulated in one pass over
+     * the fluorophore's transitions.
+     * 
+     * @param timing The timing of the camera's frames.
+     * @return The number of photons detected in each exposure window that
+     *         the fluorophore's image spans, starting with the window of its
+     *         first row.
+     */
+    public double[] simulateBrightness(FrameTiming timing);
+    
+    /**
+     * Advances the fluorophore's photophysics over a frame without drawing
+     * the photons that it emits.
+     * 
+     * This is used to fast-forward a simulation. The on-time of the frame is
+     * recorded, and its expected number of photons is recorded as the
+     * photons of the frame.
+     * 
+     * @param duration The duration of the frame, 1 by default.
+     */
+    public void advance(double duration);
+    
+    /**
+     * Draws the fluorophore's state from a distribution.
+     * 
+     * This replaces the starting state, e.g. with a steady state, before the
+     * simulation starts. No state transition is reported.
+     * 
+     * @param distribution The probability of each state of the state system.
+     * @see ch.epfl.leb.sass.models.photophysics.StateDistribution
+     */
+    public void initializeState(double[] distribution);
+    
+    /**
+     * Renders the fluorophore onto a region of the sensor with the photons
+     * of each exposure window.
+     * 
+     * @param pixels Image on which the fluorophore's signature will be drawn.
+     * @param x0 The sensor x-coordinate of the first column of the array.
+     * @param y0 The sensor y-coordinate of the first row of the array.
+     * @param timing The timing of the camera's frames.
+     * @param photons The photons returned by
+     *                {@link #simulateBrightness(FrameTiming)}.
+     */
+    public void applyTo(float[][] pixels, int x0, int y0, FrameTiming timing,
+                        double[] photons);
+    
     /**
      * Returns the listener that listens for changes in the illumination.
      
@@ -0,0 +1,447 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ground truth statistics of a set of fluorophores and their history.
+ * 
+ * The number of molecules in each state, the number of emitting molecules
+ * and the number of emitting molecules inside each registered region are
+ * kept up to date while the fluorophores evolve: each fluorophore's
+ * contribution is removed before it evolves and added back afterwards, so
+ * the statistics never require a separate pass over all fluorophores.
+ * 
+ * The statistics at the beginning of every frame and the number of photons
+ * emitted during it are stored in growable columns of primitives.
+ */
+public class FluorophoreStatistics implements Serializable {
+    
+    private final int nStates;
+    
+    /**
+     * The number of molecules in each state.
+     */
+    private final long[] stateCounts;
+    
+    /**
+     * The number of emitting molecules of each fluorophore after its last
+     * update.
+     */
+    private final int[] onCounts;
+    
+    private long onCount = 0;
+    private long moleculeCount = 0;
+    
+    /**
+     * The regions that contain each fluorophore, or null.
+     */
+    private final int[][] regionsOf;
+    
+    /**
+     * The number of emitting molecules inside each region.
+     */
+    private long[] regionOnCounts = new long[0];
+    
+    /**
+     * The frame at which each region was registered.
+     */
+    private int[] regionFirstFrames = new int[0];
+    
+    // The history, one row per frame.
+    private int frameCount = 0;
+    private final LongColumn onHistory = new LongColumn();
+    private final DoubleColumn photonHistory = new DoubleColumn();
+    private final LongColumn[] stateHistory;
+    private final List<LongColumn> regionHistory = new ArrayList<>();
+    
+    /**
+     * Computes the statistics of a set of fluorophores.
+     * 
+     * @param fluorophores The fluorophores.
+     * @param nStates The number of states of their state system. The last
+     *                state is the bleached state.
+     */
+    public FluorophoreStatistics(List<Fluorophore> fluorophores,
+                                 int nStates) {
+        this.nStates = nStates;
+        this.stateCounts = new long[nStates];
+        this.onCounts = new int[fluorophores.size()];
+        this.regionsOf = new int[fluorophores.size()][];
+        this.stateHistory = new LongColumn[nStates];
+        for (int state = 0; state < nStates; state++) {
+            stateHistory[state] = new LongColumn();
+        }
+        
+        int i = 0;
+        for (Fluorophore f: fluorophores) {
+            f.addStateCounts(stateCounts, 1);
+            onCounts[i] = f.getOnEmitterCount();
+            onCount += onCounts[i];
+            i++;
+        }
+        for (long count: stateCounts) {
+            moleculeCount += count;
+        }
+    }
+    
+    /**
+     * Removes the contribution of a fluorophore before its state changes.
+     * 
+     * @param f The fluorophore.
+     * @see #endUpdate(int, Fluorophore)
+     */
+    public void beginUpdate(Fluorophore f) {
+        f.addStateCounts(stateCounts, -1);
+    }
+    
+    /**
+     * Adds the contribution of a fluorophore back after its state changed.
+     * 
+     * @param index The index of the fluorophore.
+     * @param f The fluorophore.
+     * @see #beginUpdate(Fluorophore)
+     */
+    public void endUpdate(int index, Fluorophore f) {
+        f.addStateCounts(stateCounts, 1);
+        int on = f.getOnEmitterCount();
+        int change = on - onCounts[index];
+        if (change != 0) {
+            onCounts[index] = on;
+            onCount += change;
+            if (regionsOf[index] != null) {
+                for (int region: regionsOf[index]) {
+                    regionOnCounts[region] += change;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Starts tracking the number of emitting molecules inside a region.
+     * 
+     * @param members The indexes of the fluorophores inside the region.
+     * @return The index of the region.
+     */
+    public int addRegion(int[] members) {
+        int region = regionOnCounts.length;
+        regionOnCounts = Arrays.copyOf(regionOnCounts, region + 1);
+        regionFirstFrames = Arrays.copyOf(regionFirstFrames, region + 1);
+        regionFirstFrames[region] = frameCount;
+        regionHistory.add(new LongColumn());
+        for (int index: members) {
+            int[] regions = regionsOf[index];
+            if (regions == null) {
+                regions = new int[] {region};
+            } else {
+                regions = Arrays.copyOf(regions, regions.length + 1);
+                regions[regions.length - 1] = region;
+            }
+            regionsOf[index] = regions;
+            regionOnCounts[region] += onCounts[index];
+        }
+        return region;
+    }
+    
+    /**
+     * Appends the current statistics to the history as a new frame.
+     * 
+     * The number of photons of the frame is 0 until it is set.
+     * 
+     * @return The index of the new frame.
+     * @see #setPhotons(int, double)
+     */
+    public int recordFrame() {
+        onHistory.add(onCount);
+        photonHistory.add(0);
+        for (int state = 0; state < nStates; state++) {
+            stateHistory[state].add(stateCounts[state]);
+        }
+        for (int region = 0; region < regionOnCounts.length; region++) {
+            regionHistory.get(region).add(regionOnCounts[region]);
+        }
+        return frameCount++;
+    }
+    
+    /**
+     * Sets the number of photons emitted during a frame.
+     * 
+     * @param frame The index of the frame.
+     * @param photons The number of photons emitted by all fluorophores.
+     */
+    public void setPhotons(int frame, double photons) {
+        checkFrame(frame);
+        photonHistory.set(frame, photons);
+    }
+    
+    /**
+     * Returns the number of states.
+     * 
+     * @return The number of states, including the bleached state.
+     */
+    public int getNStates() {
+        return nStates;
+    }
+    
+    /**
+     * Returns the total number of molecules.
+     * 
+     * @return The number of molecules of all fluorophores.
+     */
+    public long getMoleculeCount() {
+        return moleculeCount;
+    }
+    
+    /**
+     * Returns the current number of emitting molecules.
+     * 
+     * @return The number of molecules that are on.
+     */
+    public long getOnCount() {
+        return onCount;
+    }
+    
+    /**
+     * Returns the current number of molecules in a state.
+     * 
+     * @param state The state.
+     * @return The number of molecules in the state.
+     */
+    public long getStateCount(int state) {
+        return stateCounts[state];
+    }
+    
+    /**
+     * Returns the current fraction of bleached molecules.
+     * 
+     * @return The fraction of the molecules in the bleached state.
+     */
+    public double getBleachedFraction() {
+        return bleachedFraction(stateCounts[nStates - 1]);
+    }
+    
+    /**
+     * Returns the number of registered regions.
+     * 
+     * @return The number of regions.
+     */
+    public int getRegionCount() {
+        return regionOnCounts.length;
+    }
+    
+    /**
+     * Returns the current number of emitting molecules inside a region.
+     * 
+     * @param region The index of the region.
+     * @return The number of molecules inside the region that are on.
+     */
+    public long getRegionOnCount(int region) {
+        return regionOnCounts[region];
+    }
+    
+    /**
+     * Returns the number of recorded frames.
+     * 
+     * @return The number of frames in the history.
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+    
+    /**
+     * Returns the number of emitting molecules at the beginning of a frame.
+     * 
+     * @param frame The index of the frame.
+     * @return The number of molecules that were on.
+     */
+    public long getFrameOnCount(int frame) {
+        checkFrame(frame);
+        return onHistory.get(frame);
+    }
+    
+    /**
+     * Returns the number of molecules in a state at the beginning of a frame.
+     * 
+     * @param frame The index of the frame.
+     * @param state The state.
+     * @return The number of molecules that were in the state.
+     */
+    public long getFrameStateCount(int frame, int state) {
+        checkFrame(frame);
+        return stateHistory[state].get(frame);
+    }
+    
+    /**
+     * Returns the fraction of bleached molecules at the beginning of a frame.
+     * 
+     * @param frame The index of the frame.
+     * @return The fraction of the molecules that were bleached.
+     */
+    public double getFrameBleachedFraction(int frame) {
+        return bleachedFraction(getFrameStateCount(frame, nStates - 1));
+    }
+    
+    /**
+     * Returns the number of photons emitted during a frame.
+     * 
+     * Frames that were advanced without being rendered emit no photons.
+     * 
+     * @param frame The index of the frame.
+     * @return The number of photons emitted by all fluorophores.
+     */
+    public double getFramePhotons(int frame) {
+        checkFrame(frame);
+        return photonHistory.get(frame);
+    }
+    
+    /**
+     * Returns the number of emitting molecules inside a region at the
+     * beginning of a frame.
+     * 
+     * @param frame The index of the frame.
+     * @param region The index of the region.
+     * @return The number of molecules inside the region that were on.
+     * @throws IllegalArgumentException if the region was registered after
+     *         the frame.
+     */
+    public long getFrameRegionOnCount(int frame, int region) {
+        checkFrame(frame);
+        int first = regionFirstFrames[region];
+        if (frame < first) {
+            throw new IllegalArgumentException("Region " + region + " was " +
+                    "registered after frame " + frame + ".");
+        }
+        return regionHistory.get(region).get(frame - first);
+    }
+    
+    /**
+     * Returns the history of a range of frames as a JSON object.
+     * 
+     * Each member is an array with one element per frame. The region counts
+     * are null for the frames before the region was registered.
+     * 
+     * @param firstFrame The index of the first frame, inclusive.
+     * @param lastFrame The index of the last frame, exclusive.
+     * @return The history of the frames.
+     */
+    public JsonElement toJson(int firstFrame, int lastFrame) {
+        if (firstFrame < 0 || lastFrame > frameCount
+                || firstFrame > lastFrame) {
+            throw new IllegalArgumentException("Invalid frame range [" +
+                    firstFrame + ", " + lastFrame + ") for " + frameCount +
+                    " recorded frames.");
+        }
+        JsonArray on = new JsonArray();
+        JsonArray photons = new JsonArray();
+        JsonArray bleached = new JsonArray();
+        JsonArray states = new JsonArray();
+        JsonArray regions = new JsonArray();
+        for (int frame = firstFrame; frame < lastFrame; frame++) {
+            on.add(new JsonPrimitive(onHistory.get(frame)));
+            photons.add(new JsonPrimitive(photonHistory.get(frame)));
+            bleached.add(new JsonPrimitive(getFrameBleachedFraction(frame)));
+            JsonArray frameStates = new JsonArray();
+            for (int state = 0; state < nStates; state++) {
+                frameStates.add(
+                        new JsonPrimitive(stateHistory[state].get(frame)));
+            }
+            states.add(frameStates);
+            JsonArray frameRegions = new JsonArray();
+            for (int region = 0; region < regionOnCounts.length; region++) {
+                if (frame < regionFirstFrames[region]) {
+                    frameRegions.add((JsonElement) null);
+                } else {
+                    frameRegions.add(new JsonPrimitive(
+                            getFrameRegionOnCount(frame, region)));
+                }
+            }
+            regions.add(frameRegions);
+        }
+        
+        JsonObject json = new JsonObject();
+        json.addProperty("moleculeCount", moleculeCount);
+        json.add("onCount", on);
+        json.add("photons", photons);
+        json.add("bleachedFraction", bleached);
+        json.add("stateCounts", states);
+        json.add("regionOnCounts", regions);
+        return json;
+    }
+    
+    private double bleachedFraction(long bleached) {
+        return moleculeCount == 0 ? 0.0 : (double) bleached / moleculeCount;
+    }
+    
+    private void checkFrame(int frame) {
+        if (frame < 0 || frame >= frameCount) {
+            throw new IndexOutOfBoundsException("Frame " + frame + " is not " +
+                    "among the " + frameCount + " recorded frames.");
+        }
+    }
+    
+    /**
+     * A growable column of longs.
+     */
+    private static final class LongColumn implements Serializable {
+        private long[] data = new long[64];
+        private int size = 0;
+        
+        void add(long value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, 2 * size);
+            }
+            data[size++] = value;
+        }
+        
+        long get(int index) {
+            return data[index];
+        }
+    }
+    
+    /**
+     * A growable column of doubles.
+     */
+    private static final class DoubleColumn implements Serializable {
+        private double[] data = new double[64];
+        private int size = 0;
+        
+        void add(double value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, 2 * size);
+            }
+            data[size++] = value;
+        }
+        
+        double get(int index) {
+            return data[index];
+        }
+        
+        void set(int index, double value) {
+            data[index] = value;
+        }
+    }
+}
@@ -0,0 +1,579 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores.commands.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A list of emitter positions stored in primitive arrays.
+ * 
+ * Positions are read from CSV files or from a binary point cloud format. The
+ * binary format consists of a 24 byte header followed by the coordinates as
+ * little-endian doubles, one row of two (x, y) or three (x, y, z) values per
+ * emitter:
+ * 
+ * <pre>
+ * bytes  0-7   the ASCII string "SASSPTS1"
+ * bytes  8-11  the number of columns, 2 or 3 (int32)
+ * bytes 12-15  reserved, zero
+ * bytes 16-23  the number of emitters (int64)
+ * </pre>
+ * 
+ * The coordinates are stored exactly as they would appear in the CSV file, so
+ * both formats describe the same sample. Binary files are memory mapped and
+ * CSV files are parsed from a byte buffer without creating a String for each
+ * line, so samples with millions of emitters can be loaded in seconds.
+ */
+public final class EmitterPositions {
+    
+    /**
+     * The first bytes of a binary point cloud file.
+     */
+    static final byte[] MAGIC = "SASSPTS1".getBytes(StandardCharsets.US_ASCII);
+    
+    /**
+     * The size of the header of a binary point cloud file in bytes.
+     */
+    static final int HEADER_SIZE = 24;
+    
+    /**
+     * Powers of ten that are exactly representable as doubles.
+     */
+    private static final double[] POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+        1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    
+    private double[] x;
+    private double[] y;
+    private double[] z;
+    private int size = 0;
+    
+    /**
+     * Creates an empty list of positions.
+     */
+    public EmitterPositions() {
+        this(16);
+    }
+    
+    /**
+     * Creates an empty list of positions.
+     * 
+     * @param capacity The number of positions that can be added before the
+     *                 arrays are resized.
+     */
+    public EmitterPositions(int capacity) {
+        x = new double[Math.max(capacity, 1)];
+        y = new double[x.length];
+        z = new double[x.length];
+    }
+    
+    /**
+     * Appends a position to the list.
+     * 
+     * @param x The x-position.
+     * @param y The y-position.
+     * @param z The z-position.
+     */
+    public void add(double x, double y, double z) {
+        if (size == this.x.length) {
+            int capacity = size + (size >> 1) + 1;
+            this.x = Arrays.copyOf(this.x, capacity);
+            this.y = Arrays.copyOf(this.y, capacity);
+            this.z = Arrays.copyOf(this.z, capacity);
+        }
+        this.x[size] = x;
+        this.y[size] = y;
+        this.z[size] = z;
+        size++;
+    }
+    
+    /**
+     * Returns the number of positions in the list.
+     * 
+     * @return The number of positions.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Returns the x-position at an index.
+     * 
+     * @param index The index of the position.
+     * @return The x-position.
+     */
+    public double getX(int index) {
+        checkIndex(index);
+        return x[index];
+    }
+    
+    /**
+     * Returns the y-position at an index.
+     * 
+     * @param index The index of the position.
+     * @return The y-position.
+     */
+    public double getY(int index) {
+        checkIndex(index);
+        return y[index];
+    }
+    
+    /**
+     * Returns the z-position at an index.
+     * 
+     * @param index The index of the position.
+     * @return The z-position.
+     */
+    public double getZ(int index) {
+        checkIndex(index);
+        return z[index];
+    }
+    
+    /**
+     * Returns the largest x-position, or zero if it is negative.
+     * 
+     * @return The largest x-position.
+     */
+    public double getMaxX() {
+        double max = 0.0;
+        for (int i = 0; i < size; i++) {
+            if (x[i] > max) {
+                max = x[i];
+            }
+        }
+        return max;
+    }
+    
+    /**
+     * Moves every position by the same amount.
+     * 
+     * @param dx The shift in x.
+     * @param dy The shift in y.
+     */
+    public void translate(double dx, double dy) {
+        for (int i = 0; i < size; i++) {
+            x[i] += dx;
+            y[i] += dy;
+        }
+    }
+    
+    /**
+     * Multiplies every coordinate by the same factor.
+     * 
+     * @param factor The scaling factor.
+     */
+    public void scale(double factor) {
+        for (int i = 0; i < size; i++) {
+            x[i] *= factor;
+            y[i] *= factor;
+            z[i] *= factor;
+        }
+    }
+    
+    /**
+     * Removes the positions that lie outside a rectangle, keeping the order
+     * of the remaining ones.
+     * 
+     * A position is kept if minX &lt;= x &lt; maxX and minY &lt;= y &lt; maxY.
+     * 
+     * @param minX The inclusive lower bound in x.
+     * @param minY The inclusive lower bound in y.
+     * @param maxX The exclusive upper bound in x.
+     * @param maxY The exclusive upper bound in y.
+     */
+    public void crop(double minX, double minY, double maxX, double maxY) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (x[i] >= minX && x[i] < maxX && y[i] >= minY && y[i] < maxY) {
+                x[kept] = x[i];
+                y[kept] = y[i];
+                z[kept] = z[i];
+                kept++;
+            }
+        }
+        size = kept;
+    }
+    
+    /**
+     * Reads the positions from a binary point cloud or a CSV file.
+     * 
+     * The format is determined from the first bytes of the file.
+     * 
+     * @param file The file to read.
+     * @return The positions in the file.
+     * @throws IOException
+     * @throws NumberFormatException If a line of a CSV file cannot be parsed.
+     */
+    public static EmitterPositions read(File file) throws IOException {
+        if (isBinary(file)) {
+            return readBinary(file);
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            return readCsv(in);
+        }
+    }
+    
+    /**
+     * Checks whether a file starts with the binary point cloud header.
+     */
+    private static boolean isBinary(File file) throws IOException {
+        byte[] start = new byte[MAGIC.length];
+        try (InputStream in = new FileInputStream(file)) {
+            int n = 0;
+            while (n < start.length) {
+                int read = in.read(start, n, start.length - n);
+                if (read < 0) {
+                    return false;
+                }
+                n += read;
+            }
+        }
+        return Arrays.equals(start, MAGIC);
+    }
+    
+    /**
+     * Reads positions from comma separated values.
+     * 
+     * The first three columns are the x-, y- and z-positions; the z column is
+     * optional and further columns are ignored. Lines that start with # and
+     * blank lines are skipped.
+     * 
+     * @param in The stream to read.
+     * @return The positions in the stream.
+     * @throws IOException
+     * @throws NumberFormatException If a line cannot be parsed.
+     */
+    public static EmitterPositions readCsv(InputStream in) throws IOException {
+        EmitterPositions positions = new EmitterPositions(1024);
+        byte[] buffer = new byte[1 << 16];
+        byte[] token = new byte[64];
+        int tokenLength = 0;
+        
+        double[] values = new double[3];
+        int field = 0;
+        boolean comment = false;
+        boolean lineStart = true;
+        long lineNumber = 1;
+        
+        int n;
+        boolean done = false;
+        while (!done) {
+            n = in.read(buffer);
+            if (n < 0) {
+                // Terminate the last line if it has no line break.
+                n = 1;
+                buffer[0] = '\n';
+                done = true;
+            }
+            for (int i = 0; i < n; i++) {
+                byte c = buffer[i];
+                if (comment) {
+                    if (c == '\n') {
+                        comment = false;
+                        lineStart = true;
+                        lineNumber++;
+                    }
+                    continue;
+                }
+                if (lineStart && c == '#') {
+                    comment = true;
+                    continue;
+                }
+                lineStart = false;
+                
+                if (c == '\n' && field == 0 && isBlank(token, tokenLength)) {
+                    // Skip blank lines.
+                    tokenLength = 0;
+                    lineStart = true;
+                    lineNumber++;
+                } else if (c == ',' || c == '\n') {
+                    if (field < 3) {
+                        values[field] = parseField(token, tokenLength, field,
+                                                   lineNumber);
+                    }
+                    field++;
+                    tokenLength = 0;
+                    
+                    if (c == '\n') {
+                        if (field < 2) {
+                            throw new NumberFormatException("Line "
+                                    + lineNumber + " has fewer than two "
+                                    + "columns.");
+                        }
+                        positions.add(values[0], values[1],
+                                      field > 2 ? values[2] : 0.0);
+                        field = 0;
+                        lineStart = true;
+                        lineNumber++;
+                    }
+                } else if (field < 3) {
+                    if (tokenLength == token.length) {
+                        token = Arrays.copyOf(token, 2 * token.length);
+                    }
+                    token[tokenLength++] = c;
+                }
+            }
+        }
+        return positions;
+    }
+    
+    /**
+     * Checks whether a token contains only whitespace.
+     */
+    private static boolean isBlank(byte[] token, int length) {
+        for (int i = 0; i < length; i++) {
+            if (token[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Parses a field of a CSV line.
+     * 
+     * An empty third field is a missing z-position.
+     */
+    private static double parseField(byte[] token, int length, int field,
+                                     long lineNumber) {
+        int start = 0;
+        int end = length;
+        while (start < end && token[start] <= ' ') start++;
+        while (end > start && token[end - 1] <= ' ') end--;
+        if (start == end) {
+            if (field == 2) {
+                return 0.0;
+            }
+            throw new NumberFormatException("Line " + lineNumber
+                                            + " has an empty column.");
+        }
+        try {
+            return parseDouble(token, start, end);
+        } catch (NumberFormatException ex) {
+            throw new NumberFormatException("Line " + lineNumber + ": "
+                                            + ex.getMessage());
+        }
+    }
+    
+    /**
+     * Parses a decimal number without creating a String.
+     * 
+     * Numbers with at most 15 significant digits and a small exponent are
+     * converted with a single correctly rounded multiplication or division,
+     * which gives the same result as Double.parseDouble. Everything else is
+     * passed to Double.parseDouble.
+     * 
+     * @param b The characters of the number.
+     * @param start The index of the first character.
+     * @param end The index after the last character.
+     * @return The value of the number.
+     */
+    static double parseDouble(byte[] b, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (b[i] == '-' || b[i] == '+')) {
+            negative = b[i] == '-';
+            i++;
+        }
+        
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        int exponent = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        boolean fast = true;
+        for (; i < end && fast; i++) {
+            byte c = b[i];
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (seenPoint) {
+                    scale++;
+                }
+                if (mantissa == 0 && c == '0') {
+                    continue;
+                }
+                mantissa = 10 * mantissa + (c - '0');
+                if (++digits > 15) {
+                    fast = false;
+                }
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else if ((c == 'e' || c == 'E') && seenDigit) {
+                fast = parseExponent(b, i + 1, end);
+                if (fast) {
+                    exponent = exponentValue(b, i + 1, end);
+                }
+                break;
+            } else {
+                fast = false;
+            }
+        }
+        
+        int exp10 = exponent - scale;
+        if (fast && seenDigit && exp10 >= -22 && exp10 <= 22) {
+            double value = mantissa;
+            value = exp10 < 0 ? value / POW10[-exp10] : value * POW10[exp10];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(
+                new String(b, start, end - start, StandardCharsets.US_ASCII));
+    }
+    
+    /**
+     * Checks that an exponent has a sign and one to four digits.
+     */
+    private static boolean parseExponent(byte[] b, int start, int end) {
+        if (start < end && (b[start] == '-' || b[start] == '+')) {
+            start++;
+        }
+        if (start == end || end - start > 4) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            if (b[i] < '0' || b[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int exponentValue(byte[] b, int start, int end) {
+        boolean negative = false;
+        if (b[start] == '-' || b[start] == '+') {
+            negative = b[start] == '-';
+            start++;
+        }
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = 10 * value + (b[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+    
+    /**
+     * Reads positions from a binary point cloud file.
+     * 
+     * @param file The file to read.
+     * @return The positions in the file.
+     * @throws IOException If the file is not a valid point cloud.
+     */
+    public static EmitterPositions readBinary(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                                          .order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Truncated point cloud header.");
+                }
+            }
+            // Casts keep the calls on Buffer, which Java 8 runtimes link to.
+            ((Buffer) header).flip();
+            byte[] magic = new byte[MAGIC.length];
+            header.get(magic);
+            int columns = header.getInt();
+            header.getInt();
+            long count = header.getLong();
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("Not a SASS point cloud file.");
+            }
+            if (columns != 2 && columns != 3) {
+                throw new IOException("Unsupported number of columns: "
+                                      + columns);
+            }
+            long rowBytes = 8L * columns;
+            if (count < 0 || count > Integer.MAX_VALUE - 8
+                    || channel.size() < HEADER_SIZE + count * rowBytes) {
+                throw new IOException("Invalid number of emitters: " + count);
+            }
+            
+            EmitterPositions positions = new EmitterPositions((int) count);
+            
+            // Map the file in regions of whole rows because a single mapping
+            // is limited to 2 GB.
+            long rowsPerRegion = Integer.MAX_VALUE / rowBytes;
+            long row = 0;
+            while (row < count) {
+                long rows = Math.min(rowsPerRegion, count - row);
+                DoubleBuffer data = channel.map(FileChannel.MapMode.READ_ONLY,
+                                                HEADER_SIZE + row * rowBytes,
+                                                rows * rowBytes)
+                                           .order(ByteOrder.LITTLE_ENDIAN)
+                                           .asDoubleBuffer();
+                for (long r = 0; r < rows; r++) {
+                    double px = data.get();
+                    double py = data.get();
+                    double pz = columns == 3 ? data.get() : 0.0;
+                    positions.add(px, py, pz);
+                }
+                row += rows;
+            }
+            return positions;
+        }
+    }
+    
+    /**
+     * Writes the positions to a binary point cloud file with three columns.
+     * 
+     * @param file The file to write.
+     * @throws IOException
+     */
+    public void writeBinary(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+             FileChannel channel = raf.getChannel()) {
+            channel.truncate(0);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16)
+                                          .order(ByteOrder.LITTLE_ENDIAN);
+            buffer.put(MAGIC).putInt(3).putInt(0).putLong(size);
+            for (int i = 0; i < size; i++) {
+                if (buffer.remaining() < 24) {
+                    ((Buffer) buffer).flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    ((Buffer) buffer).clear();
+                }
+                buffer.putDouble(x[i]).putDouble(y[i]).putDouble(z[i]);
+            }
+            ((Buffer) buffer).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+    
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                                                + ", Size: " + size);
+        }
+    }
+}
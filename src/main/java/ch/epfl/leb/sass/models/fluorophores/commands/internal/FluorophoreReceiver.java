@@ -20,18 +20,25 @@ package ch.epfl.leb.sass.models.fluorophores.commands.internal;
 import ch.epfl.leb.sass.utils.RNG;
 import ch.epfl.leb.sass.models.psfs.PSFBuilder;
 import ch.epfl.leb.sass.models.components.Camera;
+import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter;
+import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter.Footprint;
 import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
 import ch.epfl.leb.sass.models.fluorophores.internal.DefaultFluorophore;
+import ch.epfl.leb.sass.models.fluorophores.internal.FluorophorePopulation;
 import ch.epfl.leb.sass.models.illuminations.Illumination;
 import ch.epfl.leb.sass.models.photophysics.FluorophoreDynamics;
+import ch.epfl.leb.sass.utils.jfr.FlightRecorderEvents;
+
+import cern.jet.random.Binomial;
+import cern.jet.random.engine.MersenneTwister;
 
 import java.io.File;
-import java.io.BufferedReader;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import javax.swing.JFileChooser;
 import javax.swing.filechooser.FileNameExtensionFilter;
 
@@ -43,11 +50,26 @@ import javax.swing.filechooser.FileNameExtensionFilter;
  * a grid, randomly distributing them in the FOV, and placing them according to
  * input from a text file.
  * 
+ * Each population is built in three steps: the positions are generated on
+ * the calling thread, so that positions which are cropped or rescaled never
+ * have their PSF computed, the PSFs and their footprints on the camera are
+ * then computed in parallel on the common fork-join pool, and finally the
+ * fluorophores are created in order on the calling thread. The PSFs are
+ * built from the positions with {@link PSFBuilder#build(double, double,
+ * double)}, which does not change the shared builder. The random numbers
+ * that are drawn and the IDs of the fluorophores are therefore the same as
+ * if the fluorophores were created one after another.
+ * 
  * @author Marcel Stefko
  * @author Kyle M. Douglass
  */
 public class FluorophoreReceiver {
     
+    /**
+     * The number of footprints below which a task is not split any further.
+     */
+    private static final int FOOTPRINTS_PER_TASK = 64;
+    
     /**
      * Randomly populate the field of view with fluorophores.
      * 
@@ -64,26 +86,22 @@ public class FluorophoreReceiver {
             Illumination illumination,
             PSFBuilder psfBuilder,
             FluorophoreDynamics fluorDynamics) {
+        Object event = FlightRecorderEvents.beginFluorophoreGeneration();
         Random rnd = RNG.getUniformGenerator();
-        ArrayList<Fluorophore> result = new ArrayList();
+        EmitterPositions positions = new EmitterPositions(numFluors);
         double x;
         double y;
         double z = 0;
         
-        Fluorophore fluorophore;
         for (int i=0; i < numFluors; i++) {
             x = camera.getNX() * rnd.nextDouble();
             y = camera.getNY() * rnd.nextDouble();
-            fluorophore = new DefaultFluorophore(
-                psfBuilder,
-                illumination,
-                fluorDynamics.getSignal(),
-                fluorDynamics.getStateSystem(),
-                fluorDynamics.getStartingState(),
-                x, y, z);
-            result.add(fluorophore);
-            illumination.addListener(fluorophore.getIlluminationListener());
+            positions.add(x, y, z);
         }
+        ArrayList<Fluorophore> result = createFluorophores(
+                positions, illumination, psfBuilder, fluorDynamics);
+        FlightRecorderEvents.commitFluorophoreGeneration(
+                event, "Random2D", result.size());
         return result;
     }
     
@@ -107,27 +125,23 @@ public class FluorophoreReceiver {
             Illumination illumination,
             PSFBuilder psfBuilder,
             FluorophoreDynamics fluorDynamics) {
+        Object event = FlightRecorderEvents.beginFluorophoreGeneration();
         Random rnd = RNG.getUniformGenerator();
-        ArrayList<Fluorophore> result = new ArrayList();
+        EmitterPositions positions = new EmitterPositions(numFluors);
         double x;
         double y;
         double z;
         
-        Fluorophore fluorophore;
         for (int i=0; i < numFluors; i++) {
             x = camera.getNX() * rnd.nextDouble();
             y = camera.getNY() * rnd.nextDouble();
             z = (zHigh - zLow) * rnd.nextDouble() + zLow;
-            fluorophore = new DefaultFluorophore(
-                psfBuilder,
-                illumination,
-                fluorDynamics.getSignal(),
-                fluorDynamics.getStateSystem(),
-                fluorDynamics.getStartingState(),
-                x, y, z);
-            result.add(fluorophore);
-            illumination.addListener(fluorophore.getIlluminationListener());
+            positions.add(x, y, z);
         }
+        ArrayList<Fluorophore> result = createFluorophores(
+                positions, illumination, psfBuilder, fluorDynamics);
+        FlightRecorderEvents.commitFluorophoreGeneration(
+                event, "Random3D", result.size());
         return result;
     }
     
@@ -147,25 +161,21 @@ public class FluorophoreReceiver {
             Illumination illumination,
             PSFBuilder psfBuilder,
             FluorophoreDynamics fluorDynamics) {
+        Object event = FlightRecorderEvents.beginFluorophoreGeneration();
         int limitX = camera.getNX();
         int limitY = camera.getNY();
         double z = 0.0;
-        ArrayList<Fluorophore> result = new ArrayList();
-        Fluorophore fluorophore; 
+        EmitterPositions positions = new EmitterPositions();
         
         for (int i=spacing; i < limitX; i+=spacing) {
             for (int j=spacing; j < limitY; j+= spacing) {
-                fluorophore = new DefaultFluorophore(
-                    psfBuilder,
-                    illumination,
-                    fluorDynamics.getSignal(),
-                    fluorDynamics.getStateSystem(),
-                    fluorDynamics.getStartingState(),
-                    i, j, z);
-                result.add(fluorophore);
-                illumination.addListener(fluorophore.getIlluminationListener());
+                positions.add(i, j, z);
             }
-        }       
+        }
+        ArrayList<Fluorophore> result = createFluorophores(
+                positions, illumination, psfBuilder, fluorDynamics);
+        FlightRecorderEvents.commitFluorophoreGeneration(
+                event, "Grid2D", result.size());
         return result;
     }
     
@@ -189,35 +199,33 @@ public class FluorophoreReceiver {
             Illumination illumination,
             PSFBuilder psfBuilder,
             FluorophoreDynamics fluorDynamics) {
+        Object event = FlightRecorderEvents.beginFluorophoreGeneration();
         int limitX = camera.getNX();
         int limitY = camera.getNY();
         double numFluors = ((double) limitX - spacing) * ((double) limitY - spacing) / spacing / spacing;
         double zSpacing  = (zHigh - zLow) / (numFluors - 1);
         double z = zLow;
         
-        ArrayList<Fluorophore> result = new ArrayList();
-        Fluorophore fluorophore;
+        EmitterPositions positions = new EmitterPositions();
         
         for (int i = spacing; i < limitX; i += spacing) {
             for (int j = spacing; j < limitY; j += spacing) {
-                fluorophore = new DefaultFluorophore(
-                    psfBuilder,
-                    illumination,
-                    fluorDynamics.getSignal(),
-                    fluorDynamics.getStateSystem(),
-                    fluorDynamics.getStartingState(),
-                    i, j, z);
-                result.add(fluorophore);
-                illumination.addListener(fluorophore.getIlluminationListener());
+                positions.add(i, j, z);
                 z += zSpacing;
             }
-        }       
+        }
+        ArrayList<Fluorophore> result = createFluorophores(
+                positions, illumination, psfBuilder, fluorDynamics);
+        FlightRecorderEvents.commitFluorophoreGeneration(
+                event, "Grid3D", result.size());
         return result;
     }
     
     /**
      * Parse a CSV file and generate fluorophores from it.
      * 
+     * The file may also be a binary point cloud; see {@link EmitterPositions}.
+     * 
      * @param file The CSV file. If this is null, then a dialog is opened.
      * @param camera The camera for determining the size of the field of view.
      * @param illumination The illumination profile on the sample.
@@ -228,6 +236,7 @@ public class FluorophoreReceiver {
      * @return list of fluorophores.
      * @throws FileNotFoundException
      * @throws IOException
+     * @throws NumberFormatException If a line of the file cannot be parsed.
      */
     public static ArrayList<Fluorophore> generateFluorophoresFromCSV(
             File file,
@@ -240,102 +249,264 @@ public class FluorophoreReceiver {
             file = getFileFromDialog();
         }
         
+        Object event = FlightRecorderEvents.beginFluorophoreGeneration();
+        
+        // Only the coordinates are loaded so that the positions are filtered
+        // and rescaled before any PSF is computed.
+        EmitterPositions positions = EmitterPositions.read(file);
+        
+        // Ignore entries with negative x- and y-positions.
+        positions.crop(0.0, 0.0, Double.POSITIVE_INFINITY,
+                       Double.POSITIVE_INFINITY);
+        
+        // we subtract 0.5 to make the positions agree with how ThunderSTORM computes positions
+        // i.e. origin is in the very top left of image, not in the center of top left pixel as it is in our simulation
+        positions.translate(-0.5, -0.5);
+        
+        // rescale positions to fit into frame
+        if (rescale) {
+            positions.scale(camera.getNX() / positions.getMaxX());
+        // or crop fluorophores outside of frame
+        } else {
+            positions.crop(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                           camera.getNX(), camera.getNY());
+        }
+        
         System.out.println("Building fluorophore PSF's...");
+        ArrayList<Fluorophore> result = createFluorophores(
+                positions, illumination, psfBuilder, fluorDynamics);
+        System.out.println("Done building PSF's.");
         
-        // load all fluorophores
-        ArrayList<Fluorophore> result = new ArrayList();
-        double x;
-        double y;
-        double z;
-        int counter = 0;
-        Fluorophore fluorophore;
+        FlightRecorderEvents.commitFluorophoreGeneration(
+                event, "CSV", result.size());
+        return result;
+    }
+    
+    /**
+     * Randomly populates the field of view with populations of fluorophores.
+     * 
+     * The field of view is divided into square cells. The number of
+     * fluorophores in each cell is drawn as if the fluorophores were
+     * uniformly distributed, and the fluorophores of each non-empty cell are
+     * modelled by one FluorophorePopulation at the center of the cell.
+     * 
+     * @param numFluors The number of fluorophores to add to the field of view.
+     * @param cellSize The side length of a cell in pixels.
+     * @param camera The camera for determining the size of the field of view.
+     * @param illumination The illumination profile on the sample.
+     * @param psfBuilder Builder for calculating microscope PSFs.
+     * @param fluorDynamics The fluorophore dynamics properties.
+     * @return The list of fluorophore populations.
+     */
+    public static ArrayList<Fluorophore> generatePopulationsRandom2D(
+            int numFluors,
+            double cellSize,
+            Camera camera,
+            Illumination illumination,
+            PSFBuilder psfBuilder,
+            FluorophoreDynamics fluorDynamics) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("The cell size must be " +
+                                               "positive.");
+        }
+        Object event = FlightRecorderEvents.beginFluorophoreGeneration();
+        Random rnd = RNG.getUniformGenerator();
+        Binomial binomial = new Binomial(
+                1, 0.5, new MersenneTwister(rnd.nextInt()));
         
-        BufferedReader br;
-        String line;
-        String splitBy = ",";
-        br = new BufferedReader(new FileReader(file));
-        // read all lines
-        while ((line = br.readLine()) != null) {
-            // skip comments
-            if (line.startsWith("#")) {
-                continue;
-            }
-            
-            // read 2 doubles from beginning of line
-            String[] entries = line.split(splitBy);
-            x = Double.parseDouble(entries[0]);
-            y = Double.parseDouble(entries[1]);
-            
-            try {
-                z = Double.parseDouble(entries[2]);
-            } catch (ArrayIndexOutOfBoundsException ex){
-                // There is no z-column, so set the z-position to 0.0.
-                z = 0.0;
-            }
-            // Ignore entries with negative x- and y-positions.
-            if (x>=0.0 && y>=0.0) {
+        // Distribute the fluorophores over the cells one cell at a time; the
+        // number in a cell is binomial given the number left and the area of
+        // the cells that remain.
+        int nX = camera.getNX();
+        int nY = camera.getNY();
+        int nCellsX = (int) Math.ceil(nX / cellSize);
+        int nCellsY = (int) Math.ceil(nY / cellSize);
+        EmitterPositions positions = new EmitterPositions();
+        ArrayList<Integer> counts = new ArrayList<>();
+        int remaining = numFluors;
+        double remainingArea = (double) nX * nY;
+        for (int i = 0; i < nCellsX && remaining > 0; i++) {
+            double x0 = i * cellSize;
+            double x1 = Math.min(x0 + cellSize, nX);
+            for (int j = 0; j < nCellsY && remaining > 0; j++) {
+                double y0 = j * cellSize;
+                double y1 = Math.min(y0 + cellSize, nY);
+                double area = (x1 - x0) * (y1 - y0);
                 
-                // we subtract 0.5 to make the positions agree with how ThunderSTORM computes positions
-                // i.e. origin is in the very top left of image, not in the center of top left pixel as it is in our simulation
-                fluorophore = new DefaultFluorophore(
-                    psfBuilder,
-                    illumination,
-                    fluorDynamics.getSignal(),
-                    fluorDynamics.getStateSystem(),
-                    fluorDynamics.getStartingState(),
-                    x - 0.5, y - 0.5, z);
-                result.add(fluorophore);
-                illumination.addListener(fluorophore.getIlluminationListener());
-                
-                counter++;
-                if (counter % 5000 == 0) {
-                    System.out.println("Processed fluorophore number: " + counter);
+                int n;
+                if (area >= remainingArea) {
+                    n = remaining;
+                } else {
+                    n = binomial.nextInt(remaining, area / remainingArea);
+                }
+                remaining -= n;
+                remainingArea -= area;
+                if (n > 0) {
+                    positions.add((x0 + x1) / 2, (y0 + y1) / 2, 0);
+                    counts.add(n);
                 }
             }
         }
         
-        System.out.println("Done building PSF's.");
+        int n = positions.size();
+        Footprint[] footprints = computeFootprints(positions, psfBuilder, true);
         
-        // rescale positions to fit into frame        
-        if (rescale) {
-            System.out.println("Building rescaled PSF's....");
-            ArrayList<Fluorophore> result_rescaled = new ArrayList<Fluorophore>();
-            double max_x_coord = 0.0;
-            for (Fluorophore f: result) {
-                // Remove the fluorophores that were added in the first step.
-                illumination.deleteListener(f.getIlluminationListener());
-                if (f.getX() > max_x_coord)
-                    max_x_coord = f.getX();
-            }
-            double factor = camera.getNX()/max_x_coord;
-            for (Fluorophore f: result) {
-                fluorophore = new DefaultFluorophore(
-                    psfBuilder,
-                    illumination,
-                    fluorDynamics.getSignal(),
-                    fluorDynamics.getStateSystem(),
-                    fluorDynamics.getStartingState(),
-                    f.getX() * factor,
-                    f.getY() * factor,
-                    f.getZ() * factor);
-                result_rescaled.add(fluorophore);
-                illumination.addListener(fluorophore.getIlluminationListener());
+        int firstId = AbstractEmitter.reserveIds(n);
+        ArrayList<Fluorophore> result = new ArrayList<>(n);
+        Fluorophore population;
+        for (int i = 0; i < n; i++) {
+            population = new FluorophorePopulation(
+                illumination,
+                fluorDynamics.getSignal(),
+                fluorDynamics.getStateSystem(),
+                fluorDynamics.getStartingState(),
+                counts.get(i),
+                positions.getX(i), positions.getY(i), positions.getZ(i),
+                psfBuilder,
+                footprints[i],
+                firstId + i,
+                binomial);
+            result.add(population);
+            illumination.addListener(population.getIlluminationListener());
+        }
+        FlightRecorderEvents.commitFluorophoreGeneration(
+                event, "PopulationRandom2D", result.size());
+        return result;
+    }
+    
+    /**
+     * Creates the fluorophores at the given positions.
+     * 
+     * The footprints of the fluorophores are computed in parallel; the
+     * fluorophores are then created and attached to the illumination in the
+     * order of their positions.
+     * 
+     * @param positions The positions of the fluorophores.
+     * @param illumination The illumination profile on the sample.
+     * @param psfBuilder Builder for calculating microscope PSFs.
+     * @param fluorDynamics The fluorophore dynamics properties.
+     * @return The list of fluorophores.
+     */
+    private static ArrayList<Fluorophore> createFluorophores(
+            EmitterPositions positions,
+            Illumination illumination,
+            PSFBuilder psfBuilder,
+            FluorophoreDynamics fluorDynamics) {
+        return createFluorophores(positions, illumination, psfBuilder,
+                                  fluorDynamics, true);
+    }
+    
+    /**
+     * Creates the fluorophores at the given positions.
+     * 
+     * This method is package-private so that the parallel and the serial
+     * computation of the footprints may be compared.
+     * 
+     * @param positions The positions of the fluorophores.
+     * @param illumination The illumination profile on the sample.
+     * @param psfBuilder Builder for calculating microscope PSFs.
+     * @param fluorDynamics The fluorophore dynamics properties.
+     * @param parallel Whether the footprints are computed in parallel.
+     * @return The list of fluorophores.
+     */
+    static ArrayList<Fluorophore> createFluorophores(
+            EmitterPositions positions,
+            Illumination illumination,
+            PSFBuilder psfBuilder,
+            FluorophoreDynamics fluorDynamics,
+            boolean parallel) {
+        int n = positions.size();
+        Footprint[] footprints = computeFootprints(positions, psfBuilder,
+                                                   parallel);
+        
+        int firstId = AbstractEmitter.reserveIds(n);
+        ArrayList<Fluorophore> result = new ArrayList<>(n);
+        Fluorophore fluorophore;
+        for (int i = 0; i < n; i++) {
+            fluorophore = new DefaultFluorophore(
+                psfBuilder,
+                illumination,
+                fluorDynamics.getSignal(),
+                fluorDynamics.getStateSystem(),
+                fluorDynamics.getStartingState(),
+                positions.getX(i), positions.getY(i), positions.getZ(i),
+                footprints[i],
+                firstId + i);
+            result.add(fluorophore);
+            illumination.addListener(fluorophore.getIlluminationListener());
+        }
+        return result;
+    }
+    
+    /**
+     * Computes the footprints of the fluorophores at the given positions.
+     * 
+     * @param positions The positions of the fluorophores.
+     * @param psfBuilder Builder for calculating microscope PSFs.
+     * @param parallel Whether the footprints are computed on the common
+     *                 fork-join pool or on the calling thread.
+     * @return The footprint of each position.
+     */
+    private static Footprint[] computeFootprints(EmitterPositions positions,
+                                                 PSFBuilder psfBuilder,
+                                                 boolean parallel) {
+        int n = positions.size();
+        Footprint[] footprints = new Footprint[n];
+        FootprintTask task = new FootprintTask(positions, psfBuilder,
+                                               footprints, 0, n);
+        if (parallel) {
+            ForkJoinPool.commonPool().invoke(task);
+        } else {
+            task.computeDirectly();
+        }
+        return footprints;
+    }
+    
+    /**
+     * Computes the footprints of a range of positions.
+     * 
+     * The range is split in halves until it is small enough to be computed
+     * directly. The tasks share the PSF builder but do not change it.
+     */
+    private static class FootprintTask extends RecursiveAction {
+        
+        private final EmitterPositions positions;
+        private final PSFBuilder psfBuilder;
+        private final Footprint[] footprints;
+        private final int from;
+        private final int to;
+        
+        FootprintTask(EmitterPositions positions, PSFBuilder psfBuilder,
+                      Footprint[] footprints, int from, int to) {
+            this.positions = positions;
+            this.psfBuilder = psfBuilder;
+            this.footprints = footprints;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from <= FOOTPRINTS_PER_TASK) {
+                computeDirectly();
+                return;
             }
             
-            System.out.println("Done building rescaled PSF's.");
-            return result_rescaled;
-        // or crop fluorophores outside of frame
-        } else {
-            ArrayList<Fluorophore> result_cropped = new ArrayList<Fluorophore>();
-            for (Fluorophore f: result) {
-                // Remove the fluorophores that were added in the first step.
-                illumination.deleteListener(f.getIlluminationListener());
-                if (f.getX() < camera.getNX() && f.getY() < camera.getNY()) {
-                    result_cropped.add(f);
-                    illumination.addListener(f.getIlluminationListener());
-                }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new FootprintTask(positions, psfBuilder, footprints, from, mid),
+                new FootprintTask(positions, psfBuilder, footprints, mid, to));
+        }
+        
+        /**
+         * Computes the footprints of the whole range on the current thread.
+         */
+        void computeDirectly() {
+            for (int i = from; i < to; i++) {
+                footprints[i] = new Footprint(
+                    positions.getX(i), positions.getY(i),
+                    positions.getZ(i), psfBuilder);
             }
-            return result_cropped;
         }
     }
     
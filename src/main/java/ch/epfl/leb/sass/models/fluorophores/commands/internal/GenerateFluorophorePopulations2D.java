@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores.commands.internal;
+
+import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+import ch.epfl.leb.sass.models.components.Camera;
+import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
+import ch.epfl.leb.sass.models.fluorophores.commands.FluorophoreCommand;
+import ch.epfl.leb.sass.models.fluorophores.commands.FluorophoreCommandBuilder;
+import ch.epfl.leb.sass.models.illuminations.Illumination;
+import ch.epfl.leb.sass.models.photophysics.FluorophoreDynamics;
+
+import java.util.List;
+
+/**
+ * Randomly distributes fluorophores that are simulated as populations.
+ * 
+ * The fluorophores of each square cell of the field of view share one PSF
+ * and are only tracked by the number in each state, which suits very dense
+ * samples in which the individual molecules do not matter.
+ * 
+ * @see ch.epfl.leb.sass.models.fluorophores.internal.FluorophorePopulation
+ */
+public final class GenerateFluorophorePopulations2D implements FluorophoreCommand {
+    /**
+     * The number of fluorophores to create.
+     */
+    private final int numFluors;
+    
+    /**
+     * The side length of the cells in pixels.
+     */
+    private final double cellSize;
+    
+    /**
+     * The microscope camera.
+     */
+    private final Camera camera;
+    
+    /**
+     * The set of properties that define the fluorophore dynamics.
+     */
+    private final FluorophoreDynamics fluorDynamics;
+    
+    /**
+     * The illumination profile on the sample.
+     */
+    private final Illumination illumination;
+    
+    /**
+     * A builder for creating PSFs.
+     */
+    private final PSFBuilder psfBuilder;
+    
+    /**
+     * A builder for creating this command for fluorophore generation.
+     */
+    public static class Builder implements FluorophoreCommandBuilder {
+        private int numFluors;
+        private double cellSize = 1.0;
+        private Camera camera;
+        private FluorophoreDynamics fluorDynamics;
+        private Illumination illumination;
+        private PSFBuilder psfBuilder;
+        
+        public Builder numFluors(int numFluors) {
+            this.numFluors = numFluors;
+            return this;
+        }
+        
+        /**
+         * Sets the side length of the cells, one pixel by default.
+         * @param cellSize The side length of the cells in pixels.
+         * @return This builder.
+         */
+        public Builder cellSize(double cellSize) {
+            this.cellSize = cellSize;
+            return this;
+        }
+        @Override
+        public Builder camera(Camera camera) {
+            this.camera = camera;
+            return this;
+        }
+        @Override
+        public Builder fluorDynamics(FluorophoreDynamics fluorDynamics) {
+            this.fluorDynamics = fluorDynamics;
+            return this;
+        }
+        @Override
+        public Builder illumination(Illumination illumination) {
+            this.illumination = illumination;
+            return this;
+        }
+        @Override
+        public Builder psfBuilder(PSFBuilder psfBuilder) {
+            this.psfBuilder = psfBuilder;
+            return this;
+        }
+        
+        public FluorophoreCommand build() {
+            return new GenerateFluorophorePopulations2D(this);
+        }
+    }
+    
+    /**
+     * Creates a new GenerateFluorophorePopulations2D instance.
+     * 
+     * @param builder A Builder instance for this class.
+     */
+    private GenerateFluorophorePopulations2D(Builder builder) {
+        this.camera = builder.camera;
+        this.cellSize = builder.cellSize;
+        this.fluorDynamics = builder.fluorDynamics;
+        this.illumination = builder.illumination;
+        this.numFluors = builder.numFluors;
+        this.psfBuilder = builder.psfBuilder;
+    }
+    
+    /**
+     * Executes the command that generates the fluorophore populations.
+     * 
+     * @return The list of fluorophore populations.
+     */
+    @Override
+    public List<Fluorophore> generateFluorophores() {
+        return FluorophoreReceiver.generatePopulationsRandom2D(
+                this.numFluors,
+                this.cellSize,
+                this.camera,
+                this.illumination,
+                this.psfBuilder,
+                this.fluorDynamics);
+    }
+}
@@ -17,6 +17,10 @@
  */
 package ch.epfl.leb.sass.models.fluorophores.internal;
 
+import ch.epfl.leb.sass.models.components.FrameTiming;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
+import ch.epfl.leb.sass.models.photophysics.FrameIntegrator;
+import ch.epfl.leb.sass.models.photophysics.StateDistribution;
 import ch.epfl.leb.sass.models.photophysics.StateSystem;
 import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter;
 import ch.epfl.leb.sass.utils.RNG;
@@ -35,6 +39,8 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 
+import cern.jet.random.Gamma;
+
 import java.lang.reflect.Type;
 import java.util.Random;
 import java.util.ArrayList;
@@ -97,6 +103,11 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
      */
     private final Random random;
     
+    /**
+     * RNG for the on-times of frames that are integrated analytically.
+     */
+    private final Gamma gamma;
+    
     /**
      * Internal state system for this fluorophore
      */
@@ -112,6 +123,21 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
      */
     private final double signal;
     
+    /**
+     * Laser power schedule that the fluorophore follows, or null
+     */
+    private LaserSchedule schedule;
+    
+    /**
+     * Mean transition lifetimes for each power level of the schedule
+     */
+    private double[][][] scheduleLifetimes;
+    
+    /**
+     * Value of the internal clock when the schedule started
+     */
+    private double scheduleStart;
+    
      /**
      * Initialize fluorophore and calculate its pattern on camera
      * @param psfBuilder The Builder for calculating microscope PSFs.
@@ -132,7 +158,37 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
             double x,
             double y,
             double z) {
-        super(x, y, z, psfBuilder);
+        this(psfBuilder, illumination, signal, state_system, start_state,
+             x, y, z, new Footprint(x, y, z, psfBuilder),
+             numberOfEmitters.incrementAndGet());
+    }
+    
+    /**
+     * Initialize fluorophore from its precomputed pattern on the camera.
+     * @param psfBuilder The Builder for calculating microscope PSFs.
+     * @param illumination The illumination profile on the sample.
+     * @param signal Number of photons per frame.
+     * @param state_system Internal state system for this fluorophore
+     * @param start_state Initial state number
+     * @param x x-position in pixels
+     * @param y y-position in pixels
+     * @param z z-position in pixels
+     * @param footprint The PSF and pixels of the fluorophore at this position.
+     * @param id The unique ID of the fluorophore.
+     * @see AbstractEmitter#reserveIds(int)
+     */
+    public DefaultFluorophore(
+            PSFBuilder psfBuilder,
+            Illumination illumination,
+            double signal,
+            StateSystem state_system,
+            int start_state,
+            double x,
+            double y,
+            double z,
+            Footprint footprint,
+            int id) {
+        super(x, y, z, psfBuilder, footprint, id);
         this.state_system = state_system;
         this.illumination = illumination;
         this.signal = signal;
@@ -143,6 +199,7 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
                                                "bounds.");
         }
         this.random = RNG.getUniformGenerator();
+        this.gamma = RNG.getGammaGenerator();
         this.illuminationListener = new IlluminationListener();
     }
 
@@ -171,6 +228,18 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
         return current_state;
     }
     
+    @Override
+    public void addStateCounts(long[] counts, int weight) {
+        counts[current_state] += weight;
+    }
+    
+    @Override
+    public void initializeState(double[] distribution) {
+        current_state = StateDistribution.sample(distribution, random.nextDouble());
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+    }
+    
     /**
      * Returns the Listener that is attached to the illumination profile.
      * 
@@ -240,6 +309,16 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
         return state_system.isBleachedState(current_state);
     }
     
+    /**
+     * Returns the number of emitting molecules, which for a single
+     * fluorophore is either 0 or 1.
+     * @return 1 if the emitter is on, 0 otherwise
+     */
+    @Override
+    public int getOnEmitterCount() {
+        return isOn() ? 1 : 0;
+    }
+    
     /**
      * Returns the current state of the emitter (on or off), but does not
      * inform if this emitter is also bleached!
@@ -307,6 +386,34 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
         this.state_system.recalculate_lifetimes(laserPower);
     }
     
+    /**
+     * Follows a laser power schedule instead of the current laser power.
+     * 
+     * The lifetimes of the states are looked up for each power level of the
+     * schedule, and the power changes are applied while the transitions are
+     * sampled.
+     * 
+     * @param schedule The laser power schedule, or null to return to the
+     *                 current laser power.
+     */
+    @Override
+    public void setLaserSchedule(LaserSchedule schedule) {
+        this.schedule = schedule;
+        this.scheduleLifetimes = null;
+        if (schedule == null) {
+            return;
+        }
+        
+        scheduleStart = time_elapsed;
+        double relativeIrradiance = illumination.getRelativeIrradiance(x, y, z);
+        double[] powers = schedule.getLevelPowers();
+        scheduleLifetimes = new double[powers.length][][];
+        for (int level = 0; level < powers.length; level++) {
+            scheduleLifetimes[level] = state_system.getMeanTransitionLifetimes(
+                    powers[level] * relativeIrradiance);
+        }
+    }
+    
     /**
      * Indicates that the state of this Observable has been changed.
      */
@@ -315,8 +422,28 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
         changed = true;
     }
 
+    /**
+     * Returns the integrator for the next frame if the frame may be sampled
+     * at once.
+     * 
+     * Frames are only integrated when this is enabled in the state system,
+     * when many transitions are expected, and when no listener needs to be
+     * notified of the individual transitions. The rates of a laser power
+     * schedule change within the frame, so they are not integrated either.
+     * 
+     * @return The frame integrator, or null to step through the transitions.
+     */
+    private FrameIntegrator getFrameIntegrator() {
+        if (!state_system.isFrameIntegrationEnabled() || !listeners.isEmpty()
+                || schedule != null) {
+            return null;
+        }
+        FrameIntegrator integrator = state_system.getFrameIntegrator();
+        return integrator.isWorthwhile(current_state) ? integrator : null;
+    }
+    
     @Override
-    protected double simulateBrightness() {
+    public double simulateBrightness() {
         // Reset the frame tracking variables
         onTimeThisFrame = 0.0;
         photonsThisFrame = 0.0;
@@ -325,8 +452,119 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
             return 0.0;
         }
         
-        double remaining_time = 1.0;
+        double on_time = advanceStates(1.0);
+        // The brightness of the fluorophore
+        double brightness = flicker(on_time*signal);
+        
+        // These are only recorded if the fluorophore was on during the frame.
+        if (on_time > 0.0) {
+            onTimeThisFrame = on_time;
+            photonsThisFrame = brightness;
+        }
+        return brightness;
+    }
+    
+    @Override
+    public void advance(double duration) {
+        // Reset the frame tracking variables
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+        
+        if (isBleached()) {
+            return;
+        }
+        
+        // The expected number of photons is recorded instead of a sample.
+        double on_time = advanceStates(duration);
+        if (on_time > 0.0) {
+            onTimeThisFrame = on_time;
+            photonsThisFrame = on_time*signal;
+        }
+    }
+    
+    /**
+     * Advances the fluorophore's state by a frame.
+     * 
+     * Frames that last 1 may be integrated analytically; other frames are
+     * always stepped through.
+     * 
+     * @param duration The duration of the frame.
+     * @return The time spent in an emitting state.
+     */
+    private double advanceStates(double duration) {
+        FrameIntegrator integrator = duration == 1.0
+                                   ? getFrameIntegrator() : null;
+        if (integrator == null) {
+            return stepTransitions(duration, null, 0, null);
+        }
+        // Sample the end state and the on-time of the whole frame.
+        int outcome = integrator.sampleOutcome(current_state,
+                                               random.nextDouble());
+        double on_time = integrator.sampleOnTime(current_state, outcome, gamma);
+        current_state = integrator.getEndState(outcome);
+        time_elapsed += 1.0;
+        return on_time;
+    }
+    
+    @Override
+    public double[] simulateBrightness(FrameTiming timing) {
+        if (timing.isUnitFrame()) {
+            return new double[] {simulateBrightness()};
+        }
+        
+        // Reset the frame tracking variables
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+        
+        int[] windows = getWindowRange(timing);
+        double[] photons = new double[windows[1] - windows[0] + 1];
+        if (isBleached()) {
+            return photons;
+        }
+        
+        // The frame integrator only samples the total on-time, so the
+        // transitions are always stepped through.
+        double on_time = stepTransitions(timing.getPeriod(), timing, windows[0],
+                                         photons);
+        double total = 0.0;
+        for (int i = 0; i < photons.length; i++) {
+            photons[i] = flicker(photons[i] * signal);
+            total += photons[i];
+        }
+        
+        // The photons of a fluorophore whose image spans several windows are
+        // recorded as their mean.
+        if (on_time > 0.0) {
+            onTimeThisFrame = on_time;
+            photonsThisFrame = total / photons.length;
+        }
+        return photons;
+    }
+    
+    /**
+     * Steps through the fluorophore's state transitions.
+     * 
+     * @param duration The time to simulate.
+     * @param timing The timing of the frame, or null if the on-time is not
+     *               split among exposure windows.
+     * @param firstWindow The exposure window of onTimes[0].
+     * @param onTimes The on-times of the exposure windows, or null.
+     * @return The total time spent in an emitting state.
+     */
+    private double stepTransitions(double duration, FrameTiming timing,
+                                   int firstWindow, double[] onTimes) {
+        double remaining_time = duration;
         double on_time = 0.0;
+        
+        // The segment of the laser power schedule and its lifetimes.
+        long segment = 0;
+        double segment_end = java.lang.Double.POSITIVE_INFINITY;
+        double[][] lifetimes = null;
+        if (schedule != null) {
+            segment = schedule.getSegment(time_elapsed - scheduleStart);
+            segment_end = scheduleStart + schedule.getSegmentEnd(segment);
+            lifetimes = scheduleLifetimes[schedule.getLevel(segment)];
+        }
         while (remaining_time > 0.0) {
             // initialize time of next transition and next state id variables
             double transition_time = java.lang.Double.POSITIVE_INFINITY; 
@@ -334,17 +572,38 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
             // for each state transition, draw lifetime of this transition,
             // and keep track which one is the minimal one
             for (int state=0; state<state_system.getNStates(); state++) {
-                double state_time = nextExponential(state_system.getMeanTransitionLifetime(current_state, state));
+                double state_time = nextExponential(lifetimes == null
+                        ? state_system.getMeanTransitionLifetime(current_state, state)
+                        : lifetimes[current_state][state]);
                 if (state_time < transition_time) {
                     next_state = state;
                     transition_time = state_time;
                 }
             }
-            // transition happens sooner than end of frame
-            if (transition_time <= remaining_time) {
-                if (this.isOn()) {
-                    on_time += transition_time;
+            // the emission lasts until the transition, the end of the frame
+            // or the next change of the laser power
+            double step = Math.min(transition_time, remaining_time);
+            boolean power_change = segment_end - time_elapsed < step;
+            if (power_change) {
+                step = Math.max(segment_end - time_elapsed, 0.0);
+            }
+            double start = duration - remaining_time;
+            if (this.isOn()) {
+                on_time += step;
+                if (timing != null) {
+                    timing.addOnTime(start, start + step, firstWindow, onTimes);
                 }
+            }
+            // the power changes before the transition; since the lifetimes
+            // are exponential, the transition is drawn again with new rates
+            if (power_change) {
+                remaining_time -= step;
+                time_elapsed += step;
+                segment++;
+                segment_end = scheduleStart + schedule.getSegmentEnd(segment);
+                lifetimes = scheduleLifetimes[schedule.getLevel(segment)];
+            // transition happens sooner than end of frame
+            } else if (transition_time <= remaining_time) {
                 remaining_time -= transition_time;
                 time_elapsed += transition_time;
                 
@@ -360,22 +619,11 @@ public class DefaultFluorophore extends AbstractEmitter implements Fluorophore {
                 current_state = next_state;
             // no transition happens till end of frame
             } else {
-                if (this.isOn()) {
-                    on_time += remaining_time;
-                }
                 time_elapsed += remaining_time;
                 remaining_time = 0.0;
             }
         }
-        // The brightness of the fluorophore
-        double brightness = flicker(on_time*signal);
-        
-        // These are only recorded if the fluorophore was on during the frame.
-        if (on_time > 0.0) {
-            onTimeThisFrame = on_time;
-            photonsThisFrame = brightness;
-        }
-        return brightness;
+        return on_time;
     }
     
     /**
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores.internal;
+
+import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A uniform grid over the lateral positions of a set of fluorophores.
+ * 
+ * The fluorophores are sorted by grid cell once, so that those inside a
+ * rectangle are found by visiting only the cells that overlap it. The cost of
+ * a query is therefore proportional to the number of fluorophores near the
+ * rectangle rather than to the size of the sample. Fluorophores do not move
+ * laterally, so the index never needs to be rebuilt.
+ */
+public final class FluorophoreIndex implements Serializable {
+    
+    /**
+     * The mean number of fluorophores per cell that the grid aims for.
+     */
+    private static final double FLUOROPHORES_PER_CELL = 4.0;
+    
+    /**
+     * The smallest side length of a cell in pixels.
+     */
+    private static final double MIN_CELL_SIZE = 1.0;
+    
+    /**
+     * The fluorophores in their original order.
+     */
+    private final List<Fluorophore> fluorophores;
+    
+    private final double x0;
+    private final double y0;
+    private final double cellSize;
+    private final int nX;
+    private final int nY;
+    
+    /**
+     * The index of the first entry of each cell in {@link #order}, followed
+     * by the total number of entries.
+     */
+    private final int[] cellStart;
+    
+    /**
+     * The indexes of the fluorophores sorted by cell and, within each cell,
+     * by their original order.
+     */
+    private final int[] order;
+    
+    /**
+     * Creates the index over a set of fluorophores.
+     * 
+     * @param fluorophores The fluorophores to index. The list must not be
+     *                     modified while the index is in use.
+     */
+    public FluorophoreIndex(List<Fluorophore> fluorophores) {
+        this.fluorophores = fluorophores;
+        int n = fluorophores.size();
+        
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            Fluorophore f = fluorophores.get(i);
+            xs[i] = f.getX();
+            ys[i] = f.getY();
+            minX = Math.min(minX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxX = Math.max(maxX, xs[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        if (n == 0) {
+            minX = minY = maxX = maxY = 0;
+        }
+        
+        // Choose the cell size so that each cell holds a few fluorophores on
+        // average.
+        double area = Math.max(maxX - minX, MIN_CELL_SIZE)
+                    * Math.max(maxY - minY, MIN_CELL_SIZE);
+        this.cellSize = Math.max(MIN_CELL_SIZE,
+                Math.sqrt(area * FLUOROPHORES_PER_CELL / Math.max(n, 1)));
+        this.x0 = minX;
+        this.y0 = minY;
+        this.nX = (int) ((maxX - minX) / cellSize) + 1;
+        this.nY = (int) ((maxY - minY) / cellSize) + 1;
+        
+        // Counting sort of the fluorophores by cell
+        int[] cells = new int[n];
+        this.cellStart = new int[nX * nY + 1];
+        for (int i = 0; i < n; i++) {
+            cells[i] = cellX(xs[i]) * nY + cellY(ys[i]);
+            cellStart[cells[i] + 1]++;
+        }
+        for (int c = 0; c < nX * nY; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        this.order = new int[n];
+        int[] next = Arrays.copyOf(cellStart, nX * nY);
+        for (int i = 0; i < n; i++) {
+            order[next[cells[i]]++] = i;
+        }
+    }
+    
+    private int cellX(double x) {
+        int cx = (int) Math.floor((x - x0) / cellSize);
+        return Math.min(Math.max(cx, 0), nX - 1);
+    }
+    
+    private int cellY(double y) {
+        int cy = (int) Math.floor((y - y0) / cellSize);
+        return Math.min(Math.max(cy, 0), nY - 1);
+    }
+    
+    /**
+     * Returns the indexes of the fluorophores inside a rectangle.
+     * 
+     * A fluorophore is inside if xMin &lt;= x &lt; xMax and
+     * yMin &lt;= y &lt; yMax.
+     * 
+     * @param xMin The inclusive lower bound in x. [pixels]
+     * @param yMin The inclusive lower bound in y. [pixels]
+     * @param xMax The exclusive upper bound in x. [pixels]
+     * @param yMax The exclusive upper bound in y. [pixels]
+     * @return The indexes in the original list, in increasing order.
+     */
+    public int[] query(double xMin, double yMin, double xMax, double yMax) {
+        if (order.length == 0 || !(xMin < xMax) || !(yMin < yMax)) {
+            return new int[0];
+        }
+        int cxMin = cellX(xMin);
+        int cxMax = cellX(xMax);
+        int cyMin = cellY(yMin);
+        int cyMax = cellY(yMax);
+        
+        int[] result = new int[16];
+        int count = 0;
+        for (int cx = cxMin; cx <= cxMax; cx++) {
+            for (int cy = cyMin; cy <= cyMax; cy++) {
+                int cell = cx * nY + cy;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    Fluorophore f = fluorophores.get(order[k]);
+                    double x = f.getX();
+                    double y = f.getY();
+                    if (x >= xMin && x < xMax && y >= yMin && y < yMax) {
+                        if (count == result.length) {
+                            result = Arrays.copyOf(result, 2 * count);
+                        }
+                        result[count++] = order[k];
+                    }
+                }
+            }
+        }
+        result = Arrays.copyOf(result, count);
+        Arrays.sort(result);
+        return result;
+    }
+    
+    /**
+     * Returns the fluorophores inside a rectangle.
+     * 
+     * @param xMin The inclusive lower bound in x. [pixels]
+     * @param yMin The inclusive lower bound in y. [pixels]
+     * @param xMax The exclusive upper bound in x. [pixels]
+     * @param yMax The exclusive upper bound in y. [pixels]
+     * @return The fluorophores in their original order.
+     * @see #query(double, double, double, double)
+     */
+    public List<Fluorophore> getFluorophores(double xMin, double yMin,
+                                             double xMax, double yMax) {
+        int[] indexes = query(xMin, yMin, xMax, yMax);
+        List<Fluorophore> result = new ArrayList<>(indexes.length);
+        for (int i: indexes) {
+            result.add(fluorophores.get(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the number of indexed fluorophores.
+     * 
+     * @return The number of fluorophores.
+     */
+    public int size() {
+        return order.length;
+    }
+}
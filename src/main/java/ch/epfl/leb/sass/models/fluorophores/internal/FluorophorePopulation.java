@@ -0,0 +1,565 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores.internal;
+
+import ch.epfl.leb.sass.models.components.FrameTiming;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
+import ch.epfl.leb.sass.models.photophysics.FrameIntegrator;
+import ch.epfl.leb.sass.models.photophysics.StateSystem;
+import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter;
+import ch.epfl.leb.sass.utils.RNG;
+import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
+import ch.epfl.leb.sass.models.illuminations.Illumination;
+import ch.epfl.leb.sass.logging.Listener;
+import ch.epfl.leb.sass.logging.WrongMessageTypeException;
+
+import cern.jet.random.Binomial;
+import cern.jet.random.Normal;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A population of identical fluorescent molecules that share one image.
+ * 
+ * The molecules are not tracked individually. Only the number of molecules in
+ * each state is stored, and it is advanced by one multinomial draw per state
+ * from the frame transition probabilities of the state system. The number of
+ * photons is drawn from the on-time statistics of the same transitions, and
+ * all photons are rendered through the PSF at the position of the
+ * population. Memory and time therefore scale with the number of populations
+ * rather than the number of molecules.
+ * 
+ * Individual state transitions are not simulated, so listeners are never
+ * notified of them.
+ */
+public class FluorophorePopulation extends AbstractEmitter implements Fluorophore {
+    
+    private final static Logger LOGGER
+            = Logger.getLogger(FluorophorePopulation.class.getName());
+    
+    /**
+     * A flag indicating whether the state of this object has changed.
+     */
+    private boolean changed;
+    
+    /**
+     * The illumination profile on this population.
+     */
+    private final Illumination illumination;
+    
+    /**
+     * The listener that listens to changes in the local irradiance.
+     */
+    private final IlluminationListener illuminationListener;
+    
+    /**
+     * The list of listeners that are tracking this object.
+     */
+    private final ArrayList<Listener> listeners = new ArrayList<>();
+    
+    /**
+     * The total time that the molecules spent in the emitting state during
+     * the most recent frame.
+     */
+    private double onTimeThisFrame = 0.0;
+    
+    /**
+     * How many photons the population emitted during the most recent frame.
+     */
+    private double photonsThisFrame = 0.0;
+    
+    /**
+     * RNG for the number of molecules undergoing each transition.
+     */
+    private final Binomial binomial;
+    
+    /**
+     * RNG for the fluctuations of the total on-time.
+     */
+    private final Normal gaussian;
+    
+    /**
+     * State system shared by all the molecules.
+     */
+    private final StateSystem state_system;
+    
+    /**
+     * The number of molecules in each state.
+     */
+    private int[] stateCounts;
+    
+    /**
+     * The number of molecules in the population.
+     */
+    private final int count;
+    
+    /**
+     * No of photons per molecule and frame.
+     */
+    private final double signal;
+    
+    /**
+     * Initialize the population from its precomputed image.
+     * @param illumination The illumination profile on the sample.
+     * @param signal Number of photons per molecule and frame.
+     * @param state_system Internal state system of the molecules
+     * @param start_state Initial state number of all the molecules
+     * @param count The number of molecules.
+     * @param x x-position in pixels
+     * @param y y-position in pixels
+     * @param z z-position in pixels
+     * @param psfBuilder The Builder for calculating microscope PSFs.
+     * @param footprint The PSF and pixels at this position.
+     * @param id The unique ID of the population.
+     * @param binomial The generator of binomial random numbers.
+     */
+    public FluorophorePopulation(
+            Illumination illumination,
+            double signal,
+            StateSystem state_system,
+            int start_state,
+            int count,
+            double x,
+            double y,
+            double z,
+            PSFBuilder psfBuilder,
+            Footprint footprint,
+            int id,
+            Binomial binomial) {
+        super(x, y, z, psfBuilder, footprint, id);
+        if (start_state >= state_system.getNStates()) {
+            throw new IllegalArgumentException("Starting state no. is out of " +
+                                               "bounds.");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of molecules " +
+                                               "cannot be negative.");
+        }
+        this.illumination = illumination;
+        this.signal = signal;
+        this.state_system = state_system;
+        this.count = count;
+        this.stateCounts = new int[state_system.getNStates()];
+        this.stateCounts[start_state] = count;
+        this.binomial = binomial;
+        this.gaussian = RNG.getGaussianGenerator();
+        this.changed = false;
+        this.illuminationListener = new IlluminationListener();
+    }
+    
+    /**
+     * Adds a new listener to the list of subscribed listeners.
+     */
+    @Override
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * Deletes a listener from the list of subscribed listeners.
+     */
+    @Override
+    public void deleteListener(Listener listener) {
+        listeners.remove(listener);
+    }
+    
+    /**
+     * Returns the number of molecules in the population.
+     * 
+     * @return The number of molecules.
+     */
+    public int getCount() {
+        return count;
+    }
+    
+    /**
+     * Returns the number of molecules in each state.
+     * 
+     * @return A copy of the number of molecules in each state.
+     */
+    public int[] getStateCounts() {
+        return stateCounts.clone();
+    }
+    
+    @Override
+    public void addStateCounts(long[] counts, int weight) {
+        for (int state = 0; state < stateCounts.length; state++) {
+            counts[state] += (long) weight * stateCounts[state];
+        }
+    }
+    
+    /**
+     * Distributes the molecules over the states by a sequence of binomial
+     * draws.
+     * 
+     * @param distribution The probability of each state.
+     */
+    @Override
+    public void initializeState(double[] distribution) {
+        int nStates = stateCounts.length;
+        int[] counts = new int[nStates];
+        int remaining = count;
+        double remainingProbability = 1.0;
+        for (int state = 0; state < nStates && remaining > 0; state++) {
+            double p = distribution[state];
+            double q = p >= remainingProbability
+                     ? 1.0 : p / remainingProbability;
+            int n = (state == nStates - 1)
+                  ? remaining : nextBinomial(remaining, q);
+            remaining -= n;
+            remainingProbability -= p;
+            counts[state] = n;
+        }
+        stateCounts = counts;
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+    }
+    
+    /**
+     * Returns the Listener that is attached to the illumination profile.
+     * 
+     * @return The illumination Listener.
+     */
+    @Override
+    public Listener getIlluminationListener() {
+        return this.illuminationListener;
+    }
+    
+    /**
+     * Returns the total time spent in the emitting state by the molecules
+     * during the previous frame.
+     * 
+     * @return The time spent in the emitting state in units of frames.
+     */
+    public double getOnTimeThisFrame() {
+        return onTimeThisFrame;
+    }
+    
+    /**
+     * Returns the number of photons emitted during the previous frame.
+     *
+     * @return The number of photons emitted during the previous frame.
+     */
+    public double getPhotonsThisFrame() {
+        return photonsThisFrame;
+    }
+    
+    /**
+     * Returns the number of photons per molecule and frame.
+     * 
+     * @return The number of photons per frame emitted by one molecule.
+     */
+    public double getSignal() {
+        return signal;
+    }
+    
+    @Override
+    public double getX() { return this.x; }
+    
+    @Override
+    public double getY() { return this.y; }
+    
+    @Override
+    public double getZ() { return this.z; }
+    
+    /**
+     * Informs if all the molecules are bleached.
+     * @return true if every molecule is bleached
+     */
+    @Override
+    public boolean isBleached() {
+        int bleached = 0;
+        for (int state = 0; state < stateCounts.length; state++) {
+            if (state_system.isBleachedState(state)) {
+                bleached += stateCounts[state];
+            }
+        }
+        return bleached == count;
+    }
+    
+    /**
+     * Informs if any molecule is in the emitting state.
+     * @return true if at least one molecule is on
+     */
+    @Override
+    public boolean isOn() {
+        return getOnEmitterCount() > 0;
+    }
+    
+    /**
+     * Returns the number of molecules in the emitting state.
+     * @return the number of molecules that are on
+     */
+    @Override
+    public int getOnEmitterCount() {
+        int on = 0;
+        for (int state = 0; state < stateCounts.length; state++) {
+            if (state_system.isOnState(state)) {
+                on += stateCounts[state];
+            }
+        }
+        return on;
+    }
+    
+    /**
+     * Notifies all subscribed listeners to a change in the Observable's state.
+     */
+    @Override
+    public void notifyListeners() {
+        notifyListeners(null);
+    }
+    
+    /**
+     * Notifies all subscribed listeners of a state change and pushes the data.
+     * 
+     * @param data The data object to push to the listeners.
+     */
+    @Override
+    public void notifyListeners(Object data) {
+        if (changed) {
+            for (Listener l: listeners) {
+                try {
+                    l.update(data);
+                } catch (WrongMessageTypeException ex) {
+                    String err = "Could not notify the Listener "
+                                 + l.getClass().getName() + " of the message "
+                                 + "sent from the Observable "
+                                 + this.getClass().getName() + " because the "
+                                 + "wrong type of message was sent.";
+                    LOGGER.log(Level.SEVERE, err);
+                }
+            }
+            changed = false;
+        }
+    }
+    
+    /**
+     * Recalculates the lifetimes of the molecules based on current laser
+     * power.
+     * 
+     * @param laserPower current laser power
+     */
+    @Override
+    public void recalculateLifetimes(double laserPower) {
+        this.state_system.recalculate_lifetimes(laserPower);
+    }
+    
+    /**
+     * Populations are advanced by whole frames with the frame integrator, so
+     * they cannot follow power changes within a frame.
+     * 
+     * @throws UnsupportedOperationException if a schedule is given.
+     */
+    @Override
+    public void setLaserSchedule(LaserSchedule schedule) {
+        if (schedule != null) {
+            throw new UnsupportedOperationException("Fluorophore populations "
+                    + "do not support laser power schedules.");
+        }
+    }
+    
+    /**
+     * Indicates that the state of this Observable has been changed.
+     */
+    @Override
+    public void setChanged() {
+        changed = true;
+    }
+    
+    /**
+     * Draws a binomial random number.
+     */
+    private int nextBinomial(int n, double p) {
+        if (n == 0 || p <= 0.0) {
+            return 0;
+        } else if (p >= 1.0) {
+            return n;
+        }
+        return binomial.nextInt(n, p);
+    }
+    
+    @Override
+    public double simulateBrightness() {
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+        
+        double onTime = advanceCounts();
+        double brightness = flicker(onTime * signal);
+        if (onTime > 0.0) {
+            onTimeThisFrame = onTime;
+            photonsThisFrame = brightness;
+        }
+        return brightness;
+    }
+    
+    /**
+     * Populations are advanced by whole frames with the frame integrator, so
+     * only frames that last 1 are supported.
+     * 
+     * @throws UnsupportedOperationException if the duration is not 1.
+     */
+    @Override
+    public void advance(double duration) {
+        if (duration != 1.0) {
+            throw new UnsupportedOperationException("Fluorophore populations "
+                    + "do not support exposure and readout times.");
+        }
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+        
+        // The expected number of photons is recorded instead of a sample.
+        double onTime = advanceCounts();
+        if (onTime > 0.0) {
+            onTimeThisFrame = onTime;
+            photonsThisFrame = onTime * signal;
+        }
+    }
+    
+    /**
+     * Advances the number of molecules in each state by one frame.
+     * 
+     * @return The total on-time of the molecules during the frame.
+     */
+    private double advanceCounts() {
+        FrameIntegrator integrator = state_system.getFrameIntegrator();
+        int nStates = stateCounts.length;
+        int[] nextCounts = new int[nStates];
+        double meanOnTime = 0.0;
+        double varianceOnTime = 0.0;
+        for (int from = 0; from < nStates; from++) {
+            // Distribute the molecules of each state over the end states by
+            // a sequence of binomial draws.
+            int remaining = stateCounts[from];
+            double remainingProbability = 1.0;
+            for (int to = 0; to < nStates && remaining > 0; to++) {
+                double p = integrator.getEndProbability(from, to);
+                double q = p >= remainingProbability
+                         ? 1.0 : p / remainingProbability;
+                int n = (to == nStates - 1)
+                      ? remaining : nextBinomial(remaining, q);
+                remaining -= n;
+                remainingProbability -= p;
+                nextCounts[to] += n;
+                
+                meanOnTime += n * integrator.getMeanOnTime(from, to);
+                varianceOnTime += n * integrator.getOnTimeVariance(from, to);
+            }
+        }
+        stateCounts = nextCounts;
+        
+        // The on-times of the molecules are independent, so their sum is
+        // approximately normal.
+        double onTime = meanOnTime
+                      + Math.sqrt(varianceOnTime) * gaussian.nextDouble();
+        return Math.min(Math.max(onTime, 0.0), count);
+    }
+    
+    /**
+     * Populations are advanced by whole frames with the frame integrator, so
+     * only the default timing is supported.
+     * 
+     * @throws UnsupportedOperationException if the frames are not unit frames.
+     */
+    @Override
+    public double[] simulateBrightness(FrameTiming timing) {
+        if (!timing.isUnitFrame()) {
+            throw new UnsupportedOperationException("Fluorophore populations "
+                    + "do not support exposure and readout times.");
+        }
+        return new double[] {simulateBrightness()};
+    }
+    
+    /**
+     * Returns the population's properties as a JSON string.
+     * @return The properties of the population as a JSON string.
+     */
+    @Override
+    public JsonElement toJson() {
+        Gson gson = new GsonBuilder()
+                        .registerTypeAdapter(FluorophorePopulation.class,
+                                             new FluorophorePopulationSerializer())
+                        .create();
+        return gson.toJsonTree(this);
+    }
+    
+    /**
+     * Listens to the irradiance profile and changes the rates accordingly.
+     */
+    class IlluminationListener implements Listener {
+
+        /**
+         * This method is called by an Illumination profile when its state has changed.
+         * 
+         * @param data The data object that is passed from the Observable, or
+         *             null.
+         */
+        @Override
+        public void update(Object data) throws WrongMessageTypeException {
+            if (isBleached()) {
+                // Unsubscribe from updates from the illumination profile.
+                illumination.deleteListener(illuminationListener);
+                return;
+            }
+            double irrad = illumination.getIrradiance(x, y, z);
+            
+            // Recompute the lifetimes of the fluorescence states
+            state_system.recalculate_lifetimes(irrad);
+        }
+    }
+}
+
+class FluorophorePopulationSerializer
+        implements JsonSerializer<FluorophorePopulation> {
+    @Override
+    public JsonElement serialize(FluorophorePopulation src, Type typeOfSrc,
+                                 JsonSerializationContext context) {
+        JsonObject result = new JsonObject();
+        result.add("id", new JsonPrimitive(src.getId()));
+        result.add("x", new JsonPrimitive(src.x));
+        result.add("y", new JsonPrimitive(src.y));
+        result.add("z", new JsonPrimitive(src.z));
+        result.add("count", new JsonPrimitive(src.getCount()));
+        JsonArray stateCounts = new JsonArray();
+        for (int n: src.getStateCounts()) {
+            stateCounts.add(new JsonPrimitive(n));
+        }
+        result.add("stateCounts", stateCounts);
+        result.add("maxPhotonsPerFrame", new JsonPrimitive(src.getSignal()));
+        result.add("bleached", new JsonPrimitive(src.isBleached()));
+        result.add("emitting", new JsonPrimitive(src.isOn()));
+        result.add("onEmitterCount",
+                   new JsonPrimitive(src.getOnEmitterCount()));
+        result.add("onTime", new JsonPrimitive(src.getOnTimeThisFrame()));
+        result.add("photonsEmittedLastFrame", 
+                   new JsonPrimitive(src.getPhotonsThisFrame()));
+        return result;
+    }
+}
@@ -17,6 +17,10 @@
  */
 package ch.epfl.leb.sass.models.fluorophores.internal;
 
+import ch.epfl.leb.sass.models.components.FrameTiming;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
+import ch.epfl.leb.sass.models.photophysics.FrameIntegrator;
+import ch.epfl.leb.sass.models.photophysics.StateDistribution;
 import ch.epfl.leb.sass.models.photophysics.StateSystem;
 import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter;
 import ch.epfl.leb.sass.utils.RNG;
@@ -36,6 +40,8 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 
+import cern.jet.random.Gamma;
+
 import java.lang.reflect.Type;
 import java.util.Random;
 import java.util.ArrayList;
@@ -108,6 +114,11 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
      */
     private final Random random;
     
+    /**
+     * RNG for the on-times of frames that are integrated analytically.
+     */
+    private final Gamma gamma;
+    
     /**
      * The fluorophore's quantum yield.
      */
@@ -125,6 +136,27 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
      */
     private double signal;
     
+    /**
+     * Laser power schedule that the fluorophore follows, or null.
+     */
+    private LaserSchedule schedule;
+    
+    /**
+     * Number of photons per frame for each power level of the schedule.
+     */
+    private double[] scheduleSignals;
+    
+    /**
+     * Value of the internal clock when the schedule started.
+     */
+    private double scheduleStart;
+    
+    /**
+     * Number of photons emitted during the last transitions that were
+     * stepped through with a schedule.
+     */
+    private double scheduleEmission;
+    
     /**
      * Internal state system for this fluorophore
      */
@@ -180,6 +212,7 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
         }
         this.quantumYield = quantumYield;
         this.random = RNG.getUniformGenerator();
+        this.gamma = RNG.getGammaGenerator();
         this.illuminationListener = new IlluminationListener();
         
         // Sets the signal field.
@@ -219,6 +252,18 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
         return currentState;
     }
     
+    @Override
+    public void addStateCounts(long[] counts, int weight) {
+        counts[currentState] += weight;
+    }
+    
+    @Override
+    public void initializeState(double[] distribution) {
+        currentState = StateDistribution.sample(distribution, random.nextDouble());
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+    }
+    
     /**
      * Returns the fluorophore extinction coefficient.
      * 
@@ -324,6 +369,16 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
         return stateSystem.isBleachedState(currentState);
     }
     
+    /**
+     * Returns the number of emitting molecules, which for a single
+     * fluorophore is either 0 or 1.
+     * @return 1 if the emitter is on, 0 otherwise
+     */
+    @Override
+    public int getOnEmitterCount() {
+        return isOn() ? 1 : 0;
+    }
+    
     /**
      * Returns the current state of the emitter (on or off), but does not
      * inform if this emitter is also bleached!
@@ -388,6 +443,46 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
         this.stateSystem.recalculate_lifetimes(laserPower);
     }
     
+    /**
+     * Follows a laser power schedule instead of the current laser power.
+     * 
+     * The irradiance only changes the photon flux of the fluorophore, which
+     * is precomputed for each power level of the schedule.
+     * 
+     * @param schedule The laser power schedule, or null to return to the
+     *                 current laser power.
+     */
+    @Override
+    public void setLaserSchedule(LaserSchedule schedule) {
+        this.schedule = schedule;
+        this.scheduleSignals = null;
+        if (schedule == null) {
+            return;
+        }
+        
+        scheduleStart = timeElapsed;
+        double relativeIrradiance = illumination.getRelativeIrradiance(x, y, z);
+        double[] powers = schedule.getLevelPowers();
+        scheduleSignals = new double[powers.length];
+        for (int level = 0; level < powers.length; level++) {
+            scheduleSignals[level] =
+                    computeSignal(powers[level] * relativeIrradiance);
+        }
+    }
+    
+    /**
+     * Computes the number of photons per frame for an irradiance.
+     * 
+     * @param irrad The irradiance at the fluorophore.
+     * @return The number of photons per frame of an emitting fluorophore.
+     */
+    private double computeSignal(double irrad) {
+        double wavelength = illumination.getElectricField().getWavelength();
+        // 3.8235e-21 * extinctionCoefficient is the absorption x-section.
+        return quantumYield * irrad * 3.8235e-21 * extinctionCoefficient
+               * wavelength / Constants.HC * secondsPerFrame;
+    }
+    
     /**
      * Indicates that the state of this Observable has been changed.
      */
@@ -396,8 +491,28 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
         changed = true;
     }
 
+    /**
+     * Returns the integrator for the next frame if the frame may be sampled
+     * at once.
+     * 
+     * Frames are only integrated when this is enabled in the state system,
+     * when many transitions are expected, and when no listener needs to be
+     * notified of the individual transitions. The photon flux of a laser
+     * power schedule changes within the frame, so it is not integrated either.
+     * 
+     * @return The frame integrator, or null to step through the transitions.
+     */
+    private FrameIntegrator getFrameIntegrator() {
+        if (!stateSystem.isFrameIntegrationEnabled() || !listeners.isEmpty()
+                || schedule != null) {
+            return null;
+        }
+        FrameIntegrator integrator = stateSystem.getFrameIntegrator();
+        return integrator.isWorthwhile(currentState) ? integrator : null;
+    }
+    
     @Override
-    protected double simulateBrightness() {
+    public double simulateBrightness() {
         // Reset the frame tracking variables
         onTimeThisFrame = 0.0;
         photonsThisFrame = 0.0;
@@ -406,8 +521,127 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
             return 0.0;
         }
         
-        double remainingTime = 1.0;
+        double onTime = advanceStates(1.0);
+        // The brightness of the fluorophore
+        double brightness = flicker(schedule == null ? onTime * signal
+                                                     : scheduleEmission);
+        
+        // These are only recorded if the fluorophore was on during the frame.
+        if (onTime > 0.0) {
+            onTimeThisFrame = onTime;
+            photonsThisFrame = brightness;
+        }
+        return brightness;
+    }
+    
+    @Override
+    public void advance(double duration) {
+        // Reset the frame tracking variables
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+        
+        if (isBleached()) {
+            return;
+        }
+        
+        // The expected number of photons is recorded instead of a sample.
+        double onTime = advanceStates(duration);
+        if (onTime > 0.0) {
+            onTimeThisFrame = onTime;
+            photonsThisFrame = schedule == null ? onTime * signal
+                                                : scheduleEmission;
+        }
+    }
+    
+    /**
+     * Advances the fluorophore's state by a frame.
+     * 
+     * Frames that last 1 may be integrated analytically; other frames are
+     * always stepped through.
+     * 
+     * @param duration The duration of the frame.
+     * @return The time spent in an emitting state.
+     */
+    private double advanceStates(double duration) {
+        FrameIntegrator integrator = duration == 1.0
+                                   ? getFrameIntegrator() : null;
+        if (integrator == null) {
+            return stepTransitions(duration, null, 0, null);
+        }
+        // Sample the end state and the on-time of the whole frame.
+        int outcome = integrator.sampleOutcome(currentState,
+                                               random.nextDouble());
+        double onTime = integrator.sampleOnTime(currentState, outcome, gamma);
+        currentState = integrator.getEndState(outcome);
+        timeElapsed += 1.0;
+        return onTime;
+    }
+    
+    @Override
+    public double[] simulateBrightness(FrameTiming timing) {
+        if (timing.isUnitFrame()) {
+            return new double[] {simulateBrightness()};
+        }
+        
+        // Reset the frame tracking variables
+        onTimeThisFrame = 0.0;
+        photonsThisFrame = 0.0;
+        
+        int[] windows = getWindowRange(timing);
+        double[] photons = new double[windows[1] - windows[0] + 1];
+        if (isBleached()) {
+            return photons;
+        }
+        
+        // The frame integrator only samples the total on-time, so the
+        // transitions are always stepped through.
+        double onTime = stepTransitions(timing.getPeriod(), timing, windows[0],
+                                        photons);
+        double total = 0.0;
+        for (int i = 0; i < photons.length; i++) {
+            // With a laser power schedule, the on-times are already weighted
+            // by the photon flux.
+            photons[i] = flicker(schedule == null ? photons[i] * signal
+                                                  : photons[i]);
+            total += photons[i];
+        }
+        
+        // The photons of a fluorophore whose image spans several windows are
+        // recorded as their mean.
+        if (onTime > 0.0) {
+            onTimeThisFrame = onTime;
+            photonsThisFrame = total / photons.length;
+        }
+        return photons;
+    }
+    
+    /**
+     * Steps through the fluorophore's state transitions.
+     * 
+     * @param duration The time to simulate.
+     * @param timing The timing of the frame, or null if the on-time is not
+     *               split among exposure windows.
+     * @param firstWindow The exposure window of onTimes[0].
+     * @param onTimes The on-times of the exposure windows, or null. With a
+     *                laser power schedule, they are weighted by the photon
+     *                flux.
+     * @return The total time spent in an emitting state.
+     */
+    private double stepTransitions(double duration, FrameTiming timing,
+                                   int firstWindow, double[] onTimes) {
+        double remainingTime = duration;
         double onTime = 0.0;
+        
+        // The segment of the laser power schedule and its photon flux.
+        long segment = 0;
+        double segmentEnd = java.lang.Double.POSITIVE_INFINITY;
+        double weight = 1.0;
+        if (schedule != null) {
+            scheduleEmission = 0.0;
+            segment = schedule.getSegment(timeElapsed - scheduleStart);
+            segmentEnd = scheduleStart + schedule.getSegmentEnd(segment);
+            weight = scheduleSignals[schedule.getLevel(segment)];
+        }
         while (remainingTime > 0.0) {
             // initialize time of next transition and next state id variables
             double transition_time = java.lang.Double.POSITIVE_INFINITY; 
@@ -421,11 +655,33 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
                     transition_time = state_time;
                 }
             }
-            // transition happens sooner than end of frame
-            if (transition_time <= remainingTime) {
-                if (this.isOn()) {
-                    onTime += transition_time;
+            // the emission lasts until the transition, the end of the frame
+            // or the next change of the laser power
+            double step = Math.min(transition_time, remainingTime);
+            boolean powerChange = segmentEnd - timeElapsed < step;
+            if (powerChange) {
+                step = Math.max(segmentEnd - timeElapsed, 0.0);
+            }
+            double start = duration - remainingTime;
+            if (this.isOn()) {
+                onTime += step;
+                if (schedule != null) {
+                    scheduleEmission += step * weight;
                 }
+                if (timing != null) {
+                    timing.addOnTime(start, start + step, weight,
+                                     firstWindow, onTimes);
+                }
+            }
+            // the power changes before the transition, which is drawn again
+            if (powerChange) {
+                remainingTime -= step;
+                timeElapsed += step;
+                segment++;
+                segmentEnd = scheduleStart + schedule.getSegmentEnd(segment);
+                weight = scheduleSignals[schedule.getLevel(segment)];
+            // transition happens sooner than end of frame
+            } else if (transition_time <= remainingTime) {
                 remainingTime -= transition_time;
                 timeElapsed += transition_time;
                 
@@ -441,22 +697,11 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
                 currentState = nextState;
             // no transition happens till end of frame
             } else {
-                if (this.isOn()) {
-                    onTime += remainingTime;
-                }
                 timeElapsed += remainingTime;
                 remainingTime = 0.0;
             }
         }
-        // The brightness of the fluorophore
-        double brightness = flicker(onTime * signal);
-        
-        // These are only recorded if the fluorophore was on during the frame.
-        if (onTime > 0.0) {
-            onTimeThisFrame = onTime;
-            photonsThisFrame = brightness;
-        }
-        return brightness;
+        return onTime;
     }
     
     /**
@@ -486,11 +731,7 @@ public class PhysicalFluorophore extends AbstractEmitter implements Fluorophore
                 return;
             }
             
-            double irrad = illumination.getIrradiance(x, y, z);
-            double wavelength = illumination.getElectricField().getWavelength();
-            // 3.8235e-21 * extinctionCoefficient is the absorption x-section.
-            signal = quantumYield * irrad * 3.8235e-21 * extinctionCoefficient
-                     * wavelength / Constants.HC * secondsPerFrame;
+            signal = computeSignal(illumination.getIrradiance(x, y, z));
         }
     }
 }
@@ -58,6 +58,126 @@ public interface ElectricField {
      */
     public Complex getEz(double x, double y, double z);
     
+    /**
+     * Writes the x-component of the electric field at (x, y, z) into e.
+     * 
+     * This is the allocation-free counterpart of getEx(x, y, z). The
+     * default implementation calls getEx(x, y, z); implementations should
+     * override it to avoid the allocation.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @param e Receives the real part in e[0] and the imaginary part in e[1].
+     */
+    public default void getEx(double x, double y, double z, double[] e) {
+        Complex value = getEx(x, y, z);
+        e[0] = value.getReal();
+        e[1] = value.getImaginary();
+    }
+    
+    /**
+     * Writes the y-component of the electric field at (x, y, z) into e.
+     * 
+     * This is the allocation-free counterpart of getEy(x, y, z). The
+     * default implementation calls getEy(x, y, z); implementations should
+     * override it to avoid the allocation.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @param e Receives the real part in e[0] and the imaginary part in e[1].
+     */
+    public default void getEy(double x, double y, double z, double[] e) {
+        Complex value = getEy(x, y, z);
+        e[0] = value.getReal();
+        e[1] = value.getImaginary();
+    }
+    
+    /**
+     * Writes the z-component of the electric field at (x, y, z) into e.
+     * 
+     * This is the allocation-free counterpart of getEz(x, y, z). The
+     * default implementation calls getEz(x, y, z); implementations should
+     * override it to avoid the allocation.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @param e Receives the real part in e[0] and the imaginary part in e[1].
+     */
+    public default void getEz(double x, double y, double z, double[] e) {
+        Complex value = getEz(x, y, z);
+        e[0] = value.getReal();
+        e[1] = value.getImaginary();
+    }
+    
+    /**
+     * Writes the x-component of the electric field at count positions.
+     * 
+     * The default implementation evaluates each position in turn.
+     * 
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the field.
+     * @param im Receives the imaginary parts of the field.
+     */
+    public default void getEx(double[] x, double[] y, double[] z, int count,
+                              double[] re, double[] im) {
+        double[] e = new double[2];
+        for (int i = 0; i < count; i++) {
+            getEx(x[i], y[i], z[i], e);
+            re[i] = e[0];
+            im[i] = e[1];
+        }
+    }
+    
+    /**
+     * Writes the y-component of the electric field at count positions.
+     * 
+     * The default implementation evaluates each position in turn.
+     * 
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the field.
+     * @param im Receives the imaginary parts of the field.
+     */
+    public default void getEy(double[] x, double[] y, double[] z, int count,
+                              double[] re, double[] im) {
+        double[] e = new double[2];
+        for (int i = 0; i < count; i++) {
+            getEy(x[i], y[i], z[i], e);
+            re[i] = e[0];
+            im[i] = e[1];
+        }
+    }
+    
+    /**
+     * Writes the z-component of the electric field at count positions.
+     * 
+     * The default implementation evaluates each position in turn.
+     * 
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the field.
+     * @param im Receives the imaginary parts of the field.
+     */
+    public default void getEz(double[] x, double[] y, double[] z, int count,
+                              double[] re, double[] im) {
+        double[] e = new double[2];
+        for (int i = 0; i < count; i++) {
+            getEz(x[i], y[i], z[i], e);
+            re[i] = e[0];
+            im[i] = e[1];
+        }
+    }
+    
     /**
      * Returns the sample's refractive index that produced this field.
      * 
@@ -44,6 +44,16 @@ public interface Illumination extends Listener, Observable {
      */
     public double getIrradiance(double x, double y, double z);
     
+    /**
+     * Returns the irradiance per unit power at the point (x, y, z).
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @return The irradiance at the point (x, y, z) for a power of 1.
+     */
+    public double getRelativeIrradiance(double x, double y, double z);
+    
     /**
      * Returns the power carried by the illumination profile.
      * 
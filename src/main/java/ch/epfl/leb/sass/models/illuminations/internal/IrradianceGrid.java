@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.illuminations.internal;
+
+import java.io.Serializable;
+
+/**
+ * A lookup table of an irradiance profile on a regular 3D grid.
+ * 
+ * The profile is sampled once per illumination geometry, normalized to unit
+ * power so that changes in power only scale the values that are looked up.
+ * Values between the grid points are interpolated trilinearly. An axis with a
+ * single grid point is treated as constant, so 2D or 1D profiles cost no more
+ * than necessary.
+ */
+public final class IrradianceGrid implements Serializable {
+    
+    /**
+     * An irradiance profile that can be sampled on a grid.
+     */
+    public interface Profile {
+        
+        /**
+         * Returns the irradiance per unit power at the point (x, y, z).
+         * 
+         * @param x The x-position within the sample.
+         * @param y The y-position within the sample.
+         * @param z The z-position within the sample.
+         * @return The irradiance per unit power.
+         */
+        public double getRelativeIrradiance(double x, double y, double z);
+    }
+    
+    /**
+     * The lower bounds of the grid in x, y and z.
+     */
+    private final double xMin;
+    private final double yMin;
+    private final double zMin;
+    
+    /**
+     * The upper bounds of the grid in x, y and z.
+     */
+    private final double xMax;
+    private final double yMax;
+    private final double zMax;
+    
+    /**
+     * The number of grid points along x, y and z.
+     */
+    private final int nX;
+    private final int nY;
+    private final int nZ;
+    
+    /**
+     * The inverse of the spacing of the grid points along x, y and z.
+     */
+    private final double xScale;
+    private final double yScale;
+    private final double zScale;
+    
+    /**
+     * The sampled values, with z varying fastest.
+     */
+    private final double[] values;
+    
+    /**
+     * Samples a profile on a regular grid.
+     * 
+     * @param profile The profile to sample.
+     * @param xMin The lower bound in x.
+     * @param xMax The upper bound in x.
+     * @param nX The number of grid points in x.
+     * @param yMin The lower bound in y.
+     * @param yMax The upper bound in y.
+     * @param nY The number of grid points in y.
+     * @param zMin The lower bound in z.
+     * @param zMax The upper bound in z.
+     * @param nZ The number of grid points in z.
+     */
+    public IrradianceGrid(Profile profile,
+                          double xMin, double xMax, int nX,
+                          double yMin, double yMax, int nY,
+                          double zMin, double zMax, int nZ) {
+        if (nX < 1 || nY < 1 || nZ < 1) {
+            throw new IllegalArgumentException("The grid must have at least " +
+                                               "one point along each axis.");
+        }
+        if (xMax < xMin || yMax < yMin || zMax < zMin) {
+            throw new IllegalArgumentException("The upper bounds of the grid " +
+                                               "must not be below the lower " +
+                                               "bounds.");
+        }
+        this.xMin = xMin;
+        this.yMin = yMin;
+        this.zMin = zMin;
+        this.xMax = xMax;
+        this.yMax = yMax;
+        this.zMax = zMax;
+        this.nX = nX;
+        this.nY = nY;
+        this.nZ = nZ;
+        this.xScale = scale(xMin, xMax, nX);
+        this.yScale = scale(yMin, yMax, nY);
+        this.zScale = scale(zMin, zMax, nZ);
+        
+        values = new double[nX * nY * nZ];
+        int index = 0;
+        for (int i = 0; i < nX; i++) {
+            double x = coordinate(xMin, xMax, nX, i);
+            for (int j = 0; j < nY; j++) {
+                double y = coordinate(yMin, yMax, nY, j);
+                for (int k = 0; k < nZ; k++) {
+                    double z = coordinate(zMin, zMax, nZ, k);
+                    values[index++] = profile.getRelativeIrradiance(x, y, z);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Returns the inverse of the spacing of the grid points along an axis.
+     */
+    private static double scale(double min, double max, int n) {
+        return (n > 1 && max > min) ? (n - 1) / (max - min) : 0.0;
+    }
+    
+    /**
+     * Returns the position of a grid point along an axis.
+     */
+    private static double coordinate(double min, double max, int n, int i) {
+        return n > 1 ? min + (max - min) * i / (n - 1) : (min + max) / 2;
+    }
+    
+    /**
+     * Indicates whether a point lies inside the sampled volume.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @return True if the point is inside the grid's bounds.
+     */
+    public boolean contains(double x, double y, double z) {
+        return x >= xMin && x <= xMax && y >= yMin && y <= yMax
+            && z >= zMin && z <= zMax;
+    }
+    
+    /**
+     * Interpolates the irradiance per unit power at the point (x, y, z).
+     * 
+     * Points outside of the grid take the value of the nearest boundary.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @return The interpolated irradiance per unit power.
+     */
+    public double getValue(double x, double y, double z) {
+        double u = clamp((x - xMin) * xScale, nX);
+        double v = clamp((y - yMin) * yScale, nY);
+        double w = clamp((z - zMin) * zScale, nZ);
+        int i = Math.min((int) u, nX - 1);
+        int j = Math.min((int) v, nY - 1);
+        int k = Math.min((int) w, nZ - 1);
+        double fx = u - i;
+        double fy = v - j;
+        double fz = w - k;
+        int di = (i < nX - 1) ? nY * nZ : 0;
+        int dj = (j < nY - 1) ? nZ : 0;
+        int dk = (k < nZ - 1) ? 1 : 0;
+        
+        int c000 = (i * nY + j) * nZ + k;
+        double c00 = values[c000] + fz * (values[c000 + dk] - values[c000]);
+        double c01 = values[c000 + dj]
+                   + fz * (values[c000 + dj + dk] - values[c000 + dj]);
+        double c10 = values[c000 + di]
+                   + fz * (values[c000 + di + dk] - values[c000 + di]);
+        double c11 = values[c000 + di + dj]
+                   + fz * (values[c000 + di + dj + dk]
+                           - values[c000 + di + dj]);
+        double c0 = c00 + fy * (c01 - c00);
+        double c1 = c10 + fy * (c11 - c10);
+        return c0 + fx * (c1 - c0);
+    }
+    
+    /**
+     * Clamps a fractional grid index to the grid.
+     */
+    private static double clamp(double u, int n) {
+        if (u <= 0.0 || Double.isNaN(u)) {
+            return 0.0;
+        }
+        return Math.min(u, n - 1);
+    }
+}
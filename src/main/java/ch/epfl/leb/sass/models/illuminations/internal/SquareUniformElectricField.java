@@ -20,9 +20,11 @@ import ch.epfl.leb.sass.models.samples.RefractiveIndex;
 import ch.epfl.leb.sass.models.illuminations.ElectricField;
 import ch.epfl.leb.sass.models.illuminations.ElectricFieldBuilder;
 
+import java.util.Arrays;
+
 import org.apache.commons.math.util.MathUtils;
 import org.apache.commons.math3.complex.Complex;
-import org.apache.commons.math3.complex.ComplexUtils;
+import org.apache.commons.math3.util.FastMath;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 
 /**
@@ -142,19 +144,82 @@ public class SquareUniformElectricField implements ElectricField {
     }
     
     /**
-     * Returns the argument of the field's propagation phasor exp(j (k dot r)).
+     * Writes the propagation phasor exp(j (k dot r)) scaled by amplitude.
+     * 
+     * @param amplitude The amplitude of the field component at z = 0.
+     * @param nRe The real part of the refractive index.
+     * @param nIm The imaginary part of the refractive index.
+     * @param z The z-position within the sample.
+     * @param re Receives the real part of the field component.
+     * @param i The index into re to write to.
+     * @param im Receives the imaginary part of the field component.
+     * @param j The index into im to write to.
+     */
+    private void phasor(double amplitude, double nRe, double nIm, double z,
+                        double[] re, int i, double[] im, int j) {
+        double argRe = nRe * MathUtils.TWO_PI / wavelength * z;
+        double argIm = nIm * MathUtils.TWO_PI / wavelength * z;
+        double magnitude = amplitude * Math.exp(-argIm);
+        re[i] = magnitude * FastMath.cos(argRe);
+        im[j] = magnitude * FastMath.sin(argRe);
+    }
+    
+    /**
+     * Returns true if (x, y) lies outside of the illuminated area.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @return True if the field is zero at (x, y).
+     */
+    private boolean isOutside(double x, double y) {
+        return x < 0 || x > width || y < 0 || y > height;
+    }
+    
+    /**
+     * Writes an in-plane field component at the position (x, y, z) into e.
      * 
+     * @param amplitude The amplitude of the field component at z = 0.
      * @param x The x-position within the sample.
      * @param y The y-position within the sample.
      * @param z The z-position within the sample.
-     * @return The argument of the phasor.
+     * @param e Receives the real part in e[0] and the imaginary part in e[1].
      */
-    private Complex getArgument(double x, double y, double z) {
-        // Compute the argument of the phasor.
-        return refractiveIndex.getN(x, y, z)
-                              .multiply(MathUtils.TWO_PI)
-                              .divide(wavelength)
-                              .multiply(z);
+    private void getComponent(double amplitude, double x, double y, double z,
+                              double[] e) {
+        if (isOutside(x, y)) {
+            e[0] = 0;
+            e[1] = 0;
+            return;
+        }
+        
+        // e doubles as the buffer for the refractive index.
+        refractiveIndex.getN(x, y, z, e);
+        phasor(amplitude, e[0], e[1], z, e, 0, e, 1);
+    }
+    
+    /**
+     * Writes an in-plane field component at count positions.
+     * 
+     * @param amplitude The amplitude of the field component at z = 0.
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the field.
+     * @param im Receives the imaginary parts of the field.
+     */
+    private void getComponent(double amplitude, double[] x, double[] y,
+                              double[] z, int count, double[] re, double[] im) {
+        // re and im double as the buffers for the refractive index.
+        refractiveIndex.getN(x, y, z, count, re, im);
+        for (int i = 0; i < count; i++) {
+            if (isOutside(x[i], y[i])) {
+                re[i] = 0;
+                im[i] = 0;
+            } else {
+                phasor(amplitude, re[i], im[i], z[i], re, i, im, i);
+            }
+        }
     }
     
      /**
@@ -167,15 +232,38 @@ public class SquareUniformElectricField implements ElectricField {
      */
     @Override
     public Complex getEx(double x, double y, double z) {
-        if (x < 0 || x > width)
-            return new Complex(0);
-        if (y < 0 || y > height)
-            return new Complex(0);
-        
-        Complex arg = getArgument(x, y, z);
-        double magnitude = orientation.getX()
-                           * Math.exp(-arg.getImaginary());
-        return ComplexUtils.polar2Complex(magnitude, arg.getReal());
+        double[] e = new double[2];
+        getEx(x, y, z, e);
+        return new Complex(e[0], e[1]);
+    }
+    
+    /**
+     * Writes the x-component of the electric field at (x, y, z) into e.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @param e Receives the real part in e[0] and the imaginary part in e[1].
+     */
+    @Override
+    public void getEx(double x, double y, double z, double[] e) {
+        getComponent(orientation.getX(), x, y, z, e);
+    }
+    
+    /**
+     * Writes the x-component of the electric field at count positions.
+     * 
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the field.
+     * @param im Receives the imaginary parts of the field.
+     */
+    @Override
+    public void getEx(double[] x, double[] y, double[] z, int count,
+                      double[] re, double[] im) {
+        getComponent(orientation.getX(), x, y, z, count, re, im);
     }
     
      /**
@@ -188,15 +276,38 @@ public class SquareUniformElectricField implements ElectricField {
      */
     @Override
     public Complex getEy(double x, double y, double z) {
-        if (x < 0 || x > width)
-            return new Complex(0);
-        if (y < 0 || y > height)
-            return new Complex(0);
-        
-        Complex arg = getArgument(x, y, z);
-        double magnitude = orientation.getY()
-                           * Math.exp(-arg.getImaginary());
-        return ComplexUtils.polar2Complex(magnitude, arg.getReal());
+        double[] e = new double[2];
+        getEy(x, y, z, e);
+        return new Complex(e[0], e[1]);
+    }
+    
+    /**
+     * Writes the y-component of the electric field at (x, y, z) into e.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @param e Receives the real part in e[0] and the imaginary part in e[1].
+     */
+    @Override
+    public void getEy(double x, double y, double z, double[] e) {
+        getComponent(orientation.getY(), x, y, z, e);
+    }
+    
+    /**
+     * Writes the y-component of the electric field at count positions.
+     * 
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the field.
+     * @param im Receives the imaginary parts of the field.
+     */
+    @Override
+    public void getEy(double[] x, double[] y, double[] z, int count,
+                      double[] re, double[] im) {
+        getComponent(orientation.getY(), x, y, z, count, re, im);
     }
     
      /**
@@ -213,6 +324,37 @@ public class SquareUniformElectricField implements ElectricField {
         return new Complex(0);
     }
     
+    /**
+     * Writes the z-component of the electric field at (x, y, z) into e.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @param e Receives the real part in e[0] and the imaginary part in e[1].
+     */
+    @Override
+    public void getEz(double x, double y, double z, double[] e) {
+        e[0] = 0;
+        e[1] = 0;
+    }
+    
+    /**
+     * Writes the z-component of the electric field at count positions.
+     * 
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the field.
+     * @param im Receives the imaginary parts of the field.
+     */
+    @Override
+    public void getEz(double[] x, double[] y, double[] z, int count,
+                      double[] re, double[] im) {
+        Arrays.fill(re, 0, count, 0.0);
+        Arrays.fill(im, 0, count, 0.0);
+    }
+    
     /**
      * Returns the sample's refractive index that produced this field.
      * 
@@ -36,7 +36,8 @@ import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
  * @author Kyle M. Douglass
  */
 public class SquareUniformIllumination extends AbstractObservable 
-                                       implements Illumination {
+                                       implements Illumination,
+                                                  IrradianceGrid.Profile {
     
     private final static Logger LOGGER
             = Logger.getLogger(SquareUniformIllumination.class.getName());
@@ -61,6 +62,12 @@ public class SquareUniformIllumination extends AbstractObservable
      */
     private double width;
     
+    /**
+     * The irradiance per unit power sampled over the illuminated volume, or
+     * null if the irradiance is computed at every point.
+     */
+    private final IrradianceGrid irradianceGrid;
+    
     /**
      * A Builder for creating new SquareUniformIllumination instances.
      */
@@ -71,6 +78,10 @@ public class SquareUniformIllumination extends AbstractObservable
         private RefractiveIndex refractiveIndex;
         private double wavelength;
         private double width;
+        private int gridX = 0;
+        private int gridY = 0;
+        private int gridZ = 0;
+        private double gridDepth = 0;
         public Builder height(double height) {
             this.height = height;
             return this;
@@ -96,10 +107,39 @@ public class SquareUniformIllumination extends AbstractObservable
             return this;
         }
         
+        /**
+         * Precomputes the irradiance on a grid instead of evaluating it for
+         * every point.
+         * 
+         * The grid covers the illuminated area from z = 0 to z = depth;
+         * points outside of it are still evaluated exactly.
+         * 
+         * No grid is built by default: with a refractive index that
+         * overrides RefractiveIndex.getImaginaryN, such as
+         * UniformRefractiveIndex, the exact irradiance costs a single
+         * exponential per point. Enable the grid when the refractive index
+         * is costly to evaluate. The irradiance of this profile only varies
+         * in z, so nX = nY = 1 suffices.
+         * 
+         * @param nX The number of grid points in x.
+         * @param nY The number of grid points in y.
+         * @param nZ The number of grid points in z.
+         * @param depth The extent of the grid in z.
+         * @return This builder.
+         */
+        public Builder irradianceGrid(int nX, int nY, int nZ, double depth) {
+            this.gridX = nX;
+            this.gridY = nY;
+            this.gridZ = nZ;
+            this.gridDepth = depth;
+            return this;
+        }
+        
         public SquareUniformIllumination build() {
             return new SquareUniformIllumination(
                     this.power, this.width, this.height, this.orientation,
-                    this.wavelength, this.refractiveIndex);
+                    this.wavelength, this.refractiveIndex, this.gridX,
+                    this.gridY, this.gridZ, this.gridDepth);
         }
     }
     
@@ -112,10 +152,15 @@ public class SquareUniformIllumination extends AbstractObservable
      * @param orientation The orientation of the electric field vector.
      * @param wavelength The wavelength of the radiation.
      * @param refractiveIndex The sample's refractive index distribution.
+     * @param gridX The number of irradiance grid points in x, or 0 for none.
+     * @param gridY The number of irradiance grid points in y.
+     * @param gridZ The number of irradiance grid points in z.
+     * @param gridDepth The extent of the irradiance grid in z.
      */
     private SquareUniformIllumination(double power, double width, double height,
             Vector3D orientation, double wavelength,
-            RefractiveIndex refractiveIndex) {
+            RefractiveIndex refractiveIndex, int gridX, int gridY, int gridZ,
+            double gridDepth) {
         
         // Create The electric field for this illumination.
         SquareUniformElectricField.Builder builder = 
@@ -127,6 +172,14 @@ public class SquareUniformIllumination extends AbstractObservable
         this.power = power;
         this.width = width;
         this.height = height;
+        
+        // The geometry does not change, so the grid is sampled only once.
+        if (gridX > 0) {
+            this.irradianceGrid = new IrradianceGrid(this,
+                    0, width, gridX, 0, height, gridY, 0, gridDepth, gridZ);
+        } else {
+            this.irradianceGrid = null;
+        }
     }
     
     /**
@@ -147,20 +200,46 @@ public class SquareUniformIllumination extends AbstractObservable
      * @param z The z-position in the sample.
      */
     @Override
-    public double getIrradiance(double x, double y, double z) {      
+    public double getIrradiance(double x, double y, double z) {
+        double irrad;
+        if (irradianceGrid != null && irradianceGrid.contains(x, y, z)) {
+            irrad = this.power * irradianceGrid.getValue(x, y, z);
+        } else {
+            irrad = this.power * getRelativeIrradiance(x, y, z);
+        }
+        
+        // TODO: Change this to an exception!
+        assert(irrad != Double.NaN);
+        return irrad;
+    }
+    
+    /**
+     * Returns the irradiance per unit power at the point (x, y, z).
+     * 
+     * @param x The x-position in the sample.
+     * @param y The y-position in the sample.
+     * @param z The z-position in the sample.
+     * @return The irradiance at the point (x, y, z) for a power of 1.
+     */
+    @Override
+    public double getRelativeIrradiance(double x, double y, double z) {
         // Compute the absorption, if any.
+        double k = electricField.getRefractiveIndex().getImaginaryN(x, y, z);
         double abs = Math.exp(
                 -4 * Math.PI 
-                   * electricField.getRefractiveIndex()
-                                  .getN(x, y, z)
-                                  .getImaginary()
+                   * k
                    * z
                    / electricField.getWavelength());
-        double irrad = this.power * abs / width / height;
-        
-        // TODO: Change this to an exception!
-        assert(irrad != Double.NaN);
-        return irrad;
+        return abs / width / height;
+    }
+    
+    /**
+     * Returns the precomputed irradiance per unit power.
+     * 
+     * @return The irradiance grid, or null if none was requested.
+     */
+    public IrradianceGrid getIrradianceGrid() {
+        return irradianceGrid;
     }
     
     /**
@@ -33,4 +33,20 @@ public interface Obstructor extends Serializable {
      * @param pixels image to be drawn on
      */
     public void applyTo(float[][] pixels);
+    
+    /**
+     * Draws the obstruction onto an image of a region of the sensor.
+     * @param pixels image to be drawn on
+     * @param x0 sensor x-coordinate of the first column of the image
+     * @param y0 sensor y-coordinate of the first row of the image
+     */
+    public void applyTo(float[][] pixels, int x0, int y0);
+    
+    /**
+     * Moves the obstruction's image to follow the sample stage.
+     * @param dx lateral displacement of the image in x [pixels]
+     * @param dy lateral displacement of the image in y [pixels]
+     * @param stageZ axial displacement of the stage
+     */
+    public void setStagePosition(double dx, double dy, double stageZ);
 }
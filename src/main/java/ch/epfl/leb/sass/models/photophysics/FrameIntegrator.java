@@ -0,0 +1,381 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.photophysics;
+
+import cern.jet.random.Gamma;
+
+/**
+ * Samples the state of a fluorophore at the end of a frame and the time it
+ * spent in the emitting state without simulating each state transition.
+ * 
+ * For a fixed table of transition rates, the probabilities of the end states
+ * and the first two moments of the on-time conditioned on the start and end
+ * states are exact; they are computed once from matrix exponentials of the
+ * generator of the state system. The on-time is then drawn from a beta
+ * distribution with these moments, except for the cases in which the
+ * fluorophore never leaves the emitting state or never visits it, which are
+ * sampled exactly.
+ * 
+ * The moment matching is only accurate when many transitions occur during a
+ * frame, so the integrator should only be used from states for which
+ * {@link #isWorthwhile(int) isWorthwhile} returns true.
+ */
+public final class FrameIntegrator {
+    
+    /**
+     * The minimum expected number of transitions per frame for which the
+     * integrator is used instead of stepping through each transition.
+     */
+    public static final double MIN_TRANSITIONS = 10;
+    
+    /**
+     * Probabilities below this value are treated as zero.
+     */
+    private static final double EPSILON = 1e-12;
+    
+    /**
+     * The number of states of the system.
+     */
+    private final int nStates;
+    
+    /**
+     * Cumulative probabilities of the outcomes of a frame for each start
+     * state. Outcome j < nStates means ending in state j with an on-time of
+     * exactly 0 or 1; outcome nStates + j means ending in state j with an
+     * on-time strictly between 0 and 1.
+     */
+    private final double[][] cumulative;
+    
+    /**
+     * The on-time of the outcomes j < nStates.
+     */
+    private final double[][] fixedOnTime;
+    
+    /**
+     * The mean and the beta distribution parameters of the on-time of the
+     * outcomes nStates + j.
+     */
+    private final double[][] meanOnTime;
+    private final double[][] alpha;
+    private final double[][] beta;
+    
+    /**
+     * The probabilities of the end states for each start state, and the mean
+     * and the variance of the on-time conditioned on both.
+     */
+    private final double[][] endProbability;
+    private final double[][] conditionalMean;
+    private final double[][] conditionalVariance;
+    
+    /**
+     * The expected number of transitions during a frame for each start state.
+     */
+    private final double[] expectedTransitions;
+    
+    /**
+     * Precomputes the frame statistics for the current rates of a state
+     * system. State 0 is the emitting state.
+     * 
+     * @param stateSystem The state system with its current transition rates.
+     */
+    public FrameIntegrator(StateSystem stateSystem) {
+        int n = stateSystem.getNStates();
+        this.nStates = n;
+        
+        // The generator of the Markov chain and the exit rate of each state.
+        double[][] q = new double[n][n];
+        double[] exitRate = new double[n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j) {
+                    q[i][j] = stateSystem.getTransitionRate(i, j);
+                    exitRate[i] += q[i][j];
+                }
+            }
+            q[i][i] = -exitRate[i];
+        }
+        
+        // exp([[Q, E, 0], [0, Q, E], [0, 0, Q]]) contains the end state
+        // probabilities P and the integrals of the on-time and its square
+        // over the paths that end in each state (Van Loan, 1978). E projects
+        // onto the emitting state.
+        double[][] block = new double[3 * n][3 * n];
+        for (int b = 0; b < 3; b++) {
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(q[i], 0, block[b * n + i], b * n, n);
+            }
+        }
+        block[0][n] = 1;
+        block[n][2 * n] = 1;
+        double[][] expBlock = expm(block);
+        
+        // Paths that never visit the emitting state have an on-time of 0;
+        // their probabilities follow from the generator without state 0.
+        double[][] offOnly = new double[n - 1][n - 1];
+        for (int i = 1; i < n; i++) {
+            System.arraycopy(q[i], 1, offOnly[i - 1], 0, n - 1);
+        }
+        double[][] expOffOnly = expm(offOnly);
+        
+        // exp([[Q, r], [0, 0]]) contains the expected number of transitions,
+        // where r is the vector of exit rates.
+        double[][] counting = new double[n + 1][n + 1];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(q[i], 0, counting[i], 0, n);
+            counting[i][n] = exitRate[i];
+        }
+        double[][] expCounting = expm(counting);
+        
+        cumulative = new double[n][2 * n];
+        fixedOnTime = new double[n][n];
+        meanOnTime = new double[n][n];
+        alpha = new double[n][n];
+        beta = new double[n][n];
+        endProbability = new double[n][n];
+        conditionalMean = new double[n][n];
+        conditionalVariance = new double[n][n];
+        expectedTransitions = new double[n];
+        for (int i = 0; i < n; i++) {
+            expectedTransitions[i] = expCounting[i][n];
+            
+            double[] fixed = new double[n];
+            double[] continuous = new double[n];
+            for (int j = 0; j < n; j++) {
+                double p = Math.max(expBlock[i][j], 0);
+                double m1 = expBlock[i][n + j];
+                double m2 = 2 * expBlock[i][2 * n + j];
+                
+                endProbability[i][j] = p;
+                if (p >= EPSILON) {
+                    double mean = Math.min(Math.max(m1 / p, 0), 1);
+                    conditionalMean[i][j] = mean;
+                    conditionalVariance[i][j] = Math.max(m2 / p - mean * mean,
+                                                         0);
+                }
+                
+                if (i == 0 && j == 0) {
+                    // The fluorophore stays on for the whole frame.
+                    fixed[j] = Math.exp(q[0][0]);
+                    fixedOnTime[i][j] = 1;
+                    m1 -= fixed[j];
+                    m2 -= fixed[j];
+                } else if (i != 0 && j != 0) {
+                    fixed[j] = Math.max(expOffOnly[i - 1][j - 1], 0);
+                }
+                continuous[j] = p - fixed[j];
+                if (continuous[j] < EPSILON) {
+                    continuous[j] = 0;
+                    continue;
+                }
+                
+                double mean = Math.min(Math.max(m1 / continuous[j], 0), 1);
+                double variance = m2 / continuous[j] - mean * mean;
+                meanOnTime[i][j] = mean;
+                if (variance > 0 && variance < mean * (1 - mean)) {
+                    double nu = mean * (1 - mean) / variance - 1;
+                    alpha[i][j] = mean * nu;
+                    beta[i][j] = (1 - mean) * nu;
+                }
+            }
+            
+            double total = 0;
+            for (int j = 0; j < n; j++) total += fixed[j] + continuous[j];
+            double sum = 0;
+            for (int j = 0; j < n; j++) {
+                sum += fixed[j];
+                cumulative[i][j] = sum / total;
+            }
+            for (int j = 0; j < n; j++) {
+                sum += continuous[j];
+                cumulative[i][n + j] = sum / total;
+            }
+        }
+    }
+    
+    /**
+     * Returns the expected number of transitions during one frame.
+     * 
+     * @param state The state at the start of the frame.
+     * @return The expected number of transitions.
+     */
+    public double getExpectedTransitions(int state) {
+        return expectedTransitions[state];
+    }
+    
+    /**
+     * Returns the probability of ending a frame in a state.
+     * 
+     * @param from The state at the start of the frame.
+     * @param to The state at the end of the frame.
+     * @return The transition probability over one frame.
+     */
+    public double getEndProbability(int from, int to) {
+        return endProbability[from][to];
+    }
+    
+    /**
+     * Returns the mean on-time of the frames that start and end in the given
+     * states.
+     * 
+     * @param from The state at the start of the frame.
+     * @param to The state at the end of the frame.
+     * @return The mean on-time as a fraction of the frame.
+     */
+    public double getMeanOnTime(int from, int to) {
+        return conditionalMean[from][to];
+    }
+    
+    /**
+     * Returns the variance of the on-time of the frames that start and end
+     * in the given states.
+     * 
+     * @param from The state at the start of the frame.
+     * @param to The state at the end of the frame.
+     * @return The variance of the on-time.
+     */
+    public double getOnTimeVariance(int from, int to) {
+        return conditionalVariance[from][to];
+    }
+    
+    /**
+     * Indicates whether enough transitions are expected during a frame for
+     * the integrator to be both accurate and faster than stepping.
+     * 
+     * @param state The state at the start of the frame.
+     * @return True if the integrator should be used from this state.
+     */
+    public boolean isWorthwhile(int state) {
+        return expectedTransitions[state] >= MIN_TRANSITIONS;
+    }
+    
+    /**
+     * Draws the outcome of a frame.
+     * 
+     * @param state The state at the start of the frame.
+     * @param u A uniform random number in [0, 1).
+     * @return The outcome, to be passed to {@link #getEndState(int)} and
+     *         {@link #sampleOnTime(int, int, Gamma)}.
+     */
+    public int sampleOutcome(int state, double u) {
+        double[] cdf = cumulative[state];
+        for (int k = 0; k < cdf.length - 1; k++) {
+            if (u < cdf[k]) {
+                return k;
+            }
+        }
+        return cdf.length - 1;
+    }
+    
+    /**
+     * Returns the state at the end of the frame for an outcome.
+     * 
+     * @param outcome The outcome of the frame.
+     * @return The state at the end of the frame.
+     */
+    public int getEndState(int outcome) {
+        return outcome % nStates;
+    }
+    
+    /**
+     * Draws the time spent in the emitting state during the frame.
+     * 
+     * @param state The state at the start of the frame.
+     * @param outcome The outcome of the frame.
+     * @param gamma The generator of gamma-distributed random numbers.
+     * @return The on-time as a fraction of the frame.
+     */
+    public double sampleOnTime(int state, int outcome, Gamma gamma) {
+        int end = getEndState(outcome);
+        if (outcome < nStates) {
+            return fixedOnTime[state][end];
+        }
+        
+        double a = alpha[state][end];
+        double b = beta[state][end];
+        if (a <= 0 || b <= 0) {
+            return meanOnTime[state][end];
+        }
+        double x = gamma.nextDouble(a, 1.0);
+        double y = gamma.nextDouble(b, 1.0);
+        if (x + y <= 0) {
+            return meanOnTime[state][end];
+        }
+        return x / (x + y);
+    }
+    
+    /**
+     * Computes the exponential of a square matrix by scaling and squaring.
+     * 
+     * @param a The matrix.
+     * @return The matrix exponential of a.
+     */
+    static double[][] expm(double[][] a) {
+        int n = a.length;
+        double norm = 0;
+        for (int j = 0; j < n; j++) {
+            double column = 0;
+            for (int i = 0; i < n; i++) column += Math.abs(a[i][j]);
+            norm = Math.max(norm, column);
+        }
+        int squarings = 0;
+        if (norm > 0.5) {
+            squarings = (int) Math.ceil(Math.log(norm / 0.5) / Math.log(2));
+        }
+        double scale = Math.pow(2, -squarings);
+        
+        // Taylor series of the scaled matrix, whose norm is at most 0.5.
+        double[][] scaled = new double[n][n];
+        double[][] result = new double[n][n];
+        double[][] term = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) scaled[i][j] = a[i][j] * scale;
+            result[i][i] = 1;
+            term[i][i] = 1;
+        }
+        for (int k = 1; k <= 18; k++) {
+            term = multiply(term, scaled);
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    term[i][j] /= k;
+                    result[i][j] += term[i][j];
+                }
+            }
+        }
+        
+        for (int s = 0; s < squarings; s++) {
+            result = multiply(result, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Multiplies two square matrices.
+     */
+    private static double[][] multiply(double[][] a, double[][] b) {
+        int n = a.length;
+        double[][] c = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < n; k++) {
+                double aik = a[i][k];
+                if (aik == 0) continue;
+                for (int j = 0; j < n; j++) c[i][j] += aik * b[k][j];
+            }
+        }
+        return c;
+    }
+}
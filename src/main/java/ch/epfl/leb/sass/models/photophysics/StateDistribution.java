@@ -0,0 +1,213 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.photophysics;
+
+/**
+ * Distributions of the state of a fluorophore that starts in a given state.
+ * 
+ * They are computed from matrix exponentials of the generator of the state
+ * system for its current transition rates, so fluorophores can be started
+ * in the states they would reach after a long burn-in without simulating
+ * it. The last state of the system is the bleached state.
+ */
+public final class StateDistribution {
+    
+    /**
+     * The tolerance on the quasi-stationary distribution.
+     */
+    private static final double TOLERANCE = 1e-12;
+    
+    /**
+     * The maximum number of doublings of the time of the quasi-stationary
+     * iteration.
+     */
+    private static final int MAX_DOUBLINGS = 100;
+    
+    private StateDistribution() {}
+    
+    /**
+     * Returns the distribution of the state after a given time.
+     * 
+     * @param stateSystem The state system with its current transition rates.
+     * @param startState The state at time 0.
+     * @param time The time, in frames.
+     * @return The probability of each state, including the bleached state.
+     */
+    public static double[] atTime(StateSystem stateSystem, int startState,
+                                  double time) {
+        int n = stateSystem.getNStates();
+        double[][] p = FrameIntegrator.expm(generator(stateSystem, n, time));
+        double[] distribution = p[startState].clone();
+        normalize(distribution);
+        return distribution;
+    }
+    
+    /**
+     * Returns the quasi-stationary distribution of the state.
+     * 
+     * This is the limit of the distribution of the state at long times,
+     * conditioned on the fluorophore not being bleached. Without bleaching,
+     * it is the stationary distribution of the states that can be reached
+     * from the start state.
+     * 
+     * @param stateSystem The state system with its current transition rates.
+     * @param startState The state at time 0.
+     * @return The probability of each state; that of the bleached state is 0.
+     */
+    public static double[] quasiStationary(StateSystem stateSystem,
+                                           int startState) {
+        int n = stateSystem.getNStates();
+        int m = n - 1;
+        double[] distribution = new double[n];
+        if (startState == m) {
+            distribution[m] = 1;
+            return distribution;
+        }
+        
+        // The generator restricted to the unbleached states, over the mean
+        // lifetime of the fastest state.
+        double maxExitRate = 0;
+        for (int i = 0; i < m; i++) {
+            double exitRate = 0;
+            for (int j = 0; j < n; j++) {
+                if (i != j) exitRate += stateSystem.getTransitionRate(i, j);
+            }
+            maxExitRate = Math.max(maxExitRate, exitRate);
+        }
+        if (maxExitRate == 0) {
+            distribution[startState] = 1;
+            return distribution;
+        }
+        double[][] q = generator(stateSystem, n, 1 / maxExitRate);
+        double[][] transientQ = new double[m][m];
+        for (int i = 0; i < m; i++) {
+            System.arraycopy(q[i], 0, transientQ[i], 0, m);
+        }
+        
+        // Propagate the distribution while the propagator is squared, so
+        // that the time doubles at each step, until it no longer changes.
+        double[][] p = FrameIntegrator.expm(transientQ);
+        double[] current = new double[m];
+        current[startState] = 1;
+        for (int k = 0; k < MAX_DOUBLINGS; k++) {
+            double[] next = new double[m];
+            for (int i = 0; i < m; i++) {
+                for (int j = 0; j < m; j++) next[j] += current[i] * p[i][j];
+            }
+            if (!normalize(next)) {
+                break;
+            }
+            double change = 0;
+            for (int j = 0; j < m; j++) {
+                change = Math.max(change, Math.abs(next[j] - current[j]));
+            }
+            current = next;
+            if (change < TOLERANCE) {
+                break;
+            }
+            p = squareAndScale(p);
+        }
+        System.arraycopy(current, 0, distribution, 0, m);
+        return distribution;
+    }
+    
+    /**
+     * Draws a state from a distribution by inverting its cumulative
+     * distribution.
+     * 
+     * @param distribution The probability of each state.
+     * @param u A uniform random number in [0, 1).
+     * @return The state.
+     */
+    public static int sample(double[] distribution, double u) {
+        double cumulative = 0;
+        int last = 0;
+        for (int state = 0; state < distribution.length; state++) {
+            if (distribution[state] > 0) {
+                cumulative += distribution[state];
+                last = state;
+                if (u < cumulative) {
+                    return state;
+                }
+            }
+        }
+        // Rounding errors may leave the sum slightly below 1.
+        return last;
+    }
+    
+    /**
+     * Returns the generator of the state system multiplied by a time.
+     */
+    private static double[][] generator(StateSystem stateSystem, int n,
+                                        double time) {
+        double[][] q = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            double exitRate = 0;
+            for (int j = 0; j < n; j++) {
+                if (i != j) {
+                    q[i][j] = stateSystem.getTransitionRate(i, j) * time;
+                    exitRate += q[i][j];
+                }
+            }
+            q[i][i] = -exitRate;
+        }
+        return q;
+    }
+    
+    /**
+     * Squares a non-negative matrix and scales it so that its largest
+     * element is 1, which prevents underflow at long times.
+     */
+    private static double[][] squareAndScale(double[][] a) {
+        int n = a.length;
+        double[][] c = new double[n][n];
+        double max = 0;
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < n; k++) {
+                for (int j = 0; j < n; j++) c[i][j] += a[i][k] * a[k][j];
+            }
+            for (int j = 0; j < n; j++) max = Math.max(max, c[i][j]);
+        }
+        if (max > 0) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) c[i][j] /= max;
+            }
+        }
+        return c;
+    }
+    
+    /**
+     * Clips rounding errors and scales a distribution to a sum of 1.
+     * 
+     * @return false if the distribution vanished.
+     */
+    private static boolean normalize(double[] distribution) {
+        double sum = 0;
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] = Math.max(distribution[i], 0);
+            sum += distribution[i];
+        }
+        if (!(sum > 0)) {
+            return false;
+        }
+        for (int i = 0; i < distribution.length; i++) {
+            distribution[i] /= sum;
+        }
+        return true;
+    }
+}
@@ -20,6 +20,7 @@
 package ch.epfl.leb.sass.models.photophysics;
 
 import java.io.Serializable;
+import java.util.HashMap;
 
 /**
  * Class which describes a Markovian fluorophore state model. This class
@@ -50,6 +51,22 @@ public class StateSystem  implements Serializable {
      */
     private final double[][] Mt;
     
+    /**
+     * Whether fluorophores may integrate whole frames analytically.
+     */
+    private boolean frameIntegration = false;
+    
+    /**
+     * Frame statistics for the current transition rates, computed on demand.
+     */
+    private transient FrameIntegrator frameIntegrator;
+    
+    /**
+     * Mean transition lifetimes for other illumination intensities, computed
+     * on demand.
+     */
+    private transient HashMap<Double, double[][]> lifetimeTables;
+    
     /**
      * Initialize the state system.
      * @param N_states number of states
@@ -112,26 +129,64 @@ public class StateSystem  implements Serializable {
             return;
         }
         current_laser_power = laser_power;
-        
+        frameIntegrator = null;
+        computeLifetimes(laser_power, Mk, Mt);
+    }
+    
+    /**
+     * Returns the mean transition lifetimes for an illumination intensity
+     * without changing the current ones.
+     * 
+     * The tables are cached, so fluorophores that follow a laser power
+     * schedule share one table for each power level.
+     * 
+     * @param laser_power illumination intensity I
+     * @return double[][] of the mean lifetimes of the transitions from the
+     *         i-th to the j-th state
+     */
+    public synchronized double[][] getMeanTransitionLifetimes(double laser_power) {
+        if (lifetimeTables == null) {
+            lifetimeTables = new HashMap<>();
+        }
+        double[][] lifetimes = lifetimeTables.get(laser_power);
+        if (lifetimes == null) {
+            lifetimes = new double[N_states][N_states];
+            computeLifetimes(laser_power, new double[N_states][N_states],
+                             lifetimes);
+            lifetimeTables.put(laser_power, lifetimes);
+        }
+        return lifetimes;
+    }
+    
+    /**
+     * Computes the transition rates and lifetimes for an illumination
+     * intensity from the scaling matrix.
+     * 
+     * @param laser_power illumination intensity I
+     * @param rates the transition rates to fill
+     * @param lifetimes the mean transition lifetimes to fill
+     */
+    private void computeLifetimes(double laser_power, double[][] rates,
+                                  double[][] lifetimes) {
         // iterate over every state transition
         for (int row=0; row<N_states; row++) {
             for (int col=0; col<N_states; col++) {
                 // ignore diagonal elements
                 if (row==col) {
-                    Mk[row][col] = 0.0;
+                    rates[row][col] = 0.0;
                     continue;
                 }
                 
                 // add constant term which is guaranteed to exist
-                Mk[row][col] = M_scaling[row][col][0];
+                rates[row][col] = M_scaling[row][col][0];
                 
                 // iterate over linear, quadratic, ... terms and add them till they exist
                 for (int i=1; i<M_scaling[row][col].length; i++) {
-                    Mk[row][col] += M_scaling[row][col][i] * Math.pow(current_laser_power,i);
+                    rates[row][col] += M_scaling[row][col][i] * Math.pow(laser_power,i);
                 }
                 
                 // if result is less than zero, throw exception
-                if (Mk[row][col] < 0.0) {
+                if (rates[row][col] < 0.0) {
                     throw new IllegalArgumentException("Calculation resulted in negative transition rate. Row: " + row + " Col: " + col);
                 }
             }
@@ -139,15 +194,53 @@ public class StateSystem  implements Serializable {
         // transform rates into lifetimes
         for (int row=0; row<N_states; row++) {
             for (int col=0; col<N_states; col++) {
-                if (Mk[row][col] == 0.0) {
-                    Mt[row][col] = Double.POSITIVE_INFINITY;
+                if (rates[row][col] == 0.0) {
+                    lifetimes[row][col] = Double.POSITIVE_INFINITY;
                 } else {
-                   Mt[row][col] = 1.0 / Mk[row][col];
+                   lifetimes[row][col] = 1.0 / rates[row][col];
                 }
             }
         }
     }
     
+    /**
+     * Enables or disables the analytic integration of whole frames.
+     * 
+     * When enabled, fluorophores that are expected to undergo many
+     * transitions during a frame sample their on-time and final state from
+     * the FrameIntegrator instead of simulating every transition. Their
+     * individual transitions are then not reported, so fluorophores with
+     * listeners always simulate every transition.
+     * 
+     * @param enabled True to enable the frame integration.
+     */
+    public void setFrameIntegration(boolean enabled) {
+        this.frameIntegration = enabled;
+    }
+    
+    /**
+     * 
+     * @return true if the analytic integration of whole frames is enabled
+     */
+    public boolean isFrameIntegrationEnabled() {
+        return this.frameIntegration;
+    }
+    
+    /**
+     * Returns the frame statistics for the current transition rates.
+     * 
+     * They are computed the first time this method is called after the
+     * rates change.
+     * 
+     * @return the frame integrator for the current laser power
+     */
+    public FrameIntegrator getFrameIntegrator() {
+        if (frameIntegrator == null) {
+            frameIntegrator = new FrameIntegrator(this);
+        }
+        return frameIntegrator;
+    }
+    
     /**
      * 
      * @param from index of initial state
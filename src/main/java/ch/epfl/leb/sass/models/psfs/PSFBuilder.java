@@ -38,6 +38,26 @@ public interface PSFBuilder {
      */
     public PSF build();
     
+    /**
+     * Builds the PSF of an emitter at a given position.
+     * 
+     * Unlike setting the position and calling {@link #build()}, this does not
+     * change the builder, so PSFs may be built concurrently from several
+     * threads as long as the builder is not modified meanwhile. The default
+     * implementation sets the position while the builder is locked; the
+     * built-in builders override it to read the position from the arguments.
+     * 
+     * @param eX The emitter's x-position. [pixels]
+     * @param eY The emitter's y-position. [pixels]
+     * @param eZ The emitter's z-position. [pixels]
+     * @return The PSF model.
+     */
+    public default PSF build(double eX, double eY, double eZ) {
+        synchronized (this) {
+            return eX(eX).eY(eY).eZ(eZ).build();
+        }
+    }
+    
     /**
      * Sets the emitter's x-position.
      * 
@@ -74,6 +94,20 @@ public interface PSFBuilder {
      */
     public PSFBuilder stageDisplacement(double stageDisplacement);
     
+    /**
+     * Returns the stage displacement that the PSFs are computed for.
+     * 
+     * Two stage displacements that are rounded to the same value give the
+     * same PSFs, so emitters need not recompute their images when the stage
+     * moves between them. By default the displacement is used as it is.
+     * 
+     * @param stageDisplacement The displacement of the stage.
+     * @return The displacement that the PSFs use.
+     */
+    public default double roundStageDisplacement(double stageDisplacement) {
+        return stageDisplacement;
+    }
+    
     /**
      * Wavelength of the light.
      */
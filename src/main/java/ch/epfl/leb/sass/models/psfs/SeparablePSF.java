@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.psfs;
+
+/**
+ * A PSF whose signature on a pixel is the product of a signature in x and a
+ * signature in y.
+ * 
+ * The signature of such a PSF on a rectangle of pixels is described by one
+ * vector per axis, which are computed with a number of evaluations that is
+ * proportional to the width of the rectangle rather than to its area.
+ */
+public interface SeparablePSF extends PSF {
+    
+    /**
+     * Computes the factor in x of the signature of consecutive columns.
+     * 
+     * The signature of the pixel (x, y) is the product of the factors of
+     * column x and row y.
+     * 
+     * @param firstX The x-position of the first column.
+     * @param signatures Receives the factors of the columns.
+     */
+    public void generateSignatureX(int firstX, double[] signatures);
+    
+    /**
+     * Computes the factor in y of the signature of consecutive rows.
+     * 
+     * @param firstY The y-position of the first row.
+     * @param signatures Receives the factors of the rows.
+     * @see #generateSignatureX(int, double[])
+     */
+    public void generateSignatureY(int firstY, double[] signatures);
+}
@@ -24,6 +24,7 @@ import org.apache.commons.math.special.Erf;
 import ch.epfl.leb.sass.models.emitters.internal.Pixel;
 import ch.epfl.leb.sass.models.psfs.PSF;
 import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+import ch.epfl.leb.sass.models.psfs.SeparablePSF;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -32,7 +33,7 @@ import java.util.logging.Logger;
  * 
  * @author Kyle M. Douglass
  */
-public final class Gaussian2D implements PSF {
+public final class Gaussian2D implements SeparablePSF {
     /**
      * The FWHM of the in-focus Gaussian PSF. [pixels]
      */
@@ -53,6 +54,11 @@ public final class Gaussian2D implements PSF {
      */
     private double eZ = 0;
     
+    /**
+     * The fraction of the PSF energy contained within the radius.
+     */
+    private double energyFraction = EnclosedEnergy.GAUSSIAN_2D_FRACTION;
+    
     /**
      * The builder for constructing Gaussian2D instances.
      */
@@ -63,9 +69,21 @@ public final class Gaussian2D implements PSF {
         private double eX;
         private double eY;
         private double eZ;
+        private double energyFraction = EnclosedEnergy.GAUSSIAN_2D_FRACTION;
         
         public Builder FWHM(double fwhm) {this.FWHM = fwhm; return this;}
         
+        /**
+         * Sets the fraction of the PSF energy contained within its radius.
+         * 
+         * @param energyFraction A number between 0 and 1, exclusive.
+         * @return This builder.
+         */
+        public Builder energyFraction(double energyFraction) {
+            this.energyFraction = EnclosedEnergy.checkFraction(energyFraction);
+            return this;
+        }
+        
         @Override
         public Builder eX(double eX) {this.eX = eX; return this;}
         
@@ -81,6 +99,12 @@ public final class Gaussian2D implements PSF {
             return this;
         }
         
+        @Override
+        public double roundStageDisplacement(double stageDisplacement) {
+            // This PSF does not depend on the stage displacement.
+            return 0;
+        }
+        
         @Override
         public Builder NA(double NA) {
             // This PSF does not depend on the objective NA.
@@ -100,7 +124,12 @@ public final class Gaussian2D implements PSF {
         
         @Override
         public Gaussian2D build() {
-            return new Gaussian2D(this);
+            return new Gaussian2D(this, eX, eY, eZ);
+        }
+        
+        @Override
+        public Gaussian2D build(double eX, double eY, double eZ) {
+            return new Gaussian2D(this, eX, eY, eZ);
         }
     }
     
@@ -110,12 +139,16 @@ public final class Gaussian2D implements PSF {
      * Creation of the instance is possible only through the Builder.
      * 
      * @param builder A Gaussian2D.Builder for constructing the PSF.
+     * @param eX The emitter's x-position.
+     * @param eY The emitter's y-position.
+     * @param eZ The emitter's z-position.
      */
-    private Gaussian2D(Builder builder) {
+    private Gaussian2D(Builder builder, double eX, double eY, double eZ) {
         this.FWHM = builder.FWHM;
-        this.eX = builder.eX;
-        this.eY = builder.eY;
-        this.eZ = builder.eZ;
+        this.eX = eX;
+        this.eY = eY;
+        this.eZ = eZ;
+        this.energyFraction = builder.energyFraction;
     }
     
     /**
@@ -157,20 +190,67 @@ public final class Gaussian2D implements PSF {
         }
     }
     
+    /**
+     * Computes the factor in x of the signature of consecutive columns.
+     * 
+     * The factor of a column is the integral of the Gaussian over its width,
+     * so the product of the factors of a column and a row is the same as
+     * {@link #generatePixelSignature(int, int)}.
+     * 
+     * @param firstX The x-position of the first column.
+     * @param signatures Receives the factors of the columns.
+     */
+    @Override
+    public void generateSignatureX(int firstX, double[] signatures) {
+        integrate(this.eX, firstX, signatures);
+    }
+    
+    /**
+     * Computes the factor in y of the signature of consecutive rows.
+     * 
+     * @param firstY The y-position of the first row.
+     * @param signatures Receives the factors of the rows.
+     */
+    @Override
+    public void generateSignatureY(int firstY, double[] signatures) {
+        integrate(this.eY, firstY, signatures);
+    }
+    
+    /**
+     * Integrates the Gaussian over consecutive pixels along one axis.
+     * 
+     * @param center The position of the emitter along the axis.
+     * @param first The position of the first pixel.
+     * @param integrals Receives the integrals.
+     */
+    private void integrate(double center, int first, double[] integrals) {
+        final double sigma = this.FWHM / 2.3548;
+        final double denom = sqrt(2.0)*sigma;
+        for (int i = 0; i < integrals.length; i++) {
+            int pixel = first + i;
+            try {
+                integrals[i] = 0.5 * (Erf.erf((pixel - center + 0.5)/denom) -
+                                      Erf.erf((pixel - center - 0.5)/denom));
+            } catch (MathException ex) {
+                integrals[i] = 0.0;
+                Logger.getLogger(
+                        Gaussian2D.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+    }
+    
     /**
      * Computes the half-width of the PSF for determining which pixels contribute to the emitter signal.
      * 
-     * For a 2D Gaussian, the effective width used here is three times the
-     * standard deviation.
+     * The radius encloses the fraction of the PSF energy that was set on the
+     * builder, which is 99% by default, or about three standard deviations.
      * 
      * @return The width of the PSF.
      */
     @Override
     public double getRadius() {
         final double sigma = this.FWHM / 2.3548;
-        // radius cutoff
-        final double r = 3 * sigma;
-        return r;
+        return EnclosedEnergy.gaussianRadius(sigma, this.energyFraction);
     }
     
     public double getFWHM() {
@@ -20,6 +20,7 @@ package ch.epfl.leb.sass.models.psfs.internal;
 import ch.epfl.leb.sass.models.emitters.internal.Pixel;
 import ch.epfl.leb.sass.models.psfs.PSF;
 import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+import ch.epfl.leb.sass.models.psfs.SeparablePSF;
 import static java.lang.Math.sqrt;
 import java.util.ArrayList;
 import java.util.logging.Level;
@@ -36,7 +37,7 @@ import org.apache.commons.math.special.Erf;
  * 
  * @author Kyle M. Douglass
  */
-public final class Gaussian3D implements PSF {
+public final class Gaussian3D implements SeparablePSF {
     
     /**
      * The FWHM of the in-focus Gaussian PSF. [pixels]
@@ -70,6 +71,11 @@ public final class Gaussian3D implements PSF {
      */
     private double stageDisplacement = 0;
     
+    /**
+     * The fraction of the PSF energy contained within the radius.
+     */
+    private double energyFraction = EnclosedEnergy.DEFAULT_FRACTION;
+    
     /**
      * The builder for constructing Gaussian2D instances.
      */
@@ -82,10 +88,22 @@ public final class Gaussian3D implements PSF {
         private double eX;
         private double eY;
         private double eZ;
+        private double energyFraction = EnclosedEnergy.DEFAULT_FRACTION;
         
         public Builder FWHM(double fwhm) {this.FWHM = fwhm; return this;}
         public Builder NA(double NA) {this.numericalAperture = NA; return this;}
         
+        /**
+         * Sets the fraction of the PSF energy contained within its radius.
+         * 
+         * @param energyFraction A number between 0 and 1, exclusive.
+         * @return This builder.
+         */
+        public Builder energyFraction(double energyFraction) {
+            this.energyFraction = EnclosedEnergy.checkFraction(energyFraction);
+            return this;
+        }
+        
         @Override
         public Builder eX(double eX) {this.eX = eX; return this;}
         
@@ -115,7 +133,12 @@ public final class Gaussian3D implements PSF {
         
         @Override
         public Gaussian3D build() {
-            return new Gaussian3D(this);
+            return new Gaussian3D(this, eX, eY, eZ);
+        }
+        
+        @Override
+        public Gaussian3D build(double eX, double eY, double eZ) {
+            return new Gaussian3D(this, eX, eY, eZ);
         }
     }
     
@@ -125,14 +148,18 @@ public final class Gaussian3D implements PSF {
      * Creation of the instance is possible only through the Builder.
      * 
      * @param builder A Gaussian3D.Builder for constructing the PSF.
+     * @param eX The emitter's x-position.
+     * @param eY The emitter's y-position.
+     * @param eZ The emitter's z-position.
      */
-    private Gaussian3D(Builder builder) {
+    private Gaussian3D(Builder builder, double eX, double eY, double eZ) {
         this.FWHM = builder.FWHM;
         this.numericalAperture = builder.numericalAperture;
         this.stageDisplacement = builder.stageDisplacement;
-        this.eX = builder.eX;
-        this.eY = builder.eY;
-        this.eZ = builder.eZ;
+        this.eX = eX;
+        this.eY = eY;
+        this.eZ = eZ;
+        this.energyFraction = builder.energyFraction;
     }
     
     /**
@@ -145,14 +172,7 @@ public final class Gaussian3D implements PSF {
     @Override
     public double generatePixelSignature(int pixelX, int pixelY)
             throws MathException {
-        final double sigma_0 = this.FWHM / 2.3548;
-        final double zR = 2 * sigma_0 / this.numericalAperture; // Rayleigh range
-        
-        // Add the offset from the stage's position to the emitter's z-values
-        double z;
-        z = this.eZ + this.stageDisplacement;
-        
-        double sigma = sigma_0 * sqrt(1 + (z/ zR) * (z / zR));
+        double sigma = getSigma();
         double denom = sqrt(2.0)*sigma;
         return 0.25 *(Erf.erf((pixelX - this.eX + 0.5)/denom) - 
                       Erf.erf((pixelX - this.eX - 0.5)/denom)) *
@@ -179,21 +199,83 @@ public final class Gaussian3D implements PSF {
         }
     }
     
+    /**
+     * Computes the factor in x of the signature of consecutive columns.
+     * 
+     * The factor of a column is the integral of the Gaussian over its width,
+     * so the product of the factors of a column and a row is the same as
+     * {@link #generatePixelSignature(int, int)}.
+     * 
+     * @param firstX The x-position of the first column.
+     * @param signatures Receives the factors of the columns.
+     */
+    @Override
+    public void generateSignatureX(int firstX, double[] signatures) {
+        integrate(this.eX, firstX, signatures);
+    }
+    
+    /**
+     * Computes the factor in y of the signature of consecutive rows.
+     * 
+     * @param firstY The y-position of the first row.
+     * @param signatures Receives the factors of the rows.
+     */
+    @Override
+    public void generateSignatureY(int firstY, double[] signatures) {
+        integrate(this.eY, firstY, signatures);
+    }
+    
+    /**
+     * Integrates the Gaussian over consecutive pixels along one axis.
+     * 
+     * @param center The position of the emitter along the axis.
+     * @param first The position of the first pixel.
+     * @param integrals Receives the integrals.
+     */
+    private void integrate(double center, int first, double[] integrals) {
+        final double sigma = getSigma();
+        final double denom = sqrt(2.0)*sigma;
+        for (int i = 0; i < integrals.length; i++) {
+            int pixel = first + i;
+            try {
+                integrals[i] = 0.5 * (Erf.erf((pixel - center + 0.5)/denom) -
+                                      Erf.erf((pixel - center - 0.5)/denom));
+            } catch (MathException ex) {
+                integrals[i] = 0.0;
+                Logger.getLogger(
+                        Gaussian3D.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+    }
+    
     /**
      * Computes the half-width of the PSF for determining which pixels contribute to the emitter signal.
      * 
-     * The effective width used here is five times the standard deviation when
-     * the emitter is exactly in focus. The larger factor of five accounts for
-     * the larger lateral PSF size when it is out of focus.
+     * The radius encloses the fraction of the PSF energy that was set on the
+     * builder, which is 99.99% by default. It grows with the standard deviation
+     * as the emitter moves out of focus.
      * 
      * @return The width of the PSF.
      */
     @Override
     public double getRadius() {
-        final double sigma = this.FWHM / 2.3548;
-        // radius cutoff
-        final double r = 5 * sigma;
-        return r;
+        return EnclosedEnergy.gaussianRadius(getSigma(), this.energyFraction);
+    }
+    
+    /**
+     * Computes the standard deviation of the PSF at the emitter's defocus.
+     * 
+     * @return The standard deviation of the Gaussian. [pixels]
+     */
+    private double getSigma() {
+        final double sigma_0 = this.FWHM / 2.3548;
+        final double zR = 2 * sigma_0 / this.numericalAperture; // Rayleigh range
+        
+        // Add the offset from the stage's position to the emitter's z-values
+        double z;
+        z = this.eZ + this.stageDisplacement;
+        
+        return sigma_0 * sqrt(1 + (z/ zR) * (z / zR));
     }
     
     public double getFWHM() {
@@ -20,21 +20,24 @@ package ch.epfl.leb.sass.models.psfs.internal;
 import ch.epfl.leb.sass.models.emitters.internal.Pixel;
 import ch.epfl.leb.sass.models.psfs.PSF;
 import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+import ch.epfl.leb.sass.utils.jfr.FlightRecorderEvents;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.DecompositionSolver;
 import org.apache.commons.math3.linear.QRDecomposition;
 import org.apache.commons.math3.linear.RealMatrix;
 import org.apache.commons.math3.linear.SingularValueDecomposition;
 import org.apache.commons.math3.special.BesselJ;
-import org.apache.commons.math3.analysis.interpolation.PiecewiseBicubicSplineInterpolatingFunction;
 
 import java.lang.Math;
 import ij.ImageStack;
 import ij.process.FloatProcessor;
 import java.util.ArrayList;
-import java.util.logging.Level;
-import java.util.logging.Logger;
-import java.util.HashMap;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Computes an emitter PSF based on the Gibson-Lanni model.
@@ -167,11 +170,18 @@ public final class GibsonLanniPSF implements PSF {
      */
     private double maxRadius = 30;
     
+    /**
+     * The fraction of the PSF energy contained within the radius.
+     */
+    private double energyFraction = EnclosedEnergy.DEFAULT_FRACTION;
+    
     /**
      * The displacement of the stage away from the surface of the coverslip.
      * 
      * Negative numbers correspond to moving the stage downwards, which, for an
      * inverted microscope, moves the focal plane upwards through the sample.
+     * The displacement is rounded to the spacing of the axial planes, so that
+     * nearby stage positions share their planes.
      */
     private double stageDisplacement = 0;
     
@@ -191,18 +201,319 @@ public final class GibsonLanniPSF implements PSF {
     private String solverName = "qrd";
     
     /**
-     * Reference to the interpolator for this emitter's current position.
+     * The PSF computed for this emitter's current axial plane.
      */
-    private PiecewiseBicubicSplineInterpolatingFunction interpCDF ;
+    private Plane plane;
     
     /**
      * Cache for PSF  interpolators.
      * 
-     * This is cleared every time a new Builder is created to prevent problems
-     * when parameters change between simulations.
+     * The planes are keyed by the optical parameters of the model, the
+     * camera pixel size and the axial plane, so PSFs that were computed once
+     * may safely be shared by all simulations in the same JVM, including
+     * simulations that are run concurrently. Values are softly referenced so
+     * that the cache is trimmed by the garbage collector when memory becomes
+     * scarce; the entries of cleared values are removed by
+     * {@link #expungeCleared()}.
+     */
+    private static final ConcurrentHashMap<ModelKey, CachedValue<Plane>>
+                        interpolators = new ConcurrentHashMap<>();
+    
+    /**
+     * Cache for the Bessel bases of the pupil.
+     * 
+     * A basis depends only on the optics and on the sampling of the pupil
+     * and of the PSF, so it is shared by all the axial planes and stage
+     * displacements of a model.
+     */
+    private static final ConcurrentHashMap<ModelKey, CachedValue<Basis>>
+                        bases = new ConcurrentHashMap<>();
+    
+    /**
+     * Receives the cached values that were cleared by the garbage collector.
+     */
+    private static final ReferenceQueue<Object> cleared =
+            new ReferenceQueue<>();
+    
+    /**
+     * A softly referenced value of one of the caches.
+     * 
+     * @param <T> The type of the value.
+     */
+    private static final class CachedValue<T> extends SoftReference<T> {
+        
+        /**
+         * The key of the value.
+         */
+        private final ModelKey key;
+        
+        /**
+         * The cache that holds the value.
+         */
+        private final ConcurrentHashMap<ModelKey, CachedValue<T>> cache;
+        
+        private CachedValue(T value, ModelKey key,
+                            ConcurrentHashMap<ModelKey, CachedValue<T>> cache) {
+            super(value, cleared);
+            this.key = key;
+            this.cache = cache;
+        }
+        
+        /**
+         * Looks up a value in a cache.
+         * 
+         * @param cache The cache.
+         * @param key The key of the value.
+         * @return The value, or null if it is not cached.
+         */
+        private static <T> T get(
+                ConcurrentHashMap<ModelKey, CachedValue<T>> cache,
+                ModelKey key) {
+            CachedValue<T> ref = cache.get(key);
+            return ref == null ? null : ref.get();
+        }
+        
+        /**
+         * Stores a value in a cache.
+         * 
+         * @param cache The cache.
+         * @param key The key of the value.
+         * @param value The value.
+         */
+        private static <T> void put(
+                ConcurrentHashMap<ModelKey, CachedValue<T>> cache,
+                ModelKey key, T value) {
+            expungeCleared();
+            cache.put(key, new CachedValue<>(value, key, cache));
+        }
+    }
+    
+    /**
+     * Removes the entries whose values were cleared by the garbage collector
+     * from the caches.
+     */
+    private static void expungeCleared() {
+        Reference<?> ref;
+        while ((ref = cleared.poll()) != null) {
+            CachedValue<?> value = (CachedValue<?>) ref;
+            value.cache.remove(value.key, value);
+        }
+    }
+    
+    /**
+     * The PSF of one axial plane.
+     */
+    private static final class Plane {
+        
+        /**
+         * The integral of the PSF over the camera pixels.
+         */
+        private final PixelIntegralTable table;
+        
+        /**
+         * The normalized energy within circles of increasing radius.
+         */
+        private final double[] encircled;
+        
+        /**
+         * The spacing between the radii of the encircled energy [microns].
+         */
+        private final double dr;
+        
+        private Plane(PixelIntegralTable table, double[] encircled,
+                      double dr) {
+            this.table = table;
+            this.encircled = encircled;
+            this.dr = dr;
+        }
+    }
+    
+    /**
+     * The Bessel basis of the pupil function and its decomposition.
+     * 
+     * The pupil phase of each axial plane is approximated by a series of
+     * rescaled Bessel functions by least squares. The basis, its
+     * decomposition and the Hankel transforms of its functions on the radial
+     * PSF grid depend only on the optics, so each new plane only solves for
+     * the series coefficients and sums the transforms.
+     */
+    private static final class Basis {
+        
+        /**
+         * Solves for the coefficients of the series.
+         */
+        private final DecompositionSolver solver;
+        
+        /**
+         * The transform of each basis function at each radius of the PSF.
+         */
+        private final double[][] RM;
+        
+        /**
+         * Computes the basis of a Gibson-Lanni model.
+         * 
+         * @param psf The model.
+         * @param numRadii The number of radii of the radial PSF.
+         */
+        private Basis(GibsonLanniPSF psf, int numRadii) {
+            int numBasis = psf.numBasis;
+            int numSamples = psf.numSamples;
+            double b = Math.min(1.0D, psf.ns / psf.NA);
+            double k0 = 2 * Math.PI / psf.wavelength;
+            double factor1 = psf.MINWAVELENGTH / psf.wavelength;
+            double factor = factor1 * psf.NA / 1.4;
+            double deltaRho = b / (numSamples - 1);
+            
+            // basis construction
+            double rho = 0.0D;
+            double am = 0.0;
+            double[][] Basis = new double[numSamples][numBasis];
+            
+            BesselJ bj0 = new BesselJ(0);
+            BesselJ bj1 = new BesselJ(1);
+            
+            for (int m = 0; m < numBasis; m++) {
+                am = (3 * m + 1) * factor;
+                for (int rhoi = 0; rhoi < numSamples; rhoi++) {
+                    rho = rhoi * deltaRho;
+                    Basis[rhoi][m] = bj0.value(am * rho);
+                }
+            }
+            
+            RealMatrix coefficients = new Array2DRowRealMatrix(Basis, false);
+            if (psf.solverName.equals("svd")) {
+                // slower but more accurate
+                solver = new SingularValueDecomposition(coefficients)
+                        .getSolver();
+            } else {
+                // faster, less accurate
+                solver = new QRDecomposition(coefficients).getSolver();
+            }
+            
+            RM = new double[numBasis][numRadii];
+            double beta = 0.0D;
+            double rm = 0.0D;
+            for (int n = 0; n < numRadii; n++) {
+                double r = n * 1.0 / psf.oversampling;
+                beta = k0 * psf.NA * r * psf.resPSF;
+                
+                for (int m = 0; m < numBasis; m++) {
+                    am = (3 * m + 1) * factor;
+                    rm = am * bj1.value(am * b) * bj0.value(beta * b) * b;
+                    rm = rm - beta * b * bj0.value(am * b) * bj1.value(beta * b);
+                    RM[m][n] = rm / (am * am - beta * beta);
+                }
+            }
+        }
+        
+        /**
+         * Computes the radial PSF for several pupil functions at once.
+         * 
+         * @param pupils The real and imaginary parts of each pupil function at
+         *               every sample of the pupil; column 2k is the real part
+         *               and column 2k + 1 the imaginary part of pupil k.
+         * @return The intensity of each PSF at every radius.
+         */
+        private double[][] radialProfiles(double[][] pupils) {
+            RealMatrix rhs = new Array2DRowRealMatrix(pupils, false);
+            double[][] Coef = solver.solve(rhs).getData();
+            
+            int numPupils = pupils[0].length / 2;
+            int numRadii = RM[0].length;
+            double[][] h = new double[numPupils][numRadii];
+            for (int k = 0; k < numPupils; k++) {
+                for (int n = 0; n < numRadii; n++) {
+                    double realh = 0.0D;
+                    double imgh = 0.0D;
+                    for (int m = 0; m < RM.length; m++) {
+                        realh = realh + RM[m][n] * Coef[m][2 * k];
+                        imgh = imgh + RM[m][n] * Coef[m][2 * k + 1];
+                    }
+                    h[k][n] = realh * realh + imgh * imgh;
+                }
+            }
+            return h;
+        }
+    }
+    
+    /**
+     * Identifies a precomputed part of one particular Gibson-Lanni model,
+     * such as one of its axial planes.
+     */
+    private static final class ModelKey {
+        private final double[] params;
+        private final String solver;
+        private final long zPlane;
+        
+        /**
+         * Identifies an axial plane of a model.
+         * 
+         * @param psf The model.
+         * @param zPlane The index of the axial plane.
+         */
+        private ModelKey(GibsonLanniPSF psf, long zPlane) {
+            this(new double[] {
+                psf.numBasis, psf.numSamples, psf.oversampling, psf.sizeX,
+                psf.sizeY, psf.NA, psf.wavelength, psf.ns, psf.ng0, psf.ng,
+                psf.ni0, psf.ni, psf.ti0, psf.tg0, psf.tg, psf.resPSF,
+                psf.resPSFAxial, psf.stageDisplacement, psf.resLateral},
+                psf.solverName, zPlane);
+        }
+        
+        private ModelKey(double[] params, String solver, long zPlane) {
+            this.params = params;
+            this.solver = solver;
+            this.zPlane = zPlane;
+        }
+        
+        /**
+         * Identifies the basis of a model.
+         * 
+         * @param psf The model.
+         * @return The key of the basis.
+         */
+        private static ModelKey basis(GibsonLanniPSF psf) {
+            return new ModelKey(new double[] {
+                psf.numBasis, psf.numSamples, psf.oversampling, psf.sizeX,
+                psf.sizeY, psf.NA, psf.wavelength, psf.ns, psf.resPSF},
+                psf.solverName, 0);
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ModelKey)) {
+                return false;
+            }
+            ModelKey other = (ModelKey) o;
+            return zPlane == other.zPlane
+                && Arrays.equals(params, other.params)
+                && Objects.equals(solver, other.solver);
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Arrays.hashCode(params) + Objects.hashCode(solver))
+                   + Long.hashCode(zPlane);
+        }
+    }
+    
+    /**
+     * Removes all precomputed PSFs from the cache.
+     */
+    public static void clearCache() {
+        interpolators.clear();
+        bases.clear();
+    }
+    
+    /**
+     * Removes the precomputed planes from the cache but keeps the bases.
+     * 
+     * This method is package-private so that the computation of a plane may
+     * be benchmarked without that of its basis.
      */
-    private static HashMap<Long, PiecewiseBicubicSplineInterpolatingFunction>
-                        interpolators = new HashMap<>();
+    static void clearPlanes() {
+        interpolators.clear();
+    }
     
     public static class Builder implements PSFBuilder {
         
@@ -229,16 +540,10 @@ public final class GibsonLanniPSF implements PSF {
         private double eY;
         private double eZ;
         private double maxRadius;
+        private double energyFraction = EnclosedEnergy.DEFAULT_FRACTION;
         private double stageDisplacement;
         private String solver;
         
-        public Builder() {
-        // Clear the cache every time a new Builder is created.
-        // This prevents erroneous calculations in new simulations with
-        // with different values for the stage displacement.
-        interpolators = new HashMap<>();
-        }
-        
         public Builder numBasis(int numBasis) {
             this.numBasis = numBasis;
             return this;
@@ -280,9 +585,32 @@ public final class GibsonLanniPSF implements PSF {
             this.maxRadius = maxRadius;
             return this;
         }
+        
+        /**
+         * Sets the fraction of the PSF energy contained within its radius.
+         * 
+         * @param energyFraction A number between 0 and 1, exclusive.
+         * @return This builder.
+         */
+        public Builder energyFraction(double energyFraction) {
+            this.energyFraction = EnclosedEnergy.checkFraction(energyFraction);
+            return this;
+        }
         public Builder stageDisplacement(double stageDisplacement) {
             this.stageDisplacement = stageDisplacement; return this;
         }
+        
+        /**
+         * Rounds the stage displacement to the nearest axial plane.
+         * 
+         * @param stageDisplacement The displacement of the stage.
+         * @return The displacement of the nearest axial plane.
+         */
+        @Override
+        public double roundStageDisplacement(double stageDisplacement) {
+            return Math.round(stageDisplacement / this.resPSFAxial)
+                   * this.resPSFAxial;
+        }
         public Builder solver(String solver) {
             if (solver.equals("svd") | solver.equals("qrd")) {
                 this.solver = solver;
@@ -309,15 +637,23 @@ public final class GibsonLanniPSF implements PSF {
         
         @Override
         public GibsonLanniPSF build() {
-            return new GibsonLanniPSF(this);
+            return new GibsonLanniPSF(this, eX, eY, eZ);
+        }
+        
+        @Override
+        public GibsonLanniPSF build(double eX, double eY, double eZ) {
+            return new GibsonLanniPSF(this, eX, eY, eZ);
         }
     }
     
     /**
      * Private GibsonLanniPSF constructor forces creation through the Builder.
      * @param builder A Builder instance for constructing a Gibson-Lanni PSF.
+     * @param eX The emitter's x-position.
+     * @param eY The emitter's y-position.
+     * @param eZ The emitter's z-position.
      */
-    private GibsonLanniPSF(Builder builder) {
+    private GibsonLanniPSF(Builder builder, double eX, double eY, double eZ) {
         this.numBasis = builder.numBasis;
         this.numSamples = builder.numSamples;
         this.oversampling = builder.oversampling;
@@ -336,19 +672,18 @@ public final class GibsonLanniPSF implements PSF {
         this.resLateral = builder.resLateral;
         this.resPSF = builder.resPSF;
         this.resPSFAxial = builder.resPSFAxial;
-        this.eX = builder.eX;
-        this.eY = builder.eY;
-        this.eZ = builder.eZ;
+        this.eX = eX;
+        this.eY = eY;
+        this.eZ = eZ;
         this.maxRadius = builder.maxRadius;
-        this.stageDisplacement = builder.stageDisplacement;
+        this.energyFraction = builder.energyFraction;
+        this.stageDisplacement = builder.roundStageDisplacement(
+                builder.stageDisplacement);
         this.solverName = builder.solver;
         
-        // Compute the signature for this PSF.
+        // Compute the signature for this PSF and set the interpolator for this
+        // emitter's z-plane.
         this.computeDigitalPSF(this.stageDisplacement);
-        
-        // Set the interpolator for this emitter's z-plane.
-        Long zPlane = getNearestZPlane(eZ);
-        this.interpCDF = interpolators.get(zPlane);
     }
     
     /**
@@ -360,15 +695,7 @@ public final class GibsonLanniPSF implements PSF {
      */
     @Override
     public double generatePixelSignature(int pixelX, int pixelY) {
-        double scalingFactor = this.resLateral;
-        return this.interpCDF.value((pixelX - this.eX + 0.5) * scalingFactor,
-                                    (pixelY - this.eY + 0.5) * scalingFactor) +
-               this.interpCDF.value((pixelX - this.eX - 0.5) * scalingFactor,
-                                    (pixelY - this.eY - 0.5) * scalingFactor) -
-               this.interpCDF.value((pixelX - this.eX + 0.5) * scalingFactor,
-                                    (pixelY - this.eY - 0.5) * scalingFactor) -
-               this.interpCDF.value((pixelX - this.eX - 0.5) * scalingFactor,
-                                    (pixelY - this.eY + 0.5) * scalingFactor);
+        return this.plane.table.value(pixelX - this.eX, pixelY - this.eY);
     }
     
         /**
@@ -378,58 +705,66 @@ public final class GibsonLanniPSF implements PSF {
      */
     @Override
     public void generateSignature(ArrayList<Pixel> pixels) {
-        double signature;
-        
-        // Compute the PSF
+        // Compute the PSF and get the lookup table for this emitter's z-plane.
         this.computeDigitalPSF(this.stageDisplacement); 
         
-        // Get the interpolator for this emitter's z-plane.
-        Long zPlane = getNearestZPlane(eZ);
-        this.interpCDF = interpolators.get(zPlane);
-        
-        for(Pixel pixel: pixels) {
-            try {
-                signature = this.generatePixelSignature(pixel.x, pixel.y);
-            } catch (org.apache.commons.math3.exception.OutOfRangeException ex) {
-                signature = 0.0;
-                Logger.getLogger(GibsonLanniPSF.class.getName())
-                      .log(Level.SEVERE, null, ex);
-            }
-
-            pixel.setSignature(signature);
-        }
+        this.plane.table.fill(pixels, this.eX, this.eY);
     }
     
     /**
      * Computes the half-width of the PSF for determining which pixels contribute to the emitter signal.
      * 
-     * This number is based on the greatest horizontal or vertical extent of the
-     * grid that the PSF is computed on. If maxRadius is smaller than that
-     * determined by the PSF's computational grid, then maxRadius is returned.
+     * This is the radius of the circle that encloses the fraction of the PSF
+     * energy that was set on the builder, which is 99.99% by default. The
+     * energy is measured within the largest circle that fits on the grid
+     * that the PSF is computed on. The radius is limited by the extent of
+     * this grid and by maxRadius.
      * 
      * @return The width of the PSF.
      */
     @Override
     public double getRadius() {
+        double minSize = getGridRadius();
+        double energySize = EnclosedEnergy.radialRadius(
+                this.plane.encircled, this.plane.dr, this.energyFraction)
+                / this.resLateral;
+        return Math.min(Math.min(minSize, energySize), this.maxRadius);
+    }
+    
+    /**
+     * Computes the largest radius of a footprint that fits on the grid that
+     * the PSF is computed on.
+     * 
+     * @return The radius in pixels.
+     */
+    private double getGridRadius() {
         double minPixel = (double) Math.min(this.sizeX, this.sizeY) / 2;
-        double minSize =  this.resPSF / this.resLateral * minPixel - 1;
-        return Math.min(minSize, this.maxRadius);
+        return this.resPSF / this.resLateral * minPixel - 1;
     }
     
     /**
      * Computes a digital representation of the PSF.
      * 
+     * The PSF is computed at the center of the axial plane that is nearest to
+     * the emitter so that every emitter in the same plane shares the result.
+     * 
+     * This method is package-private so that it may be benchmarked.
+     * 
      * @param z The stage displacement.
-     * @return An image stack of the PSF.
      **/
-    private void computeDigitalPSF(double z) {
+    void computeDigitalPSF(double z) {
         
         // Has a PSF has already been computed for this emitter's z-plane?
-        Long zDiscrete = getNearestZPlane(this.eZ);
-        if (interpolators.containsKey(zDiscrete)) {
-            // PSF already computed for this z-plane, so don't do anything.
+        long zDiscrete = getNearestZPlane(this.eZ);
+        ModelKey key = new ModelKey(this, zDiscrete);
+        Plane cached = CachedValue.get(interpolators, key);
+        if (cached != null) {
+            // PSF already computed for this z-plane, so reuse it.
+            this.plane = cached;
             return;
         }
+        double zPlane = zDiscrete * this.resPSFAxial;
+        Object event = FlightRecorderEvents.beginPsfPlane();
         
         // Otherwise, compute the PSF and store the result in the hash map
         double x0 = (this.sizeX - 1) / 2.0D;
@@ -443,42 +778,22 @@ public final class GibsonLanniPSF implements PSF {
         int maxRadius = (int) Math.round(Math.sqrt((this.sizeX - x0)
                         * (this.sizeX - x0) + (this.sizeY - y0) * (this.sizeY - y0))) + 1;
         double[] r = new double[maxRadius * this.oversampling];
-        double[] h = new double[r.length];
 
-        double a = 0.0D;
         double b = Math.min(1.0D, this.ns / this.NA);
-
         double k0 = 2 * Math.PI / this.wavelength;
-        double factor1 = this.MINWAVELENGTH / this.wavelength;
-        double factor = factor1 * this.NA / 1.4;
-        double deltaRho = (b - a) / (this.numSamples - 1);
-
-        // basis construction
-        double rho = 0.0D;
-        double am = 0.0;
-        double[][] Basis = new double[this.numSamples][this.numBasis];
-
-        BesselJ bj0 = new BesselJ(0);
-        BesselJ bj1 = new BesselJ(1);
-
-        for (int m = 0; m < this.numBasis; m++) {
-		am = (3 * m + 1) * factor;
-//                am = (3 * m + 1);
-                for (int rhoi = 0; rhoi < this.numSamples; rhoi++) {
-                        rho = rhoi * deltaRho;
-                        Basis[rhoi][m] = bj0.value(am * rho);
-                }
-        }
-
+        double deltaRho = b / (this.numSamples - 1);
+        
+        // The basis only depends on the optics, so it is shared by all planes
+        Basis basis = getBasis(r.length);
+        
         // compute the function to be approximated
-
+        double rho = 0.0D;
         double ti = 0.0D;
         double OPD = 0;
         double W = 0;
-
-        double[][] Coef = new double[1][this.numBasis * 2];
+        
         double[][] Ffun = new double[this.numSamples][2];
-
+        
         // Oil thickness.
         ti = (this.ti0 + z);
         double sqNA = this.NA * this.NA;
@@ -488,71 +803,40 @@ public final class GibsonLanniPSF implements PSF {
                 rhoNA2 = rho * rho * sqNA;
                 
                 // OPD in the sample
-                OPD = this.eZ * Math.sqrt(this.ns * this.ns - rhoNA2);
+                OPD = zPlane * Math.sqrt(this.ns * this.ns - rhoNA2);
                 
                 // OPD in the immersion medium
                 OPD += ti * Math.sqrt(this. ni * this.ni - rhoNA2) -
                        this.ti0 * Math.sqrt(this.ni0 * this.ni0 - rhoNA2);
-
+                
                 // OPD in the coverslip
                 OPD += this.tg * Math.sqrt(this.ng * this.ng - rhoNA2) -
                        this.tg0 * Math.sqrt(this.ng0 * this.ng0 - rhoNA2);
-
+                
                 W = k0 * OPD;
-
+                
                 Ffun[rhoi][0] = Math.cos(W);
                 Ffun[rhoi][1] = Math.sin(W);
         }
         
-
-        // solve the linear system
-        // begin....... (Using Common Math)
-        RealMatrix coefficients = new Array2DRowRealMatrix(Basis, false);
-        RealMatrix rhsFun = new Array2DRowRealMatrix(Ffun, false);
-        
-        DecompositionSolver solver = null;
-        if (this.solverName.equals("svd")) {
-            // slower but more accurate
-            solver = new SingularValueDecomposition(coefficients).getSolver();
-        } else {
-            // faster, less accurate
-            solver = new QRDecomposition(coefficients).getSolver();
-        }
-        
-        RealMatrix solution = solver.solve(rhsFun);
-        Coef = solution.getData();
-
-        // end.......
-
-        double[][] RM = new double[this.numBasis][r.length];
-        double beta = 0.0D;
-        
-        double rm = 0.0D;
+        // Solve for the series coefficients and sum the transforms of the
+        // basis functions.
+        double[] h = basis.radialProfiles(Ffun)[0];
         for (int n = 0; n < r.length; n++) {
                 r[n] = (n * 1.0 / this.oversampling);
-                beta = k0 * this.NA * r[n] * this.resPSF;
-
-                for (int m = 0; m < this.numBasis; m++) {
-                        am = (3 * m + 1) * factor;
-                        rm = am * bj1.value(am * b) * bj0.value(beta * b) * b;
-                        rm = rm - beta * b * bj0.value(am * b) * bj1.value(beta * b);
-                        RM[m][n] = rm / (am * am - beta * beta);
-
-                }
         }
-
-        // obtain one component
-        double maxValue = 0.0D;
-
-        for (int n = 0; n < r.length; n++) {
-                double realh = 0.0D;
-                double imgh = 0.0D;
-                for (int m = 0; m < this.numBasis; m++) {
-                        realh = realh + RM[m][n] * Coef[m][0];
-                        imgh = imgh + RM[m][n] * Coef[m][1];
-
-                }
-                h[n] = realh * realh + imgh * imgh;
+        
+        // Integrate the radial profile to find the energy within each radius,
+        // up to the largest circle that fits on the grid.
+        int numRadii = Math.min(this.sizeX, this.sizeY) / 2 * this.oversampling
+                       + 1;
+        double[] encircled = new double[numRadii];
+        for (int n = 1; n < numRadii; n++) {
+            encircled[n] = encircled[n - 1]
+                           + 0.5 * (h[n - 1] * r[n - 1] + h[n] * r[n]);
+        }
+        for (int n = 1; n < numRadii; n++) {
+            encircled[n] /= encircled[numRadii - 1];
         }
 
         // Interpolate the PSF onto a 2D grid of physical coordinates
@@ -635,13 +919,31 @@ public final class GibsonLanniPSF implements PSF {
             }
         }
         
-        // Compute the interpolating spline for this PSF.
-        this.interpCDF = new PiecewiseBicubicSplineInterpolatingFunction(
-                mgridX, mgridY, rCDF);
+        // Tabulate the integrals of this PSF over the camera pixels.
+        PixelIntegralTable table = new PixelIntegralTable(rCDF, mgridX,
+                mgridY, getGridRadius(), this.resLateral);
         
-        interpolators.put(zDiscrete,
-                    new PiecewiseBicubicSplineInterpolatingFunction(
-                            mgridX, mgridY, rCDF));
+        this.plane = new Plane(table, encircled,
+                               this.resPSF / this.oversampling);
+        CachedValue.put(interpolators, key, this.plane);
+        FlightRecorderEvents.commitPsfPlane(event, "Gibson-Lanni", zPlane,
+                                            this.sizeX, this.sizeY);
+    }
+    
+    /**
+     * Returns the Bessel basis for the optics of this PSF.
+     * 
+     * @param numRadii The number of radii of the radial PSF.
+     * @return The basis, which is computed if it is not cached.
+     */
+    private Basis getBasis(int numRadii) {
+        ModelKey key = ModelKey.basis(this);
+        Basis basis = CachedValue.get(bases, key);
+        if (basis == null) {
+            basis = new Basis(this, numRadii);
+            CachedValue.put(bases, key, basis);
+        }
+        return basis;
     }
     
     /**
@@ -652,7 +954,7 @@ public final class GibsonLanniPSF implements PSF {
      * @param z The z-value of the emitter.
      * @return The z-coordinate of the nearest computational plane.
      */
-    private Long getNearestZPlane(double z) {
+    private long getNearestZPlane(double z) {
         long zDiscrete;
         zDiscrete = Math.round(z / this.resPSFAxial);
         return zDiscrete;
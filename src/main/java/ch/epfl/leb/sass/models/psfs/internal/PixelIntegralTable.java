@@ -0,0 +1,207 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.psfs.internal;
+
+import ch.epfl.leb.sass.models.emitters.internal.Pixel;
+import java.util.ArrayList;
+
+/**
+ * A lookup table of the integral of a PSF over one camera pixel.
+ * 
+ * The integral is sampled on a regular grid of displacements between the
+ * emitter and the pixel center, with {@link #BINS} samples per pixel along
+ * each axis, and stored in a flat array of floats. Signatures are
+ * interpolated bilinearly between samples using index arithmetic only.
+ * Because all the pixels of a footprint share the emitter's sub-pixel
+ * offset, they also share the interpolation weights.
+ */
+final class PixelIntegralTable {
+    
+    /**
+     * The number of samples per pixel along each axis. It must be even so
+     * that the pixel edges fall on samples.
+     */
+    static final int BINS = 8;
+    
+    /**
+     * The pixel integrals; the sample (i, j) is stored at i + j * size.
+     */
+    private final float[] values;
+    
+    /**
+     * The number of samples along each axis.
+     */
+    private final int size;
+    
+    /**
+     * The index of the sample at zero displacement along each axis.
+     */
+    private final int center;
+    
+    /**
+     * Tabulates the pixel integrals of a PSF from its cumulative distribution
+     * function.
+     * 
+     * The distribution function is sampled on a regular grid and interpolated
+     * bilinearly between samples, which integrates the PSF exactly when it is
+     * constant between samples. It is clamped to the grid, where it is
+     * assumed to be constant.
+     * 
+     * @param cdf The cumulative distribution function of the PSF; cdf[i][j] is
+     *            its value at (gridX[i], gridY[j]).
+     * @param gridX The regularly spaced x-coordinates of cdf. [microns]
+     * @param gridY The regularly spaced y-coordinates of cdf. [microns]
+     * @param halfWidth The largest displacement to tabulate. [pixels]
+     * @param pixelSize The size of a camera pixel in object space. [microns]
+     */
+    PixelIntegralTable(double[][] cdf, double[] gridX, double[] gridY,
+                       double halfWidth, double pixelSize) {
+        // One extra sample on each side so that displacements of exactly
+        // halfWidth are still interpolated.
+        center = (int) Math.ceil(Math.max(0, halfWidth) * BINS) + 1;
+        size = 2 * center + 1;
+        
+        // The distribution function at the pixel edges of every sample.
+        int numEdges = size + BINS;
+        // The edges are sorted, so interpolate first along y for every
+        // column of the grid that is needed and then along x.
+        int[] cellsX = new int[numEdges];
+        double[] weightsX = new double[numEdges];
+        edges(numEdges, pixelSize, gridX, cellsX, weightsX);
+        int[] cellsY = new int[numEdges];
+        double[] weightsY = new double[numEdges];
+        edges(numEdges, pixelSize, gridY, cellsY, weightsY);
+        
+        int firstColumn = cellsX[0];
+        int numColumns = cellsX[numEdges - 1] + 2 - firstColumn;
+        double[] columns = new double[numColumns * numEdges];
+        for (int c = 0; c < numColumns; c++) {
+            double[] column = cdf[firstColumn + c];
+            for (int j = 0; j < numEdges; j++) {
+                double low = column[cellsY[j]];
+                columns[c + j * numColumns] = low
+                        + weightsY[j] * (column[cellsY[j] + 1] - low);
+            }
+        }
+        
+        double[] edgeCDF = new double[numEdges * numEdges];
+        for (int j = 0; j < numEdges; j++) {
+            for (int i = 0; i < numEdges; i++) {
+                int index = cellsX[i] - firstColumn + j * numColumns;
+                double low = columns[index];
+                edgeCDF[i + j * numEdges] = low
+                        + weightsX[i] * (columns[index + 1] - low);
+            }
+        }
+        
+        // The sample (i, j) lies BINS / 2 edges away from its pixel edges.
+        values = new float[size * size];
+        for (int j = 0; j < size; j++) {
+            for (int i = 0; i < size; i++) {
+                int low = i + j * numEdges;
+                int high = low + BINS + BINS * numEdges;
+                values[i + j * size] = (float) (edgeCDF[high] + edgeCDF[low]
+                        - edgeCDF[low + BINS] - edgeCDF[high - BINS]);
+            }
+        }
+    }
+    
+    /**
+     * Locates the pixel edges of the samples on the grid of the distribution.
+     * 
+     * @param numEdges The number of edges.
+     * @param pixelSize The size of a camera pixel in object space. [microns]
+     * @param grid The coordinates on which the distribution is defined.
+     * @param cells Receives the index of the grid cell of each edge.
+     * @param weights Receives the position of each edge within its cell.
+     */
+    private void edges(int numEdges, double pixelSize, double[] grid,
+                       int[] cells, double[] weights) {
+        int last = grid.length - 1;
+        double spacing = (grid[last] - grid[0]) / last;
+        for (int i = 0; i < numEdges; i++) {
+            double edge = (double) (i - center - BINS / 2) / BINS * pixelSize;
+            double position = (edge - grid[0]) / spacing;
+            position = Math.min(Math.max(position, 0), last);
+            cells[i] = Math.min((int) position, last - 1);
+            weights[i] = position - cells[i];
+        }
+    }
+    
+    /**
+     * Interpolates the integral of the PSF over one pixel.
+     * 
+     * @param dx The x-displacement of the pixel from the emitter. [pixels]
+     * @param dy The y-displacement of the pixel from the emitter. [pixels]
+     * @return The integral, or zero outside of the table.
+     */
+    double value(double dx, double dy) {
+        double tx = dx * BINS + center;
+        double ty = dy * BINS + center;
+        int i = (int) Math.floor(tx);
+        int j = (int) Math.floor(ty);
+        if (i < 0 || i >= size - 1 || j < 0 || j >= size - 1) {
+            return 0;
+        }
+        return interpolate(i + j * size, tx - i, ty - j);
+    }
+    
+    /**
+     * Sets the signatures of all the pixels of an emitter's footprint.
+     * 
+     * @param pixels The pixels of the footprint.
+     * @param eX The x-position of the emitter. [pixels]
+     * @param eY The y-position of the emitter. [pixels]
+     */
+    void fill(ArrayList<Pixel> pixels, double eX, double eY) {
+        // Pixels are an integer number of samples apart, so they share the
+        // fractional part of their sample index.
+        double tx = center - eX * BINS;
+        double ty = center - eY * BINS;
+        int i0 = (int) Math.floor(tx);
+        int j0 = (int) Math.floor(ty);
+        double fx = tx - i0;
+        double fy = ty - j0;
+        
+        for (Pixel pixel : pixels) {
+            int i = i0 + pixel.x * BINS;
+            int j = j0 + pixel.y * BINS;
+            if (i < 0 || i >= size - 1 || j < 0 || j >= size - 1) {
+                pixel.setSignature(0);
+            } else {
+                pixel.setSignature(interpolate(i + j * size, fx, fy));
+            }
+        }
+    }
+    
+    /**
+     * Bilinearly interpolates the table within one bin.
+     * 
+     * @param index The index of the lower corner of the bin.
+     * @param fx The fractional x-position within the bin.
+     * @param fy The fractional y-position within the bin.
+     * @return The interpolated value.
+     */
+    private double interpolate(int index, double fx, double fy) {
+        double low = values[index]
+                   + fx * (values[index + 1] - values[index]);
+        double high = values[index + size]
+                    + fx * (values[index + size + 1] - values[index + size]);
+        return low + fy * (high - low);
+    }
+}
@@ -38,4 +38,60 @@ public interface RefractiveIndex {
      */
     public Complex getN(double x, double y, double z);
     
+    /**
+     * Writes the (complex) refractive index at the position (x, y, z) into n.
+     * 
+     * This is the allocation-free counterpart of getN(x, y, z). The default
+     * implementation calls getN(x, y, z); implementations should override it
+     * to avoid the allocation.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @param n Receives the real part in n[0] and the imaginary part in n[1].
+     */
+    public default void getN(double x, double y, double z, double[] n) {
+        Complex value = getN(x, y, z);
+        n[0] = value.getReal();
+        n[1] = value.getImaginary();
+    }
+    
+    /**
+     * Returns the imaginary part of the refractive index at (x, y, z).
+     * 
+     * The imaginary part alone determines the absorption. The default
+     * implementation calls getN(x, y, z); implementations should override it
+     * to avoid the allocation.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @return The imaginary part of the refractive index at (x, y, z).
+     */
+    public default double getImaginaryN(double x, double y, double z) {
+        return getN(x, y, z).getImaginary();
+    }
+    
+    /**
+     * Writes the (complex) refractive index at count positions.
+     * 
+     * The default implementation evaluates each position in turn.
+     * 
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the refractive index.
+     * @param im Receives the imaginary parts of the refractive index.
+     */
+    public default void getN(double[] x, double[] y, double[] z, int count,
+                             double[] re, double[] im) {
+        double[] n = new double[2];
+        for (int i = 0; i < count; i++) {
+            getN(x[i], y[i], z[i], n);
+            re[i] = n[0];
+            im[i] = n[1];
+        }
+    }
+    
 }
@@ -19,6 +19,8 @@ package ch.epfl.leb.sass.models.samples.internal;
 
 import ch.epfl.leb.sass.models.samples.RefractiveIndex;
 
+import java.util.Arrays;
+
 import org.apache.commons.math3.complex.Complex;
 
 /**
@@ -30,6 +32,16 @@ public class UniformRefractiveIndex implements RefractiveIndex {
     
     private final Complex refractiveIndex;
     
+    /**
+     * The real part of the refractive index.
+     */
+    private final double re;
+    
+    /**
+     * The imaginary part of the refractive index.
+     */
+    private final double im;
+    
     /**
      * Constructs a new UniformRefractiveIndex instance.
      * 
@@ -39,6 +51,8 @@ public class UniformRefractiveIndex implements RefractiveIndex {
      */
     public UniformRefractiveIndex(Complex refractiveIndex) {
         this.refractiveIndex = refractiveIndex;
+        this.re = refractiveIndex.getReal();
+        this.im = refractiveIndex.getImaginary();
     }
     
     /**
@@ -56,4 +70,48 @@ public class UniformRefractiveIndex implements RefractiveIndex {
         return refractiveIndex;
     }
     
+    /**
+     * Writes the (complex) refractive index at the position (x, y, z) into n.
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @param n Receives the real part in n[0] and the imaginary part in n[1].
+     */
+    @Override
+    public void getN(double x, double y, double z, double[] n) {
+        n[0] = re;
+        n[1] = im;
+    }
+    
+    /**
+     * Returns the imaginary part of the refractive index at (x, y, z).
+     * 
+     * @param x The x-position within the sample.
+     * @param y The y-position within the sample.
+     * @param z The z-position within the sample.
+     * @return The imaginary part of the refractive index at (x, y, z).
+     */
+    @Override
+    public double getImaginaryN(double x, double y, double z) {
+        return im;
+    }
+    
+    /**
+     * Writes the (complex) refractive index at count positions.
+     * 
+     * @param x The x-positions within the sample.
+     * @param y The y-positions within the sample.
+     * @param z The z-positions within the sample.
+     * @param count The number of positions to evaluate.
+     * @param re Receives the real parts of the refractive index.
+     * @param im Receives the imaginary parts of the refractive index.
+     */
+    @Override
+    public void getN(double[] x, double[] y, double[] z, int count,
+                     double[] re, double[] im) {
+        Arrays.fill(re, 0, count, this.re);
+        Arrays.fill(im, 0, count, this.im);
+    }
+    
 }
@@ -61,7 +61,8 @@ public class RPCServer {
             processor = new RemoteSimulationService.Processor(handler);
 
             TServerTransport serverTransport = new TServerSocket(port);
-            server = new TSimpleServer(new Args(serverTransport).processor(processor));
+            server = new TSimpleServer(new Args(serverTransport).processor(
+                    RecordingProcessor.wrap(processor)));
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -82,7 +83,8 @@ public class RPCServer {
             processor = new RemoteSimulationService.Processor(handler);
 
             TServerTransport serverTransport = new TServerSocket(port);
-            server = new TSimpleServer(new Args(serverTransport).processor(processor));
+            server = new TSimpleServer(new Args(serverTransport).processor(
+                    RecordingProcessor.wrap(processor)));
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -100,7 +102,8 @@ public class RPCServer {
             processor = new RemoteSimulationService.Processor(handler);
 
             TServerTransport serverTransport = new TServerSocket(port);
-            server = new TSimpleServer(new Args(serverTransport).processor(processor));
+            server = new TSimpleServer(new Args(serverTransport).processor(
+                    RecordingProcessor.wrap(processor)));
         } catch (Exception ex) {
             ex.printStackTrace();
         }
@@ -169,7 +172,8 @@ public class RPCServer {
     public static void simple(RemoteSimulationService.Processor processor) {
         try {
             TServerTransport serverTransport = new TServerSocket(9090);
-            TServer server = new TSimpleServer(new Args(serverTransport).processor(processor));
+            TServer server = new TSimpleServer(new Args(serverTransport).processor(
+                    RecordingProcessor.wrap(processor)));
             
             System.out.println("Starting the SASS Simulation Server...");
             server.serve();
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.server;
+
+import ch.epfl.leb.sass.utils.jfr.FlightRecorderEvents;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TField;
+import org.apache.thrift.protocol.TMessage;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolDecorator;
+import org.apache.thrift.protocol.TType;
+
+/**
+ * Emits a flight recorder event for every call to the remote service.
+ * 
+ * The name of the method and the simulation ID are taken from the incoming
+ * message; the ID is the first argument of every method that acts on a
+ * simulation. The payload is the number of bytes of strings and binary data
+ * that are written in the reply, e.g. the serialized images.
+ */
+class RecordingProcessor implements TProcessor {
+    
+    /**
+     * The processor that handles the calls.
+     */
+    private final TProcessor delegate;
+    
+    /**
+     * Wraps a processor if flight recorder events can be emitted.
+     * 
+     * @param processor The processor that handles the calls.
+     * @return The wrapped processor, or the processor itself if the flight
+     *         recorder is not available.
+     */
+    static TProcessor wrap(TProcessor processor) {
+        if (FlightRecorderEvents.AVAILABLE) {
+            return new RecordingProcessor(processor);
+        }
+        return processor;
+    }
+    
+    RecordingProcessor(TProcessor delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public boolean process(TProtocol in, TProtocol out) throws TException {
+        Object event = FlightRecorderEvents.beginRemoteCall();
+        if (event == null) {
+            return delegate.process(in, out);
+        }
+        
+        InputRecorder input = new InputRecorder(in);
+        OutputRecorder output = new OutputRecorder(out);
+        try {
+            return delegate.process(input, output);
+        } finally {
+            FlightRecorderEvents.commitRemoteCall(event, input.method,
+                    input.simulationId, output.payloadBytes);
+        }
+    }
+    
+    /**
+     * Records the method name and the simulation ID of a call.
+     */
+    static class InputRecorder extends TProtocolDecorator {
+        
+        String method = "";
+        int simulationId = -1;
+        
+        /**
+         * True if the next integer that is read is the simulation ID.
+         */
+        private boolean idIsNext = false;
+        
+        /**
+         * True once the first field of the arguments has been read.
+         */
+        private boolean firstFieldRead = false;
+        
+        InputRecorder(TProtocol protocol) {
+            super(protocol);
+        }
+        
+        @Override
+        public TMessage readMessageBegin() throws TException {
+            TMessage message = super.readMessageBegin();
+            method = message.name;
+            return message;
+        }
+        
+        @Override
+        public TField readFieldBegin() throws TException {
+            TField field = super.readFieldBegin();
+            if (!firstFieldRead) {
+                firstFieldRead = true;
+                idIsNext = field.id == 1 && field.type == TType.I32;
+            }
+            return field;
+        }
+        
+        @Override
+        public int readI32() throws TException {
+            int value = super.readI32();
+            if (idIsNext) {
+                idIsNext = false;
+                simulationId = value;
+            }
+            return value;
+        }
+    }
+    
+    /**
+     * Counts the bytes of strings and binary data in a reply.
+     */
+    static class OutputRecorder extends TProtocolDecorator {
+        
+        long payloadBytes = 0;
+        
+        OutputRecorder(TProtocol protocol) {
+            super(protocol);
+        }
+        
+        @Override
+        public void writeBinary(ByteBuffer buf) throws TException {
+            payloadBytes += buf.remaining();
+            super.writeBinary(buf);
+        }
+        
+        @Override
+        public void writeString(String str) throws TException {
+            payloadBytes += str.getBytes(StandardCharsets.UTF_8).length;
+            super.writeString(str);
+        }
+    }
+}
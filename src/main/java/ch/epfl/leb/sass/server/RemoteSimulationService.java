@@ -41,6 +41,19 @@ public class RemoteSimulationService {
      */
     public java.lang.String getCameraJsonName(int id) throws UnknownSimulationIdException, org.apache.thrift.TException;
 
+    /**
+     * Returns the fluorophores whose positions lie inside a rectangle as a
+     * JSON string. The bounds are in pixels; the lower bounds are inclusive
+     * and the upper bounds exclusive.
+     * 
+     * @param id
+     * @param xMin
+     * @param yMin
+     * @param xMax
+     * @param yMax
+     */
+    public java.lang.String getEmittersInRegion(int id, double xMin, double yMin, double xMax, double yMax) throws UnknownSimulationIdException, org.apache.thrift.TException;
+
     /**
      * Gets the name of the JSON key for the fluoresence information.
      * 
@@ -69,6 +82,14 @@ public class RemoteSimulationService {
      */
     public java.lang.String getLaserJsonName(int id) throws UnknownSimulationIdException, org.apache.thrift.TException;
 
+    /**
+     * Returns the timing and throughput statistics of the simulation as a
+     * JSON string.
+     * 
+     * @param id
+     */
+    public java.lang.String getMetrics(int id) throws UnknownSimulationIdException, org.apache.thrift.TException;
+
     /**
      * Increments the simulation by one time step and returns an image.
      * 
@@ -92,6 +113,19 @@ public class RemoteSimulationService {
      */
     public double getObjectSpacePixelSize(int id) throws UnknownSimulationIdException, org.apache.thrift.TException;
 
+    /**
+     * Returns the number of emitting fluorophores inside a rectangle. The
+     * bounds are in pixels; the lower bounds are inclusive and the upper
+     * bounds exclusive.
+     * 
+     * @param id
+     * @param xMin
+     * @param yMin
+     * @param xMax
+     * @param yMax
+     */
+    public int getOnEmitterCountInRegion(int id, double xMin, double yMin, double xMax, double yMax) throws UnknownSimulationIdException, org.apache.thrift.TException;
+
     /**
      * Returns the simulation server's current status.
      */
@@ -119,6 +153,16 @@ public class RemoteSimulationService {
      */
     public double getTrueSignal(int id, int imageNum) throws UnknownSimulationIdException, org.apache.thrift.TException;
 
+    /**
+     * Returns the ground truth statistics of the time steps in
+     * [firstStep, lastStep) as a JSON string.
+     * 
+     * @param id
+     * @param firstStep
+     * @param lastStep
+     */
+    public java.lang.String getGroundTruth(int id, int firstStep, int lastStep) throws UnknownSimulationIdException, org.apache.thrift.TException;
+
     /**
      * Advances the simulation without creating a new image.
      * 
@@ -126,6 +170,15 @@ public class RemoteSimulationService {
      */
     public void incrementTimeStep(int id) throws UnknownSimulationIdException, org.apache.thrift.TException;
 
+    /**
+     * Advances the simulation by several time steps without creating images.
+     * Only the fluorophores and the ground truth signal are updated.
+     * 
+     * @param id
+     * @param nFrames
+     */
+    public void advance(int id, int nFrames) throws UnknownSimulationIdException, org.apache.thrift.TException;
+
     /**
      * Changes the simulation's control signal.
      * 
@@ -134,6 +187,39 @@ public class RemoteSimulationService {
      */
     public void setControlSignal(int id, double power) throws UnknownSimulationIdException, org.apache.thrift.TException;
 
+    /**
+     * Moves the microscope stage. The images of the emitters follow the stage
+     * from the next image on. Lateral positions are in the units of the
+     * object space pixel size. Any stage trajectory is cancelled.
+     * 
+     * @param id
+     * @param x
+     * @param y
+     * @param z
+     */
+    public void setStagePosition(int id, double x, double y, double z) throws UnknownSimulationIdException, org.apache.thrift.TException;
+
+    /**
+     * Moves the microscope stage along a trajectory, one position per image.
+     * The trajectory is a JSON array of [x, y, z] arrays. The stage stays at
+     * the last position once the trajectory is finished.
+     * 
+     * @param id
+     * @param trajectory
+     */
+    public void setStageTrajectory(int id, java.lang.String trajectory) throws UnknownSimulationIdException, org.apache.thrift.TException;
+
+    /**
+     * Modulates the laser power with a piecewise-constant schedule that starts
+     * with the next image. The schedule is a JSON object with the "durations"
+     * and "powers" arrays of its segments and an optional "repeat" flag; null
+     * removes it. Changing the control signal also removes it.
+     * 
+     * @param id
+     * @param schedule
+     */
+    public void setLaserSchedule(int id, java.lang.String schedule) throws UnknownSimulationIdException, org.apache.thrift.TException;
+
     /**
      * Returns information about changes in the state of the simulation
      * as a JSON string.
@@ -162,6 +248,8 @@ public class RemoteSimulationService {
 
     public void getCameraJsonName(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
+    public void getEmittersInRegion(int id, double xMin, double yMin, double xMax, double yMax, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
+
     public void getFluorescenceJsonName(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
     public void getFovSize(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.Double> resultHandler) throws org.apache.thrift.TException;
@@ -170,12 +258,16 @@ public class RemoteSimulationService {
 
     public void getLaserJsonName(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
+    public void getMetrics(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
+
     public void getNextImage(int id, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException;
 
     public void getObjectiveJsonName(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
     public void getObjectSpacePixelSize(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.Double> resultHandler) throws org.apache.thrift.TException;
 
+    public void getOnEmitterCountInRegion(int id, double xMin, double yMin, double xMax, double yMax, org.apache.thrift.async.AsyncMethodCallback<java.lang.Integer> resultHandler) throws org.apache.thrift.TException;
+
     public void getServerStatus(org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
     public void getShortTrueSignalDescription(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
@@ -184,10 +276,20 @@ public class RemoteSimulationService {
 
     public void getTrueSignal(int id, int imageNum, org.apache.thrift.async.AsyncMethodCallback<java.lang.Double> resultHandler) throws org.apache.thrift.TException;
 
+    public void getGroundTruth(int id, int firstStep, int lastStep, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
+
     public void incrementTimeStep(int id, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
+    public void advance(int id, int nFrames, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void setControlSignal(int id, double power, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
 
+    public void setStagePosition(int id, double x, double y, double z, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
+    public void setStageTrajectory(int id, java.lang.String trajectory, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
+    public void setLaserSchedule(int id, java.lang.String schedule, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException;
+
     public void toJsonMessages(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
 
     public void toJsonState(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException;
@@ -311,6 +413,36 @@ public class RemoteSimulationService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getCameraJsonName failed: unknown result");
     }
 
+    public java.lang.String getEmittersInRegion(int id, double xMin, double yMin, double xMax, double yMax) throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      send_getEmittersInRegion(id, xMin, yMin, xMax, yMax);
+      return recv_getEmittersInRegion();
+    }
+
+    public void send_getEmittersInRegion(int id, double xMin, double yMin, double xMax, double yMax) throws org.apache.thrift.TException
+    {
+      getEmittersInRegion_args args = new getEmittersInRegion_args();
+      args.setId(id);
+      args.setXMin(xMin);
+      args.setYMin(yMin);
+      args.setXMax(xMax);
+      args.setYMax(yMax);
+      sendBase("getEmittersInRegion", args);
+    }
+
+    public java.lang.String recv_getEmittersInRegion() throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      getEmittersInRegion_result result = new getEmittersInRegion_result();
+      receiveBase(result, "getEmittersInRegion");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getEmittersInRegion failed: unknown result");
+    }
+
     public java.lang.String getFluorescenceJsonName(int id) throws UnknownSimulationIdException, org.apache.thrift.TException
     {
       send_getFluorescenceJsonName(id);
@@ -415,6 +547,32 @@ public class RemoteSimulationService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getLaserJsonName failed: unknown result");
     }
 
+    public java.lang.String getMetrics(int id) throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      send_getMetrics(id);
+      return recv_getMetrics();
+    }
+
+    public void send_getMetrics(int id) throws org.apache.thrift.TException
+    {
+      getMetrics_args args = new getMetrics_args();
+      args.setId(id);
+      sendBase("getMetrics", args);
+    }
+
+    public java.lang.String recv_getMetrics() throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      getMetrics_result result = new getMetrics_result();
+      receiveBase(result, "getMetrics");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getMetrics failed: unknown result");
+    }
+
     public java.nio.ByteBuffer getNextImage(int id) throws ImageGenerationException, UnknownSimulationIdException, org.apache.thrift.TException
     {
       send_getNextImage(id);
@@ -496,6 +654,36 @@ public class RemoteSimulationService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getObjectSpacePixelSize failed: unknown result");
     }
 
+    public int getOnEmitterCountInRegion(int id, double xMin, double yMin, double xMax, double yMax) throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      send_getOnEmitterCountInRegion(id, xMin, yMin, xMax, yMax);
+      return recv_getOnEmitterCountInRegion();
+    }
+
+    public void send_getOnEmitterCountInRegion(int id, double xMin, double yMin, double xMax, double yMax) throws org.apache.thrift.TException
+    {
+      getOnEmitterCountInRegion_args args = new getOnEmitterCountInRegion_args();
+      args.setId(id);
+      args.setXMin(xMin);
+      args.setYMin(yMin);
+      args.setXMax(xMax);
+      args.setYMax(yMax);
+      sendBase("getOnEmitterCountInRegion", args);
+    }
+
+    public int recv_getOnEmitterCountInRegion() throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      getOnEmitterCountInRegion_result result = new getOnEmitterCountInRegion_result();
+      receiveBase(result, "getOnEmitterCountInRegion");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getOnEmitterCountInRegion failed: unknown result");
+    }
+
     public java.lang.String getServerStatus() throws org.apache.thrift.TException
     {
       send_getServerStatus();
@@ -597,6 +785,34 @@ public class RemoteSimulationService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getTrueSignal failed: unknown result");
     }
 
+    public java.lang.String getGroundTruth(int id, int firstStep, int lastStep) throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      send_getGroundTruth(id, firstStep, lastStep);
+      return recv_getGroundTruth();
+    }
+
+    public void send_getGroundTruth(int id, int firstStep, int lastStep) throws org.apache.thrift.TException
+    {
+      getGroundTruth_args args = new getGroundTruth_args();
+      args.setId(id);
+      args.setFirstStep(firstStep);
+      args.setLastStep(lastStep);
+      sendBase("getGroundTruth", args);
+    }
+
+    public java.lang.String recv_getGroundTruth() throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      getGroundTruth_result result = new getGroundTruth_result();
+      receiveBase(result, "getGroundTruth");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getGroundTruth failed: unknown result");
+    }
+
     public void incrementTimeStep(int id) throws UnknownSimulationIdException, org.apache.thrift.TException
     {
       send_incrementTimeStep(id);
@@ -620,6 +836,30 @@ public class RemoteSimulationService {
       return;
     }
 
+    public void advance(int id, int nFrames) throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      send_advance(id, nFrames);
+      recv_advance();
+    }
+
+    public void send_advance(int id, int nFrames) throws org.apache.thrift.TException
+    {
+      advance_args args = new advance_args();
+      args.setId(id);
+      args.setNFrames(nFrames);
+      sendBase("advance", args);
+    }
+
+    public void recv_advance() throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      advance_result result = new advance_result();
+      receiveBase(result, "advance");
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      return;
+    }
+
     public void setControlSignal(int id, double power) throws UnknownSimulationIdException, org.apache.thrift.TException
     {
       send_setControlSignal(id, power);
@@ -644,6 +884,80 @@ public class RemoteSimulationService {
       return;
     }
 
+    public void setStagePosition(int id, double x, double y, double z) throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      send_setStagePosition(id, x, y, z);
+      recv_setStagePosition();
+    }
+
+    public void send_setStagePosition(int id, double x, double y, double z) throws org.apache.thrift.TException
+    {
+      setStagePosition_args args = new setStagePosition_args();
+      args.setId(id);
+      args.setX(x);
+      args.setY(y);
+      args.setZ(z);
+      sendBase("setStagePosition", args);
+    }
+
+    public void recv_setStagePosition() throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      setStagePosition_result result = new setStagePosition_result();
+      receiveBase(result, "setStagePosition");
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      return;
+    }
+
+    public void setStageTrajectory(int id, java.lang.String trajectory) throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      send_setStageTrajectory(id, trajectory);
+      recv_setStageTrajectory();
+    }
+
+    public void send_setStageTrajectory(int id, java.lang.String trajectory) throws org.apache.thrift.TException
+    {
+      setStageTrajectory_args args = new setStageTrajectory_args();
+      args.setId(id);
+      args.setTrajectory(trajectory);
+      sendBase("setStageTrajectory", args);
+    }
+
+    public void recv_setStageTrajectory() throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      setStageTrajectory_result result = new setStageTrajectory_result();
+      receiveBase(result, "setStageTrajectory");
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      return;
+    }
+
+    public void setLaserSchedule(int id, java.lang.String schedule) throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      send_setLaserSchedule(id, schedule);
+      recv_setLaserSchedule();
+    }
+
+    public void send_setLaserSchedule(int id, java.lang.String schedule) throws org.apache.thrift.TException
+    {
+      setLaserSchedule_args args = new setLaserSchedule_args();
+      args.setId(id);
+      args.setSchedule(schedule);
+      sendBase("setLaserSchedule", args);
+    }
+
+    public void recv_setLaserSchedule() throws UnknownSimulationIdException, org.apache.thrift.TException
+    {
+      setLaserSchedule_result result = new setLaserSchedule_result();
+      receiveBase(result, "setLaserSchedule");
+      if (result.ex != null) {
+        throw result.ex;
+      }
+      return;
+    }
+
     public java.lang.String toJsonMessages(int id) throws UnknownSimulationIdException, org.apache.thrift.TException
     {
       send_toJsonMessages(id);
@@ -839,6 +1153,50 @@ public class RemoteSimulationService {
       }
     }
 
+    public void getEmittersInRegion(int id, double xMin, double yMin, double xMax, double yMax, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getEmittersInRegion_call method_call = new getEmittersInRegion_call(id, xMin, yMin, xMax, yMax, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getEmittersInRegion_call extends org.apache.thrift.async.TAsyncMethodCall<java.lang.String> {
+      private int id;
+      private double xMin;
+      private double yMin;
+      private double xMax;
+      private double yMax;
+      public getEmittersInRegion_call(int id, double xMin, double yMin, double xMax, double yMax, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+        this.xMin = xMin;
+        this.yMin = yMin;
+        this.xMax = xMax;
+        this.yMax = yMax;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getEmittersInRegion", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getEmittersInRegion_args args = new getEmittersInRegion_args();
+        args.setId(id);
+        args.setXMin(xMin);
+        args.setYMin(yMin);
+        args.setXMax(xMax);
+        args.setYMax(yMax);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.lang.String getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getEmittersInRegion();
+      }
+    }
+
     public void getFluorescenceJsonName(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getFluorescenceJsonName_call method_call = new getFluorescenceJsonName_call(id, resultHandler, this, ___protocolFactory, ___transport);
@@ -967,6 +1325,38 @@ public class RemoteSimulationService {
       }
     }
 
+    public void getMetrics(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getMetrics_call method_call = new getMetrics_call(id, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getMetrics_call extends org.apache.thrift.async.TAsyncMethodCall<java.lang.String> {
+      private int id;
+      public getMetrics_call(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getMetrics", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getMetrics_args args = new getMetrics_args();
+        args.setId(id);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.lang.String getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getMetrics();
+      }
+    }
+
     public void getNextImage(int id, org.apache.thrift.async.AsyncMethodCallback<java.nio.ByteBuffer> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getNextImage_call method_call = new getNextImage_call(id, resultHandler, this, ___protocolFactory, ___transport);
@@ -1063,6 +1453,50 @@ public class RemoteSimulationService {
       }
     }
 
+    public void getOnEmitterCountInRegion(int id, double xMin, double yMin, double xMax, double yMax, org.apache.thrift.async.AsyncMethodCallback<java.lang.Integer> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getOnEmitterCountInRegion_call method_call = new getOnEmitterCountInRegion_call(id, xMin, yMin, xMax, yMax, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class getOnEmitterCountInRegion_call extends org.apache.thrift.async.TAsyncMethodCall<java.lang.Integer> {
+      private int id;
+      private double xMin;
+      private double yMin;
+      private double xMax;
+      private double yMax;
+      public getOnEmitterCountInRegion_call(int id, double xMin, double yMin, double xMax, double yMax, org.apache.thrift.async.AsyncMethodCallback<java.lang.Integer> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+        this.xMin = xMin;
+        this.yMin = yMin;
+        this.xMax = xMax;
+        this.yMax = yMax;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getOnEmitterCountInRegion", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getOnEmitterCountInRegion_args args = new getOnEmitterCountInRegion_args();
+        args.setId(id);
+        args.setXMin(xMin);
+        args.setYMin(yMin);
+        args.setXMax(xMax);
+        args.setYMax(yMax);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public java.lang.Integer getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getOnEmitterCountInRegion();
+      }
+    }
+
     public void getServerStatus(org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getServerStatus_call method_call = new getServerStatus_call(resultHandler, this, ___protocolFactory, ___transport);
@@ -1191,41 +1625,114 @@ public class RemoteSimulationService {
       }
     }
 
-    public void incrementTimeStep(int id, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+    public void getGroundTruth(int id, int firstStep, int lastStep, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      incrementTimeStep_call method_call = new incrementTimeStep_call(id, resultHandler, this, ___protocolFactory, ___transport);
+      getGroundTruth_call method_call = new getGroundTruth_call(id, firstStep, lastStep, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
 
-    public static class incrementTimeStep_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+    public static class getGroundTruth_call extends org.apache.thrift.async.TAsyncMethodCall<java.lang.String> {
       private int id;
-      public incrementTimeStep_call(int id, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+      private int firstStep;
+      private int lastStep;
+      public getGroundTruth_call(int id, int firstStep, int lastStep, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
         super(client, protocolFactory, transport, resultHandler, false);
         this.id = id;
+        this.firstStep = firstStep;
+        this.lastStep = lastStep;
       }
 
       public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
-        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("incrementTimeStep", org.apache.thrift.protocol.TMessageType.CALL, 0));
-        incrementTimeStep_args args = new incrementTimeStep_args();
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getGroundTruth", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getGroundTruth_args args = new getGroundTruth_args();
         args.setId(id);
+        args.setFirstStep(firstStep);
+        args.setLastStep(lastStep);
         args.write(prot);
         prot.writeMessageEnd();
       }
 
-      public Void getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+      public java.lang.String getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
         if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
           throw new java.lang.IllegalStateException("Method call not finished!");
         }
         org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
         org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
-        return null;
+        return (new Client(prot)).recv_getGroundTruth();
       }
     }
 
-    public void setControlSignal(int id, double power, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+    public void incrementTimeStep(int id, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
       checkReady();
-      setControlSignal_call method_call = new setControlSignal_call(id, power, resultHandler, this, ___protocolFactory, ___transport);
+      incrementTimeStep_call method_call = new incrementTimeStep_call(id, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class incrementTimeStep_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private int id;
+      public incrementTimeStep_call(int id, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("incrementTimeStep", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        incrementTimeStep_args args = new incrementTimeStep_args();
+        args.setId(id);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void advance(int id, int nFrames, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      advance_call method_call = new advance_call(id, nFrames, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class advance_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private int id;
+      private int nFrames;
+      public advance_call(int id, int nFrames, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+        this.nFrames = nFrames;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("advance", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        advance_args args = new advance_args();
+        args.setId(id);
+        args.setNFrames(nFrames);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void setControlSignal(int id, double power, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      setControlSignal_call method_call = new setControlSignal_call(id, power, resultHandler, this, ___protocolFactory, ___transport);
       this.___currentMethod = method_call;
       ___manager.call(method_call);
     }
@@ -1258,6 +1765,117 @@ public class RemoteSimulationService {
       }
     }
 
+    public void setStagePosition(int id, double x, double y, double z, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      setStagePosition_call method_call = new setStagePosition_call(id, x, y, z, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class setStagePosition_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private int id;
+      private double x;
+      private double y;
+      private double z;
+      public setStagePosition_call(int id, double x, double y, double z, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("setStagePosition", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        setStagePosition_args args = new setStagePosition_args();
+        args.setId(id);
+        args.setX(x);
+        args.setY(y);
+        args.setZ(z);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void setStageTrajectory(int id, java.lang.String trajectory, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      setStageTrajectory_call method_call = new setStageTrajectory_call(id, trajectory, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class setStageTrajectory_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private int id;
+      private java.lang.String trajectory;
+      public setStageTrajectory_call(int id, java.lang.String trajectory, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+        this.trajectory = trajectory;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("setStageTrajectory", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        setStageTrajectory_args args = new setStageTrajectory_args();
+        args.setId(id);
+        args.setTrajectory(trajectory);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
+    public void setLaserSchedule(int id, java.lang.String schedule, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      setLaserSchedule_call method_call = new setLaserSchedule_call(id, schedule, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class setLaserSchedule_call extends org.apache.thrift.async.TAsyncMethodCall<Void> {
+      private int id;
+      private java.lang.String schedule;
+      public setLaserSchedule_call(int id, java.lang.String schedule, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.id = id;
+        this.schedule = schedule;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("setLaserSchedule", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        setLaserSchedule_args args = new setLaserSchedule_args();
+        args.setId(id);
+        args.setSchedule(schedule);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public Void getResult() throws UnknownSimulationIdException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new java.lang.IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return null;
+      }
+    }
+
     public void toJsonMessages(int id, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
       checkReady();
       toJsonMessages_call method_call = new toJsonMessages_call(id, resultHandler, this, ___protocolFactory, ___transport);
@@ -1339,19 +1957,27 @@ public class RemoteSimulationService {
       processMap.put("deleteSimulation", new deleteSimulation());
       processMap.put("getControlSignal", new getControlSignal());
       processMap.put("getCameraJsonName", new getCameraJsonName());
+      processMap.put("getEmittersInRegion", new getEmittersInRegion());
       processMap.put("getFluorescenceJsonName", new getFluorescenceJsonName());
       processMap.put("getFovSize", new getFovSize());
       processMap.put("getImageCount", new getImageCount());
       processMap.put("getLaserJsonName", new getLaserJsonName());
+      processMap.put("getMetrics", new getMetrics());
       processMap.put("getNextImage", new getNextImage());
       processMap.put("getObjectiveJsonName", new getObjectiveJsonName());
       processMap.put("getObjectSpacePixelSize", new getObjectSpacePixelSize());
+      processMap.put("getOnEmitterCountInRegion", new getOnEmitterCountInRegion());
       processMap.put("getServerStatus", new getServerStatus());
       processMap.put("getShortTrueSignalDescription", new getShortTrueSignalDescription());
       processMap.put("getStageJsonName", new getStageJsonName());
       processMap.put("getTrueSignal", new getTrueSignal());
+      processMap.put("getGroundTruth", new getGroundTruth());
       processMap.put("incrementTimeStep", new incrementTimeStep());
+      processMap.put("advance", new advance());
       processMap.put("setControlSignal", new setControlSignal());
+      processMap.put("setStagePosition", new setStagePosition());
+      processMap.put("setStageTrajectory", new setStageTrajectory());
+      processMap.put("setLaserSchedule", new setLaserSchedule());
       processMap.put("toJsonMessages", new toJsonMessages());
       processMap.put("toJsonState", new toJsonState());
       return processMap;
@@ -1471,6 +2097,35 @@ public class RemoteSimulationService {
       }
     }
 
+    public static class getEmittersInRegion<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getEmittersInRegion_args> {
+      public getEmittersInRegion() {
+        super("getEmittersInRegion");
+      }
+
+      public getEmittersInRegion_args getEmptyArgsInstance() {
+        return new getEmittersInRegion_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean handleRuntimeExceptions() {
+        return false;
+      }
+
+      public getEmittersInRegion_result getResult(I iface, getEmittersInRegion_args args) throws org.apache.thrift.TException {
+        getEmittersInRegion_result result = new getEmittersInRegion_result();
+        try {
+          result.success = iface.getEmittersInRegion(args.id, args.xMin, args.yMin, args.xMax, args.yMax);
+        } catch (UnknownSimulationIdException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
     public static class getFluorescenceJsonName<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getFluorescenceJsonName_args> {
       public getFluorescenceJsonName() {
         super("getFluorescenceJsonName");
@@ -1589,6 +2244,35 @@ public class RemoteSimulationService {
       }
     }
 
+    public static class getMetrics<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getMetrics_args> {
+      public getMetrics() {
+        super("getMetrics");
+      }
+
+      public getMetrics_args getEmptyArgsInstance() {
+        return new getMetrics_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean handleRuntimeExceptions() {
+        return false;
+      }
+
+      public getMetrics_result getResult(I iface, getMetrics_args args) throws org.apache.thrift.TException {
+        getMetrics_result result = new getMetrics_result();
+        try {
+          result.success = iface.getMetrics(args.id);
+        } catch (UnknownSimulationIdException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
     public static class getNextImage<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getNextImage_args> {
       public getNextImage() {
         super("getNextImage");
@@ -1679,6 +2363,36 @@ public class RemoteSimulationService {
       }
     }
 
+    public static class getOnEmitterCountInRegion<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getOnEmitterCountInRegion_args> {
+      public getOnEmitterCountInRegion() {
+        super("getOnEmitterCountInRegion");
+      }
+
+      public getOnEmitterCountInRegion_args getEmptyArgsInstance() {
+        return new getOnEmitterCountInRegion_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean handleRuntimeExceptions() {
+        return false;
+      }
+
+      public getOnEmitterCountInRegion_result getResult(I iface, getOnEmitterCountInRegion_args args) throws org.apache.thrift.TException {
+        getOnEmitterCountInRegion_result result = new getOnEmitterCountInRegion_result();
+        try {
+          result.success = iface.getOnEmitterCountInRegion(args.id, args.xMin, args.yMin, args.xMax, args.yMax);
+          result.setSuccessIsSet(true);
+        } catch (UnknownSimulationIdException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
     public static class getServerStatus<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getServerStatus_args> {
       public getServerStatus() {
         super("getServerStatus");
@@ -1792,6 +2506,35 @@ public class RemoteSimulationService {
       }
     }
 
+    public static class getGroundTruth<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getGroundTruth_args> {
+      public getGroundTruth() {
+        super("getGroundTruth");
+      }
+
+      public getGroundTruth_args getEmptyArgsInstance() {
+        return new getGroundTruth_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean handleRuntimeExceptions() {
+        return false;
+      }
+
+      public getGroundTruth_result getResult(I iface, getGroundTruth_args args) throws org.apache.thrift.TException {
+        getGroundTruth_result result = new getGroundTruth_result();
+        try {
+          result.success = iface.getGroundTruth(args.id, args.firstStep, args.lastStep);
+        } catch (UnknownSimulationIdException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
     public static class incrementTimeStep<I extends Iface> extends org.apache.thrift.ProcessFunction<I, incrementTimeStep_args> {
       public incrementTimeStep() {
         super("incrementTimeStep");
@@ -1821,13 +2564,13 @@ public class RemoteSimulationService {
       }
     }
 
-    public static class setControlSignal<I extends Iface> extends org.apache.thrift.ProcessFunction<I, setControlSignal_args> {
-      public setControlSignal() {
-        super("setControlSignal");
+    public static class advance<I extends Iface> extends org.apache.thrift.ProcessFunction<I, advance_args> {
+      public advance() {
+        super("advance");
       }
 
-      public setControlSignal_args getEmptyArgsInstance() {
-        return new setControlSignal_args();
+      public advance_args getEmptyArgsInstance() {
+        return new advance_args();
       }
 
       protected boolean isOneway() {
@@ -1839,10 +2582,10 @@ public class RemoteSimulationService {
         return false;
       }
 
-      public setControlSignal_result getResult(I iface, setControlSignal_args args) throws org.apache.thrift.TException {
-        setControlSignal_result result = new setControlSignal_result();
+      public advance_result getResult(I iface, advance_args args) throws org.apache.thrift.TException {
+        advance_result result = new advance_result();
         try {
-          iface.setControlSignal(args.id, args.power);
+          iface.advance(args.id, args.nFrames);
         } catch (UnknownSimulationIdException ex) {
           result.ex = ex;
         }
@@ -1850,13 +2593,13 @@ public class RemoteSimulationService {
       }
     }
 
-    public static class toJsonMessages<I extends Iface> extends org.apache.thrift.ProcessFunction<I, toJsonMessages_args> {
-      public toJsonMessages() {
-        super("toJsonMessages");
+    public static class setControlSignal<I extends Iface> extends org.apache.thrift.ProcessFunction<I, setControlSignal_args> {
+      public setControlSignal() {
+        super("setControlSignal");
       }
 
-      public toJsonMessages_args getEmptyArgsInstance() {
-        return new toJsonMessages_args();
+      public setControlSignal_args getEmptyArgsInstance() {
+        return new setControlSignal_args();
       }
 
       protected boolean isOneway() {
@@ -1868,10 +2611,10 @@ public class RemoteSimulationService {
         return false;
       }
 
-      public toJsonMessages_result getResult(I iface, toJsonMessages_args args) throws org.apache.thrift.TException {
-        toJsonMessages_result result = new toJsonMessages_result();
+      public setControlSignal_result getResult(I iface, setControlSignal_args args) throws org.apache.thrift.TException {
+        setControlSignal_result result = new setControlSignal_result();
         try {
-          result.success = iface.toJsonMessages(args.id);
+          iface.setControlSignal(args.id, args.power);
         } catch (UnknownSimulationIdException ex) {
           result.ex = ex;
         }
@@ -1879,13 +2622,13 @@ public class RemoteSimulationService {
       }
     }
 
-    public static class toJsonState<I extends Iface> extends org.apache.thrift.ProcessFunction<I, toJsonState_args> {
-      public toJsonState() {
-        super("toJsonState");
+    public static class setStagePosition<I extends Iface> extends org.apache.thrift.ProcessFunction<I, setStagePosition_args> {
+      public setStagePosition() {
+        super("setStagePosition");
       }
 
-      public toJsonState_args getEmptyArgsInstance() {
-        return new toJsonState_args();
+      public setStagePosition_args getEmptyArgsInstance() {
+        return new setStagePosition_args();
       }
 
       protected boolean isOneway() {
@@ -1897,10 +2640,10 @@ public class RemoteSimulationService {
         return false;
       }
 
-      public toJsonState_result getResult(I iface, toJsonState_args args) throws org.apache.thrift.TException {
-        toJsonState_result result = new toJsonState_result();
+      public setStagePosition_result getResult(I iface, setStagePosition_args args) throws org.apache.thrift.TException {
+        setStagePosition_result result = new setStagePosition_result();
         try {
-          result.success = iface.toJsonState(args.id);
+          iface.setStagePosition(args.id, args.x, args.y, args.z);
         } catch (UnknownSimulationIdException ex) {
           result.ex = ex;
         }
@@ -1908,9 +2651,125 @@ public class RemoteSimulationService {
       }
     }
 
-  }
+    public static class setStageTrajectory<I extends Iface> extends org.apache.thrift.ProcessFunction<I, setStageTrajectory_args> {
+      public setStageTrajectory() {
+        super("setStageTrajectory");
+      }
 
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+      public setStageTrajectory_args getEmptyArgsInstance() {
+        return new setStageTrajectory_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean handleRuntimeExceptions() {
+        return false;
+      }
+
+      public setStageTrajectory_result getResult(I iface, setStageTrajectory_args args) throws org.apache.thrift.TException {
+        setStageTrajectory_result result = new setStageTrajectory_result();
+        try {
+          iface.setStageTrajectory(args.id, args.trajectory);
+        } catch (UnknownSimulationIdException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
+    public static class setLaserSchedule<I extends Iface> extends org.apache.thrift.ProcessFunction<I, setLaserSchedule_args> {
+      public setLaserSchedule() {
+        super("setLaserSchedule");
+      }
+
+      public setLaserSchedule_args getEmptyArgsInstance() {
+        return new setLaserSchedule_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean handleRuntimeExceptions() {
+        return false;
+      }
+
+      public setLaserSchedule_result getResult(I iface, setLaserSchedule_args args) throws org.apache.thrift.TException {
+        setLaserSchedule_result result = new setLaserSchedule_result();
+        try {
+          iface.setLaserSchedule(args.id, args.schedule);
+        } catch (UnknownSimulationIdException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
+    public static class toJsonMessages<I extends Iface> extends org.apache.thrift.ProcessFunction<I, toJsonMessages_args> {
+      public toJsonMessages() {
+        super("toJsonMessages");
+      }
+
+      public toJsonMessages_args getEmptyArgsInstance() {
+        return new toJsonMessages_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean handleRuntimeExceptions() {
+        return false;
+      }
+
+      public toJsonMessages_result getResult(I iface, toJsonMessages_args args) throws org.apache.thrift.TException {
+        toJsonMessages_result result = new toJsonMessages_result();
+        try {
+          result.success = iface.toJsonMessages(args.id);
+        } catch (UnknownSimulationIdException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
+    public static class toJsonState<I extends Iface> extends org.apache.thrift.ProcessFunction<I, toJsonState_args> {
+      public toJsonState() {
+        super("toJsonState");
+      }
+
+      public toJsonState_args getEmptyArgsInstance() {
+        return new toJsonState_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      @Override
+      protected boolean handleRuntimeExceptions() {
+        return false;
+      }
+
+      public toJsonState_result getResult(I iface, toJsonState_args args) throws org.apache.thrift.TException {
+        toJsonState_result result = new toJsonState_result();
+        try {
+          result.success = iface.toJsonState(args.id);
+        } catch (UnknownSimulationIdException ex) {
+          result.ex = ex;
+        }
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
     private static final org.slf4j.Logger _LOGGER = org.slf4j.LoggerFactory.getLogger(AsyncProcessor.class.getName());
     public AsyncProcessor(I iface) {
       super(iface, getProcessMap(new java.util.HashMap<java.lang.String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
@@ -1925,19 +2784,27 @@ public class RemoteSimulationService {
       processMap.put("deleteSimulation", new deleteSimulation());
       processMap.put("getControlSignal", new getControlSignal());
       processMap.put("getCameraJsonName", new getCameraJsonName());
+      processMap.put("getEmittersInRegion", new getEmittersInRegion());
       processMap.put("getFluorescenceJsonName", new getFluorescenceJsonName());
       processMap.put("getFovSize", new getFovSize());
       processMap.put("getImageCount", new getImageCount());
       processMap.put("getLaserJsonName", new getLaserJsonName());
+      processMap.put("getMetrics", new getMetrics());
       processMap.put("getNextImage", new getNextImage());
       processMap.put("getObjectiveJsonName", new getObjectiveJsonName());
       processMap.put("getObjectSpacePixelSize", new getObjectSpacePixelSize());
+      processMap.put("getOnEmitterCountInRegion", new getOnEmitterCountInRegion());
       processMap.put("getServerStatus", new getServerStatus());
       processMap.put("getShortTrueSignalDescription", new getShortTrueSignalDescription());
       processMap.put("getStageJsonName", new getStageJsonName());
       processMap.put("getTrueSignal", new getTrueSignal());
+      processMap.put("getGroundTruth", new getGroundTruth());
       processMap.put("incrementTimeStep", new incrementTimeStep());
+      processMap.put("advance", new advance());
       processMap.put("setControlSignal", new setControlSignal());
+      processMap.put("setStagePosition", new setStagePosition());
+      processMap.put("setStageTrajectory", new setStageTrajectory());
+      processMap.put("setLaserSchedule", new setLaserSchedule());
       processMap.put("toJsonMessages", new toJsonMessages());
       processMap.put("toJsonState", new toJsonState());
       return processMap;
@@ -2200,6 +3067,71 @@ public class RemoteSimulationService {
       }
     }
 
+    public static class getEmittersInRegion<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getEmittersInRegion_args, java.lang.String> {
+      public getEmittersInRegion() {
+        super("getEmittersInRegion");
+      }
+
+      public getEmittersInRegion_args getEmptyArgsInstance() {
+        return new getEmittersInRegion_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            getEmittersInRegion_result result = new getEmittersInRegion_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getEmittersInRegion_result result = new getEmittersInRegion_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getEmittersInRegion_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.getEmittersInRegion(args.id, args.xMin, args.yMin, args.xMax, args.yMax,resultHandler);
+      }
+    }
+
     public static class getFluorescenceJsonName<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getFluorescenceJsonName_args, java.lang.String> {
       public getFluorescenceJsonName() {
         super("getFluorescenceJsonName");
@@ -2462,6 +3394,71 @@ public class RemoteSimulationService {
       }
     }
 
+    public static class getMetrics<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getMetrics_args, java.lang.String> {
+      public getMetrics() {
+        super("getMetrics");
+      }
+
+      public getMetrics_args getEmptyArgsInstance() {
+        return new getMetrics_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            getMetrics_result result = new getMetrics_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getMetrics_result result = new getMetrics_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getMetrics_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.getMetrics(args.id,resultHandler);
+      }
+    }
+
     public static class getNextImage<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getNextImage_args, java.nio.ByteBuffer> {
       public getNextImage() {
         super("getNextImage");
@@ -2662,21 +3659,22 @@ public class RemoteSimulationService {
       }
     }
 
-    public static class getServerStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getServerStatus_args, java.lang.String> {
-      public getServerStatus() {
-        super("getServerStatus");
+    public static class getOnEmitterCountInRegion<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getOnEmitterCountInRegion_args, java.lang.Integer> {
+      public getOnEmitterCountInRegion() {
+        super("getOnEmitterCountInRegion");
       }
 
-      public getServerStatus_args getEmptyArgsInstance() {
-        return new getServerStatus_args();
+      public getOnEmitterCountInRegion_args getEmptyArgsInstance() {
+        return new getOnEmitterCountInRegion_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.Integer> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
-          public void onComplete(java.lang.String o) {
-            getServerStatus_result result = new getServerStatus_result();
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.Integer>() { 
+          public void onComplete(java.lang.Integer o) {
+            getOnEmitterCountInRegion_result result = new getOnEmitterCountInRegion_result();
             result.success = o;
+            result.setSuccessIsSet(true);
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -2690,8 +3688,12 @@ public class RemoteSimulationService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getServerStatus_result result = new getServerStatus_result();
-            if (e instanceof org.apache.thrift.transport.TTransportException) {
+            getOnEmitterCountInRegion_result result = new getOnEmitterCountInRegion_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
               return;
@@ -2718,25 +3720,25 @@ public class RemoteSimulationService {
         return false;
       }
 
-      public void start(I iface, getServerStatus_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
-        iface.getServerStatus(resultHandler);
+      public void start(I iface, getOnEmitterCountInRegion_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.Integer> resultHandler) throws org.apache.thrift.TException {
+        iface.getOnEmitterCountInRegion(args.id, args.xMin, args.yMin, args.xMax, args.yMax,resultHandler);
       }
     }
 
-    public static class getShortTrueSignalDescription<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getShortTrueSignalDescription_args, java.lang.String> {
-      public getShortTrueSignalDescription() {
-        super("getShortTrueSignalDescription");
+    public static class getServerStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getServerStatus_args, java.lang.String> {
+      public getServerStatus() {
+        super("getServerStatus");
       }
 
-      public getShortTrueSignalDescription_args getEmptyArgsInstance() {
-        return new getShortTrueSignalDescription_args();
+      public getServerStatus_args getEmptyArgsInstance() {
+        return new getServerStatus_args();
       }
 
       public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
           public void onComplete(java.lang.String o) {
-            getShortTrueSignalDescription_result result = new getShortTrueSignalDescription_result();
+            getServerStatus_result result = new getServerStatus_result();
             result.success = o;
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2751,12 +3753,8 @@ public class RemoteSimulationService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            getShortTrueSignalDescription_result result = new getShortTrueSignalDescription_result();
-            if (e instanceof UnknownSimulationIdException) {
-              result.ex = (UnknownSimulationIdException) e;
-              result.setExIsSet(true);
-              msg = result;
-            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+            getServerStatus_result result = new getServerStatus_result();
+            if (e instanceof org.apache.thrift.transport.TTransportException) {
               _LOGGER.error("TTransportException inside handler", e);
               fb.close();
               return;
@@ -2783,7 +3781,72 @@ public class RemoteSimulationService {
         return false;
       }
 
-      public void start(I iface, getShortTrueSignalDescription_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+      public void start(I iface, getServerStatus_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.getServerStatus(resultHandler);
+      }
+    }
+
+    public static class getShortTrueSignalDescription<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getShortTrueSignalDescription_args, java.lang.String> {
+      public getShortTrueSignalDescription() {
+        super("getShortTrueSignalDescription");
+      }
+
+      public getShortTrueSignalDescription_args getEmptyArgsInstance() {
+        return new getShortTrueSignalDescription_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            getShortTrueSignalDescription_result result = new getShortTrueSignalDescription_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getShortTrueSignalDescription_result result = new getShortTrueSignalDescription_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getShortTrueSignalDescription_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
         iface.getShortTrueSignalDescription(args.id,resultHandler);
       }
     }
@@ -2919,6 +3982,71 @@ public class RemoteSimulationService {
       }
     }
 
+    public static class getGroundTruth<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getGroundTruth_args, java.lang.String> {
+      public getGroundTruth() {
+        super("getGroundTruth");
+      }
+
+      public getGroundTruth_args getEmptyArgsInstance() {
+        return new getGroundTruth_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            getGroundTruth_result result = new getGroundTruth_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            getGroundTruth_result result = new getGroundTruth_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getGroundTruth_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.getGroundTruth(args.id, args.firstStep, args.lastStep,resultHandler);
+      }
+    }
+
     public static class incrementTimeStep<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, incrementTimeStep_args, Void> {
       public incrementTimeStep() {
         super("incrementTimeStep");
@@ -2983,6 +4111,70 @@ public class RemoteSimulationService {
       }
     }
 
+    public static class advance<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, advance_args, Void> {
+      public advance() {
+        super("advance");
+      }
+
+      public advance_args getEmptyArgsInstance() {
+        return new advance_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            advance_result result = new advance_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            advance_result result = new advance_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, advance_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.advance(args.id, args.nFrames,resultHandler);
+      }
+    }
+
     public static class setControlSignal<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setControlSignal_args, Void> {
       public setControlSignal() {
         super("setControlSignal");
@@ -3047,21 +4239,20 @@ public class RemoteSimulationService {
       }
     }
 
-    public static class toJsonMessages<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, toJsonMessages_args, java.lang.String> {
-      public toJsonMessages() {
-        super("toJsonMessages");
+    public static class setStagePosition<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setStagePosition_args, Void> {
+      public setStagePosition() {
+        super("setStagePosition");
       }
 
-      public toJsonMessages_args getEmptyArgsInstance() {
-        return new toJsonMessages_args();
+      public setStagePosition_args getEmptyArgsInstance() {
+        return new setStagePosition_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
-          public void onComplete(java.lang.String o) {
-            toJsonMessages_result result = new toJsonMessages_result();
-            result.success = o;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            setStagePosition_result result = new setStagePosition_result();
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -3075,7 +4266,7 @@ public class RemoteSimulationService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            toJsonMessages_result result = new toJsonMessages_result();
+            setStagePosition_result result = new setStagePosition_result();
             if (e instanceof UnknownSimulationIdException) {
               result.ex = (UnknownSimulationIdException) e;
               result.setExIsSet(true);
@@ -3107,26 +4298,25 @@ public class RemoteSimulationService {
         return false;
       }
 
-      public void start(I iface, toJsonMessages_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
-        iface.toJsonMessages(args.id,resultHandler);
+      public void start(I iface, setStagePosition_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.setStagePosition(args.id, args.x, args.y, args.z,resultHandler);
       }
     }
 
-    public static class toJsonState<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, toJsonState_args, java.lang.String> {
-      public toJsonState() {
-        super("toJsonState");
+    public static class setStageTrajectory<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setStageTrajectory_args, Void> {
+      public setStageTrajectory() {
+        super("setStageTrajectory");
       }
 
-      public toJsonState_args getEmptyArgsInstance() {
-        return new toJsonState_args();
+      public setStageTrajectory_args getEmptyArgsInstance() {
+        return new setStageTrajectory_args();
       }
 
-      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
-          public void onComplete(java.lang.String o) {
-            toJsonState_result result = new toJsonState_result();
-            result.success = o;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            setStageTrajectory_result result = new setStageTrajectory_result();
             try {
               fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
             } catch (org.apache.thrift.transport.TTransportException e) {
@@ -3140,7 +4330,7 @@ public class RemoteSimulationService {
           public void onError(java.lang.Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TSerializable msg;
-            toJsonState_result result = new toJsonState_result();
+            setStageTrajectory_result result = new setStageTrajectory_result();
             if (e instanceof UnknownSimulationIdException) {
               result.ex = (UnknownSimulationIdException) e;
               result.setExIsSet(true);
@@ -3172,62 +4362,256 @@ public class RemoteSimulationService {
         return false;
       }
 
-      public void start(I iface, toJsonState_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
-        iface.toJsonState(args.id,resultHandler);
+      public void start(I iface, setStageTrajectory_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.setStageTrajectory(args.id, args.trajectory,resultHandler);
       }
     }
 
-  }
-
-  public static class createSimulation_args implements org.apache.thrift.TBase<createSimulation_args, createSimulation_args._Fields>, java.io.Serializable, Cloneable, Comparable<createSimulation_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createSimulation_args");
-
-
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createSimulation_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createSimulation_argsTupleSchemeFactory();
-
-
-    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
-    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
-
-      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
-
-      static {
-        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
-          byName.put(field.getFieldName(), field);
-        }
-      }
-
-      /**
-       * Find the _Fields constant that matches fieldId, or null if its not found.
-       */
-      public static _Fields findByThriftId(int fieldId) {
-        switch(fieldId) {
-          default:
-            return null;
-        }
-      }
-
-      /**
-       * Find the _Fields constant that matches fieldId, throwing an exception
-       * if it is not found.
-       */
-      public static _Fields findByThriftIdOrThrow(int fieldId) {
-        _Fields fields = findByThriftId(fieldId);
-        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
-        return fields;
+    public static class setLaserSchedule<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, setLaserSchedule_args, Void> {
+      public setLaserSchedule() {
+        super("setLaserSchedule");
       }
 
-      /**
-       * Find the _Fields constant that matches name, or null if its not found.
-       */
-      public static _Fields findByName(java.lang.String name) {
-        return byName.get(name);
+      public setLaserSchedule_args getEmptyArgsInstance() {
+        return new setLaserSchedule_args();
       }
 
-      private final short _thriftId;
-      private final java.lang.String _fieldName;
+      public org.apache.thrift.async.AsyncMethodCallback<Void> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            setLaserSchedule_result result = new setLaserSchedule_result();
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            setLaserSchedule_result result = new setLaserSchedule_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, setLaserSchedule_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws org.apache.thrift.TException {
+        iface.setLaserSchedule(args.id, args.schedule,resultHandler);
+      }
+    }
+
+    public static class toJsonMessages<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, toJsonMessages_args, java.lang.String> {
+      public toJsonMessages() {
+        super("toJsonMessages");
+      }
+
+      public toJsonMessages_args getEmptyArgsInstance() {
+        return new toJsonMessages_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            toJsonMessages_result result = new toJsonMessages_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            toJsonMessages_result result = new toJsonMessages_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, toJsonMessages_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.toJsonMessages(args.id,resultHandler);
+      }
+    }
+
+    public static class toJsonState<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, toJsonState_args, java.lang.String> {
+      public toJsonState() {
+        super("toJsonState");
+      }
+
+      public toJsonState_args getEmptyArgsInstance() {
+        return new toJsonState_args();
+      }
+
+      public org.apache.thrift.async.AsyncMethodCallback<java.lang.String> getResultHandler(final org.apache.thrift.server.AbstractNonblockingServer.AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new org.apache.thrift.async.AsyncMethodCallback<java.lang.String>() { 
+          public void onComplete(java.lang.String o) {
+            toJsonState_result result = new toJsonState_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb, result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+            } catch (org.apache.thrift.transport.TTransportException e) {
+              _LOGGER.error("TTransportException writing to internal frame buffer", e);
+              fb.close();
+            } catch (java.lang.Exception e) {
+              _LOGGER.error("Exception writing to internal frame buffer", e);
+              onError(e);
+            }
+          }
+          public void onError(java.lang.Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TSerializable msg;
+            toJsonState_result result = new toJsonState_result();
+            if (e instanceof UnknownSimulationIdException) {
+              result.ex = (UnknownSimulationIdException) e;
+              result.setExIsSet(true);
+              msg = result;
+            } else if (e instanceof org.apache.thrift.transport.TTransportException) {
+              _LOGGER.error("TTransportException inside handler", e);
+              fb.close();
+              return;
+            } else if (e instanceof org.apache.thrift.TApplicationException) {
+              _LOGGER.error("TApplicationException inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TApplicationException)e;
+            } else {
+              _LOGGER.error("Exception inside handler", e);
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+            } catch (java.lang.Exception ex) {
+              _LOGGER.error("Exception writing to internal frame buffer", ex);
+              fb.close();
+            }
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, toJsonState_args args, org.apache.thrift.async.AsyncMethodCallback<java.lang.String> resultHandler) throws org.apache.thrift.TException {
+        iface.toJsonState(args.id,resultHandler);
+      }
+    }
+
+  }
+
+  public static class createSimulation_args implements org.apache.thrift.TBase<createSimulation_args, createSimulation_args._Fields>, java.io.Serializable, Cloneable, Comparable<createSimulation_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("createSimulation_args");
+
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new createSimulation_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new createSimulation_argsTupleSchemeFactory();
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+;
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
 
       _Fields(short thriftId, java.lang.String fieldName) {
         _thriftId = thriftId;
@@ -3644,8 +5028,6855 @@ public class RemoteSimulationService {
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("createSimulation_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class createSimulation_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public createSimulation_resultStandardScheme getScheme() {
+        return new createSimulation_resultStandardScheme();
+      }
+    }
+
+    private static class createSimulation_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<createSimulation_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, createSimulation_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, createSimulation_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI32(struct.success);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class createSimulation_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public createSimulation_resultTupleScheme getScheme() {
+        return new createSimulation_resultTupleScheme();
+      }
+    }
+
+    private static class createSimulation_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<createSimulation_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, createSimulation_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, createSimulation_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI32();
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class deleteSimulation_args implements org.apache.thrift.TBase<deleteSimulation_args, deleteSimulation_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteSimulation_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteSimulation_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteSimulation_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteSimulation_argsTupleSchemeFactory();
+
+    public int id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteSimulation_args.class, metaDataMap);
+    }
+
+    public deleteSimulation_args() {
+    }
+
+    public deleteSimulation_args(
+      int id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteSimulation_args(deleteSimulation_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    public deleteSimulation_args deepCopy() {
+      return new deleteSimulation_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public deleteSimulation_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof deleteSimulation_args)
+        return this.equals((deleteSimulation_args)that);
+      return false;
+    }
+
+    public boolean equals(deleteSimulation_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + id;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(deleteSimulation_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteSimulation_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteSimulation_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public deleteSimulation_argsStandardScheme getScheme() {
+        return new deleteSimulation_argsStandardScheme();
+      }
+    }
+
+    private static class deleteSimulation_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteSimulation_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteSimulation_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteSimulation_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteSimulation_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public deleteSimulation_argsTupleScheme getScheme() {
+        return new deleteSimulation_argsTupleScheme();
+      }
+    }
+
+    private static class deleteSimulation_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteSimulation_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteSimulation_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteSimulation_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class deleteSimulation_result implements org.apache.thrift.TBase<deleteSimulation_result, deleteSimulation_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteSimulation_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteSimulation_result");
+
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteSimulation_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteSimulation_resultTupleSchemeFactory();
+
+    public UnknownSimulationIdException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteSimulation_result.class, metaDataMap);
+    }
+
+    public deleteSimulation_result() {
+    }
+
+    public deleteSimulation_result(
+      UnknownSimulationIdException ex)
+    {
+      this();
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteSimulation_result(deleteSimulation_result other) {
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
+      }
+    }
+
+    public deleteSimulation_result deepCopy() {
+      return new deleteSimulation_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.ex = null;
+    }
+
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
+    }
+
+    public deleteSimulation_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UnknownSimulationIdException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof deleteSimulation_result)
+        return this.equals((deleteSimulation_result)that);
+      return false;
+    }
+
+    public boolean equals(deleteSimulation_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(deleteSimulation_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteSimulation_result(");
+      boolean first = true;
+
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteSimulation_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public deleteSimulation_resultStandardScheme getScheme() {
+        return new deleteSimulation_resultStandardScheme();
+      }
+    }
+
+    private static class deleteSimulation_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteSimulation_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteSimulation_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteSimulation_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteSimulation_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public deleteSimulation_resultTupleScheme getScheme() {
+        return new deleteSimulation_resultTupleScheme();
+      }
+    }
+
+    private static class deleteSimulation_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteSimulation_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteSimulation_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetEx()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteSimulation_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getControlSignal_args implements org.apache.thrift.TBase<getControlSignal_args, getControlSignal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getControlSignal_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getControlSignal_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getControlSignal_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getControlSignal_argsTupleSchemeFactory();
+
+    public int id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getControlSignal_args.class, metaDataMap);
+    }
+
+    public getControlSignal_args() {
+    }
+
+    public getControlSignal_args(
+      int id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getControlSignal_args(getControlSignal_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    public getControlSignal_args deepCopy() {
+      return new getControlSignal_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public getControlSignal_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getControlSignal_args)
+        return this.equals((getControlSignal_args)that);
+      return false;
+    }
+
+    public boolean equals(getControlSignal_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + id;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getControlSignal_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getControlSignal_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getControlSignal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getControlSignal_argsStandardScheme getScheme() {
+        return new getControlSignal_argsStandardScheme();
+      }
+    }
+
+    private static class getControlSignal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getControlSignal_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getControlSignal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getControlSignal_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getControlSignal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getControlSignal_argsTupleScheme getScheme() {
+        return new getControlSignal_argsTupleScheme();
+      }
+    }
+
+    private static class getControlSignal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getControlSignal_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getControlSignal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getControlSignal_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getControlSignal_result implements org.apache.thrift.TBase<getControlSignal_result, getControlSignal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getControlSignal_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getControlSignal_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.DOUBLE, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getControlSignal_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getControlSignal_resultTupleSchemeFactory();
+
+    public double success; // required
+    public UnknownSimulationIdException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getControlSignal_result.class, metaDataMap);
+    }
+
+    public getControlSignal_result() {
+    }
+
+    public getControlSignal_result(
+      double success,
+      UnknownSimulationIdException ex)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getControlSignal_result(getControlSignal_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
+      }
+    }
+
+    public getControlSignal_result deepCopy() {
+      return new getControlSignal_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0.0;
+      this.ex = null;
+    }
+
+    public double getSuccess() {
+      return this.success;
+    }
+
+    public getControlSignal_result setSuccess(double success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
+    }
+
+    public getControlSignal_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.Double)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UnknownSimulationIdException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getControlSignal_result)
+        return this.equals((getControlSignal_result)that);
+      return false;
+    }
+
+    public boolean equals(getControlSignal_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getControlSignal_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getControlSignal_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getControlSignal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getControlSignal_resultStandardScheme getScheme() {
+        return new getControlSignal_resultStandardScheme();
+      }
+    }
+
+    private static class getControlSignal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getControlSignal_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getControlSignal_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.success = iprot.readDouble();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getControlSignal_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeDouble(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getControlSignal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getControlSignal_resultTupleScheme getScheme() {
+        return new getControlSignal_resultTupleScheme();
+      }
+    }
+
+    private static class getControlSignal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getControlSignal_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getControlSignal_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeDouble(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getControlSignal_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readDouble();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getCameraJsonName_args implements org.apache.thrift.TBase<getCameraJsonName_args, getCameraJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getCameraJsonName_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getCameraJsonName_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getCameraJsonName_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getCameraJsonName_argsTupleSchemeFactory();
+
+    public int id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getCameraJsonName_args.class, metaDataMap);
+    }
+
+    public getCameraJsonName_args() {
+    }
+
+    public getCameraJsonName_args(
+      int id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getCameraJsonName_args(getCameraJsonName_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    public getCameraJsonName_args deepCopy() {
+      return new getCameraJsonName_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public getCameraJsonName_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getCameraJsonName_args)
+        return this.equals((getCameraJsonName_args)that);
+      return false;
+    }
+
+    public boolean equals(getCameraJsonName_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + id;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getCameraJsonName_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getCameraJsonName_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getCameraJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getCameraJsonName_argsStandardScheme getScheme() {
+        return new getCameraJsonName_argsStandardScheme();
+      }
+    }
+
+    private static class getCameraJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getCameraJsonName_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getCameraJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getCameraJsonName_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getCameraJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getCameraJsonName_argsTupleScheme getScheme() {
+        return new getCameraJsonName_argsTupleScheme();
+      }
+    }
+
+    private static class getCameraJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getCameraJsonName_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getCameraJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getCameraJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getCameraJsonName_result implements org.apache.thrift.TBase<getCameraJsonName_result, getCameraJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getCameraJsonName_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getCameraJsonName_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getCameraJsonName_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getCameraJsonName_resultTupleSchemeFactory();
+
+    public java.lang.String success; // required
+    public UnknownSimulationIdException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getCameraJsonName_result.class, metaDataMap);
+    }
+
+    public getCameraJsonName_result() {
+    }
+
+    public getCameraJsonName_result(
+      java.lang.String success,
+      UnknownSimulationIdException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getCameraJsonName_result(getCameraJsonName_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
+      }
+    }
+
+    public getCameraJsonName_result deepCopy() {
+      return new getCameraJsonName_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public java.lang.String getSuccess() {
+      return this.success;
+    }
+
+    public getCameraJsonName_result setSuccess(java.lang.String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
+    }
+
+    public getCameraJsonName_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.String)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UnknownSimulationIdException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getCameraJsonName_result)
+        return this.equals((getCameraJsonName_result)that);
+      return false;
+    }
+
+    public boolean equals(getCameraJsonName_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getCameraJsonName_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getCameraJsonName_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getCameraJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getCameraJsonName_resultStandardScheme getScheme() {
+        return new getCameraJsonName_resultStandardScheme();
+      }
+    }
+
+    private static class getCameraJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getCameraJsonName_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getCameraJsonName_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getCameraJsonName_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getCameraJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getCameraJsonName_resultTupleScheme getScheme() {
+        return new getCameraJsonName_resultTupleScheme();
+      }
+    }
+
+    private static class getCameraJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getCameraJsonName_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getCameraJsonName_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getCameraJsonName_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getEmittersInRegion_args implements org.apache.thrift.TBase<getEmittersInRegion_args, getEmittersInRegion_args._Fields>, java.io.Serializable, Cloneable, Comparable<getEmittersInRegion_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEmittersInRegion_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField X_MIN_FIELD_DESC = new org.apache.thrift.protocol.TField("xMin", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField Y_MIN_FIELD_DESC = new org.apache.thrift.protocol.TField("yMin", org.apache.thrift.protocol.TType.DOUBLE, (short)3);
+    private static final org.apache.thrift.protocol.TField X_MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("xMax", org.apache.thrift.protocol.TType.DOUBLE, (short)4);
+    private static final org.apache.thrift.protocol.TField Y_MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("yMax", org.apache.thrift.protocol.TType.DOUBLE, (short)5);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getEmittersInRegion_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getEmittersInRegion_argsTupleSchemeFactory();
+
+    public int id; // required
+    public double xMin; // required
+    public double yMin; // required
+    public double xMax; // required
+    public double yMax; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id"),
+      X_MIN((short)2, "xMin"),
+      Y_MIN((short)3, "yMin"),
+      X_MAX((short)4, "xMax"),
+      Y_MAX((short)5, "yMax");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          case 2: // X_MIN
+            return X_MIN;
+          case 3: // Y_MIN
+            return Y_MIN;
+          case 4: // X_MAX
+            return X_MAX;
+          case 5: // Y_MAX
+            return Y_MAX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private static final int __XMIN_ISSET_ID = 1;
+    private static final int __YMIN_ISSET_ID = 2;
+    private static final int __XMAX_ISSET_ID = 3;
+    private static final int __YMAX_ISSET_ID = 4;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.X_MIN, new org.apache.thrift.meta_data.FieldMetaData("xMin", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.Y_MIN, new org.apache.thrift.meta_data.FieldMetaData("yMin", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.X_MAX, new org.apache.thrift.meta_data.FieldMetaData("xMax", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.Y_MAX, new org.apache.thrift.meta_data.FieldMetaData("yMax", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEmittersInRegion_args.class, metaDataMap);
+    }
+
+    public getEmittersInRegion_args() {
+    }
+
+    public getEmittersInRegion_args(
+      int id,
+      double xMin,
+      double yMin,
+      double xMax,
+      double yMax)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+      this.xMin = xMin;
+      setXMinIsSet(true);
+      this.yMin = yMin;
+      setYMinIsSet(true);
+      this.xMax = xMax;
+      setXMaxIsSet(true);
+      this.yMax = yMax;
+      setYMaxIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getEmittersInRegion_args(getEmittersInRegion_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+      this.xMin = other.xMin;
+      this.yMin = other.yMin;
+      this.xMax = other.xMax;
+      this.yMax = other.yMax;
+    }
+
+    public getEmittersInRegion_args deepCopy() {
+      return new getEmittersInRegion_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+      setXMinIsSet(false);
+      this.xMin = 0.0;
+      setYMinIsSet(false);
+      this.yMin = 0.0;
+      setXMaxIsSet(false);
+      this.xMax = 0.0;
+      setYMaxIsSet(false);
+      this.yMax = 0.0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public getEmittersInRegion_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public double getXMin() {
+      return this.xMin;
+    }
+
+    public getEmittersInRegion_args setXMin(double xMin) {
+      this.xMin = xMin;
+      setXMinIsSet(true);
+      return this;
+    }
+
+    public void unsetXMin() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __XMIN_ISSET_ID);
+    }
+
+    /** Returns true if field xMin is set (has been assigned a value) and false otherwise */
+    public boolean isSetXMin() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __XMIN_ISSET_ID);
+    }
+
+    public void setXMinIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __XMIN_ISSET_ID, value);
+    }
+
+    public double getYMin() {
+      return this.yMin;
+    }
+
+    public getEmittersInRegion_args setYMin(double yMin) {
+      this.yMin = yMin;
+      setYMinIsSet(true);
+      return this;
+    }
+
+    public void unsetYMin() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __YMIN_ISSET_ID);
+    }
+
+    /** Returns true if field yMin is set (has been assigned a value) and false otherwise */
+    public boolean isSetYMin() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __YMIN_ISSET_ID);
+    }
+
+    public void setYMinIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __YMIN_ISSET_ID, value);
+    }
+
+    public double getXMax() {
+      return this.xMax;
+    }
+
+    public getEmittersInRegion_args setXMax(double xMax) {
+      this.xMax = xMax;
+      setXMaxIsSet(true);
+      return this;
+    }
+
+    public void unsetXMax() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __XMAX_ISSET_ID);
+    }
+
+    /** Returns true if field xMax is set (has been assigned a value) and false otherwise */
+    public boolean isSetXMax() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __XMAX_ISSET_ID);
+    }
+
+    public void setXMaxIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __XMAX_ISSET_ID, value);
+    }
+
+    public double getYMax() {
+      return this.yMax;
+    }
+
+    public getEmittersInRegion_args setYMax(double yMax) {
+      this.yMax = yMax;
+      setYMaxIsSet(true);
+      return this;
+    }
+
+    public void unsetYMax() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __YMAX_ISSET_ID);
+    }
+
+    /** Returns true if field yMax is set (has been assigned a value) and false otherwise */
+    public boolean isSetYMax() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __YMAX_ISSET_ID);
+    }
+
+    public void setYMaxIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __YMAX_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
+      case X_MIN:
+        if (value == null) {
+          unsetXMin();
+        } else {
+          setXMin((java.lang.Double)value);
+        }
+        break;
+
+      case Y_MIN:
+        if (value == null) {
+          unsetYMin();
+        } else {
+          setYMin((java.lang.Double)value);
+        }
+        break;
+
+      case X_MAX:
+        if (value == null) {
+          unsetXMax();
+        } else {
+          setXMax((java.lang.Double)value);
+        }
+        break;
+
+      case Y_MAX:
+        if (value == null) {
+          unsetYMax();
+        } else {
+          setYMax((java.lang.Double)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      case X_MIN:
+        return getXMin();
+
+      case Y_MIN:
+        return getYMin();
+
+      case X_MAX:
+        return getXMax();
+
+      case Y_MAX:
+        return getYMax();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      case X_MIN:
+        return isSetXMin();
+      case Y_MIN:
+        return isSetYMin();
+      case X_MAX:
+        return isSetXMax();
+      case Y_MAX:
+        return isSetYMax();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getEmittersInRegion_args)
+        return this.equals((getEmittersInRegion_args)that);
+      return false;
+    }
+
+    public boolean equals(getEmittersInRegion_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      boolean this_present_xMin = true;
+      boolean that_present_xMin = true;
+      if (this_present_xMin || that_present_xMin) {
+        if (!(this_present_xMin && that_present_xMin))
+          return false;
+        if (this.xMin != that.xMin)
+          return false;
+      }
+
+      boolean this_present_yMin = true;
+      boolean that_present_yMin = true;
+      if (this_present_yMin || that_present_yMin) {
+        if (!(this_present_yMin && that_present_yMin))
+          return false;
+        if (this.yMin != that.yMin)
+          return false;
+      }
+
+      boolean this_present_xMax = true;
+      boolean that_present_xMax = true;
+      if (this_present_xMax || that_present_xMax) {
+        if (!(this_present_xMax && that_present_xMax))
+          return false;
+        if (this.xMax != that.xMax)
+          return false;
+      }
+
+      boolean this_present_yMax = true;
+      boolean that_present_yMax = true;
+      if (this_present_yMax || that_present_yMax) {
+        if (!(this_present_yMax && that_present_yMax))
+          return false;
+        if (this.yMax != that.yMax)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + id;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(xMin);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(yMin);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(xMax);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(yMax);
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getEmittersInRegion_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetXMin()).compareTo(other.isSetXMin());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetXMin()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.xMin, other.xMin);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetYMin()).compareTo(other.isSetYMin());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetYMin()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.yMin, other.yMin);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetXMax()).compareTo(other.isSetXMax());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetXMax()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.xMax, other.xMax);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetYMax()).compareTo(other.isSetYMax());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetYMax()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.yMax, other.yMax);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getEmittersInRegion_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("xMin:");
+      sb.append(this.xMin);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("yMin:");
+      sb.append(this.yMin);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("xMax:");
+      sb.append(this.xMax);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("yMax:");
+      sb.append(this.yMax);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getEmittersInRegion_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEmittersInRegion_argsStandardScheme getScheme() {
+        return new getEmittersInRegion_argsStandardScheme();
+      }
+    }
+
+    private static class getEmittersInRegion_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getEmittersInRegion_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEmittersInRegion_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // X_MIN
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.xMin = iprot.readDouble();
+                struct.setXMinIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // Y_MIN
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.yMin = iprot.readDouble();
+                struct.setYMinIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // X_MAX
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.xMax = iprot.readDouble();
+                struct.setXMaxIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // Y_MAX
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.yMax = iprot.readDouble();
+                struct.setYMaxIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEmittersInRegion_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(X_MIN_FIELD_DESC);
+        oprot.writeDouble(struct.xMin);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(Y_MIN_FIELD_DESC);
+        oprot.writeDouble(struct.yMin);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(X_MAX_FIELD_DESC);
+        oprot.writeDouble(struct.xMax);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(Y_MAX_FIELD_DESC);
+        oprot.writeDouble(struct.yMax);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getEmittersInRegion_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEmittersInRegion_argsTupleScheme getScheme() {
+        return new getEmittersInRegion_argsTupleScheme();
+      }
+    }
+
+    private static class getEmittersInRegion_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getEmittersInRegion_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEmittersInRegion_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        if (struct.isSetXMin()) {
+          optionals.set(1);
+        }
+        if (struct.isSetYMin()) {
+          optionals.set(2);
+        }
+        if (struct.isSetXMax()) {
+          optionals.set(3);
+        }
+        if (struct.isSetYMax()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
+        if (struct.isSetXMin()) {
+          oprot.writeDouble(struct.xMin);
+        }
+        if (struct.isSetYMin()) {
+          oprot.writeDouble(struct.yMin);
+        }
+        if (struct.isSetXMax()) {
+          oprot.writeDouble(struct.xMax);
+        }
+        if (struct.isSetYMax()) {
+          oprot.writeDouble(struct.yMax);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEmittersInRegion_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(5);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.xMin = iprot.readDouble();
+          struct.setXMinIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.yMin = iprot.readDouble();
+          struct.setYMinIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.xMax = iprot.readDouble();
+          struct.setXMaxIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.yMax = iprot.readDouble();
+          struct.setYMaxIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getEmittersInRegion_result implements org.apache.thrift.TBase<getEmittersInRegion_result, getEmittersInRegion_result._Fields>, java.io.Serializable, Cloneable, Comparable<getEmittersInRegion_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getEmittersInRegion_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getEmittersInRegion_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getEmittersInRegion_resultTupleSchemeFactory();
+
+    public java.lang.String success; // required
+    public UnknownSimulationIdException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getEmittersInRegion_result.class, metaDataMap);
+    }
+
+    public getEmittersInRegion_result() {
+    }
+
+    public getEmittersInRegion_result(
+      java.lang.String success,
+      UnknownSimulationIdException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getEmittersInRegion_result(getEmittersInRegion_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
+      }
+    }
+
+    public getEmittersInRegion_result deepCopy() {
+      return new getEmittersInRegion_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public java.lang.String getSuccess() {
+      return this.success;
+    }
+
+    public getEmittersInRegion_result setSuccess(java.lang.String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
+    }
+
+    public getEmittersInRegion_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.String)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UnknownSimulationIdException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getEmittersInRegion_result)
+        return this.equals((getEmittersInRegion_result)that);
+      return false;
+    }
+
+    public boolean equals(getEmittersInRegion_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getEmittersInRegion_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getEmittersInRegion_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getEmittersInRegion_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEmittersInRegion_resultStandardScheme getScheme() {
+        return new getEmittersInRegion_resultStandardScheme();
+      }
+    }
+
+    private static class getEmittersInRegion_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getEmittersInRegion_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getEmittersInRegion_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getEmittersInRegion_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getEmittersInRegion_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getEmittersInRegion_resultTupleScheme getScheme() {
+        return new getEmittersInRegion_resultTupleScheme();
+      }
+    }
+
+    private static class getEmittersInRegion_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getEmittersInRegion_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getEmittersInRegion_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getEmittersInRegion_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getFluorescenceJsonName_args implements org.apache.thrift.TBase<getFluorescenceJsonName_args, getFluorescenceJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFluorescenceJsonName_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFluorescenceJsonName_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getFluorescenceJsonName_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getFluorescenceJsonName_argsTupleSchemeFactory();
+
+    public int id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFluorescenceJsonName_args.class, metaDataMap);
+    }
+
+    public getFluorescenceJsonName_args() {
+    }
+
+    public getFluorescenceJsonName_args(
+      int id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFluorescenceJsonName_args(getFluorescenceJsonName_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    public getFluorescenceJsonName_args deepCopy() {
+      return new getFluorescenceJsonName_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public getFluorescenceJsonName_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFluorescenceJsonName_args)
+        return this.equals((getFluorescenceJsonName_args)that);
+      return false;
+    }
+
+    public boolean equals(getFluorescenceJsonName_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + id;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getFluorescenceJsonName_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getFluorescenceJsonName_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFluorescenceJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getFluorescenceJsonName_argsStandardScheme getScheme() {
+        return new getFluorescenceJsonName_argsStandardScheme();
+      }
+    }
+
+    private static class getFluorescenceJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getFluorescenceJsonName_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFluorescenceJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFluorescenceJsonName_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFluorescenceJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getFluorescenceJsonName_argsTupleScheme getScheme() {
+        return new getFluorescenceJsonName_argsTupleScheme();
+      }
+    }
+
+    private static class getFluorescenceJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getFluorescenceJsonName_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFluorescenceJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFluorescenceJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getFluorescenceJsonName_result implements org.apache.thrift.TBase<getFluorescenceJsonName_result, getFluorescenceJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFluorescenceJsonName_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFluorescenceJsonName_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getFluorescenceJsonName_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getFluorescenceJsonName_resultTupleSchemeFactory();
+
+    public java.lang.String success; // required
+    public UnknownSimulationIdException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFluorescenceJsonName_result.class, metaDataMap);
+    }
+
+    public getFluorescenceJsonName_result() {
+    }
+
+    public getFluorescenceJsonName_result(
+      java.lang.String success,
+      UnknownSimulationIdException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFluorescenceJsonName_result(getFluorescenceJsonName_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
+      }
+    }
+
+    public getFluorescenceJsonName_result deepCopy() {
+      return new getFluorescenceJsonName_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public java.lang.String getSuccess() {
+      return this.success;
+    }
+
+    public getFluorescenceJsonName_result setSuccess(java.lang.String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
+    }
+
+    public getFluorescenceJsonName_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.String)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UnknownSimulationIdException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFluorescenceJsonName_result)
+        return this.equals((getFluorescenceJsonName_result)that);
+      return false;
+    }
+
+    public boolean equals(getFluorescenceJsonName_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getFluorescenceJsonName_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getFluorescenceJsonName_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFluorescenceJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getFluorescenceJsonName_resultStandardScheme getScheme() {
+        return new getFluorescenceJsonName_resultStandardScheme();
+      }
+    }
+
+    private static class getFluorescenceJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getFluorescenceJsonName_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFluorescenceJsonName_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFluorescenceJsonName_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFluorescenceJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getFluorescenceJsonName_resultTupleScheme getScheme() {
+        return new getFluorescenceJsonName_resultTupleScheme();
+      }
+    }
+
+    private static class getFluorescenceJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getFluorescenceJsonName_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFluorescenceJsonName_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFluorescenceJsonName_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getFovSize_args implements org.apache.thrift.TBase<getFovSize_args, getFovSize_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFovSize_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFovSize_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getFovSize_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getFovSize_argsTupleSchemeFactory();
+
+    public int id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFovSize_args.class, metaDataMap);
+    }
+
+    public getFovSize_args() {
+    }
+
+    public getFovSize_args(
+      int id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFovSize_args(getFovSize_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    public getFovSize_args deepCopy() {
+      return new getFovSize_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public getFovSize_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFovSize_args)
+        return this.equals((getFovSize_args)that);
+      return false;
+    }
+
+    public boolean equals(getFovSize_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + id;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getFovSize_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getFovSize_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFovSize_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getFovSize_argsStandardScheme getScheme() {
+        return new getFovSize_argsStandardScheme();
+      }
+    }
+
+    private static class getFovSize_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getFovSize_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFovSize_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFovSize_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFovSize_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getFovSize_argsTupleScheme getScheme() {
+        return new getFovSize_argsTupleScheme();
+      }
+    }
+
+    private static class getFovSize_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getFovSize_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFovSize_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFovSize_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getFovSize_result implements org.apache.thrift.TBase<getFovSize_result, getFovSize_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFovSize_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFovSize_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.DOUBLE, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getFovSize_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getFovSize_resultTupleSchemeFactory();
+
+    public double success; // required
+    public UnknownSimulationIdException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFovSize_result.class, metaDataMap);
+    }
+
+    public getFovSize_result() {
+    }
+
+    public getFovSize_result(
+      double success,
+      UnknownSimulationIdException ex)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getFovSize_result(getFovSize_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
+      }
+    }
+
+    public getFovSize_result deepCopy() {
+      return new getFovSize_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0.0;
+      this.ex = null;
+    }
+
+    public double getSuccess() {
+      return this.success;
+    }
+
+    public getFovSize_result setSuccess(double success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
+    }
+
+    public getFovSize_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.Double)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UnknownSimulationIdException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getFovSize_result)
+        return this.equals((getFovSize_result)that);
+      return false;
+    }
+
+    public boolean equals(getFovSize_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getFovSize_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getFovSize_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getFovSize_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getFovSize_resultStandardScheme getScheme() {
+        return new getFovSize_resultStandardScheme();
+      }
+    }
+
+    private static class getFovSize_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getFovSize_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getFovSize_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.success = iprot.readDouble();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getFovSize_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeDouble(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getFovSize_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getFovSize_resultTupleScheme getScheme() {
+        return new getFovSize_resultTupleScheme();
+      }
+    }
+
+    private static class getFovSize_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getFovSize_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getFovSize_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeDouble(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getFovSize_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readDouble();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getImageCount_args implements org.apache.thrift.TBase<getImageCount_args, getImageCount_args._Fields>, java.io.Serializable, Cloneable, Comparable<getImageCount_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getImageCount_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getImageCount_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getImageCount_argsTupleSchemeFactory();
+
+    public int id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getImageCount_args.class, metaDataMap);
+    }
+
+    public getImageCount_args() {
+    }
+
+    public getImageCount_args(
+      int id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getImageCount_args(getImageCount_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    public getImageCount_args deepCopy() {
+      return new getImageCount_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public getImageCount_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getImageCount_args)
+        return this.equals((getImageCount_args)that);
+      return false;
+    }
+
+    public boolean equals(getImageCount_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + id;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getImageCount_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getImageCount_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getImageCount_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getImageCount_argsStandardScheme getScheme() {
+        return new getImageCount_argsStandardScheme();
+      }
+    }
+
+    private static class getImageCount_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getImageCount_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getImageCount_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getImageCount_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getImageCount_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getImageCount_argsTupleScheme getScheme() {
+        return new getImageCount_argsTupleScheme();
+      }
+    }
+
+    private static class getImageCount_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getImageCount_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getImageCount_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getImageCount_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getImageCount_result implements org.apache.thrift.TBase<getImageCount_result, getImageCount_result._Fields>, java.io.Serializable, Cloneable, Comparable<getImageCount_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getImageCount_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getImageCount_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getImageCount_resultTupleSchemeFactory();
+
+    public int success; // required
+    public UnknownSimulationIdException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getImageCount_result.class, metaDataMap);
+    }
+
+    public getImageCount_result() {
+    }
+
+    public getImageCount_result(
+      int success,
+      UnknownSimulationIdException ex)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getImageCount_result(getImageCount_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
+      }
+    }
+
+    public getImageCount_result deepCopy() {
+      return new getImageCount_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.ex = null;
+    }
+
+    public int getSuccess() {
+      return this.success;
+    }
+
+    public getImageCount_result setSuccess(int success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
+    }
+
+    public getImageCount_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.Integer)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UnknownSimulationIdException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getImageCount_result)
+        return this.equals((getImageCount_result)that);
+      return false;
+    }
+
+    public boolean equals(getImageCount_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + success;
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getImageCount_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+      }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getImageCount_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getImageCount_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getImageCount_resultStandardScheme getScheme() {
+        return new getImageCount_resultStandardScheme();
+      }
+    }
+
+    private static class getImageCount_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getImageCount_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getImageCount_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getImageCount_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.isSetSuccess()) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeI32(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getImageCount_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getImageCount_resultTupleScheme getScheme() {
+        return new getImageCount_resultTupleScheme();
+      }
+    }
+
+    private static class getImageCount_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getImageCount_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getImageCount_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI32(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getImageCount_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI32();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getLaserJsonName_args implements org.apache.thrift.TBase<getLaserJsonName_args, getLaserJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getLaserJsonName_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLaserJsonName_args");
+
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getLaserJsonName_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getLaserJsonName_argsTupleSchemeFactory();
+
+    public int id; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ID((short)1, "id");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // ID
+            return ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLaserJsonName_args.class, metaDataMap);
+    }
+
+    public getLaserJsonName_args() {
+    }
+
+    public getLaserJsonName_args(
+      int id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLaserJsonName_args(getLaserJsonName_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
+    }
+
+    public getLaserJsonName_args deepCopy() {
+      return new getLaserJsonName_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public getLaserJsonName_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case ID:
+        return getId();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case ID:
+        return isSetId();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLaserJsonName_args)
+        return this.equals((getLaserJsonName_args)that);
+      return false;
+    }
+
+    public boolean equals(getLaserJsonName_args that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + id;
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getLaserJsonName_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      scheme(iprot).read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      scheme(oprot).write(oprot, this);
+    }
+
+    @Override
+    public java.lang.String toString() {
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getLaserJsonName_args(");
+      boolean first = true;
+
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getLaserJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getLaserJsonName_argsStandardScheme getScheme() {
+        return new getLaserJsonName_argsStandardScheme();
+      }
+    }
+
+    private static class getLaserJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getLaserJsonName_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLaserJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLaserJsonName_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getLaserJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getLaserJsonName_argsTupleScheme getScheme() {
+        return new getLaserJsonName_argsTupleScheme();
+      }
+    }
+
+    private static class getLaserJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getLaserJsonName_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLaserJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLaserJsonName_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
+      }
+    }
+
+    private static <S extends org.apache.thrift.scheme.IScheme> S scheme(org.apache.thrift.protocol.TProtocol proto) {
+      return (org.apache.thrift.scheme.StandardScheme.class.equals(proto.getScheme()) ? STANDARD_SCHEME_FACTORY : TUPLE_SCHEME_FACTORY).getScheme();
+    }
+  }
+
+  public static class getLaserJsonName_result implements org.apache.thrift.TBase<getLaserJsonName_result, getLaserJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getLaserJsonName_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLaserJsonName_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getLaserJsonName_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getLaserJsonName_resultTupleSchemeFactory();
+
+    public java.lang.String success; // required
+    public UnknownSimulationIdException ex; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      EX((short)1, "ex");
+
+      private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
+
+      static {
+        for (_Fields field : java.util.EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // EX
+            return EX;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new java.lang.IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(java.lang.String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final java.lang.String _fieldName;
+
+      _Fields(short thriftId, java.lang.String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public java.lang.String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+      metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLaserJsonName_result.class, metaDataMap);
+    }
+
+    public getLaserJsonName_result() {
+    }
+
+    public getLaserJsonName_result(
+      java.lang.String success,
+      UnknownSimulationIdException ex)
+    {
+      this();
+      this.success = success;
+      this.ex = ex;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getLaserJsonName_result(getLaserJsonName_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
+      }
+    }
+
+    public getLaserJsonName_result deepCopy() {
+      return new getLaserJsonName_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.ex = null;
+    }
+
+    public java.lang.String getSuccess() {
+      return this.success;
+    }
+
+    public getLaserJsonName_result setSuccess(java.lang.String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
+    }
+
+    public getLaserJsonName_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
+      return this;
+    }
+
+    public void unsetEx() {
+      this.ex = null;
+    }
+
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
+    }
+
+    public void setExIsSet(boolean value) {
+      if (!value) {
+        this.ex = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, java.lang.Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.String)value);
+        }
+        break;
+
+      case EX:
+        if (value == null) {
+          unsetEx();
+        } else {
+          setEx((UnknownSimulationIdException)value);
+        }
+        break;
+
+      }
+    }
+
+    public java.lang.Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case EX:
+        return getEx();
+
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new java.lang.IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case EX:
+        return isSetEx();
+      }
+      throw new java.lang.IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(java.lang.Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getLaserJsonName_result)
+        return this.equals((getLaserJsonName_result)that);
+      return false;
+    }
+
+    public boolean equals(getLaserJsonName_result that) {
+      if (that == null)
+        return false;
+      if (this == that)
+        return true;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
+          return false;
+        if (!this.ex.equals(that.ex))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = 1;
+
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
+
+      return hashCode;
+    }
+
+    @Override
+    public int compareTo(getLaserJsonName_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3667,11 +11898,23 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("createSimulation_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getLaserJsonName_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex:");
+      if (this.ex == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -3692,23 +11935,21 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class createSimulation_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public createSimulation_resultStandardScheme getScheme() {
-        return new createSimulation_resultStandardScheme();
+    private static class getLaserJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getLaserJsonName_resultStandardScheme getScheme() {
+        return new getLaserJsonName_resultStandardScheme();
       }
     }
 
-    private static class createSimulation_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<createSimulation_result> {
+    private static class getLaserJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getLaserJsonName_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, createSimulation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getLaserJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3719,13 +11960,22 @@ public class RemoteSimulationService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = iprot.readI32();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -3737,13 +11987,18 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, createSimulation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getLaserJsonName_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -3752,35 +12007,46 @@ public class RemoteSimulationService {
 
     }
 
-    private static class createSimulation_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public createSimulation_resultTupleScheme getScheme() {
-        return new createSimulation_resultTupleScheme();
+    private static class getLaserJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getLaserJsonName_resultTupleScheme getScheme() {
+        return new getLaserJsonName_resultTupleScheme();
       }
     }
 
-    private static class createSimulation_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<createSimulation_result> {
+    private static class getLaserJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getLaserJsonName_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, createSimulation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getLaserJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success);
+          oprot.writeString(struct.success);
+        }
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, createSimulation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getLaserJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readI32();
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
+        }
       }
     }
 
@@ -3789,13 +12055,13 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class deleteSimulation_args implements org.apache.thrift.TBase<deleteSimulation_args, deleteSimulation_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteSimulation_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteSimulation_args");
+  public static class getMetrics_args implements org.apache.thrift.TBase<getMetrics_args, getMetrics_args._Fields>, java.io.Serializable, Cloneable, Comparable<getMetrics_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getMetrics_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteSimulation_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteSimulation_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getMetrics_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getMetrics_argsTupleSchemeFactory();
 
     public int id; // required
 
@@ -3866,13 +12132,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteSimulation_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getMetrics_args.class, metaDataMap);
     }
 
-    public deleteSimulation_args() {
+    public getMetrics_args() {
     }
 
-    public deleteSimulation_args(
+    public getMetrics_args(
       int id)
     {
       this();
@@ -3883,13 +12149,13 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteSimulation_args(deleteSimulation_args other) {
+    public getMetrics_args(getMetrics_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
     }
 
-    public deleteSimulation_args deepCopy() {
-      return new deleteSimulation_args(this);
+    public getMetrics_args deepCopy() {
+      return new getMetrics_args(this);
     }
 
     @Override
@@ -3902,7 +12168,7 @@ public class RemoteSimulationService {
       return this.id;
     }
 
-    public deleteSimulation_args setId(int id) {
+    public getMetrics_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -3960,12 +12226,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteSimulation_args)
-        return this.equals((deleteSimulation_args)that);
+      if (that instanceof getMetrics_args)
+        return this.equals((getMetrics_args)that);
       return false;
     }
 
-    public boolean equals(deleteSimulation_args that) {
+    public boolean equals(getMetrics_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -3993,7 +12259,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(deleteSimulation_args other) {
+    public int compareTo(getMetrics_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4027,7 +12293,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteSimulation_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getMetrics_args(");
       boolean first = true;
 
       sb.append("id:");
@@ -4060,15 +12326,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class deleteSimulation_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public deleteSimulation_argsStandardScheme getScheme() {
-        return new deleteSimulation_argsStandardScheme();
+    private static class getMetrics_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getMetrics_argsStandardScheme getScheme() {
+        return new getMetrics_argsStandardScheme();
       }
     }
 
-    private static class deleteSimulation_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteSimulation_args> {
+    private static class getMetrics_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getMetrics_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteSimulation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getMetrics_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4097,7 +12363,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteSimulation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getMetrics_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4110,16 +12376,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class deleteSimulation_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public deleteSimulation_argsTupleScheme getScheme() {
-        return new deleteSimulation_argsTupleScheme();
+    private static class getMetrics_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getMetrics_argsTupleScheme getScheme() {
+        return new getMetrics_argsTupleScheme();
       }
     }
 
-    private static class deleteSimulation_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteSimulation_args> {
+    private static class getMetrics_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getMetrics_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteSimulation_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getMetrics_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
@@ -4132,7 +12398,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteSimulation_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getMetrics_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -4147,18 +12413,21 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class deleteSimulation_result implements org.apache.thrift.TBase<deleteSimulation_result, deleteSimulation_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteSimulation_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteSimulation_result");
+  public static class getMetrics_result implements org.apache.thrift.TBase<getMetrics_result, getMetrics_result._Fields>, java.io.Serializable, Cloneable, Comparable<getMetrics_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getMetrics_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new deleteSimulation_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new deleteSimulation_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getMetrics_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getMetrics_resultTupleSchemeFactory();
 
+    public java.lang.String success; // required
     public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       EX((short)1, "ex");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
@@ -4174,6 +12443,8 @@ public class RemoteSimulationService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // EX
             return EX;
           default:
@@ -4219,45 +12490,77 @@ public class RemoteSimulationService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteSimulation_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getMetrics_result.class, metaDataMap);
     }
 
-    public deleteSimulation_result() {
+    public getMetrics_result() {
     }
 
-    public deleteSimulation_result(
+    public getMetrics_result(
+      java.lang.String success,
       UnknownSimulationIdException ex)
     {
       this();
+      this.success = success;
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteSimulation_result(deleteSimulation_result other) {
+    public getMetrics_result(getMetrics_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public deleteSimulation_result deepCopy() {
-      return new deleteSimulation_result(this);
+    public getMetrics_result deepCopy() {
+      return new getMetrics_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.ex = null;
     }
 
+    public java.lang.String getSuccess() {
+      return this.success;
+    }
+
+    public getMetrics_result setSuccess(java.lang.String success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
     public UnknownSimulationIdException getEx() {
       return this.ex;
     }
 
-    public deleteSimulation_result setEx(UnknownSimulationIdException ex) {
+    public getMetrics_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -4279,6 +12582,14 @@ public class RemoteSimulationService {
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((java.lang.String)value);
+        }
+        break;
+
       case EX:
         if (value == null) {
           unsetEx();
@@ -4292,6 +12603,9 @@ public class RemoteSimulationService {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case EX:
         return getEx();
 
@@ -4306,6 +12620,8 @@ public class RemoteSimulationService {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case EX:
         return isSetEx();
       }
@@ -4316,17 +12632,26 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteSimulation_result)
-        return this.equals((deleteSimulation_result)that);
+      if (that instanceof getMetrics_result)
+        return this.equals((getMetrics_result)that);
       return false;
     }
 
-    public boolean equals(deleteSimulation_result that) {
+    public boolean equals(getMetrics_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_ex = true && this.isSetEx();
       boolean that_present_ex = true && that.isSetEx();
       if (this_present_ex || that_present_ex) {
@@ -4343,6 +12668,10 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
+
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
         hashCode = hashCode * 8191 + ex.hashCode();
@@ -4351,13 +12680,23 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(deleteSimulation_result other) {
+    public int compareTo(getMetrics_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
       if (lastComparison != 0) {
         return lastComparison;
@@ -4385,9 +12724,17 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("deleteSimulation_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getMetrics_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("ex:");
       if (this.ex == null) {
         sb.append("null");
@@ -4420,15 +12767,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class deleteSimulation_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public deleteSimulation_resultStandardScheme getScheme() {
-        return new deleteSimulation_resultStandardScheme();
+    private static class getMetrics_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getMetrics_resultStandardScheme getScheme() {
+        return new getMetrics_resultStandardScheme();
       }
     }
 
-    private static class deleteSimulation_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<deleteSimulation_result> {
+    private static class getMetrics_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getMetrics_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteSimulation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getMetrics_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4438,6 +12785,14 @@ public class RemoteSimulationService {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // EX
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.ex = new UnknownSimulationIdException();
@@ -4458,10 +12813,15 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteSimulation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getMetrics_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          oprot.writeString(struct.success);
+          oprot.writeFieldEnd();
+        }
         if (struct.ex != null) {
           oprot.writeFieldBegin(EX_FIELD_DESC);
           struct.ex.write(oprot);
@@ -4473,32 +12833,42 @@ public class RemoteSimulationService {
 
     }
 
-    private static class deleteSimulation_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public deleteSimulation_resultTupleScheme getScheme() {
-        return new deleteSimulation_resultTupleScheme();
+    private static class getMetrics_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getMetrics_resultTupleScheme getScheme() {
+        return new getMetrics_resultTupleScheme();
       }
     }
 
-    private static class deleteSimulation_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<deleteSimulation_result> {
+    private static class getMetrics_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getMetrics_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteSimulation_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getMetrics_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetEx()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetEx()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeString(struct.success);
+        }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteSimulation_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getMetrics_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = iprot.readString();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.ex = new UnknownSimulationIdException();
           struct.ex.read(iprot);
           struct.setExIsSet(true);
@@ -4511,13 +12881,13 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getControlSignal_args implements org.apache.thrift.TBase<getControlSignal_args, getControlSignal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getControlSignal_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getControlSignal_args");
+  public static class getNextImage_args implements org.apache.thrift.TBase<getNextImage_args, getNextImage_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNextImage_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNextImage_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getControlSignal_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getControlSignal_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getNextImage_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getNextImage_argsTupleSchemeFactory();
 
     public int id; // required
 
@@ -4588,13 +12958,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getControlSignal_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNextImage_args.class, metaDataMap);
     }
 
-    public getControlSignal_args() {
+    public getNextImage_args() {
     }
 
-    public getControlSignal_args(
+    public getNextImage_args(
       int id)
     {
       this();
@@ -4605,13 +12975,13 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getControlSignal_args(getControlSignal_args other) {
+    public getNextImage_args(getNextImage_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
     }
 
-    public getControlSignal_args deepCopy() {
-      return new getControlSignal_args(this);
+    public getNextImage_args deepCopy() {
+      return new getNextImage_args(this);
     }
 
     @Override
@@ -4624,7 +12994,7 @@ public class RemoteSimulationService {
       return this.id;
     }
 
-    public getControlSignal_args setId(int id) {
+    public getNextImage_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -4682,12 +13052,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getControlSignal_args)
-        return this.equals((getControlSignal_args)that);
+      if (that instanceof getNextImage_args)
+        return this.equals((getNextImage_args)that);
       return false;
     }
 
-    public boolean equals(getControlSignal_args that) {
+    public boolean equals(getNextImage_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -4715,7 +13085,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getControlSignal_args other) {
+    public int compareTo(getNextImage_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -4749,7 +13119,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getControlSignal_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getNextImage_args(");
       boolean first = true;
 
       sb.append("id:");
@@ -4782,15 +13152,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getControlSignal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getControlSignal_argsStandardScheme getScheme() {
-        return new getControlSignal_argsStandardScheme();
+    private static class getNextImage_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getNextImage_argsStandardScheme getScheme() {
+        return new getNextImage_argsStandardScheme();
       }
     }
 
-    private static class getControlSignal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getControlSignal_args> {
+    private static class getNextImage_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getNextImage_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getControlSignal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNextImage_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4819,7 +13189,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getControlSignal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNextImage_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -4832,16 +13202,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getControlSignal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getControlSignal_argsTupleScheme getScheme() {
-        return new getControlSignal_argsTupleScheme();
+    private static class getNextImage_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getNextImage_argsTupleScheme getScheme() {
+        return new getNextImage_argsTupleScheme();
       }
     }
 
-    private static class getControlSignal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getControlSignal_args> {
+    private static class getNextImage_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getNextImage_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getControlSignal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNextImage_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
@@ -4854,7 +13224,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getControlSignal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNextImage_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -4869,22 +13239,25 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getControlSignal_result implements org.apache.thrift.TBase<getControlSignal_result, getControlSignal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getControlSignal_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getControlSignal_result");
+  public static class getNextImage_result implements org.apache.thrift.TBase<getNextImage_result, getNextImage_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNextImage_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNextImage_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.DOUBLE, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField EX2_FIELD_DESC = new org.apache.thrift.protocol.TField("ex2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getControlSignal_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getControlSignal_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getNextImage_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getNextImage_resultTupleSchemeFactory();
 
-    public double success; // required
-    public UnknownSimulationIdException ex; // required
+    public java.nio.ByteBuffer success; // required
+    public ImageGenerationException ex; // required
+    public UnknownSimulationIdException ex2; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      EX((short)1, "ex");
+      EX((short)1, "ex"),
+      EX2((short)2, "ex2");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -4903,6 +13276,8 @@ public class RemoteSimulationService {
             return SUCCESS;
           case 1: // EX
             return EX;
+          case 2: // EX2
+            return EX2;
           default:
             return null;
         }
@@ -4943,82 +13318,98 @@ public class RemoteSimulationService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ImageGenerationException.class)));
+      tmpMap.put(_Fields.EX2, new org.apache.thrift.meta_data.FieldMetaData("ex2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getControlSignal_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNextImage_result.class, metaDataMap);
     }
 
-    public getControlSignal_result() {
+    public getNextImage_result() {
     }
 
-    public getControlSignal_result(
-      double success,
-      UnknownSimulationIdException ex)
+    public getNextImage_result(
+      java.nio.ByteBuffer success,
+      ImageGenerationException ex,
+      UnknownSimulationIdException ex2)
     {
       this();
-      this.success = success;
-      setSuccessIsSet(true);
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       this.ex = ex;
+      this.ex2 = ex2;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getControlSignal_result(getControlSignal_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public getNextImage_result(getNextImage_result other) {
+      if (other.isSetSuccess()) {
+        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+      }
       if (other.isSetEx()) {
-        this.ex = new UnknownSimulationIdException(other.ex);
+        this.ex = new ImageGenerationException(other.ex);
+      }
+      if (other.isSetEx2()) {
+        this.ex2 = new UnknownSimulationIdException(other.ex2);
       }
     }
 
-    public getControlSignal_result deepCopy() {
-      return new getControlSignal_result(this);
+    public getNextImage_result deepCopy() {
+      return new getNextImage_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0.0;
+      this.success = null;
       this.ex = null;
+      this.ex2 = null;
     }
 
-    public double getSuccess() {
-      return this.success;
+    public byte[] getSuccess() {
+      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
+      return success == null ? null : success.array();
     }
 
-    public getControlSignal_result setSuccess(double success) {
-      this.success = success;
-      setSuccessIsSet(true);
+    public java.nio.ByteBuffer bufferForSuccess() {
+      return org.apache.thrift.TBaseHelper.copyBinary(success);
+    }
+
+    public getNextImage_result setSuccess(byte[] success) {
+      this.success = success == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(success.clone());
+      return this;
+    }
+
+    public getNextImage_result setSuccess(java.nio.ByteBuffer success) {
+      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
-    public UnknownSimulationIdException getEx() {
+    public ImageGenerationException getEx() {
       return this.ex;
     }
 
-    public getControlSignal_result setEx(UnknownSimulationIdException ex) {
+    public getNextImage_result setEx(ImageGenerationException ex) {
       this.ex = ex;
       return this;
     }
@@ -5038,13 +13429,41 @@ public class RemoteSimulationService {
       }
     }
 
+    public UnknownSimulationIdException getEx2() {
+      return this.ex2;
+    }
+
+    public getNextImage_result setEx2(UnknownSimulationIdException ex2) {
+      this.ex2 = ex2;
+      return this;
+    }
+
+    public void unsetEx2() {
+      this.ex2 = null;
+    }
+
+    /** Returns true if field ex2 is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx2() {
+      return this.ex2 != null;
+    }
+
+    public void setEx2IsSet(boolean value) {
+      if (!value) {
+        this.ex2 = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.Double)value);
+          if (value instanceof byte[]) {
+            setSuccess((byte[])value);
+          } else {
+            setSuccess((java.nio.ByteBuffer)value);
+          }
         }
         break;
 
@@ -5052,7 +13471,15 @@ public class RemoteSimulationService {
         if (value == null) {
           unsetEx();
         } else {
-          setEx((UnknownSimulationIdException)value);
+          setEx((ImageGenerationException)value);
+        }
+        break;
+
+      case EX2:
+        if (value == null) {
+          unsetEx2();
+        } else {
+          setEx2((UnknownSimulationIdException)value);
         }
         break;
 
@@ -5067,6 +13494,9 @@ public class RemoteSimulationService {
       case EX:
         return getEx();
 
+      case EX2:
+        return getEx2();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -5082,6 +13512,8 @@ public class RemoteSimulationService {
         return isSetSuccess();
       case EX:
         return isSetEx();
+      case EX2:
+        return isSetEx2();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -5090,23 +13522,23 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getControlSignal_result)
-        return this.equals((getControlSignal_result)that);
+      if (that instanceof getNextImage_result)
+        return this.equals((getNextImage_result)that);
       return false;
     }
 
-    public boolean equals(getControlSignal_result that) {
+    public boolean equals(getNextImage_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -5119,6 +13551,15 @@ public class RemoteSimulationService {
           return false;
       }
 
+      boolean this_present_ex2 = true && this.isSetEx2();
+      boolean that_present_ex2 = true && that.isSetEx2();
+      if (this_present_ex2 || that_present_ex2) {
+        if (!(this_present_ex2 && that_present_ex2))
+          return false;
+        if (!this.ex2.equals(that.ex2))
+          return false;
+      }
+
       return true;
     }
 
@@ -5126,17 +13567,23 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
         hashCode = hashCode * 8191 + ex.hashCode();
 
+      hashCode = hashCode * 8191 + ((isSetEx2()) ? 131071 : 524287);
+      if (isSetEx2())
+        hashCode = hashCode * 8191 + ex2.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getControlSignal_result other) {
+    public int compareTo(getNextImage_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5163,6 +13610,16 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetEx2()).compareTo(other.isSetEx2());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetEx2()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex2, other.ex2);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -5180,11 +13637,15 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getControlSignal_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getNextImage_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("ex:");
@@ -5194,6 +13655,14 @@ public class RemoteSimulationService {
         sb.append(this.ex);
       }
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("ex2:");
+      if (this.ex2 == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.ex2);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -5213,23 +13682,21 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getControlSignal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getControlSignal_resultStandardScheme getScheme() {
-        return new getControlSignal_resultStandardScheme();
+    private static class getNextImage_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getNextImage_resultStandardScheme getScheme() {
+        return new getNextImage_resultStandardScheme();
       }
     }
 
-    private static class getControlSignal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getControlSignal_result> {
+    private static class getNextImage_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getNextImage_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getControlSignal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getNextImage_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5240,8 +13707,8 @@ public class RemoteSimulationService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
-                struct.success = iprot.readDouble();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readBinary();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -5249,13 +13716,22 @@ public class RemoteSimulationService {
               break;
             case 1: // EX
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ex = new UnknownSimulationIdException();
+                struct.ex = new ImageGenerationException();
                 struct.ex.read(iprot);
                 struct.setExIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // EX2
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex2 = new UnknownSimulationIdException();
+                struct.ex2.read(iprot);
+                struct.setEx2IsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -5267,13 +13743,13 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getControlSignal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getNextImage_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeDouble(struct.success);
+          oprot.writeBinary(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -5281,22 +13757,27 @@ public class RemoteSimulationService {
           struct.ex.write(oprot);
           oprot.writeFieldEnd();
         }
+        if (struct.ex2 != null) {
+          oprot.writeFieldBegin(EX2_FIELD_DESC);
+          struct.ex2.write(oprot);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getControlSignal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getControlSignal_resultTupleScheme getScheme() {
-        return new getControlSignal_resultTupleScheme();
+    private static class getNextImage_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getNextImage_resultTupleScheme getScheme() {
+        return new getNextImage_resultTupleScheme();
       }
     }
 
-    private static class getControlSignal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getControlSignal_result> {
+    private static class getNextImage_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getNextImage_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getControlSignal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getNextImage_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -5305,28 +13786,39 @@ public class RemoteSimulationService {
         if (struct.isSetEx()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetEx2()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetSuccess()) {
-          oprot.writeDouble(struct.success);
+          oprot.writeBinary(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
         }
+        if (struct.isSetEx2()) {
+          struct.ex2.write(oprot);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getControlSignal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getNextImage_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.success = iprot.readDouble();
+          struct.success = iprot.readBinary();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.ex = new UnknownSimulationIdException();
+          struct.ex = new ImageGenerationException();
           struct.ex.read(iprot);
           struct.setExIsSet(true);
         }
+        if (incoming.get(2)) {
+          struct.ex2 = new UnknownSimulationIdException();
+          struct.ex2.read(iprot);
+          struct.setEx2IsSet(true);
+        }
       }
     }
 
@@ -5335,13 +13827,13 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getCameraJsonName_args implements org.apache.thrift.TBase<getCameraJsonName_args, getCameraJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getCameraJsonName_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getCameraJsonName_args");
+  public static class getObjectiveJsonName_args implements org.apache.thrift.TBase<getObjectiveJsonName_args, getObjectiveJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getObjectiveJsonName_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getObjectiveJsonName_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getCameraJsonName_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getCameraJsonName_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getObjectiveJsonName_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getObjectiveJsonName_argsTupleSchemeFactory();
 
     public int id; // required
 
@@ -5412,13 +13904,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getCameraJsonName_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getObjectiveJsonName_args.class, metaDataMap);
     }
 
-    public getCameraJsonName_args() {
+    public getObjectiveJsonName_args() {
     }
 
-    public getCameraJsonName_args(
+    public getObjectiveJsonName_args(
       int id)
     {
       this();
@@ -5429,13 +13921,13 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getCameraJsonName_args(getCameraJsonName_args other) {
+    public getObjectiveJsonName_args(getObjectiveJsonName_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
     }
 
-    public getCameraJsonName_args deepCopy() {
-      return new getCameraJsonName_args(this);
+    public getObjectiveJsonName_args deepCopy() {
+      return new getObjectiveJsonName_args(this);
     }
 
     @Override
@@ -5448,7 +13940,7 @@ public class RemoteSimulationService {
       return this.id;
     }
 
-    public getCameraJsonName_args setId(int id) {
+    public getObjectiveJsonName_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -5506,12 +13998,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getCameraJsonName_args)
-        return this.equals((getCameraJsonName_args)that);
+      if (that instanceof getObjectiveJsonName_args)
+        return this.equals((getObjectiveJsonName_args)that);
       return false;
     }
 
-    public boolean equals(getCameraJsonName_args that) {
+    public boolean equals(getObjectiveJsonName_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -5539,7 +14031,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getCameraJsonName_args other) {
+    public int compareTo(getObjectiveJsonName_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5573,7 +14065,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getCameraJsonName_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getObjectiveJsonName_args(");
       boolean first = true;
 
       sb.append("id:");
@@ -5606,15 +14098,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getCameraJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getCameraJsonName_argsStandardScheme getScheme() {
-        return new getCameraJsonName_argsStandardScheme();
+    private static class getObjectiveJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getObjectiveJsonName_argsStandardScheme getScheme() {
+        return new getObjectiveJsonName_argsStandardScheme();
       }
     }
 
-    private static class getCameraJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getCameraJsonName_args> {
+    private static class getObjectiveJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getObjectiveJsonName_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getCameraJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getObjectiveJsonName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5643,7 +14135,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getCameraJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getObjectiveJsonName_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5656,16 +14148,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getCameraJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getCameraJsonName_argsTupleScheme getScheme() {
-        return new getCameraJsonName_argsTupleScheme();
+    private static class getObjectiveJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getObjectiveJsonName_argsTupleScheme getScheme() {
+        return new getObjectiveJsonName_argsTupleScheme();
       }
     }
 
-    private static class getCameraJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getCameraJsonName_args> {
+    private static class getObjectiveJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getObjectiveJsonName_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getCameraJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getObjectiveJsonName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
@@ -5678,7 +14170,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getCameraJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getObjectiveJsonName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -5693,14 +14185,14 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getCameraJsonName_result implements org.apache.thrift.TBase<getCameraJsonName_result, getCameraJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getCameraJsonName_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getCameraJsonName_result");
+  public static class getObjectiveJsonName_result implements org.apache.thrift.TBase<getObjectiveJsonName_result, getObjectiveJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getObjectiveJsonName_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getObjectiveJsonName_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getCameraJsonName_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getCameraJsonName_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getObjectiveJsonName_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getObjectiveJsonName_resultTupleSchemeFactory();
 
     public java.lang.String success; // required
     public UnknownSimulationIdException ex; // required
@@ -5775,13 +14267,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getCameraJsonName_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getObjectiveJsonName_result.class, metaDataMap);
     }
 
-    public getCameraJsonName_result() {
+    public getObjectiveJsonName_result() {
     }
 
-    public getCameraJsonName_result(
+    public getObjectiveJsonName_result(
       java.lang.String success,
       UnknownSimulationIdException ex)
     {
@@ -5793,7 +14285,7 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getCameraJsonName_result(getCameraJsonName_result other) {
+    public getObjectiveJsonName_result(getObjectiveJsonName_result other) {
       if (other.isSetSuccess()) {
         this.success = other.success;
       }
@@ -5802,8 +14294,8 @@ public class RemoteSimulationService {
       }
     }
 
-    public getCameraJsonName_result deepCopy() {
-      return new getCameraJsonName_result(this);
+    public getObjectiveJsonName_result deepCopy() {
+      return new getObjectiveJsonName_result(this);
     }
 
     @Override
@@ -5816,7 +14308,7 @@ public class RemoteSimulationService {
       return this.success;
     }
 
-    public getCameraJsonName_result setSuccess(java.lang.String success) {
+    public getObjectiveJsonName_result setSuccess(java.lang.String success) {
       this.success = success;
       return this;
     }
@@ -5840,7 +14332,7 @@ public class RemoteSimulationService {
       return this.ex;
     }
 
-    public getCameraJsonName_result setEx(UnknownSimulationIdException ex) {
+    public getObjectiveJsonName_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -5912,12 +14404,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getCameraJsonName_result)
-        return this.equals((getCameraJsonName_result)that);
+      if (that instanceof getObjectiveJsonName_result)
+        return this.equals((getObjectiveJsonName_result)that);
       return false;
     }
 
-    public boolean equals(getCameraJsonName_result that) {
+    public boolean equals(getObjectiveJsonName_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -5960,7 +14452,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getCameraJsonName_result other) {
+    public int compareTo(getObjectiveJsonName_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6004,7 +14496,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getCameraJsonName_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getObjectiveJsonName_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6047,15 +14539,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getCameraJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getCameraJsonName_resultStandardScheme getScheme() {
-        return new getCameraJsonName_resultStandardScheme();
+    private static class getObjectiveJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getObjectiveJsonName_resultStandardScheme getScheme() {
+        return new getObjectiveJsonName_resultStandardScheme();
       }
     }
 
-    private static class getCameraJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getCameraJsonName_result> {
+    private static class getObjectiveJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getObjectiveJsonName_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getCameraJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getObjectiveJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6093,7 +14585,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getCameraJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getObjectiveJsonName_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6113,16 +14605,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getCameraJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getCameraJsonName_resultTupleScheme getScheme() {
-        return new getCameraJsonName_resultTupleScheme();
+    private static class getObjectiveJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getObjectiveJsonName_resultTupleScheme getScheme() {
+        return new getObjectiveJsonName_resultTupleScheme();
       }
     }
 
-    private static class getCameraJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getCameraJsonName_result> {
+    private static class getObjectiveJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getObjectiveJsonName_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getCameraJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getObjectiveJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -6141,7 +14633,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getCameraJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getObjectiveJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -6161,13 +14653,13 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getFluorescenceJsonName_args implements org.apache.thrift.TBase<getFluorescenceJsonName_args, getFluorescenceJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFluorescenceJsonName_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFluorescenceJsonName_args");
+  public static class getObjectSpacePixelSize_args implements org.apache.thrift.TBase<getObjectSpacePixelSize_args, getObjectSpacePixelSize_args._Fields>, java.io.Serializable, Cloneable, Comparable<getObjectSpacePixelSize_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getObjectSpacePixelSize_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getFluorescenceJsonName_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getFluorescenceJsonName_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getObjectSpacePixelSize_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getObjectSpacePixelSize_argsTupleSchemeFactory();
 
     public int id; // required
 
@@ -6238,13 +14730,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFluorescenceJsonName_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getObjectSpacePixelSize_args.class, metaDataMap);
     }
 
-    public getFluorescenceJsonName_args() {
+    public getObjectSpacePixelSize_args() {
     }
 
-    public getFluorescenceJsonName_args(
+    public getObjectSpacePixelSize_args(
       int id)
     {
       this();
@@ -6255,13 +14747,13 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFluorescenceJsonName_args(getFluorescenceJsonName_args other) {
+    public getObjectSpacePixelSize_args(getObjectSpacePixelSize_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
     }
 
-    public getFluorescenceJsonName_args deepCopy() {
-      return new getFluorescenceJsonName_args(this);
+    public getObjectSpacePixelSize_args deepCopy() {
+      return new getObjectSpacePixelSize_args(this);
     }
 
     @Override
@@ -6274,7 +14766,7 @@ public class RemoteSimulationService {
       return this.id;
     }
 
-    public getFluorescenceJsonName_args setId(int id) {
+    public getObjectSpacePixelSize_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -6332,12 +14824,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFluorescenceJsonName_args)
-        return this.equals((getFluorescenceJsonName_args)that);
+      if (that instanceof getObjectSpacePixelSize_args)
+        return this.equals((getObjectSpacePixelSize_args)that);
       return false;
     }
 
-    public boolean equals(getFluorescenceJsonName_args that) {
+    public boolean equals(getObjectSpacePixelSize_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -6365,7 +14857,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getFluorescenceJsonName_args other) {
+    public int compareTo(getObjectSpacePixelSize_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6399,7 +14891,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getFluorescenceJsonName_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getObjectSpacePixelSize_args(");
       boolean first = true;
 
       sb.append("id:");
@@ -6432,15 +14924,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getFluorescenceJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getFluorescenceJsonName_argsStandardScheme getScheme() {
-        return new getFluorescenceJsonName_argsStandardScheme();
+    private static class getObjectSpacePixelSize_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getObjectSpacePixelSize_argsStandardScheme getScheme() {
+        return new getObjectSpacePixelSize_argsStandardScheme();
       }
     }
 
-    private static class getFluorescenceJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getFluorescenceJsonName_args> {
+    private static class getObjectSpacePixelSize_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getObjectSpacePixelSize_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFluorescenceJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getObjectSpacePixelSize_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6469,7 +14961,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFluorescenceJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getObjectSpacePixelSize_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6482,16 +14974,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getFluorescenceJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getFluorescenceJsonName_argsTupleScheme getScheme() {
-        return new getFluorescenceJsonName_argsTupleScheme();
+    private static class getObjectSpacePixelSize_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getObjectSpacePixelSize_argsTupleScheme getScheme() {
+        return new getObjectSpacePixelSize_argsTupleScheme();
       }
     }
 
-    private static class getFluorescenceJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getFluorescenceJsonName_args> {
+    private static class getObjectSpacePixelSize_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getObjectSpacePixelSize_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFluorescenceJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getObjectSpacePixelSize_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
@@ -6504,7 +14996,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFluorescenceJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getObjectSpacePixelSize_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -6519,16 +15011,16 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getFluorescenceJsonName_result implements org.apache.thrift.TBase<getFluorescenceJsonName_result, getFluorescenceJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFluorescenceJsonName_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFluorescenceJsonName_result");
+  public static class getObjectSpacePixelSize_result implements org.apache.thrift.TBase<getObjectSpacePixelSize_result, getObjectSpacePixelSize_result._Fields>, java.io.Serializable, Cloneable, Comparable<getObjectSpacePixelSize_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getObjectSpacePixelSize_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.DOUBLE, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getFluorescenceJsonName_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getFluorescenceJsonName_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getObjectSpacePixelSize_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getObjectSpacePixelSize_resultTupleSchemeFactory();
 
-    public java.lang.String success; // required
+    public double success; // required
     public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -6593,80 +15085,82 @@ public class RemoteSimulationService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFluorescenceJsonName_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getObjectSpacePixelSize_result.class, metaDataMap);
     }
 
-    public getFluorescenceJsonName_result() {
+    public getObjectSpacePixelSize_result() {
     }
 
-    public getFluorescenceJsonName_result(
-      java.lang.String success,
+    public getObjectSpacePixelSize_result(
+      double success,
       UnknownSimulationIdException ex)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFluorescenceJsonName_result(getFluorescenceJsonName_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public getObjectSpacePixelSize_result(getObjectSpacePixelSize_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public getFluorescenceJsonName_result deepCopy() {
-      return new getFluorescenceJsonName_result(this);
+    public getObjectSpacePixelSize_result deepCopy() {
+      return new getObjectSpacePixelSize_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = 0.0;
       this.ex = null;
     }
 
-    public java.lang.String getSuccess() {
+    public double getSuccess() {
       return this.success;
     }
 
-    public getFluorescenceJsonName_result setSuccess(java.lang.String success) {
+    public getObjectSpacePixelSize_result setSuccess(double success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public UnknownSimulationIdException getEx() {
       return this.ex;
     }
 
-    public getFluorescenceJsonName_result setEx(UnknownSimulationIdException ex) {
+    public getObjectSpacePixelSize_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -6692,7 +15186,7 @@ public class RemoteSimulationService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.String)value);
+          setSuccess((java.lang.Double)value);
         }
         break;
 
@@ -6738,23 +15232,23 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFluorescenceJsonName_result)
-        return this.equals((getFluorescenceJsonName_result)that);
+      if (that instanceof getObjectSpacePixelSize_result)
+        return this.equals((getObjectSpacePixelSize_result)that);
       return false;
     }
 
-    public boolean equals(getFluorescenceJsonName_result that) {
+    public boolean equals(getObjectSpacePixelSize_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -6774,9 +15268,7 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
 
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
@@ -6786,7 +15278,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getFluorescenceJsonName_result other) {
+    public int compareTo(getObjectSpacePixelSize_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6830,15 +15322,11 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getFluorescenceJsonName_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getObjectSpacePixelSize_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("ex:");
@@ -6867,21 +15355,23 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getFluorescenceJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getFluorescenceJsonName_resultStandardScheme getScheme() {
-        return new getFluorescenceJsonName_resultStandardScheme();
+    private static class getObjectSpacePixelSize_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getObjectSpacePixelSize_resultStandardScheme getScheme() {
+        return new getObjectSpacePixelSize_resultStandardScheme();
       }
     }
 
-    private static class getFluorescenceJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getFluorescenceJsonName_result> {
+    private static class getObjectSpacePixelSize_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getObjectSpacePixelSize_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFluorescenceJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getObjectSpacePixelSize_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6892,8 +15382,8 @@ public class RemoteSimulationService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.success = iprot.readDouble();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -6919,13 +15409,13 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFluorescenceJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getObjectSpacePixelSize_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          oprot.writeDouble(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -6939,16 +15429,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getFluorescenceJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getFluorescenceJsonName_resultTupleScheme getScheme() {
-        return new getFluorescenceJsonName_resultTupleScheme();
+    private static class getObjectSpacePixelSize_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getObjectSpacePixelSize_resultTupleScheme getScheme() {
+        return new getObjectSpacePixelSize_resultTupleScheme();
       }
     }
 
-    private static class getFluorescenceJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getFluorescenceJsonName_result> {
+    private static class getObjectSpacePixelSize_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getObjectSpacePixelSize_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFluorescenceJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getObjectSpacePixelSize_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -6959,7 +15449,7 @@ public class RemoteSimulationService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          oprot.writeDouble(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
@@ -6967,11 +15457,11 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFluorescenceJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getObjectSpacePixelSize_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readDouble();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -6987,19 +15477,31 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getFovSize_args implements org.apache.thrift.TBase<getFovSize_args, getFovSize_args._Fields>, java.io.Serializable, Cloneable, Comparable<getFovSize_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFovSize_args");
+  public static class getOnEmitterCountInRegion_args implements org.apache.thrift.TBase<getOnEmitterCountInRegion_args, getOnEmitterCountInRegion_args._Fields>, java.io.Serializable, Cloneable, Comparable<getOnEmitterCountInRegion_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getOnEmitterCountInRegion_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField X_MIN_FIELD_DESC = new org.apache.thrift.protocol.TField("xMin", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField Y_MIN_FIELD_DESC = new org.apache.thrift.protocol.TField("yMin", org.apache.thrift.protocol.TType.DOUBLE, (short)3);
+    private static final org.apache.thrift.protocol.TField X_MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("xMax", org.apache.thrift.protocol.TType.DOUBLE, (short)4);
+    private static final org.apache.thrift.protocol.TField Y_MAX_FIELD_DESC = new org.apache.thrift.protocol.TField("yMax", org.apache.thrift.protocol.TType.DOUBLE, (short)5);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getFovSize_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getFovSize_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getOnEmitterCountInRegion_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getOnEmitterCountInRegion_argsTupleSchemeFactory();
 
     public int id; // required
+    public double xMin; // required
+    public double yMin; // required
+    public double xMax; // required
+    public double yMax; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ID((short)1, "id");
+      ID((short)1, "id"),
+      X_MIN((short)2, "xMin"),
+      Y_MIN((short)3, "yMin"),
+      X_MAX((short)4, "xMax"),
+      Y_MAX((short)5, "yMax");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7016,6 +15518,14 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 1: // ID
             return ID;
+          case 2: // X_MIN
+            return X_MIN;
+          case 3: // Y_MIN
+            return Y_MIN;
+          case 4: // X_MAX
+            return X_MAX;
+          case 5: // Y_MAX
+            return Y_MAX;
           default:
             return null;
         }
@@ -7057,50 +15567,86 @@ public class RemoteSimulationService {
 
     // isset id assignments
     private static final int __ID_ISSET_ID = 0;
+    private static final int __XMIN_ISSET_ID = 1;
+    private static final int __YMIN_ISSET_ID = 2;
+    private static final int __XMAX_ISSET_ID = 3;
+    private static final int __YMAX_ISSET_ID = 4;
     private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.X_MIN, new org.apache.thrift.meta_data.FieldMetaData("xMin", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.Y_MIN, new org.apache.thrift.meta_data.FieldMetaData("yMin", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.X_MAX, new org.apache.thrift.meta_data.FieldMetaData("xMax", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.Y_MAX, new org.apache.thrift.meta_data.FieldMetaData("yMax", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFovSize_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getOnEmitterCountInRegion_args.class, metaDataMap);
     }
 
-    public getFovSize_args() {
+    public getOnEmitterCountInRegion_args() {
     }
 
-    public getFovSize_args(
-      int id)
+    public getOnEmitterCountInRegion_args(
+      int id,
+      double xMin,
+      double yMin,
+      double xMax,
+      double yMax)
     {
       this();
       this.id = id;
       setIdIsSet(true);
+      this.xMin = xMin;
+      setXMinIsSet(true);
+      this.yMin = yMin;
+      setYMinIsSet(true);
+      this.xMax = xMax;
+      setXMaxIsSet(true);
+      this.yMax = yMax;
+      setYMaxIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFovSize_args(getFovSize_args other) {
+    public getOnEmitterCountInRegion_args(getOnEmitterCountInRegion_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
+      this.xMin = other.xMin;
+      this.yMin = other.yMin;
+      this.xMax = other.xMax;
+      this.yMax = other.yMax;
     }
 
-    public getFovSize_args deepCopy() {
-      return new getFovSize_args(this);
+    public getOnEmitterCountInRegion_args deepCopy() {
+      return new getOnEmitterCountInRegion_args(this);
     }
 
     @Override
     public void clear() {
       setIdIsSet(false);
       this.id = 0;
+      setXMinIsSet(false);
+      this.xMin = 0.0;
+      setYMinIsSet(false);
+      this.yMin = 0.0;
+      setXMaxIsSet(false);
+      this.xMax = 0.0;
+      setYMaxIsSet(false);
+      this.yMax = 0.0;
     }
 
     public int getId() {
       return this.id;
     }
 
-    public getFovSize_args setId(int id) {
+    public getOnEmitterCountInRegion_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -7119,6 +15665,98 @@ public class RemoteSimulationService {
       __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
+    public double getXMin() {
+      return this.xMin;
+    }
+
+    public getOnEmitterCountInRegion_args setXMin(double xMin) {
+      this.xMin = xMin;
+      setXMinIsSet(true);
+      return this;
+    }
+
+    public void unsetXMin() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __XMIN_ISSET_ID);
+    }
+
+    /** Returns true if field xMin is set (has been assigned a value) and false otherwise */
+    public boolean isSetXMin() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __XMIN_ISSET_ID);
+    }
+
+    public void setXMinIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __XMIN_ISSET_ID, value);
+    }
+
+    public double getYMin() {
+      return this.yMin;
+    }
+
+    public getOnEmitterCountInRegion_args setYMin(double yMin) {
+      this.yMin = yMin;
+      setYMinIsSet(true);
+      return this;
+    }
+
+    public void unsetYMin() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __YMIN_ISSET_ID);
+    }
+
+    /** Returns true if field yMin is set (has been assigned a value) and false otherwise */
+    public boolean isSetYMin() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __YMIN_ISSET_ID);
+    }
+
+    public void setYMinIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __YMIN_ISSET_ID, value);
+    }
+
+    public double getXMax() {
+      return this.xMax;
+    }
+
+    public getOnEmitterCountInRegion_args setXMax(double xMax) {
+      this.xMax = xMax;
+      setXMaxIsSet(true);
+      return this;
+    }
+
+    public void unsetXMax() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __XMAX_ISSET_ID);
+    }
+
+    /** Returns true if field xMax is set (has been assigned a value) and false otherwise */
+    public boolean isSetXMax() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __XMAX_ISSET_ID);
+    }
+
+    public void setXMaxIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __XMAX_ISSET_ID, value);
+    }
+
+    public double getYMax() {
+      return this.yMax;
+    }
+
+    public getOnEmitterCountInRegion_args setYMax(double yMax) {
+      this.yMax = yMax;
+      setYMaxIsSet(true);
+      return this;
+    }
+
+    public void unsetYMax() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __YMAX_ISSET_ID);
+    }
+
+    /** Returns true if field yMax is set (has been assigned a value) and false otherwise */
+    public boolean isSetYMax() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __YMAX_ISSET_ID);
+    }
+
+    public void setYMaxIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __YMAX_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case ID:
@@ -7129,6 +15767,38 @@ public class RemoteSimulationService {
         }
         break;
 
+      case X_MIN:
+        if (value == null) {
+          unsetXMin();
+        } else {
+          setXMin((java.lang.Double)value);
+        }
+        break;
+
+      case Y_MIN:
+        if (value == null) {
+          unsetYMin();
+        } else {
+          setYMin((java.lang.Double)value);
+        }
+        break;
+
+      case X_MAX:
+        if (value == null) {
+          unsetXMax();
+        } else {
+          setXMax((java.lang.Double)value);
+        }
+        break;
+
+      case Y_MAX:
+        if (value == null) {
+          unsetYMax();
+        } else {
+          setYMax((java.lang.Double)value);
+        }
+        break;
+
       }
     }
 
@@ -7137,6 +15807,18 @@ public class RemoteSimulationService {
       case ID:
         return getId();
 
+      case X_MIN:
+        return getXMin();
+
+      case Y_MIN:
+        return getYMin();
+
+      case X_MAX:
+        return getXMax();
+
+      case Y_MAX:
+        return getYMax();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7150,6 +15832,14 @@ public class RemoteSimulationService {
       switch (field) {
       case ID:
         return isSetId();
+      case X_MIN:
+        return isSetXMin();
+      case Y_MIN:
+        return isSetYMin();
+      case X_MAX:
+        return isSetXMax();
+      case Y_MAX:
+        return isSetYMax();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7158,12 +15848,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFovSize_args)
-        return this.equals((getFovSize_args)that);
+      if (that instanceof getOnEmitterCountInRegion_args)
+        return this.equals((getOnEmitterCountInRegion_args)that);
       return false;
     }
 
-    public boolean equals(getFovSize_args that) {
+    public boolean equals(getOnEmitterCountInRegion_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -7178,6 +15868,42 @@ public class RemoteSimulationService {
           return false;
       }
 
+      boolean this_present_xMin = true;
+      boolean that_present_xMin = true;
+      if (this_present_xMin || that_present_xMin) {
+        if (!(this_present_xMin && that_present_xMin))
+          return false;
+        if (this.xMin != that.xMin)
+          return false;
+      }
+
+      boolean this_present_yMin = true;
+      boolean that_present_yMin = true;
+      if (this_present_yMin || that_present_yMin) {
+        if (!(this_present_yMin && that_present_yMin))
+          return false;
+        if (this.yMin != that.yMin)
+          return false;
+      }
+
+      boolean this_present_xMax = true;
+      boolean that_present_xMax = true;
+      if (this_present_xMax || that_present_xMax) {
+        if (!(this_present_xMax && that_present_xMax))
+          return false;
+        if (this.xMax != that.xMax)
+          return false;
+      }
+
+      boolean this_present_yMax = true;
+      boolean that_present_yMax = true;
+      if (this_present_yMax || that_present_yMax) {
+        if (!(this_present_yMax && that_present_yMax))
+          return false;
+        if (this.yMax != that.yMax)
+          return false;
+      }
+
       return true;
     }
 
@@ -7187,11 +15913,19 @@ public class RemoteSimulationService {
 
       hashCode = hashCode * 8191 + id;
 
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(xMin);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(yMin);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(xMax);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(yMax);
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getFovSize_args other) {
+    public int compareTo(getOnEmitterCountInRegion_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7208,6 +15942,46 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetXMin()).compareTo(other.isSetXMin());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetXMin()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.xMin, other.xMin);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetYMin()).compareTo(other.isSetYMin());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetYMin()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.yMin, other.yMin);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetXMax()).compareTo(other.isSetXMax());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetXMax()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.xMax, other.xMax);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetYMax()).compareTo(other.isSetYMax());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetYMax()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.yMax, other.yMax);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -7225,12 +15999,28 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getFovSize_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getOnEmitterCountInRegion_args(");
       boolean first = true;
 
       sb.append("id:");
       sb.append(this.id);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("xMin:");
+      sb.append(this.xMin);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("yMin:");
+      sb.append(this.yMin);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("xMax:");
+      sb.append(this.xMax);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("yMax:");
+      sb.append(this.yMax);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -7258,15 +16048,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getFovSize_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getFovSize_argsStandardScheme getScheme() {
-        return new getFovSize_argsStandardScheme();
+    private static class getOnEmitterCountInRegion_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getOnEmitterCountInRegion_argsStandardScheme getScheme() {
+        return new getOnEmitterCountInRegion_argsStandardScheme();
       }
     }
 
-    private static class getFovSize_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getFovSize_args> {
+    private static class getOnEmitterCountInRegion_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getOnEmitterCountInRegion_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFovSize_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getOnEmitterCountInRegion_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7284,6 +16074,38 @@ public class RemoteSimulationService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // X_MIN
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.xMin = iprot.readDouble();
+                struct.setXMinIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // Y_MIN
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.yMin = iprot.readDouble();
+                struct.setYMinIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // X_MAX
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.xMax = iprot.readDouble();
+                struct.setXMaxIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 5: // Y_MAX
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.yMax = iprot.readDouble();
+                struct.setYMaxIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -7295,48 +16117,100 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFovSize_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getOnEmitterCountInRegion_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(ID_FIELD_DESC);
         oprot.writeI32(struct.id);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(X_MIN_FIELD_DESC);
+        oprot.writeDouble(struct.xMin);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(Y_MIN_FIELD_DESC);
+        oprot.writeDouble(struct.yMin);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(X_MAX_FIELD_DESC);
+        oprot.writeDouble(struct.xMax);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(Y_MAX_FIELD_DESC);
+        oprot.writeDouble(struct.yMax);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getFovSize_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getFovSize_argsTupleScheme getScheme() {
-        return new getFovSize_argsTupleScheme();
+    private static class getOnEmitterCountInRegion_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getOnEmitterCountInRegion_argsTupleScheme getScheme() {
+        return new getOnEmitterCountInRegion_argsTupleScheme();
       }
     }
 
-    private static class getFovSize_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getFovSize_args> {
+    private static class getOnEmitterCountInRegion_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getOnEmitterCountInRegion_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFovSize_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getOnEmitterCountInRegion_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetXMin()) {
+          optionals.set(1);
+        }
+        if (struct.isSetYMin()) {
+          optionals.set(2);
+        }
+        if (struct.isSetXMax()) {
+          optionals.set(3);
+        }
+        if (struct.isSetYMax()) {
+          optionals.set(4);
+        }
+        oprot.writeBitSet(optionals, 5);
         if (struct.isSetId()) {
           oprot.writeI32(struct.id);
         }
+        if (struct.isSetXMin()) {
+          oprot.writeDouble(struct.xMin);
+        }
+        if (struct.isSetYMin()) {
+          oprot.writeDouble(struct.yMin);
+        }
+        if (struct.isSetXMax()) {
+          oprot.writeDouble(struct.xMax);
+        }
+        if (struct.isSetYMax()) {
+          oprot.writeDouble(struct.yMax);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFovSize_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getOnEmitterCountInRegion_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(5);
         if (incoming.get(0)) {
           struct.id = iprot.readI32();
           struct.setIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.xMin = iprot.readDouble();
+          struct.setXMinIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.yMin = iprot.readDouble();
+          struct.setYMinIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.xMax = iprot.readDouble();
+          struct.setXMaxIsSet(true);
+        }
+        if (incoming.get(4)) {
+          struct.yMax = iprot.readDouble();
+          struct.setYMaxIsSet(true);
+        }
       }
     }
 
@@ -7345,16 +16219,16 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getFovSize_result implements org.apache.thrift.TBase<getFovSize_result, getFovSize_result._Fields>, java.io.Serializable, Cloneable, Comparable<getFovSize_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getFovSize_result");
+  public static class getOnEmitterCountInRegion_result implements org.apache.thrift.TBase<getOnEmitterCountInRegion_result, getOnEmitterCountInRegion_result._Fields>, java.io.Serializable, Cloneable, Comparable<getOnEmitterCountInRegion_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getOnEmitterCountInRegion_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.DOUBLE, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getFovSize_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getFovSize_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getOnEmitterCountInRegion_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getOnEmitterCountInRegion_resultTupleSchemeFactory();
 
-    public double success; // required
+    public int success; // required
     public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -7425,18 +16299,18 @@ public class RemoteSimulationService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getFovSize_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getOnEmitterCountInRegion_result.class, metaDataMap);
     }
 
-    public getFovSize_result() {
+    public getOnEmitterCountInRegion_result() {
     }
 
-    public getFovSize_result(
-      double success,
+    public getOnEmitterCountInRegion_result(
+      int success,
       UnknownSimulationIdException ex)
     {
       this();
@@ -7448,7 +16322,7 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getFovSize_result(getFovSize_result other) {
+    public getOnEmitterCountInRegion_result(getOnEmitterCountInRegion_result other) {
       __isset_bitfield = other.__isset_bitfield;
       this.success = other.success;
       if (other.isSetEx()) {
@@ -7456,22 +16330,22 @@ public class RemoteSimulationService {
       }
     }
 
-    public getFovSize_result deepCopy() {
-      return new getFovSize_result(this);
+    public getOnEmitterCountInRegion_result deepCopy() {
+      return new getOnEmitterCountInRegion_result(this);
     }
 
     @Override
     public void clear() {
       setSuccessIsSet(false);
-      this.success = 0.0;
+      this.success = 0;
       this.ex = null;
     }
 
-    public double getSuccess() {
+    public int getSuccess() {
       return this.success;
     }
 
-    public getFovSize_result setSuccess(double success) {
+    public getOnEmitterCountInRegion_result setSuccess(int success) {
       this.success = success;
       setSuccessIsSet(true);
       return this;
@@ -7494,7 +16368,7 @@ public class RemoteSimulationService {
       return this.ex;
     }
 
-    public getFovSize_result setEx(UnknownSimulationIdException ex) {
+    public getOnEmitterCountInRegion_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -7520,7 +16394,7 @@ public class RemoteSimulationService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.Double)value);
+          setSuccess((java.lang.Integer)value);
         }
         break;
 
@@ -7566,12 +16440,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getFovSize_result)
-        return this.equals((getFovSize_result)that);
+      if (that instanceof getOnEmitterCountInRegion_result)
+        return this.equals((getOnEmitterCountInRegion_result)that);
       return false;
     }
 
-    public boolean equals(getFovSize_result that) {
+    public boolean equals(getOnEmitterCountInRegion_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -7602,7 +16476,7 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+      hashCode = hashCode * 8191 + success;
 
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
@@ -7612,7 +16486,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getFovSize_result other) {
+    public int compareTo(getOnEmitterCountInRegion_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7656,7 +16530,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getFovSize_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getOnEmitterCountInRegion_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -7697,15 +16571,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getFovSize_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getFovSize_resultStandardScheme getScheme() {
-        return new getFovSize_resultStandardScheme();
+    private static class getOnEmitterCountInRegion_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getOnEmitterCountInRegion_resultStandardScheme getScheme() {
+        return new getOnEmitterCountInRegion_resultStandardScheme();
       }
     }
 
-    private static class getFovSize_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getFovSize_result> {
+    private static class getOnEmitterCountInRegion_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getOnEmitterCountInRegion_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getFovSize_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getOnEmitterCountInRegion_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7716,8 +16590,8 @@ public class RemoteSimulationService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
-                struct.success = iprot.readDouble();
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.success = iprot.readI32();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -7743,13 +16617,13 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getFovSize_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getOnEmitterCountInRegion_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeDouble(struct.success);
+          oprot.writeI32(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -7763,16 +16637,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getFovSize_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getFovSize_resultTupleScheme getScheme() {
-        return new getFovSize_resultTupleScheme();
+    private static class getOnEmitterCountInRegion_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getOnEmitterCountInRegion_resultTupleScheme getScheme() {
+        return new getOnEmitterCountInRegion_resultTupleScheme();
       }
     }
 
-    private static class getFovSize_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getFovSize_result> {
+    private static class getOnEmitterCountInRegion_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getOnEmitterCountInRegion_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getFovSize_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getOnEmitterCountInRegion_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -7783,7 +16657,7 @@ public class RemoteSimulationService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeDouble(struct.success);
+          oprot.writeI32(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
@@ -7791,11 +16665,11 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getFovSize_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getOnEmitterCountInRegion_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readDouble();
+          struct.success = iprot.readI32();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -7811,19 +16685,17 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getImageCount_args implements org.apache.thrift.TBase<getImageCount_args, getImageCount_args._Fields>, java.io.Serializable, Cloneable, Comparable<getImageCount_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getImageCount_args");
+  public static class getServerStatus_args implements org.apache.thrift.TBase<getServerStatus_args, getServerStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getServerStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getServerStatus_args");
 
-    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getImageCount_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getImageCount_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getServerStatus_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getServerStatus_argsTupleSchemeFactory();
 
-    public int id; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ID((short)1, "id");
+;
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -7838,8 +16710,6 @@ public class RemoteSimulationService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // ID
-            return ID;
           default:
             return null;
         }
@@ -7878,89 +16748,37 @@ public class RemoteSimulationService {
         return _fieldName;
       }
     }
-
-    // isset id assignments
-    private static final int __ID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getImageCount_args.class, metaDataMap);
-    }
-
-    public getImageCount_args() {
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getServerStatus_args.class, metaDataMap);
     }
 
-    public getImageCount_args(
-      int id)
-    {
-      this();
-      this.id = id;
-      setIdIsSet(true);
+    public getServerStatus_args() {
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getImageCount_args(getImageCount_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.id = other.id;
+    public getServerStatus_args(getServerStatus_args other) {
     }
 
-    public getImageCount_args deepCopy() {
-      return new getImageCount_args(this);
+    public getServerStatus_args deepCopy() {
+      return new getServerStatus_args(this);
     }
 
     @Override
     public void clear() {
-      setIdIsSet(false);
-      this.id = 0;
-    }
-
-    public int getId() {
-      return this.id;
-    }
-
-    public getImageCount_args setId(int id) {
-      this.id = id;
-      setIdIsSet(true);
-      return this;
-    }
-
-    public void unsetId() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
-    }
-
-    /** Returns true if field id is set (has been assigned a value) and false otherwise */
-    public boolean isSetId() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
-    }
-
-    public void setIdIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case ID:
-        if (value == null) {
-          unsetId();
-        } else {
-          setId((java.lang.Integer)value);
-        }
-        break;
-
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case ID:
-        return getId();
-
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7972,8 +16790,6 @@ public class RemoteSimulationService {
       }
 
       switch (field) {
-      case ID:
-        return isSetId();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -7982,26 +16798,17 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getImageCount_args)
-        return this.equals((getImageCount_args)that);
+      if (that instanceof getServerStatus_args)
+        return this.equals((getServerStatus_args)that);
       return false;
     }
 
-    public boolean equals(getImageCount_args that) {
+    public boolean equals(getServerStatus_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_id = true;
-      boolean that_present_id = true;
-      if (this_present_id || that_present_id) {
-        if (!(this_present_id && that_present_id))
-          return false;
-        if (this.id != that.id)
-          return false;
-      }
-
       return true;
     }
 
@@ -8009,29 +16816,17 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + id;
-
       return hashCode;
     }
 
     @Override
-    public int compareTo(getImageCount_args other) {
+    public int compareTo(getServerStatus_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetId()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -8049,12 +16844,9 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getImageCount_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getServerStatus_args(");
       boolean first = true;
 
-      sb.append("id:");
-      sb.append(this.id);
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -8074,23 +16866,21 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getImageCount_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getImageCount_argsStandardScheme getScheme() {
-        return new getImageCount_argsStandardScheme();
+    private static class getServerStatus_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getServerStatus_argsStandardScheme getScheme() {
+        return new getServerStatus_argsStandardScheme();
       }
     }
 
-    private static class getImageCount_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getImageCount_args> {
+    private static class getServerStatus_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getServerStatus_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getImageCount_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getServerStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8100,14 +16890,6 @@ public class RemoteSimulationService {
             break;
           }
           switch (schemeField.id) {
-            case 1: // ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.id = iprot.readI32();
-                struct.setIdIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8119,48 +16901,32 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getImageCount_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getServerStatus_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(ID_FIELD_DESC);
-        oprot.writeI32(struct.id);
-        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getImageCount_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getImageCount_argsTupleScheme getScheme() {
-        return new getImageCount_argsTupleScheme();
+    private static class getServerStatus_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getServerStatus_argsTupleScheme getScheme() {
+        return new getServerStatus_argsTupleScheme();
       }
     }
-
-    private static class getImageCount_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getImageCount_args> {
-
-      @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getImageCount_args struct) throws org.apache.thrift.TException {
-        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetId()) {
-          optionals.set(0);
-        }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetId()) {
-          oprot.writeI32(struct.id);
-        }
+
+    private static class getServerStatus_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getServerStatus_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getServerStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getImageCount_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getServerStatus_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
-        if (incoming.get(0)) {
-          struct.id = iprot.readI32();
-          struct.setIdIsSet(true);
-        }
       }
     }
 
@@ -8169,22 +16935,19 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getImageCount_result implements org.apache.thrift.TBase<getImageCount_result, getImageCount_result._Fields>, java.io.Serializable, Cloneable, Comparable<getImageCount_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getImageCount_result");
+  public static class getServerStatus_result implements org.apache.thrift.TBase<getServerStatus_result, getServerStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getServerStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getServerStatus_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I32, (short)0);
-    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getImageCount_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getImageCount_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getServerStatus_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getServerStatus_resultTupleSchemeFactory();
 
-    public int success; // required
-    public UnknownSimulationIdException ex; // required
+    public java.lang.String success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
-      EX((short)1, "ex");
+      SUCCESS((short)0, "success");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -8201,8 +16964,6 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 0: // SUCCESS
             return SUCCESS;
-          case 1: // EX
-            return EX;
           default:
             return null;
         }
@@ -8243,98 +17004,64 @@ public class RemoteSimulationService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getImageCount_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getServerStatus_result.class, metaDataMap);
     }
 
-    public getImageCount_result() {
+    public getServerStatus_result() {
     }
 
-    public getImageCount_result(
-      int success,
-      UnknownSimulationIdException ex)
+    public getServerStatus_result(
+      java.lang.String success)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
-      this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getImageCount_result(getImageCount_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
-      if (other.isSetEx()) {
-        this.ex = new UnknownSimulationIdException(other.ex);
+    public getServerStatus_result(getServerStatus_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
       }
     }
 
-    public getImageCount_result deepCopy() {
-      return new getImageCount_result(this);
+    public getServerStatus_result deepCopy() {
+      return new getServerStatus_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0;
-      this.ex = null;
+      this.success = null;
     }
 
-    public int getSuccess() {
+    public java.lang.String getSuccess() {
       return this.success;
     }
 
-    public getImageCount_result setSuccess(int success) {
+    public getServerStatus_result setSuccess(java.lang.String success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
-    public UnknownSimulationIdException getEx() {
-      return this.ex;
-    }
-
-    public getImageCount_result setEx(UnknownSimulationIdException ex) {
-      this.ex = ex;
-      return this;
-    }
-
-    public void unsetEx() {
-      this.ex = null;
-    }
-
-    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
-    public boolean isSetEx() {
-      return this.ex != null;
-    }
-
-    public void setExIsSet(boolean value) {
       if (!value) {
-        this.ex = null;
+        this.success = null;
       }
     }
 
@@ -8344,15 +17071,7 @@ public class RemoteSimulationService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.Integer)value);
-        }
-        break;
-
-      case EX:
-        if (value == null) {
-          unsetEx();
-        } else {
-          setEx((UnknownSimulationIdException)value);
+          setSuccess((java.lang.String)value);
         }
         break;
 
@@ -8364,9 +17083,6 @@ public class RemoteSimulationService {
       case SUCCESS:
         return getSuccess();
 
-      case EX:
-        return getEx();
-
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8380,8 +17096,6 @@ public class RemoteSimulationService {
       switch (field) {
       case SUCCESS:
         return isSetSuccess();
-      case EX:
-        return isSetEx();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -8390,32 +17104,23 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getImageCount_result)
-        return this.equals((getImageCount_result)that);
+      if (that instanceof getServerStatus_result)
+        return this.equals((getServerStatus_result)that);
       return false;
     }
 
-    public boolean equals(getImageCount_result that) {
+    public boolean equals(getServerStatus_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
-          return false;
-      }
-
-      boolean this_present_ex = true && this.isSetEx();
-      boolean that_present_ex = true && that.isSetEx();
-      if (this_present_ex || that_present_ex) {
-        if (!(this_present_ex && that_present_ex))
-          return false;
-        if (!this.ex.equals(that.ex))
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -8426,17 +17131,15 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + success;
-
-      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
-      if (isSetEx())
-        hashCode = hashCode * 8191 + ex.hashCode();
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getImageCount_result other) {
+    public int compareTo(getServerStatus_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8453,16 +17156,6 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEx()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -8480,18 +17173,14 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getImageCount_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getServerStatus_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("ex:");
-      if (this.ex == null) {
+      if (this.success == null) {
         sb.append("null");
       } else {
-        sb.append(this.ex);
+        sb.append(this.success);
       }
       first = false;
       sb.append(")");
@@ -8513,23 +17202,21 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getImageCount_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getImageCount_resultStandardScheme getScheme() {
-        return new getImageCount_resultStandardScheme();
+    private static class getServerStatus_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getServerStatus_resultStandardScheme getScheme() {
+        return new getServerStatus_resultStandardScheme();
       }
     }
 
-    private static class getImageCount_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getImageCount_result> {
+    private static class getServerStatus_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getServerStatus_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getImageCount_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getServerStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8540,22 +17227,13 @@ public class RemoteSimulationService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.success = iprot.readI32();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 1: // EX
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ex = new UnknownSimulationIdException();
-                struct.ex.read(iprot);
-                struct.setExIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -8567,18 +17245,13 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getImageCount_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getServerStatus_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeI32(struct.success);
-          oprot.writeFieldEnd();
-        }
-        if (struct.ex != null) {
-          oprot.writeFieldBegin(EX_FIELD_DESC);
-          struct.ex.write(oprot);
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -8587,46 +17260,35 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getImageCount_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getImageCount_resultTupleScheme getScheme() {
-        return new getImageCount_resultTupleScheme();
+    private static class getServerStatus_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getServerStatus_resultTupleScheme getScheme() {
+        return new getServerStatus_resultTupleScheme();
       }
     }
 
-    private static class getImageCount_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getImageCount_result> {
+    private static class getServerStatus_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getServerStatus_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getImageCount_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getServerStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        if (struct.isSetEx()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSuccess()) {
-          oprot.writeI32(struct.success);
-        }
-        if (struct.isSetEx()) {
-          struct.ex.write(oprot);
+          oprot.writeString(struct.success);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getImageCount_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getServerStatus_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readI32();
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
-        if (incoming.get(1)) {
-          struct.ex = new UnknownSimulationIdException();
-          struct.ex.read(iprot);
-          struct.setExIsSet(true);
-        }
       }
     }
 
@@ -8635,13 +17297,13 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getLaserJsonName_args implements org.apache.thrift.TBase<getLaserJsonName_args, getLaserJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getLaserJsonName_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLaserJsonName_args");
+  public static class getShortTrueSignalDescription_args implements org.apache.thrift.TBase<getShortTrueSignalDescription_args, getShortTrueSignalDescription_args._Fields>, java.io.Serializable, Cloneable, Comparable<getShortTrueSignalDescription_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getShortTrueSignalDescription_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getLaserJsonName_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getLaserJsonName_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getShortTrueSignalDescription_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getShortTrueSignalDescription_argsTupleSchemeFactory();
 
     public int id; // required
 
@@ -8712,13 +17374,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLaserJsonName_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getShortTrueSignalDescription_args.class, metaDataMap);
     }
 
-    public getLaserJsonName_args() {
+    public getShortTrueSignalDescription_args() {
     }
 
-    public getLaserJsonName_args(
+    public getShortTrueSignalDescription_args(
       int id)
     {
       this();
@@ -8729,13 +17391,13 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getLaserJsonName_args(getLaserJsonName_args other) {
+    public getShortTrueSignalDescription_args(getShortTrueSignalDescription_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
     }
 
-    public getLaserJsonName_args deepCopy() {
-      return new getLaserJsonName_args(this);
+    public getShortTrueSignalDescription_args deepCopy() {
+      return new getShortTrueSignalDescription_args(this);
     }
 
     @Override
@@ -8748,7 +17410,7 @@ public class RemoteSimulationService {
       return this.id;
     }
 
-    public getLaserJsonName_args setId(int id) {
+    public getShortTrueSignalDescription_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -8806,12 +17468,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getLaserJsonName_args)
-        return this.equals((getLaserJsonName_args)that);
+      if (that instanceof getShortTrueSignalDescription_args)
+        return this.equals((getShortTrueSignalDescription_args)that);
       return false;
     }
 
-    public boolean equals(getLaserJsonName_args that) {
+    public boolean equals(getShortTrueSignalDescription_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -8839,7 +17501,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getLaserJsonName_args other) {
+    public int compareTo(getShortTrueSignalDescription_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8873,7 +17535,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getLaserJsonName_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getShortTrueSignalDescription_args(");
       boolean first = true;
 
       sb.append("id:");
@@ -8906,15 +17568,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getLaserJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getLaserJsonName_argsStandardScheme getScheme() {
-        return new getLaserJsonName_argsStandardScheme();
+    private static class getShortTrueSignalDescription_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getShortTrueSignalDescription_argsStandardScheme getScheme() {
+        return new getShortTrueSignalDescription_argsStandardScheme();
       }
     }
 
-    private static class getLaserJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getLaserJsonName_args> {
+    private static class getShortTrueSignalDescription_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getShortTrueSignalDescription_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getLaserJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getShortTrueSignalDescription_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8943,7 +17605,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getLaserJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getShortTrueSignalDescription_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8956,16 +17618,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getLaserJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getLaserJsonName_argsTupleScheme getScheme() {
-        return new getLaserJsonName_argsTupleScheme();
+    private static class getShortTrueSignalDescription_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getShortTrueSignalDescription_argsTupleScheme getScheme() {
+        return new getShortTrueSignalDescription_argsTupleScheme();
       }
     }
 
-    private static class getLaserJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getLaserJsonName_args> {
+    private static class getShortTrueSignalDescription_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getShortTrueSignalDescription_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getLaserJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getShortTrueSignalDescription_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
@@ -8978,7 +17640,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getLaserJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getShortTrueSignalDescription_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -8993,14 +17655,14 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getLaserJsonName_result implements org.apache.thrift.TBase<getLaserJsonName_result, getLaserJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getLaserJsonName_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getLaserJsonName_result");
+  public static class getShortTrueSignalDescription_result implements org.apache.thrift.TBase<getShortTrueSignalDescription_result, getShortTrueSignalDescription_result._Fields>, java.io.Serializable, Cloneable, Comparable<getShortTrueSignalDescription_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getShortTrueSignalDescription_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getLaserJsonName_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getLaserJsonName_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getShortTrueSignalDescription_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getShortTrueSignalDescription_resultTupleSchemeFactory();
 
     public java.lang.String success; // required
     public UnknownSimulationIdException ex; // required
@@ -9075,13 +17737,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getLaserJsonName_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getShortTrueSignalDescription_result.class, metaDataMap);
     }
 
-    public getLaserJsonName_result() {
+    public getShortTrueSignalDescription_result() {
     }
 
-    public getLaserJsonName_result(
+    public getShortTrueSignalDescription_result(
       java.lang.String success,
       UnknownSimulationIdException ex)
     {
@@ -9093,7 +17755,7 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getLaserJsonName_result(getLaserJsonName_result other) {
+    public getShortTrueSignalDescription_result(getShortTrueSignalDescription_result other) {
       if (other.isSetSuccess()) {
         this.success = other.success;
       }
@@ -9102,8 +17764,8 @@ public class RemoteSimulationService {
       }
     }
 
-    public getLaserJsonName_result deepCopy() {
-      return new getLaserJsonName_result(this);
+    public getShortTrueSignalDescription_result deepCopy() {
+      return new getShortTrueSignalDescription_result(this);
     }
 
     @Override
@@ -9116,7 +17778,7 @@ public class RemoteSimulationService {
       return this.success;
     }
 
-    public getLaserJsonName_result setSuccess(java.lang.String success) {
+    public getShortTrueSignalDescription_result setSuccess(java.lang.String success) {
       this.success = success;
       return this;
     }
@@ -9140,7 +17802,7 @@ public class RemoteSimulationService {
       return this.ex;
     }
 
-    public getLaserJsonName_result setEx(UnknownSimulationIdException ex) {
+    public getShortTrueSignalDescription_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -9212,12 +17874,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getLaserJsonName_result)
-        return this.equals((getLaserJsonName_result)that);
+      if (that instanceof getShortTrueSignalDescription_result)
+        return this.equals((getShortTrueSignalDescription_result)that);
       return false;
     }
 
-    public boolean equals(getLaserJsonName_result that) {
+    public boolean equals(getShortTrueSignalDescription_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -9260,7 +17922,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getLaserJsonName_result other) {
+    public int compareTo(getShortTrueSignalDescription_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9304,7 +17966,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getLaserJsonName_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getShortTrueSignalDescription_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -9347,15 +18009,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getLaserJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getLaserJsonName_resultStandardScheme getScheme() {
-        return new getLaserJsonName_resultStandardScheme();
+    private static class getShortTrueSignalDescription_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getShortTrueSignalDescription_resultStandardScheme getScheme() {
+        return new getShortTrueSignalDescription_resultStandardScheme();
       }
     }
 
-    private static class getLaserJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getLaserJsonName_result> {
+    private static class getShortTrueSignalDescription_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getShortTrueSignalDescription_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getLaserJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getShortTrueSignalDescription_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9393,7 +18055,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getLaserJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getShortTrueSignalDescription_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9413,16 +18075,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getLaserJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getLaserJsonName_resultTupleScheme getScheme() {
-        return new getLaserJsonName_resultTupleScheme();
+    private static class getShortTrueSignalDescription_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getShortTrueSignalDescription_resultTupleScheme getScheme() {
+        return new getShortTrueSignalDescription_resultTupleScheme();
       }
     }
 
-    private static class getLaserJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getLaserJsonName_result> {
+    private static class getShortTrueSignalDescription_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getShortTrueSignalDescription_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getLaserJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getShortTrueSignalDescription_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -9441,7 +18103,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getLaserJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getShortTrueSignalDescription_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -9461,13 +18123,13 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getNextImage_args implements org.apache.thrift.TBase<getNextImage_args, getNextImage_args._Fields>, java.io.Serializable, Cloneable, Comparable<getNextImage_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNextImage_args");
+  public static class getStageJsonName_args implements org.apache.thrift.TBase<getStageJsonName_args, getStageJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStageJsonName_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStageJsonName_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getNextImage_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getNextImage_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getStageJsonName_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getStageJsonName_argsTupleSchemeFactory();
 
     public int id; // required
 
@@ -9538,13 +18200,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNextImage_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStageJsonName_args.class, metaDataMap);
     }
 
-    public getNextImage_args() {
+    public getStageJsonName_args() {
     }
 
-    public getNextImage_args(
+    public getStageJsonName_args(
       int id)
     {
       this();
@@ -9555,13 +18217,13 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNextImage_args(getNextImage_args other) {
+    public getStageJsonName_args(getStageJsonName_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
     }
 
-    public getNextImage_args deepCopy() {
-      return new getNextImage_args(this);
+    public getStageJsonName_args deepCopy() {
+      return new getStageJsonName_args(this);
     }
 
     @Override
@@ -9574,7 +18236,7 @@ public class RemoteSimulationService {
       return this.id;
     }
 
-    public getNextImage_args setId(int id) {
+    public getStageJsonName_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -9632,12 +18294,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNextImage_args)
-        return this.equals((getNextImage_args)that);
+      if (that instanceof getStageJsonName_args)
+        return this.equals((getStageJsonName_args)that);
       return false;
     }
 
-    public boolean equals(getNextImage_args that) {
+    public boolean equals(getStageJsonName_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -9665,7 +18327,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getNextImage_args other) {
+    public int compareTo(getStageJsonName_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9699,7 +18361,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getNextImage_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getStageJsonName_args(");
       boolean first = true;
 
       sb.append("id:");
@@ -9732,15 +18394,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getNextImage_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getNextImage_argsStandardScheme getScheme() {
-        return new getNextImage_argsStandardScheme();
+    private static class getStageJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getStageJsonName_argsStandardScheme getScheme() {
+        return new getStageJsonName_argsStandardScheme();
       }
     }
 
-    private static class getNextImage_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getNextImage_args> {
+    private static class getStageJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getStageJsonName_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNextImage_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStageJsonName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9769,7 +18431,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNextImage_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStageJsonName_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9782,16 +18444,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getNextImage_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getNextImage_argsTupleScheme getScheme() {
-        return new getNextImage_argsTupleScheme();
+    private static class getStageJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getStageJsonName_argsTupleScheme getScheme() {
+        return new getStageJsonName_argsTupleScheme();
       }
     }
 
-    private static class getNextImage_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getNextImage_args> {
+    private static class getStageJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getStageJsonName_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNextImage_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStageJsonName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
@@ -9804,7 +18466,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNextImage_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStageJsonName_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -9819,25 +18481,22 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getNextImage_result implements org.apache.thrift.TBase<getNextImage_result, getNextImage_result._Fields>, java.io.Serializable, Cloneable, Comparable<getNextImage_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getNextImage_result");
+  public static class getStageJsonName_result implements org.apache.thrift.TBase<getStageJsonName_result, getStageJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStageJsonName_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStageJsonName_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
-    private static final org.apache.thrift.protocol.TField EX2_FIELD_DESC = new org.apache.thrift.protocol.TField("ex2", org.apache.thrift.protocol.TType.STRUCT, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getNextImage_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getNextImage_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getStageJsonName_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getStageJsonName_resultTupleSchemeFactory();
 
-    public java.nio.ByteBuffer success; // required
-    public ImageGenerationException ex; // required
-    public UnknownSimulationIdException ex2; // required
+    public java.lang.String success; // required
+    public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       SUCCESS((short)0, "success"),
-      EX((short)1, "ex"),
-      EX2((short)2, "ex2");
+      EX((short)1, "ex");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -9856,8 +18515,6 @@ public class RemoteSimulationService {
             return SUCCESS;
           case 1: // EX
             return EX;
-          case 2: // EX2
-            return EX2;
           default:
             return null;
         }
@@ -9902,71 +18559,53 @@ public class RemoteSimulationService {
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING          , true)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, ImageGenerationException.class)));
-      tmpMap.put(_Fields.EX2, new org.apache.thrift.meta_data.FieldMetaData("ex2", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getNextImage_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStageJsonName_result.class, metaDataMap);
     }
 
-    public getNextImage_result() {
+    public getStageJsonName_result() {
     }
 
-    public getNextImage_result(
-      java.nio.ByteBuffer success,
-      ImageGenerationException ex,
-      UnknownSimulationIdException ex2)
+    public getStageJsonName_result(
+      java.lang.String success,
+      UnknownSimulationIdException ex)
     {
       this();
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+      this.success = success;
       this.ex = ex;
-      this.ex2 = ex2;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getNextImage_result(getNextImage_result other) {
+    public getStageJsonName_result(getStageJsonName_result other) {
       if (other.isSetSuccess()) {
-        this.success = org.apache.thrift.TBaseHelper.copyBinary(other.success);
+        this.success = other.success;
       }
       if (other.isSetEx()) {
-        this.ex = new ImageGenerationException(other.ex);
-      }
-      if (other.isSetEx2()) {
-        this.ex2 = new UnknownSimulationIdException(other.ex2);
+        this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public getNextImage_result deepCopy() {
-      return new getNextImage_result(this);
+    public getStageJsonName_result deepCopy() {
+      return new getStageJsonName_result(this);
     }
 
     @Override
     public void clear() {
       this.success = null;
       this.ex = null;
-      this.ex2 = null;
-    }
-
-    public byte[] getSuccess() {
-      setSuccess(org.apache.thrift.TBaseHelper.rightSize(success));
-      return success == null ? null : success.array();
-    }
-
-    public java.nio.ByteBuffer bufferForSuccess() {
-      return org.apache.thrift.TBaseHelper.copyBinary(success);
     }
 
-    public getNextImage_result setSuccess(byte[] success) {
-      this.success = success == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(success.clone());
-      return this;
+    public java.lang.String getSuccess() {
+      return this.success;
     }
 
-    public getNextImage_result setSuccess(java.nio.ByteBuffer success) {
-      this.success = org.apache.thrift.TBaseHelper.copyBinary(success);
+    public getStageJsonName_result setSuccess(java.lang.String success) {
+      this.success = success;
       return this;
     }
 
@@ -9985,11 +18624,11 @@ public class RemoteSimulationService {
       }
     }
 
-    public ImageGenerationException getEx() {
+    public UnknownSimulationIdException getEx() {
       return this.ex;
     }
 
-    public getNextImage_result setEx(ImageGenerationException ex) {
+    public getStageJsonName_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -10009,41 +18648,13 @@ public class RemoteSimulationService {
       }
     }
 
-    public UnknownSimulationIdException getEx2() {
-      return this.ex2;
-    }
-
-    public getNextImage_result setEx2(UnknownSimulationIdException ex2) {
-      this.ex2 = ex2;
-      return this;
-    }
-
-    public void unsetEx2() {
-      this.ex2 = null;
-    }
-
-    /** Returns true if field ex2 is set (has been assigned a value) and false otherwise */
-    public boolean isSetEx2() {
-      return this.ex2 != null;
-    }
-
-    public void setEx2IsSet(boolean value) {
-      if (!value) {
-        this.ex2 = null;
-      }
-    }
-
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case SUCCESS:
         if (value == null) {
           unsetSuccess();
         } else {
-          if (value instanceof byte[]) {
-            setSuccess((byte[])value);
-          } else {
-            setSuccess((java.nio.ByteBuffer)value);
-          }
+          setSuccess((java.lang.String)value);
         }
         break;
 
@@ -10051,15 +18662,7 @@ public class RemoteSimulationService {
         if (value == null) {
           unsetEx();
         } else {
-          setEx((ImageGenerationException)value);
-        }
-        break;
-
-      case EX2:
-        if (value == null) {
-          unsetEx2();
-        } else {
-          setEx2((UnknownSimulationIdException)value);
+          setEx((UnknownSimulationIdException)value);
         }
         break;
 
@@ -10074,9 +18677,6 @@ public class RemoteSimulationService {
       case EX:
         return getEx();
 
-      case EX2:
-        return getEx2();
-
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10092,8 +18692,6 @@ public class RemoteSimulationService {
         return isSetSuccess();
       case EX:
         return isSetEx();
-      case EX2:
-        return isSetEx2();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10102,12 +18700,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getNextImage_result)
-        return this.equals((getNextImage_result)that);
+      if (that instanceof getStageJsonName_result)
+        return this.equals((getStageJsonName_result)that);
       return false;
     }
 
-    public boolean equals(getNextImage_result that) {
+    public boolean equals(getStageJsonName_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -10131,15 +18729,6 @@ public class RemoteSimulationService {
           return false;
       }
 
-      boolean this_present_ex2 = true && this.isSetEx2();
-      boolean that_present_ex2 = true && that.isSetEx2();
-      if (this_present_ex2 || that_present_ex2) {
-        if (!(this_present_ex2 && that_present_ex2))
-          return false;
-        if (!this.ex2.equals(that.ex2))
-          return false;
-      }
-
       return true;
     }
 
@@ -10155,15 +18744,11 @@ public class RemoteSimulationService {
       if (isSetEx())
         hashCode = hashCode * 8191 + ex.hashCode();
 
-      hashCode = hashCode * 8191 + ((isSetEx2()) ? 131071 : 524287);
-      if (isSetEx2())
-        hashCode = hashCode * 8191 + ex2.hashCode();
-
       return hashCode;
     }
 
     @Override
-    public int compareTo(getNextImage_result other) {
+    public int compareTo(getStageJsonName_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10190,16 +18775,6 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetEx2()).compareTo(other.isSetEx2());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetEx2()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex2, other.ex2);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       return 0;
     }
 
@@ -10217,14 +18792,14 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getNextImage_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getStageJsonName_result(");
       boolean first = true;
 
       sb.append("success:");
       if (this.success == null) {
         sb.append("null");
       } else {
-        org.apache.thrift.TBaseHelper.toString(this.success, sb);
+        sb.append(this.success);
       }
       first = false;
       if (!first) sb.append(", ");
@@ -10235,14 +18810,6 @@ public class RemoteSimulationService {
         sb.append(this.ex);
       }
       first = false;
-      if (!first) sb.append(", ");
-      sb.append("ex2:");
-      if (this.ex2 == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.ex2);
-      }
-      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10268,15 +18835,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getNextImage_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getNextImage_resultStandardScheme getScheme() {
-        return new getNextImage_resultStandardScheme();
+    private static class getStageJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getStageJsonName_resultStandardScheme getScheme() {
+        return new getStageJsonName_resultStandardScheme();
       }
     }
 
-    private static class getNextImage_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getNextImage_result> {
+    private static class getStageJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getStageJsonName_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getNextImage_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getStageJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10288,7 +18855,7 @@ public class RemoteSimulationService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readBinary();
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -10296,22 +18863,13 @@ public class RemoteSimulationService {
               break;
             case 1: // EX
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ex = new ImageGenerationException();
+                struct.ex = new UnknownSimulationIdException();
                 struct.ex.read(iprot);
                 struct.setExIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // EX2
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.ex2 = new UnknownSimulationIdException();
-                struct.ex2.read(iprot);
-                struct.setEx2IsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10323,13 +18881,13 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getNextImage_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getStageJsonName_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeBinary(struct.success);
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -10337,27 +18895,22 @@ public class RemoteSimulationService {
           struct.ex.write(oprot);
           oprot.writeFieldEnd();
         }
-        if (struct.ex2 != null) {
-          oprot.writeFieldBegin(EX2_FIELD_DESC);
-          struct.ex2.write(oprot);
-          oprot.writeFieldEnd();
-        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getNextImage_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getNextImage_resultTupleScheme getScheme() {
-        return new getNextImage_resultTupleScheme();
+    private static class getStageJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getStageJsonName_resultTupleScheme getScheme() {
+        return new getStageJsonName_resultTupleScheme();
       }
     }
 
-    private static class getNextImage_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getNextImage_result> {
+    private static class getStageJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getStageJsonName_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getNextImage_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getStageJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -10366,39 +18919,28 @@ public class RemoteSimulationService {
         if (struct.isSetEx()) {
           optionals.set(1);
         }
-        if (struct.isSetEx2()) {
-          optionals.set(2);
-        }
-        oprot.writeBitSet(optionals, 3);
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeBinary(struct.success);
+          oprot.writeString(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
         }
-        if (struct.isSetEx2()) {
-          struct.ex2.write(oprot);
-        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getNextImage_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getStageJsonName_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(3);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readBinary();
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.ex = new ImageGenerationException();
+          struct.ex = new UnknownSimulationIdException();
           struct.ex.read(iprot);
           struct.setExIsSet(true);
         }
-        if (incoming.get(2)) {
-          struct.ex2 = new UnknownSimulationIdException();
-          struct.ex2.read(iprot);
-          struct.setEx2IsSet(true);
-        }
       }
     }
 
@@ -10407,19 +18949,22 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getObjectiveJsonName_args implements org.apache.thrift.TBase<getObjectiveJsonName_args, getObjectiveJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getObjectiveJsonName_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getObjectiveJsonName_args");
+  public static class getTrueSignal_args implements org.apache.thrift.TBase<getTrueSignal_args, getTrueSignal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getTrueSignal_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTrueSignal_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField IMAGE_NUM_FIELD_DESC = new org.apache.thrift.protocol.TField("imageNum", org.apache.thrift.protocol.TType.I32, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getObjectiveJsonName_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getObjectiveJsonName_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getTrueSignal_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getTrueSignal_argsTupleSchemeFactory();
 
     public int id; // required
+    public int imageNum; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ID((short)1, "id");
+      ID((short)1, "id"),
+      IMAGE_NUM((short)2, "imageNum");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -10436,6 +18981,8 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 1: // ID
             return ID;
+          case 2: // IMAGE_NUM
+            return IMAGE_NUM;
           default:
             return null;
         }
@@ -10477,50 +19024,59 @@ public class RemoteSimulationService {
 
     // isset id assignments
     private static final int __ID_ISSET_ID = 0;
+    private static final int __IMAGENUM_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.IMAGE_NUM, new org.apache.thrift.meta_data.FieldMetaData("imageNum", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getObjectiveJsonName_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTrueSignal_args.class, metaDataMap);
     }
 
-    public getObjectiveJsonName_args() {
+    public getTrueSignal_args() {
     }
 
-    public getObjectiveJsonName_args(
-      int id)
+    public getTrueSignal_args(
+      int id,
+      int imageNum)
     {
       this();
       this.id = id;
       setIdIsSet(true);
+      this.imageNum = imageNum;
+      setImageNumIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getObjectiveJsonName_args(getObjectiveJsonName_args other) {
+    public getTrueSignal_args(getTrueSignal_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
+      this.imageNum = other.imageNum;
     }
 
-    public getObjectiveJsonName_args deepCopy() {
-      return new getObjectiveJsonName_args(this);
+    public getTrueSignal_args deepCopy() {
+      return new getTrueSignal_args(this);
     }
 
     @Override
     public void clear() {
       setIdIsSet(false);
       this.id = 0;
+      setImageNumIsSet(false);
+      this.imageNum = 0;
     }
 
     public int getId() {
       return this.id;
     }
 
-    public getObjectiveJsonName_args setId(int id) {
+    public getTrueSignal_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -10539,6 +19095,29 @@ public class RemoteSimulationService {
       __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
+    public int getImageNum() {
+      return this.imageNum;
+    }
+
+    public getTrueSignal_args setImageNum(int imageNum) {
+      this.imageNum = imageNum;
+      setImageNumIsSet(true);
+      return this;
+    }
+
+    public void unsetImageNum() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __IMAGENUM_ISSET_ID);
+    }
+
+    /** Returns true if field imageNum is set (has been assigned a value) and false otherwise */
+    public boolean isSetImageNum() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __IMAGENUM_ISSET_ID);
+    }
+
+    public void setImageNumIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __IMAGENUM_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case ID:
@@ -10549,6 +19128,14 @@ public class RemoteSimulationService {
         }
         break;
 
+      case IMAGE_NUM:
+        if (value == null) {
+          unsetImageNum();
+        } else {
+          setImageNum((java.lang.Integer)value);
+        }
+        break;
+
       }
     }
 
@@ -10557,6 +19144,9 @@ public class RemoteSimulationService {
       case ID:
         return getId();
 
+      case IMAGE_NUM:
+        return getImageNum();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10570,6 +19160,8 @@ public class RemoteSimulationService {
       switch (field) {
       case ID:
         return isSetId();
+      case IMAGE_NUM:
+        return isSetImageNum();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -10578,12 +19170,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getObjectiveJsonName_args)
-        return this.equals((getObjectiveJsonName_args)that);
+      if (that instanceof getTrueSignal_args)
+        return this.equals((getTrueSignal_args)that);
       return false;
     }
 
-    public boolean equals(getObjectiveJsonName_args that) {
+    public boolean equals(getTrueSignal_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -10598,6 +19190,15 @@ public class RemoteSimulationService {
           return false;
       }
 
+      boolean this_present_imageNum = true;
+      boolean that_present_imageNum = true;
+      if (this_present_imageNum || that_present_imageNum) {
+        if (!(this_present_imageNum && that_present_imageNum))
+          return false;
+        if (this.imageNum != that.imageNum)
+          return false;
+      }
+
       return true;
     }
 
@@ -10607,11 +19208,13 @@ public class RemoteSimulationService {
 
       hashCode = hashCode * 8191 + id;
 
+      hashCode = hashCode * 8191 + imageNum;
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getObjectiveJsonName_args other) {
+    public int compareTo(getTrueSignal_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10628,6 +19231,16 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetImageNum()).compareTo(other.isSetImageNum());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetImageNum()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.imageNum, other.imageNum);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -10645,12 +19258,16 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getObjectiveJsonName_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getTrueSignal_args(");
       boolean first = true;
 
       sb.append("id:");
       sb.append(this.id);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("imageNum:");
+      sb.append(this.imageNum);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -10678,15 +19295,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getObjectiveJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getObjectiveJsonName_argsStandardScheme getScheme() {
-        return new getObjectiveJsonName_argsStandardScheme();
+    private static class getTrueSignal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getTrueSignal_argsStandardScheme getScheme() {
+        return new getTrueSignal_argsStandardScheme();
       }
     }
 
-    private static class getObjectiveJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getObjectiveJsonName_args> {
+    private static class getTrueSignal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getTrueSignal_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getObjectiveJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTrueSignal_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10704,6 +19321,14 @@ public class RemoteSimulationService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // IMAGE_NUM
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.imageNum = iprot.readI32();
+                struct.setImageNumIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -10715,48 +19340,61 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getObjectiveJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTrueSignal_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(ID_FIELD_DESC);
         oprot.writeI32(struct.id);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(IMAGE_NUM_FIELD_DESC);
+        oprot.writeI32(struct.imageNum);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getObjectiveJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getObjectiveJsonName_argsTupleScheme getScheme() {
-        return new getObjectiveJsonName_argsTupleScheme();
+    private static class getTrueSignal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getTrueSignal_argsTupleScheme getScheme() {
+        return new getTrueSignal_argsTupleScheme();
       }
     }
 
-    private static class getObjectiveJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getObjectiveJsonName_args> {
+    private static class getTrueSignal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getTrueSignal_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getObjectiveJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTrueSignal_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetImageNum()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetId()) {
           oprot.writeI32(struct.id);
         }
+        if (struct.isSetImageNum()) {
+          oprot.writeI32(struct.imageNum);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getObjectiveJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTrueSignal_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.id = iprot.readI32();
           struct.setIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.imageNum = iprot.readI32();
+          struct.setImageNumIsSet(true);
+        }
       }
     }
 
@@ -10765,16 +19403,16 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getObjectiveJsonName_result implements org.apache.thrift.TBase<getObjectiveJsonName_result, getObjectiveJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getObjectiveJsonName_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getObjectiveJsonName_result");
+  public static class getTrueSignal_result implements org.apache.thrift.TBase<getTrueSignal_result, getTrueSignal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getTrueSignal_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTrueSignal_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.DOUBLE, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getObjectiveJsonName_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getObjectiveJsonName_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getTrueSignal_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getTrueSignal_resultTupleSchemeFactory();
 
-    public java.lang.String success; // required
+    public double success; // required
     public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -10839,80 +19477,82 @@ public class RemoteSimulationService {
     }
 
     // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getObjectiveJsonName_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTrueSignal_result.class, metaDataMap);
     }
 
-    public getObjectiveJsonName_result() {
+    public getTrueSignal_result() {
     }
 
-    public getObjectiveJsonName_result(
-      java.lang.String success,
+    public getTrueSignal_result(
+      double success,
       UnknownSimulationIdException ex)
     {
       this();
       this.success = success;
+      setSuccessIsSet(true);
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getObjectiveJsonName_result(getObjectiveJsonName_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public getTrueSignal_result(getTrueSignal_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public getObjectiveJsonName_result deepCopy() {
-      return new getObjectiveJsonName_result(this);
+    public getTrueSignal_result deepCopy() {
+      return new getTrueSignal_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      setSuccessIsSet(false);
+      this.success = 0.0;
       this.ex = null;
     }
 
-    public java.lang.String getSuccess() {
+    public double getSuccess() {
       return this.success;
     }
 
-    public getObjectiveJsonName_result setSuccess(java.lang.String success) {
+    public getTrueSignal_result setSuccess(double success) {
       this.success = success;
+      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      this.success = null;
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return this.success != null;
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
     }
 
     public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
     }
 
     public UnknownSimulationIdException getEx() {
       return this.ex;
     }
 
-    public getObjectiveJsonName_result setEx(UnknownSimulationIdException ex) {
+    public getTrueSignal_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -10938,7 +19578,7 @@ public class RemoteSimulationService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.String)value);
+          setSuccess((java.lang.Double)value);
         }
         break;
 
@@ -10984,23 +19624,23 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getObjectiveJsonName_result)
-        return this.equals((getObjectiveJsonName_result)that);
+      if (that instanceof getTrueSignal_result)
+        return this.equals((getTrueSignal_result)that);
       return false;
     }
 
-    public boolean equals(getObjectiveJsonName_result that) {
+    public boolean equals(getTrueSignal_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
+      boolean this_present_success = true;
+      boolean that_present_success = true;
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (!this.success.equals(that.success))
+        if (this.success != that.success)
           return false;
       }
 
@@ -11020,9 +19660,7 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
 
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
@@ -11032,7 +19670,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getObjectiveJsonName_result other) {
+    public int compareTo(getTrueSignal_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11076,15 +19714,11 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getObjectiveJsonName_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getTrueSignal_result(");
       boolean first = true;
 
       sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
+      sb.append(this.success);
       first = false;
       if (!first) sb.append(", ");
       sb.append("ex:");
@@ -11113,21 +19747,23 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getObjectiveJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getObjectiveJsonName_resultStandardScheme getScheme() {
-        return new getObjectiveJsonName_resultStandardScheme();
+    private static class getTrueSignal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getTrueSignal_resultStandardScheme getScheme() {
+        return new getTrueSignal_resultStandardScheme();
       }
     }
 
-    private static class getObjectiveJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getObjectiveJsonName_result> {
+    private static class getTrueSignal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getTrueSignal_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getObjectiveJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTrueSignal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11138,8 +19774,8 @@ public class RemoteSimulationService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.success = iprot.readDouble();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -11165,13 +19801,13 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getObjectiveJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTrueSignal_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
+        if (struct.isSetSuccess()) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+          oprot.writeDouble(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -11185,16 +19821,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getObjectiveJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getObjectiveJsonName_resultTupleScheme getScheme() {
-        return new getObjectiveJsonName_resultTupleScheme();
+    private static class getTrueSignal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getTrueSignal_resultTupleScheme getScheme() {
+        return new getTrueSignal_resultTupleScheme();
       }
     }
 
-    private static class getObjectiveJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getObjectiveJsonName_result> {
+    private static class getTrueSignal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getTrueSignal_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getObjectiveJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTrueSignal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -11205,7 +19841,7 @@ public class RemoteSimulationService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          oprot.writeDouble(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
@@ -11213,11 +19849,11 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getObjectiveJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTrueSignal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
+          struct.success = iprot.readDouble();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -11233,19 +19869,25 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getObjectSpacePixelSize_args implements org.apache.thrift.TBase<getObjectSpacePixelSize_args, getObjectSpacePixelSize_args._Fields>, java.io.Serializable, Cloneable, Comparable<getObjectSpacePixelSize_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getObjectSpacePixelSize_args");
+  public static class getGroundTruth_args implements org.apache.thrift.TBase<getGroundTruth_args, getGroundTruth_args._Fields>, java.io.Serializable, Cloneable, Comparable<getGroundTruth_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGroundTruth_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField FIRST_STEP_FIELD_DESC = new org.apache.thrift.protocol.TField("firstStep", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField LAST_STEP_FIELD_DESC = new org.apache.thrift.protocol.TField("lastStep", org.apache.thrift.protocol.TType.I32, (short)3);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getObjectSpacePixelSize_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getObjectSpacePixelSize_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getGroundTruth_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getGroundTruth_argsTupleSchemeFactory();
 
     public int id; // required
+    public int firstStep; // required
+    public int lastStep; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ID((short)1, "id");
+      ID((short)1, "id"),
+      FIRST_STEP((short)2, "firstStep"),
+      LAST_STEP((short)3, "lastStep");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -11262,6 +19904,10 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 1: // ID
             return ID;
+          case 2: // FIRST_STEP
+            return FIRST_STEP;
+          case 3: // LAST_STEP
+            return LAST_STEP;
           default:
             return null;
         }
@@ -11303,50 +19949,68 @@ public class RemoteSimulationService {
 
     // isset id assignments
     private static final int __ID_ISSET_ID = 0;
+    private static final int __FIRSTSTEP_ISSET_ID = 1;
+    private static final int __LASTSTEP_ISSET_ID = 2;
     private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.FIRST_STEP, new org.apache.thrift.meta_data.FieldMetaData("firstStep", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.LAST_STEP, new org.apache.thrift.meta_data.FieldMetaData("lastStep", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getObjectSpacePixelSize_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGroundTruth_args.class, metaDataMap);
     }
 
-    public getObjectSpacePixelSize_args() {
+    public getGroundTruth_args() {
     }
 
-    public getObjectSpacePixelSize_args(
-      int id)
+    public getGroundTruth_args(
+      int id,
+      int firstStep,
+      int lastStep)
     {
       this();
       this.id = id;
       setIdIsSet(true);
+      this.firstStep = firstStep;
+      setFirstStepIsSet(true);
+      this.lastStep = lastStep;
+      setLastStepIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getObjectSpacePixelSize_args(getObjectSpacePixelSize_args other) {
+    public getGroundTruth_args(getGroundTruth_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
+      this.firstStep = other.firstStep;
+      this.lastStep = other.lastStep;
     }
 
-    public getObjectSpacePixelSize_args deepCopy() {
-      return new getObjectSpacePixelSize_args(this);
+    public getGroundTruth_args deepCopy() {
+      return new getGroundTruth_args(this);
     }
 
     @Override
     public void clear() {
       setIdIsSet(false);
       this.id = 0;
+      setFirstStepIsSet(false);
+      this.firstStep = 0;
+      setLastStepIsSet(false);
+      this.lastStep = 0;
     }
 
     public int getId() {
       return this.id;
     }
 
-    public getObjectSpacePixelSize_args setId(int id) {
+    public getGroundTruth_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -11365,6 +20029,52 @@ public class RemoteSimulationService {
       __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
+    public int getFirstStep() {
+      return this.firstStep;
+    }
+
+    public getGroundTruth_args setFirstStep(int firstStep) {
+      this.firstStep = firstStep;
+      setFirstStepIsSet(true);
+      return this;
+    }
+
+    public void unsetFirstStep() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __FIRSTSTEP_ISSET_ID);
+    }
+
+    /** Returns true if field firstStep is set (has been assigned a value) and false otherwise */
+    public boolean isSetFirstStep() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __FIRSTSTEP_ISSET_ID);
+    }
+
+    public void setFirstStepIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __FIRSTSTEP_ISSET_ID, value);
+    }
+
+    public int getLastStep() {
+      return this.lastStep;
+    }
+
+    public getGroundTruth_args setLastStep(int lastStep) {
+      this.lastStep = lastStep;
+      setLastStepIsSet(true);
+      return this;
+    }
+
+    public void unsetLastStep() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __LASTSTEP_ISSET_ID);
+    }
+
+    /** Returns true if field lastStep is set (has been assigned a value) and false otherwise */
+    public boolean isSetLastStep() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __LASTSTEP_ISSET_ID);
+    }
+
+    public void setLastStepIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __LASTSTEP_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case ID:
@@ -11375,6 +20085,22 @@ public class RemoteSimulationService {
         }
         break;
 
+      case FIRST_STEP:
+        if (value == null) {
+          unsetFirstStep();
+        } else {
+          setFirstStep((java.lang.Integer)value);
+        }
+        break;
+
+      case LAST_STEP:
+        if (value == null) {
+          unsetLastStep();
+        } else {
+          setLastStep((java.lang.Integer)value);
+        }
+        break;
+
       }
     }
 
@@ -11383,6 +20109,12 @@ public class RemoteSimulationService {
       case ID:
         return getId();
 
+      case FIRST_STEP:
+        return getFirstStep();
+
+      case LAST_STEP:
+        return getLastStep();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11396,6 +20128,10 @@ public class RemoteSimulationService {
       switch (field) {
       case ID:
         return isSetId();
+      case FIRST_STEP:
+        return isSetFirstStep();
+      case LAST_STEP:
+        return isSetLastStep();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -11404,12 +20140,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getObjectSpacePixelSize_args)
-        return this.equals((getObjectSpacePixelSize_args)that);
+      if (that instanceof getGroundTruth_args)
+        return this.equals((getGroundTruth_args)that);
       return false;
     }
 
-    public boolean equals(getObjectSpacePixelSize_args that) {
+    public boolean equals(getGroundTruth_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -11424,6 +20160,24 @@ public class RemoteSimulationService {
           return false;
       }
 
+      boolean this_present_firstStep = true;
+      boolean that_present_firstStep = true;
+      if (this_present_firstStep || that_present_firstStep) {
+        if (!(this_present_firstStep && that_present_firstStep))
+          return false;
+        if (this.firstStep != that.firstStep)
+          return false;
+      }
+
+      boolean this_present_lastStep = true;
+      boolean that_present_lastStep = true;
+      if (this_present_lastStep || that_present_lastStep) {
+        if (!(this_present_lastStep && that_present_lastStep))
+          return false;
+        if (this.lastStep != that.lastStep)
+          return false;
+      }
+
       return true;
     }
 
@@ -11433,11 +20187,15 @@ public class RemoteSimulationService {
 
       hashCode = hashCode * 8191 + id;
 
+      hashCode = hashCode * 8191 + firstStep;
+
+      hashCode = hashCode * 8191 + lastStep;
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getObjectSpacePixelSize_args other) {
+    public int compareTo(getGroundTruth_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11454,6 +20212,26 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetFirstStep()).compareTo(other.isSetFirstStep());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFirstStep()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.firstStep, other.firstStep);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetLastStep()).compareTo(other.isSetLastStep());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLastStep()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.lastStep, other.lastStep);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -11471,12 +20249,20 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getObjectSpacePixelSize_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getGroundTruth_args(");
       boolean first = true;
 
       sb.append("id:");
       sb.append(this.id);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("firstStep:");
+      sb.append(this.firstStep);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("lastStep:");
+      sb.append(this.lastStep);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -11504,15 +20290,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getObjectSpacePixelSize_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getObjectSpacePixelSize_argsStandardScheme getScheme() {
-        return new getObjectSpacePixelSize_argsStandardScheme();
+    private static class getGroundTruth_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getGroundTruth_argsStandardScheme getScheme() {
+        return new getGroundTruth_argsStandardScheme();
       }
     }
 
-    private static class getObjectSpacePixelSize_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getObjectSpacePixelSize_args> {
+    private static class getGroundTruth_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getGroundTruth_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getObjectSpacePixelSize_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGroundTruth_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11530,6 +20316,22 @@ public class RemoteSimulationService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // FIRST_STEP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.firstStep = iprot.readI32();
+                struct.setFirstStepIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LAST_STEP
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.lastStep = iprot.readI32();
+                struct.setLastStepIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -11541,48 +20343,74 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getObjectSpacePixelSize_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGroundTruth_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(ID_FIELD_DESC);
         oprot.writeI32(struct.id);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(FIRST_STEP_FIELD_DESC);
+        oprot.writeI32(struct.firstStep);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LAST_STEP_FIELD_DESC);
+        oprot.writeI32(struct.lastStep);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getObjectSpacePixelSize_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getObjectSpacePixelSize_argsTupleScheme getScheme() {
-        return new getObjectSpacePixelSize_argsTupleScheme();
+    private static class getGroundTruth_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getGroundTruth_argsTupleScheme getScheme() {
+        return new getGroundTruth_argsTupleScheme();
       }
     }
 
-    private static class getObjectSpacePixelSize_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getObjectSpacePixelSize_args> {
+    private static class getGroundTruth_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getGroundTruth_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getObjectSpacePixelSize_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGroundTruth_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetFirstStep()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLastStep()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
         if (struct.isSetId()) {
           oprot.writeI32(struct.id);
         }
+        if (struct.isSetFirstStep()) {
+          oprot.writeI32(struct.firstStep);
+        }
+        if (struct.isSetLastStep()) {
+          oprot.writeI32(struct.lastStep);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getObjectSpacePixelSize_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGroundTruth_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
           struct.id = iprot.readI32();
           struct.setIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.firstStep = iprot.readI32();
+          struct.setFirstStepIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.lastStep = iprot.readI32();
+          struct.setLastStepIsSet(true);
+        }
       }
     }
 
@@ -11591,16 +20419,16 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getObjectSpacePixelSize_result implements org.apache.thrift.TBase<getObjectSpacePixelSize_result, getObjectSpacePixelSize_result._Fields>, java.io.Serializable, Cloneable, Comparable<getObjectSpacePixelSize_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getObjectSpacePixelSize_result");
+  public static class getGroundTruth_result implements org.apache.thrift.TBase<getGroundTruth_result, getGroundTruth_result._Fields>, java.io.Serializable, Cloneable, Comparable<getGroundTruth_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getGroundTruth_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.DOUBLE, (short)0);
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getObjectSpacePixelSize_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getObjectSpacePixelSize_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getGroundTruth_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getGroundTruth_resultTupleSchemeFactory();
 
-    public double success; // required
+    public java.lang.String success; // required
     public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
@@ -11665,82 +20493,80 @@ public class RemoteSimulationService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getObjectSpacePixelSize_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getGroundTruth_result.class, metaDataMap);
     }
 
-    public getObjectSpacePixelSize_result() {
+    public getGroundTruth_result() {
     }
 
-    public getObjectSpacePixelSize_result(
-      double success,
+    public getGroundTruth_result(
+      java.lang.String success,
       UnknownSimulationIdException ex)
     {
       this();
       this.success = success;
-      setSuccessIsSet(true);
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getObjectSpacePixelSize_result(getObjectSpacePixelSize_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public getGroundTruth_result(getGroundTruth_result other) {
+      if (other.isSetSuccess()) {
+        this.success = other.success;
+      }
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public getObjectSpacePixelSize_result deepCopy() {
-      return new getObjectSpacePixelSize_result(this);
+    public getGroundTruth_result deepCopy() {
+      return new getGroundTruth_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0.0;
+      this.success = null;
       this.ex = null;
     }
 
-    public double getSuccess() {
+    public java.lang.String getSuccess() {
       return this.success;
     }
 
-    public getObjectSpacePixelSize_result setSuccess(double success) {
+    public getGroundTruth_result setSuccess(java.lang.String success) {
       this.success = success;
-      setSuccessIsSet(true);
       return this;
     }
 
     public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      this.success = null;
     }
 
     /** Returns true if field success is set (has been assigned a value) and false otherwise */
     public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+      return this.success != null;
     }
 
     public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+      if (!value) {
+        this.success = null;
+      }
     }
 
     public UnknownSimulationIdException getEx() {
       return this.ex;
     }
 
-    public getObjectSpacePixelSize_result setEx(UnknownSimulationIdException ex) {
+    public getGroundTruth_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -11766,7 +20592,7 @@ public class RemoteSimulationService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((java.lang.Double)value);
+          setSuccess((java.lang.String)value);
         }
         break;
 
@@ -11812,23 +20638,23 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getObjectSpacePixelSize_result)
-        return this.equals((getObjectSpacePixelSize_result)that);
+      if (that instanceof getGroundTruth_result)
+        return this.equals((getGroundTruth_result)that);
       return false;
     }
 
-    public boolean equals(getObjectSpacePixelSize_result that) {
+    public boolean equals(getGroundTruth_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
       if (this_present_success || that_present_success) {
         if (!(this_present_success && that_present_success))
           return false;
-        if (this.success != that.success)
+        if (!this.success.equals(that.success))
           return false;
       }
 
@@ -11848,7 +20674,9 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
+      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
+      if (isSetSuccess())
+        hashCode = hashCode * 8191 + success.hashCode();
 
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
@@ -11858,7 +20686,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getObjectSpacePixelSize_result other) {
+    public int compareTo(getGroundTruth_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11902,11 +20730,15 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getObjectSpacePixelSize_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("getGroundTruth_result(");
       boolean first = true;
 
       sb.append("success:");
-      sb.append(this.success);
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
       first = false;
       if (!first) sb.append(", ");
       sb.append("ex:");
@@ -11935,23 +20767,21 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getObjectSpacePixelSize_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getObjectSpacePixelSize_resultStandardScheme getScheme() {
-        return new getObjectSpacePixelSize_resultStandardScheme();
+    private static class getGroundTruth_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getGroundTruth_resultStandardScheme getScheme() {
+        return new getGroundTruth_resultStandardScheme();
       }
     }
 
-    private static class getObjectSpacePixelSize_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getObjectSpacePixelSize_result> {
+    private static class getGroundTruth_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getGroundTruth_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getObjectSpacePixelSize_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getGroundTruth_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11962,8 +20792,8 @@ public class RemoteSimulationService {
           }
           switch (schemeField.id) {
             case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
-                struct.success = iprot.readDouble();
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.success = iprot.readString();
                 struct.setSuccessIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
@@ -11989,13 +20819,13 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getObjectSpacePixelSize_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getGroundTruth_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
+        if (struct.success != null) {
           oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeDouble(struct.success);
+          oprot.writeString(struct.success);
           oprot.writeFieldEnd();
         }
         if (struct.ex != null) {
@@ -12009,16 +20839,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getObjectSpacePixelSize_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getObjectSpacePixelSize_resultTupleScheme getScheme() {
-        return new getObjectSpacePixelSize_resultTupleScheme();
+    private static class getGroundTruth_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public getGroundTruth_resultTupleScheme getScheme() {
+        return new getGroundTruth_resultTupleScheme();
       }
     }
 
-    private static class getObjectSpacePixelSize_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getObjectSpacePixelSize_result> {
+    private static class getGroundTruth_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getGroundTruth_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getObjectSpacePixelSize_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, getGroundTruth_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetSuccess()) {
@@ -12029,7 +20859,7 @@ public class RemoteSimulationService {
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetSuccess()) {
-          oprot.writeDouble(struct.success);
+          oprot.writeString(struct.success);
         }
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
@@ -12037,11 +20867,11 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getObjectSpacePixelSize_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, getGroundTruth_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
-          struct.success = iprot.readDouble();
+          struct.success = iprot.readString();
           struct.setSuccessIsSet(true);
         }
         if (incoming.get(1)) {
@@ -12057,17 +20887,19 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getServerStatus_args implements org.apache.thrift.TBase<getServerStatus_args, getServerStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getServerStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getServerStatus_args");
+  public static class incrementTimeStep_args implements org.apache.thrift.TBase<incrementTimeStep_args, incrementTimeStep_args._Fields>, java.io.Serializable, Cloneable, Comparable<incrementTimeStep_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("incrementTimeStep_args");
 
+    private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getServerStatus_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getServerStatus_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new incrementTimeStep_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new incrementTimeStep_argsTupleSchemeFactory();
 
+    public int id; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-;
+      ID((short)1, "id");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -12082,6 +20914,8 @@ public class RemoteSimulationService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 1: // ID
+            return ID;
           default:
             return null;
         }
@@ -12120,37 +20954,89 @@ public class RemoteSimulationService {
         return _fieldName;
       }
     }
+
+    // isset id assignments
+    private static final int __ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getServerStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(incrementTimeStep_args.class, metaDataMap);
     }
 
-    public getServerStatus_args() {
+    public incrementTimeStep_args() {
+    }
+
+    public incrementTimeStep_args(
+      int id)
+    {
+      this();
+      this.id = id;
+      setIdIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getServerStatus_args(getServerStatus_args other) {
+    public incrementTimeStep_args(incrementTimeStep_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.id = other.id;
     }
 
-    public getServerStatus_args deepCopy() {
-      return new getServerStatus_args(this);
+    public incrementTimeStep_args deepCopy() {
+      return new incrementTimeStep_args(this);
     }
 
     @Override
     public void clear() {
+      setIdIsSet(false);
+      this.id = 0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public incrementTimeStep_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
+      case ID:
+        if (value == null) {
+          unsetId();
+        } else {
+          setId((java.lang.Integer)value);
+        }
+        break;
+
       }
     }
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
+      case ID:
+        return getId();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -12162,6 +21048,8 @@ public class RemoteSimulationService {
       }
 
       switch (field) {
+      case ID:
+        return isSetId();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -12170,17 +21058,26 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getServerStatus_args)
-        return this.equals((getServerStatus_args)that);
+      if (that instanceof incrementTimeStep_args)
+        return this.equals((incrementTimeStep_args)that);
       return false;
     }
 
-    public boolean equals(getServerStatus_args that) {
+    public boolean equals(incrementTimeStep_args that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
+      boolean this_present_id = true;
+      boolean that_present_id = true;
+      if (this_present_id || that_present_id) {
+        if (!(this_present_id && that_present_id))
+          return false;
+        if (this.id != that.id)
+          return false;
+      }
+
       return true;
     }
 
@@ -12188,17 +21085,29 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
+      hashCode = hashCode * 8191 + id;
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getServerStatus_args other) {
+    public int compareTo(incrementTimeStep_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = java.lang.Boolean.valueOf(isSetId()).compareTo(other.isSetId());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetId()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.id, other.id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -12216,9 +21125,12 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getServerStatus_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("incrementTimeStep_args(");
       boolean first = true;
 
+      sb.append("id:");
+      sb.append(this.id);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -12238,21 +21150,23 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getServerStatus_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getServerStatus_argsStandardScheme getScheme() {
-        return new getServerStatus_argsStandardScheme();
+    private static class incrementTimeStep_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public incrementTimeStep_argsStandardScheme getScheme() {
+        return new incrementTimeStep_argsStandardScheme();
       }
     }
 
-    private static class getServerStatus_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getServerStatus_args> {
+    private static class incrementTimeStep_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<incrementTimeStep_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getServerStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, incrementTimeStep_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12262,6 +21176,14 @@ public class RemoteSimulationService {
             break;
           }
           switch (schemeField.id) {
+            case 1: // ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.id = iprot.readI32();
+                struct.setIdIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -12273,32 +21195,48 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getServerStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, incrementTimeStep_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(ID_FIELD_DESC);
+        oprot.writeI32(struct.id);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getServerStatus_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getServerStatus_argsTupleScheme getScheme() {
-        return new getServerStatus_argsTupleScheme();
+    private static class incrementTimeStep_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public incrementTimeStep_argsTupleScheme getScheme() {
+        return new incrementTimeStep_argsTupleScheme();
       }
     }
 
-    private static class getServerStatus_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getServerStatus_args> {
+    private static class incrementTimeStep_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<incrementTimeStep_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getServerStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, incrementTimeStep_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet optionals = new java.util.BitSet();
+        if (struct.isSetId()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetId()) {
+          oprot.writeI32(struct.id);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getServerStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, incrementTimeStep_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
+        java.util.BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.id = iprot.readI32();
+          struct.setIdIsSet(true);
+        }
       }
     }
 
@@ -12307,19 +21245,19 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getServerStatus_result implements org.apache.thrift.TBase<getServerStatus_result, getServerStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getServerStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getServerStatus_result");
+  public static class incrementTimeStep_result implements org.apache.thrift.TBase<incrementTimeStep_result, incrementTimeStep_result._Fields>, java.io.Serializable, Cloneable, Comparable<incrementTimeStep_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("incrementTimeStep_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
+    private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getServerStatus_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getServerStatus_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new incrementTimeStep_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new incrementTimeStep_resultTupleSchemeFactory();
 
-    public java.lang.String success; // required
+    public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success");
+      EX((short)1, "ex");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -12334,8 +21272,8 @@ public class RemoteSimulationService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
+          case 1: // EX
+            return EX;
           default:
             return null;
         }
@@ -12379,71 +21317,71 @@ public class RemoteSimulationService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getServerStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(incrementTimeStep_result.class, metaDataMap);
     }
 
-    public getServerStatus_result() {
+    public incrementTimeStep_result() {
     }
 
-    public getServerStatus_result(
-      java.lang.String success)
+    public incrementTimeStep_result(
+      UnknownSimulationIdException ex)
     {
       this();
-      this.success = success;
+      this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getServerStatus_result(getServerStatus_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
+    public incrementTimeStep_result(incrementTimeStep_result other) {
+      if (other.isSetEx()) {
+        this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public getServerStatus_result deepCopy() {
-      return new getServerStatus_result(this);
+    public incrementTimeStep_result deepCopy() {
+      return new incrementTimeStep_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
+      this.ex = null;
     }
 
-    public java.lang.String getSuccess() {
-      return this.success;
+    public UnknownSimulationIdException getEx() {
+      return this.ex;
     }
 
-    public getServerStatus_result setSuccess(java.lang.String success) {
-      this.success = success;
+    public incrementTimeStep_result setEx(UnknownSimulationIdException ex) {
+      this.ex = ex;
       return this;
     }
 
-    public void unsetSuccess() {
-      this.success = null;
+    public void unsetEx() {
+      this.ex = null;
     }
 
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
+    /** Returns true if field ex is set (has been assigned a value) and false otherwise */
+    public boolean isSetEx() {
+      return this.ex != null;
     }
 
-    public void setSuccessIsSet(boolean value) {
+    public void setExIsSet(boolean value) {
       if (!value) {
-        this.success = null;
+        this.ex = null;
       }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
+      case EX:
         if (value == null) {
-          unsetSuccess();
+          unsetEx();
         } else {
-          setSuccess((java.lang.String)value);
+          setEx((UnknownSimulationIdException)value);
         }
         break;
 
@@ -12452,8 +21390,8 @@ public class RemoteSimulationService {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
+      case EX:
+        return getEx();
 
       }
       throw new java.lang.IllegalStateException();
@@ -12466,8 +21404,8 @@ public class RemoteSimulationService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
+      case EX:
+        return isSetEx();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -12476,23 +21414,23 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getServerStatus_result)
-        return this.equals((getServerStatus_result)that);
+      if (that instanceof incrementTimeStep_result)
+        return this.equals((incrementTimeStep_result)that);
       return false;
     }
 
-    public boolean equals(getServerStatus_result that) {
+    public boolean equals(incrementTimeStep_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
+      boolean this_present_ex = true && this.isSetEx();
+      boolean that_present_ex = true && that.isSetEx();
+      if (this_present_ex || that_present_ex) {
+        if (!(this_present_ex && that_present_ex))
           return false;
-        if (!this.success.equals(that.success))
+        if (!this.ex.equals(that.ex))
           return false;
       }
 
@@ -12503,27 +21441,27 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
+      hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
+      if (isSetEx())
+        hashCode = hashCode * 8191 + ex.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getServerStatus_result other) {
+    public int compareTo(incrementTimeStep_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+      if (isSetEx()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.ex, other.ex);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -12545,14 +21483,14 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getServerStatus_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("incrementTimeStep_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
+      sb.append("ex:");
+      if (this.ex == null) {
         sb.append("null");
       } else {
-        sb.append(this.success);
+        sb.append(this.ex);
       }
       first = false;
       sb.append(")");
@@ -12580,15 +21518,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getServerStatus_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getServerStatus_resultStandardScheme getScheme() {
-        return new getServerStatus_resultStandardScheme();
+    private static class incrementTimeStep_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public incrementTimeStep_resultStandardScheme getScheme() {
+        return new incrementTimeStep_resultStandardScheme();
       }
     }
 
-    private static class getServerStatus_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getServerStatus_result> {
+    private static class incrementTimeStep_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<incrementTimeStep_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getServerStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, incrementTimeStep_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12598,10 +21536,11 @@ public class RemoteSimulationService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
-                struct.setSuccessIsSet(true);
+            case 1: // EX
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.ex = new UnknownSimulationIdException();
+                struct.ex.read(iprot);
+                struct.setExIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -12617,13 +21556,13 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getServerStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, incrementTimeStep_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
+        if (struct.ex != null) {
+          oprot.writeFieldBegin(EX_FIELD_DESC);
+          struct.ex.write(oprot);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -12632,34 +21571,35 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getServerStatus_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getServerStatus_resultTupleScheme getScheme() {
-        return new getServerStatus_resultTupleScheme();
+    private static class incrementTimeStep_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public incrementTimeStep_resultTupleScheme getScheme() {
+        return new incrementTimeStep_resultTupleScheme();
       }
     }
 
-    private static class getServerStatus_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getServerStatus_result> {
+    private static class incrementTimeStep_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<incrementTimeStep_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getServerStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, incrementTimeStep_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
+        if (struct.isSetEx()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+        if (struct.isSetEx()) {
+          struct.ex.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getServerStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, incrementTimeStep_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
-          struct.setSuccessIsSet(true);
+          struct.ex = new UnknownSimulationIdException();
+          struct.ex.read(iprot);
+          struct.setExIsSet(true);
         }
       }
     }
@@ -12669,19 +21609,22 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getShortTrueSignalDescription_args implements org.apache.thrift.TBase<getShortTrueSignalDescription_args, getShortTrueSignalDescription_args._Fields>, java.io.Serializable, Cloneable, Comparable<getShortTrueSignalDescription_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getShortTrueSignalDescription_args");
+  public static class advance_args implements org.apache.thrift.TBase<advance_args, advance_args._Fields>, java.io.Serializable, Cloneable, Comparable<advance_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("advance_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField N_FRAMES_FIELD_DESC = new org.apache.thrift.protocol.TField("nFrames", org.apache.thrift.protocol.TType.I32, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getShortTrueSignalDescription_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getShortTrueSignalDescription_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new advance_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new advance_argsTupleSchemeFactory();
 
     public int id; // required
+    public int nFrames; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ID((short)1, "id");
+      ID((short)1, "id"),
+      N_FRAMES((short)2, "nFrames");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -12698,6 +21641,8 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 1: // ID
             return ID;
+          case 2: // N_FRAMES
+            return N_FRAMES;
           default:
             return null;
         }
@@ -12739,50 +21684,59 @@ public class RemoteSimulationService {
 
     // isset id assignments
     private static final int __ID_ISSET_ID = 0;
+    private static final int __NFRAMES_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.N_FRAMES, new org.apache.thrift.meta_data.FieldMetaData("nFrames", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getShortTrueSignalDescription_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(advance_args.class, metaDataMap);
     }
 
-    public getShortTrueSignalDescription_args() {
+    public advance_args() {
     }
 
-    public getShortTrueSignalDescription_args(
-      int id)
+    public advance_args(
+      int id,
+      int nFrames)
     {
       this();
       this.id = id;
       setIdIsSet(true);
+      this.nFrames = nFrames;
+      setNFramesIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getShortTrueSignalDescription_args(getShortTrueSignalDescription_args other) {
+    public advance_args(advance_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
+      this.nFrames = other.nFrames;
     }
 
-    public getShortTrueSignalDescription_args deepCopy() {
-      return new getShortTrueSignalDescription_args(this);
+    public advance_args deepCopy() {
+      return new advance_args(this);
     }
 
     @Override
     public void clear() {
       setIdIsSet(false);
       this.id = 0;
+      setNFramesIsSet(false);
+      this.nFrames = 0;
     }
 
     public int getId() {
       return this.id;
     }
 
-    public getShortTrueSignalDescription_args setId(int id) {
+    public advance_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -12801,6 +21755,29 @@ public class RemoteSimulationService {
       __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
+    public int getNFrames() {
+      return this.nFrames;
+    }
+
+    public advance_args setNFrames(int nFrames) {
+      this.nFrames = nFrames;
+      setNFramesIsSet(true);
+      return this;
+    }
+
+    public void unsetNFrames() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __NFRAMES_ISSET_ID);
+    }
+
+    /** Returns true if field nFrames is set (has been assigned a value) and false otherwise */
+    public boolean isSetNFrames() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __NFRAMES_ISSET_ID);
+    }
+
+    public void setNFramesIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __NFRAMES_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case ID:
@@ -12811,6 +21788,14 @@ public class RemoteSimulationService {
         }
         break;
 
+      case N_FRAMES:
+        if (value == null) {
+          unsetNFrames();
+        } else {
+          setNFrames((java.lang.Integer)value);
+        }
+        break;
+
       }
     }
 
@@ -12819,6 +21804,9 @@ public class RemoteSimulationService {
       case ID:
         return getId();
 
+      case N_FRAMES:
+        return getNFrames();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -12832,6 +21820,8 @@ public class RemoteSimulationService {
       switch (field) {
       case ID:
         return isSetId();
+      case N_FRAMES:
+        return isSetNFrames();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -12840,12 +21830,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getShortTrueSignalDescription_args)
-        return this.equals((getShortTrueSignalDescription_args)that);
+      if (that instanceof advance_args)
+        return this.equals((advance_args)that);
       return false;
     }
 
-    public boolean equals(getShortTrueSignalDescription_args that) {
+    public boolean equals(advance_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -12860,6 +21850,15 @@ public class RemoteSimulationService {
           return false;
       }
 
+      boolean this_present_nFrames = true;
+      boolean that_present_nFrames = true;
+      if (this_present_nFrames || that_present_nFrames) {
+        if (!(this_present_nFrames && that_present_nFrames))
+          return false;
+        if (this.nFrames != that.nFrames)
+          return false;
+      }
+
       return true;
     }
 
@@ -12869,11 +21868,13 @@ public class RemoteSimulationService {
 
       hashCode = hashCode * 8191 + id;
 
+      hashCode = hashCode * 8191 + nFrames;
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getShortTrueSignalDescription_args other) {
+    public int compareTo(advance_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -12890,6 +21891,16 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetNFrames()).compareTo(other.isSetNFrames());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetNFrames()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.nFrames, other.nFrames);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -12907,12 +21918,16 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getShortTrueSignalDescription_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("advance_args(");
       boolean first = true;
 
       sb.append("id:");
       sb.append(this.id);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("nFrames:");
+      sb.append(this.nFrames);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -12940,15 +21955,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getShortTrueSignalDescription_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getShortTrueSignalDescription_argsStandardScheme getScheme() {
-        return new getShortTrueSignalDescription_argsStandardScheme();
+    private static class advance_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public advance_argsStandardScheme getScheme() {
+        return new advance_argsStandardScheme();
       }
     }
 
-    private static class getShortTrueSignalDescription_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getShortTrueSignalDescription_args> {
+    private static class advance_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<advance_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getShortTrueSignalDescription_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, advance_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -12966,6 +21981,14 @@ public class RemoteSimulationService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // N_FRAMES
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.nFrames = iprot.readI32();
+                struct.setNFramesIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -12977,48 +22000,61 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getShortTrueSignalDescription_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, advance_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(ID_FIELD_DESC);
         oprot.writeI32(struct.id);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(N_FRAMES_FIELD_DESC);
+        oprot.writeI32(struct.nFrames);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getShortTrueSignalDescription_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getShortTrueSignalDescription_argsTupleScheme getScheme() {
-        return new getShortTrueSignalDescription_argsTupleScheme();
+    private static class advance_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public advance_argsTupleScheme getScheme() {
+        return new advance_argsTupleScheme();
       }
     }
 
-    private static class getShortTrueSignalDescription_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getShortTrueSignalDescription_args> {
+    private static class advance_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<advance_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getShortTrueSignalDescription_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, advance_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetNFrames()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetId()) {
           oprot.writeI32(struct.id);
         }
+        if (struct.isSetNFrames()) {
+          oprot.writeI32(struct.nFrames);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getShortTrueSignalDescription_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, advance_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.id = iprot.readI32();
           struct.setIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.nFrames = iprot.readI32();
+          struct.setNFramesIsSet(true);
+        }
       }
     }
 
@@ -13027,21 +22063,18 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getShortTrueSignalDescription_result implements org.apache.thrift.TBase<getShortTrueSignalDescription_result, getShortTrueSignalDescription_result._Fields>, java.io.Serializable, Cloneable, Comparable<getShortTrueSignalDescription_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getShortTrueSignalDescription_result");
+  public static class advance_result implements org.apache.thrift.TBase<advance_result, advance_result._Fields>, java.io.Serializable, Cloneable, Comparable<advance_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("advance_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getShortTrueSignalDescription_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getShortTrueSignalDescription_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new advance_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new advance_resultTupleSchemeFactory();
 
-    public java.lang.String success; // required
     public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       EX((short)1, "ex");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
@@ -13057,8 +22090,6 @@ public class RemoteSimulationService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // EX
             return EX;
           default:
@@ -13104,77 +22135,45 @@ public class RemoteSimulationService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getShortTrueSignalDescription_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(advance_result.class, metaDataMap);
     }
 
-    public getShortTrueSignalDescription_result() {
+    public advance_result() {
     }
 
-    public getShortTrueSignalDescription_result(
-      java.lang.String success,
+    public advance_result(
       UnknownSimulationIdException ex)
     {
       this();
-      this.success = success;
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getShortTrueSignalDescription_result(getShortTrueSignalDescription_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public advance_result(advance_result other) {
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public getShortTrueSignalDescription_result deepCopy() {
-      return new getShortTrueSignalDescription_result(this);
+    public advance_result deepCopy() {
+      return new advance_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.ex = null;
     }
 
-    public java.lang.String getSuccess() {
-      return this.success;
-    }
-
-    public getShortTrueSignalDescription_result setSuccess(java.lang.String success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
     public UnknownSimulationIdException getEx() {
       return this.ex;
     }
 
-    public getShortTrueSignalDescription_result setEx(UnknownSimulationIdException ex) {
+    public advance_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -13196,14 +22195,6 @@ public class RemoteSimulationService {
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((java.lang.String)value);
-        }
-        break;
-
       case EX:
         if (value == null) {
           unsetEx();
@@ -13217,9 +22208,6 @@ public class RemoteSimulationService {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case EX:
         return getEx();
 
@@ -13234,8 +22222,6 @@ public class RemoteSimulationService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case EX:
         return isSetEx();
       }
@@ -13246,26 +22232,17 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getShortTrueSignalDescription_result)
-        return this.equals((getShortTrueSignalDescription_result)that);
+      if (that instanceof advance_result)
+        return this.equals((advance_result)that);
       return false;
     }
 
-    public boolean equals(getShortTrueSignalDescription_result that) {
+    public boolean equals(advance_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_ex = true && this.isSetEx();
       boolean that_present_ex = true && that.isSetEx();
       if (this_present_ex || that_present_ex) {
@@ -13282,10 +22259,6 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
-
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
         hashCode = hashCode * 8191 + ex.hashCode();
@@ -13294,23 +22267,13 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getShortTrueSignalDescription_result other) {
+    public int compareTo(advance_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
       if (lastComparison != 0) {
         return lastComparison;
@@ -13338,17 +22301,9 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getShortTrueSignalDescription_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("advance_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("ex:");
       if (this.ex == null) {
         sb.append("null");
@@ -13381,15 +22336,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getShortTrueSignalDescription_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getShortTrueSignalDescription_resultStandardScheme getScheme() {
-        return new getShortTrueSignalDescription_resultStandardScheme();
+    private static class advance_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public advance_resultStandardScheme getScheme() {
+        return new advance_resultStandardScheme();
       }
     }
 
-    private static class getShortTrueSignalDescription_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getShortTrueSignalDescription_result> {
+    private static class advance_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<advance_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getShortTrueSignalDescription_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, advance_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13399,14 +22354,6 @@ public class RemoteSimulationService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // EX
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.ex = new UnknownSimulationIdException();
@@ -13427,15 +22374,10 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getShortTrueSignalDescription_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, advance_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
-          oprot.writeFieldEnd();
-        }
         if (struct.ex != null) {
           oprot.writeFieldBegin(EX_FIELD_DESC);
           struct.ex.write(oprot);
@@ -13447,42 +22389,32 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getShortTrueSignalDescription_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getShortTrueSignalDescription_resultTupleScheme getScheme() {
-        return new getShortTrueSignalDescription_resultTupleScheme();
+    private static class advance_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public advance_resultTupleScheme getScheme() {
+        return new advance_resultTupleScheme();
       }
     }
 
-    private static class getShortTrueSignalDescription_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getShortTrueSignalDescription_result> {
+    private static class advance_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<advance_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getShortTrueSignalDescription_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, advance_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetEx()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getShortTrueSignalDescription_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, advance_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.ex = new UnknownSimulationIdException();
           struct.ex.read(iprot);
           struct.setExIsSet(true);
@@ -13495,19 +22427,22 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getStageJsonName_args implements org.apache.thrift.TBase<getStageJsonName_args, getStageJsonName_args._Fields>, java.io.Serializable, Cloneable, Comparable<getStageJsonName_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStageJsonName_args");
+  public static class setControlSignal_args implements org.apache.thrift.TBase<setControlSignal_args, setControlSignal_args._Fields>, java.io.Serializable, Cloneable, Comparable<setControlSignal_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setControlSignal_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField POWER_FIELD_DESC = new org.apache.thrift.protocol.TField("power", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getStageJsonName_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getStageJsonName_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setControlSignal_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setControlSignal_argsTupleSchemeFactory();
 
     public int id; // required
+    public double power; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ID((short)1, "id");
+      ID((short)1, "id"),
+      POWER((short)2, "power");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -13524,6 +22459,8 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 1: // ID
             return ID;
+          case 2: // POWER
+            return POWER;
           default:
             return null;
         }
@@ -13565,50 +22502,59 @@ public class RemoteSimulationService {
 
     // isset id assignments
     private static final int __ID_ISSET_ID = 0;
+    private static final int __POWER_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.POWER, new org.apache.thrift.meta_data.FieldMetaData("power", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStageJsonName_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setControlSignal_args.class, metaDataMap);
     }
 
-    public getStageJsonName_args() {
+    public setControlSignal_args() {
     }
 
-    public getStageJsonName_args(
-      int id)
+    public setControlSignal_args(
+      int id,
+      double power)
     {
       this();
       this.id = id;
       setIdIsSet(true);
+      this.power = power;
+      setPowerIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStageJsonName_args(getStageJsonName_args other) {
+    public setControlSignal_args(setControlSignal_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
+      this.power = other.power;
     }
 
-    public getStageJsonName_args deepCopy() {
-      return new getStageJsonName_args(this);
+    public setControlSignal_args deepCopy() {
+      return new setControlSignal_args(this);
     }
 
     @Override
     public void clear() {
       setIdIsSet(false);
       this.id = 0;
+      setPowerIsSet(false);
+      this.power = 0.0;
     }
 
     public int getId() {
       return this.id;
     }
 
-    public getStageJsonName_args setId(int id) {
+    public setControlSignal_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -13627,6 +22573,29 @@ public class RemoteSimulationService {
       __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
+    public double getPower() {
+      return this.power;
+    }
+
+    public setControlSignal_args setPower(double power) {
+      this.power = power;
+      setPowerIsSet(true);
+      return this;
+    }
+
+    public void unsetPower() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __POWER_ISSET_ID);
+    }
+
+    /** Returns true if field power is set (has been assigned a value) and false otherwise */
+    public boolean isSetPower() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __POWER_ISSET_ID);
+    }
+
+    public void setPowerIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __POWER_ISSET_ID, value);
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case ID:
@@ -13637,6 +22606,14 @@ public class RemoteSimulationService {
         }
         break;
 
+      case POWER:
+        if (value == null) {
+          unsetPower();
+        } else {
+          setPower((java.lang.Double)value);
+        }
+        break;
+
       }
     }
 
@@ -13645,6 +22622,9 @@ public class RemoteSimulationService {
       case ID:
         return getId();
 
+      case POWER:
+        return getPower();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13658,6 +22638,8 @@ public class RemoteSimulationService {
       switch (field) {
       case ID:
         return isSetId();
+      case POWER:
+        return isSetPower();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -13666,12 +22648,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStageJsonName_args)
-        return this.equals((getStageJsonName_args)that);
+      if (that instanceof setControlSignal_args)
+        return this.equals((setControlSignal_args)that);
       return false;
     }
 
-    public boolean equals(getStageJsonName_args that) {
+    public boolean equals(setControlSignal_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -13686,6 +22668,15 @@ public class RemoteSimulationService {
           return false;
       }
 
+      boolean this_present_power = true;
+      boolean that_present_power = true;
+      if (this_present_power || that_present_power) {
+        if (!(this_present_power && that_present_power))
+          return false;
+        if (this.power != that.power)
+          return false;
+      }
+
       return true;
     }
 
@@ -13695,11 +22686,13 @@ public class RemoteSimulationService {
 
       hashCode = hashCode * 8191 + id;
 
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(power);
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(getStageJsonName_args other) {
+    public int compareTo(setControlSignal_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -13716,6 +22709,16 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetPower()).compareTo(other.isSetPower());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetPower()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.power, other.power);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -13733,12 +22736,16 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getStageJsonName_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("setControlSignal_args(");
       boolean first = true;
 
       sb.append("id:");
       sb.append(this.id);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("power:");
+      sb.append(this.power);
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -13766,15 +22773,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getStageJsonName_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getStageJsonName_argsStandardScheme getScheme() {
-        return new getStageJsonName_argsStandardScheme();
+    private static class setControlSignal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setControlSignal_argsStandardScheme getScheme() {
+        return new setControlSignal_argsStandardScheme();
       }
     }
 
-    private static class getStageJsonName_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getStageJsonName_args> {
+    private static class setControlSignal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<setControlSignal_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStageJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setControlSignal_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -13792,6 +22799,14 @@ public class RemoteSimulationService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // POWER
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.power = iprot.readDouble();
+                struct.setPowerIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -13803,48 +22818,61 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStageJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setControlSignal_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(ID_FIELD_DESC);
         oprot.writeI32(struct.id);
         oprot.writeFieldEnd();
+        oprot.writeFieldBegin(POWER_FIELD_DESC);
+        oprot.writeDouble(struct.power);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class getStageJsonName_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getStageJsonName_argsTupleScheme getScheme() {
-        return new getStageJsonName_argsTupleScheme();
+    private static class setControlSignal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setControlSignal_argsTupleScheme getScheme() {
+        return new setControlSignal_argsTupleScheme();
       }
     }
 
-    private static class getStageJsonName_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getStageJsonName_args> {
+    private static class setControlSignal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<setControlSignal_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStageJsonName_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setControlSignal_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetPower()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetId()) {
           oprot.writeI32(struct.id);
         }
+        if (struct.isSetPower()) {
+          oprot.writeDouble(struct.power);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStageJsonName_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setControlSignal_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.id = iprot.readI32();
           struct.setIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.power = iprot.readDouble();
+          struct.setPowerIsSet(true);
+        }
       }
     }
 
@@ -13853,21 +22881,18 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getStageJsonName_result implements org.apache.thrift.TBase<getStageJsonName_result, getStageJsonName_result._Fields>, java.io.Serializable, Cloneable, Comparable<getStageJsonName_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getStageJsonName_result");
+  public static class setControlSignal_result implements org.apache.thrift.TBase<setControlSignal_result, setControlSignal_result._Fields>, java.io.Serializable, Cloneable, Comparable<setControlSignal_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setControlSignal_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRING, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getStageJsonName_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getStageJsonName_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setControlSignal_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setControlSignal_resultTupleSchemeFactory();
 
-    public java.lang.String success; // required
     public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       EX((short)1, "ex");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
@@ -13883,8 +22908,6 @@ public class RemoteSimulationService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // EX
             return EX;
           default:
@@ -13930,77 +22953,45 @@ public class RemoteSimulationService {
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getStageJsonName_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setControlSignal_result.class, metaDataMap);
     }
 
-    public getStageJsonName_result() {
+    public setControlSignal_result() {
     }
 
-    public getStageJsonName_result(
-      java.lang.String success,
+    public setControlSignal_result(
       UnknownSimulationIdException ex)
     {
       this();
-      this.success = success;
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getStageJsonName_result(getStageJsonName_result other) {
-      if (other.isSetSuccess()) {
-        this.success = other.success;
-      }
+    public setControlSignal_result(setControlSignal_result other) {
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public getStageJsonName_result deepCopy() {
-      return new getStageJsonName_result(this);
+    public setControlSignal_result deepCopy() {
+      return new setControlSignal_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.ex = null;
     }
 
-    public java.lang.String getSuccess() {
-      return this.success;
-    }
-
-    public getStageJsonName_result setSuccess(java.lang.String success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
     public UnknownSimulationIdException getEx() {
       return this.ex;
     }
 
-    public getStageJsonName_result setEx(UnknownSimulationIdException ex) {
+    public setControlSignal_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -14022,14 +23013,6 @@ public class RemoteSimulationService {
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((java.lang.String)value);
-        }
-        break;
-
       case EX:
         if (value == null) {
           unsetEx();
@@ -14043,9 +23026,6 @@ public class RemoteSimulationService {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case EX:
         return getEx();
 
@@ -14060,8 +23040,6 @@ public class RemoteSimulationService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case EX:
         return isSetEx();
       }
@@ -14072,26 +23050,17 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getStageJsonName_result)
-        return this.equals((getStageJsonName_result)that);
+      if (that instanceof setControlSignal_result)
+        return this.equals((setControlSignal_result)that);
       return false;
     }
 
-    public boolean equals(getStageJsonName_result that) {
+    public boolean equals(setControlSignal_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_ex = true && this.isSetEx();
       boolean that_present_ex = true && that.isSetEx();
       if (this_present_ex || that_present_ex) {
@@ -14108,10 +23077,6 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + ((isSetSuccess()) ? 131071 : 524287);
-      if (isSetSuccess())
-        hashCode = hashCode * 8191 + success.hashCode();
-
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
         hashCode = hashCode * 8191 + ex.hashCode();
@@ -14120,23 +23085,13 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getStageJsonName_result other) {
+    public int compareTo(setControlSignal_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
       if (lastComparison != 0) {
         return lastComparison;
@@ -14164,17 +23119,9 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getStageJsonName_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("setControlSignal_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("ex:");
       if (this.ex == null) {
         sb.append("null");
@@ -14207,15 +23154,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getStageJsonName_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getStageJsonName_resultStandardScheme getScheme() {
-        return new getStageJsonName_resultStandardScheme();
+    private static class setControlSignal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setControlSignal_resultStandardScheme getScheme() {
+        return new setControlSignal_resultStandardScheme();
       }
     }
 
-    private static class getStageJsonName_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getStageJsonName_result> {
+    private static class setControlSignal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<setControlSignal_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getStageJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setControlSignal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14225,14 +23172,6 @@ public class RemoteSimulationService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.success = iprot.readString();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // EX
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.ex = new UnknownSimulationIdException();
@@ -14253,15 +23192,10 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getStageJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setControlSignal_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeString(struct.success);
-          oprot.writeFieldEnd();
-        }
         if (struct.ex != null) {
           oprot.writeFieldBegin(EX_FIELD_DESC);
           struct.ex.write(oprot);
@@ -14273,42 +23207,32 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getStageJsonName_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getStageJsonName_resultTupleScheme getScheme() {
-        return new getStageJsonName_resultTupleScheme();
+    private static class setControlSignal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setControlSignal_resultTupleScheme getScheme() {
+        return new setControlSignal_resultTupleScheme();
       }
     }
 
-    private static class getStageJsonName_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getStageJsonName_result> {
+    private static class setControlSignal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<setControlSignal_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getStageJsonName_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setControlSignal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetEx()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeString(struct.success);
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getStageJsonName_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setControlSignal_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readString();
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.ex = new UnknownSimulationIdException();
           struct.ex.read(iprot);
           struct.setExIsSet(true);
@@ -14321,22 +23245,28 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getTrueSignal_args implements org.apache.thrift.TBase<getTrueSignal_args, getTrueSignal_args._Fields>, java.io.Serializable, Cloneable, Comparable<getTrueSignal_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTrueSignal_args");
+  public static class setStagePosition_args implements org.apache.thrift.TBase<setStagePosition_args, setStagePosition_args._Fields>, java.io.Serializable, Cloneable, Comparable<setStagePosition_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setStagePosition_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField IMAGE_NUM_FIELD_DESC = new org.apache.thrift.protocol.TField("imageNum", org.apache.thrift.protocol.TType.I32, (short)2);
+    private static final org.apache.thrift.protocol.TField X_FIELD_DESC = new org.apache.thrift.protocol.TField("x", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField Y_FIELD_DESC = new org.apache.thrift.protocol.TField("y", org.apache.thrift.protocol.TType.DOUBLE, (short)3);
+    private static final org.apache.thrift.protocol.TField Z_FIELD_DESC = new org.apache.thrift.protocol.TField("z", org.apache.thrift.protocol.TType.DOUBLE, (short)4);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getTrueSignal_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getTrueSignal_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setStagePosition_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setStagePosition_argsTupleSchemeFactory();
 
     public int id; // required
-    public int imageNum; // required
+    public double x; // required
+    public double y; // required
+    public double z; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       ID((short)1, "id"),
-      IMAGE_NUM((short)2, "imageNum");
+      X((short)2, "x"),
+      Y((short)3, "y"),
+      Z((short)4, "z");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -14353,8 +23283,12 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 1: // ID
             return ID;
-          case 2: // IMAGE_NUM
-            return IMAGE_NUM;
+          case 2: // X
+            return X;
+          case 3: // Y
+            return Y;
+          case 4: // Z
+            return Z;
           default:
             return null;
         }
@@ -14396,98 +23330,162 @@ public class RemoteSimulationService {
 
     // isset id assignments
     private static final int __ID_ISSET_ID = 0;
-    private static final int __IMAGENUM_ISSET_ID = 1;
+    private static final int __X_ISSET_ID = 1;
+    private static final int __Y_ISSET_ID = 2;
+    private static final int __Z_ISSET_ID = 3;
     private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.IMAGE_NUM, new org.apache.thrift.meta_data.FieldMetaData("imageNum", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.X, new org.apache.thrift.meta_data.FieldMetaData("x", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.Y, new org.apache.thrift.meta_data.FieldMetaData("y", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.Z, new org.apache.thrift.meta_data.FieldMetaData("z", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTrueSignal_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setStagePosition_args.class, metaDataMap);
     }
 
-    public getTrueSignal_args() {
+    public setStagePosition_args() {
     }
 
-    public getTrueSignal_args(
+    public setStagePosition_args(
       int id,
-      int imageNum)
+      double x,
+      double y,
+      double z)
     {
       this();
       this.id = id;
       setIdIsSet(true);
-      this.imageNum = imageNum;
-      setImageNumIsSet(true);
+      this.x = x;
+      setXIsSet(true);
+      this.y = y;
+      setYIsSet(true);
+      this.z = z;
+      setZIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getTrueSignal_args(getTrueSignal_args other) {
+    public setStagePosition_args(setStagePosition_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
-      this.imageNum = other.imageNum;
+      this.x = other.x;
+      this.y = other.y;
+      this.z = other.z;
     }
 
-    public getTrueSignal_args deepCopy() {
-      return new getTrueSignal_args(this);
+    public setStagePosition_args deepCopy() {
+      return new setStagePosition_args(this);
     }
 
     @Override
     public void clear() {
       setIdIsSet(false);
       this.id = 0;
-      setImageNumIsSet(false);
-      this.imageNum = 0;
+      setXIsSet(false);
+      this.x = 0.0;
+      setYIsSet(false);
+      this.y = 0.0;
+      setZIsSet(false);
+      this.z = 0.0;
+    }
+
+    public int getId() {
+      return this.id;
+    }
+
+    public setStagePosition_args setId(int id) {
+      this.id = id;
+      setIdIsSet(true);
+      return this;
+    }
+
+    public void unsetId() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    /** Returns true if field id is set (has been assigned a value) and false otherwise */
+    public boolean isSetId() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    }
+
+    public void setIdIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    }
+
+    public double getX() {
+      return this.x;
+    }
+
+    public setStagePosition_args setX(double x) {
+      this.x = x;
+      setXIsSet(true);
+      return this;
+    }
+
+    public void unsetX() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __X_ISSET_ID);
     }
 
-    public int getId() {
-      return this.id;
+    /** Returns true if field x is set (has been assigned a value) and false otherwise */
+    public boolean isSetX() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __X_ISSET_ID);
     }
 
-    public getTrueSignal_args setId(int id) {
-      this.id = id;
-      setIdIsSet(true);
+    public void setXIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __X_ISSET_ID, value);
+    }
+
+    public double getY() {
+      return this.y;
+    }
+
+    public setStagePosition_args setY(double y) {
+      this.y = y;
+      setYIsSet(true);
       return this;
     }
 
-    public void unsetId() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __ID_ISSET_ID);
+    public void unsetY() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __Y_ISSET_ID);
     }
 
-    /** Returns true if field id is set (has been assigned a value) and false otherwise */
-    public boolean isSetId() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __ID_ISSET_ID);
+    /** Returns true if field y is set (has been assigned a value) and false otherwise */
+    public boolean isSetY() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __Y_ISSET_ID);
     }
 
-    public void setIdIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
+    public void setYIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __Y_ISSET_ID, value);
     }
 
-    public int getImageNum() {
-      return this.imageNum;
+    public double getZ() {
+      return this.z;
     }
 
-    public getTrueSignal_args setImageNum(int imageNum) {
-      this.imageNum = imageNum;
-      setImageNumIsSet(true);
+    public setStagePosition_args setZ(double z) {
+      this.z = z;
+      setZIsSet(true);
       return this;
     }
 
-    public void unsetImageNum() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __IMAGENUM_ISSET_ID);
+    public void unsetZ() {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __Z_ISSET_ID);
     }
 
-    /** Returns true if field imageNum is set (has been assigned a value) and false otherwise */
-    public boolean isSetImageNum() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __IMAGENUM_ISSET_ID);
+    /** Returns true if field z is set (has been assigned a value) and false otherwise */
+    public boolean isSetZ() {
+      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __Z_ISSET_ID);
     }
 
-    public void setImageNumIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __IMAGENUM_ISSET_ID, value);
+    public void setZIsSet(boolean value) {
+      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __Z_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
@@ -14500,11 +23498,27 @@ public class RemoteSimulationService {
         }
         break;
 
-      case IMAGE_NUM:
+      case X:
         if (value == null) {
-          unsetImageNum();
+          unsetX();
         } else {
-          setImageNum((java.lang.Integer)value);
+          setX((java.lang.Double)value);
+        }
+        break;
+
+      case Y:
+        if (value == null) {
+          unsetY();
+        } else {
+          setY((java.lang.Double)value);
+        }
+        break;
+
+      case Z:
+        if (value == null) {
+          unsetZ();
+        } else {
+          setZ((java.lang.Double)value);
         }
         break;
 
@@ -14516,8 +23530,14 @@ public class RemoteSimulationService {
       case ID:
         return getId();
 
-      case IMAGE_NUM:
-        return getImageNum();
+      case X:
+        return getX();
+
+      case Y:
+        return getY();
+
+      case Z:
+        return getZ();
 
       }
       throw new java.lang.IllegalStateException();
@@ -14532,8 +23552,12 @@ public class RemoteSimulationService {
       switch (field) {
       case ID:
         return isSetId();
-      case IMAGE_NUM:
-        return isSetImageNum();
+      case X:
+        return isSetX();
+      case Y:
+        return isSetY();
+      case Z:
+        return isSetZ();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -14542,12 +23566,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getTrueSignal_args)
-        return this.equals((getTrueSignal_args)that);
+      if (that instanceof setStagePosition_args)
+        return this.equals((setStagePosition_args)that);
       return false;
     }
 
-    public boolean equals(getTrueSignal_args that) {
+    public boolean equals(setStagePosition_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -14562,12 +23586,30 @@ public class RemoteSimulationService {
           return false;
       }
 
-      boolean this_present_imageNum = true;
-      boolean that_present_imageNum = true;
-      if (this_present_imageNum || that_present_imageNum) {
-        if (!(this_present_imageNum && that_present_imageNum))
+      boolean this_present_x = true;
+      boolean that_present_x = true;
+      if (this_present_x || that_present_x) {
+        if (!(this_present_x && that_present_x))
           return false;
-        if (this.imageNum != that.imageNum)
+        if (this.x != that.x)
+          return false;
+      }
+
+      boolean this_present_y = true;
+      boolean that_present_y = true;
+      if (this_present_y || that_present_y) {
+        if (!(this_present_y && that_present_y))
+          return false;
+        if (this.y != that.y)
+          return false;
+      }
+
+      boolean this_present_z = true;
+      boolean that_present_z = true;
+      if (this_present_z || that_present_z) {
+        if (!(this_present_z && that_present_z))
+          return false;
+        if (this.z != that.z)
           return false;
       }
 
@@ -14580,13 +23622,17 @@ public class RemoteSimulationService {
 
       hashCode = hashCode * 8191 + id;
 
-      hashCode = hashCode * 8191 + imageNum;
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(x);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(y);
+
+      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(z);
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(getTrueSignal_args other) {
+    public int compareTo(setStagePosition_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -14603,12 +23649,32 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetImageNum()).compareTo(other.isSetImageNum());
+      lastComparison = java.lang.Boolean.valueOf(isSetX()).compareTo(other.isSetX());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetImageNum()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.imageNum, other.imageNum);
+      if (isSetX()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.x, other.x);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetY()).compareTo(other.isSetY());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetY()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.y, other.y);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = java.lang.Boolean.valueOf(isSetZ()).compareTo(other.isSetZ());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetZ()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.z, other.z);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -14630,15 +23696,23 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getTrueSignal_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("setStagePosition_args(");
       boolean first = true;
 
       sb.append("id:");
       sb.append(this.id);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("imageNum:");
-      sb.append(this.imageNum);
+      sb.append("x:");
+      sb.append(this.x);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("y:");
+      sb.append(this.y);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("z:");
+      sb.append(this.z);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -14667,15 +23741,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class getTrueSignal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getTrueSignal_argsStandardScheme getScheme() {
-        return new getTrueSignal_argsStandardScheme();
+    private static class setStagePosition_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setStagePosition_argsStandardScheme getScheme() {
+        return new setStagePosition_argsStandardScheme();
       }
     }
 
-    private static class getTrueSignal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<getTrueSignal_args> {
+    private static class setStagePosition_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<setStagePosition_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getTrueSignal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setStagePosition_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -14693,10 +23767,26 @@ public class RemoteSimulationService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // IMAGE_NUM
-              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.imageNum = iprot.readI32();
-                struct.setImageNumIsSet(true);
+            case 2: // X
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.x = iprot.readDouble();
+                struct.setXIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // Y
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.y = iprot.readDouble();
+                struct.setYIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // Z
+              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
+                struct.z = iprot.readDouble();
+                struct.setZIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -14712,15 +23802,21 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getTrueSignal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setStagePosition_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(ID_FIELD_DESC);
         oprot.writeI32(struct.id);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(IMAGE_NUM_FIELD_DESC);
-        oprot.writeI32(struct.imageNum);
+        oprot.writeFieldBegin(X_FIELD_DESC);
+        oprot.writeDouble(struct.x);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(Y_FIELD_DESC);
+        oprot.writeDouble(struct.y);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(Z_FIELD_DESC);
+        oprot.writeDouble(struct.z);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -14728,44 +23824,64 @@ public class RemoteSimulationService {
 
     }
 
-    private static class getTrueSignal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getTrueSignal_argsTupleScheme getScheme() {
-        return new getTrueSignal_argsTupleScheme();
+    private static class setStagePosition_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setStagePosition_argsTupleScheme getScheme() {
+        return new setStagePosition_argsTupleScheme();
       }
     }
 
-    private static class getTrueSignal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<getTrueSignal_args> {
+    private static class setStagePosition_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<setStagePosition_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getTrueSignal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setStagePosition_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
           optionals.set(0);
         }
-        if (struct.isSetImageNum()) {
+        if (struct.isSetX()) {
           optionals.set(1);
         }
-        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetY()) {
+          optionals.set(2);
+        }
+        if (struct.isSetZ()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
         if (struct.isSetId()) {
           oprot.writeI32(struct.id);
         }
-        if (struct.isSetImageNum()) {
-          oprot.writeI32(struct.imageNum);
+        if (struct.isSetX()) {
+          oprot.writeDouble(struct.x);
+        }
+        if (struct.isSetY()) {
+          oprot.writeDouble(struct.y);
+        }
+        if (struct.isSetZ()) {
+          oprot.writeDouble(struct.z);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getTrueSignal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setStagePosition_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
           struct.id = iprot.readI32();
           struct.setIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.imageNum = iprot.readI32();
-          struct.setImageNumIsSet(true);
+          struct.x = iprot.readDouble();
+          struct.setXIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.y = iprot.readDouble();
+          struct.setYIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.z = iprot.readDouble();
+          struct.setZIsSet(true);
         }
       }
     }
@@ -14775,21 +23891,18 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class getTrueSignal_result implements org.apache.thrift.TBase<getTrueSignal_result, getTrueSignal_result._Fields>, java.io.Serializable, Cloneable, Comparable<getTrueSignal_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTrueSignal_result");
+  public static class setStagePosition_result implements org.apache.thrift.TBase<setStagePosition_result, setStagePosition_result._Fields>, java.io.Serializable, Cloneable, Comparable<setStagePosition_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setStagePosition_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.DOUBLE, (short)0);
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new getTrueSignal_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new getTrueSignal_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setStagePosition_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setStagePosition_resultTupleSchemeFactory();
 
-    public double success; // required
     public UnknownSimulationIdException ex; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       EX((short)1, "ex");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
@@ -14805,8 +23918,6 @@ public class RemoteSimulationService {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // EX
             return EX;
           default:
@@ -14849,82 +23960,48 @@ public class RemoteSimulationService {
     }
 
     // isset id assignments
-    private static final int __SUCCESS_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTrueSignal_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setStagePosition_result.class, metaDataMap);
     }
 
-    public getTrueSignal_result() {
+    public setStagePosition_result() {
     }
 
-    public getTrueSignal_result(
-      double success,
+    public setStagePosition_result(
       UnknownSimulationIdException ex)
     {
       this();
-      this.success = success;
-      setSuccessIsSet(true);
       this.ex = ex;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getTrueSignal_result(getTrueSignal_result other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.success = other.success;
+    public setStagePosition_result(setStagePosition_result other) {
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public getTrueSignal_result deepCopy() {
-      return new getTrueSignal_result(this);
+    public setStagePosition_result deepCopy() {
+      return new setStagePosition_result(this);
     }
 
     @Override
     public void clear() {
-      setSuccessIsSet(false);
-      this.success = 0.0;
       this.ex = null;
     }
 
-    public double getSuccess() {
-      return this.success;
-    }
-
-    public getTrueSignal_result setSuccess(double success) {
-      this.success = success;
-      setSuccessIsSet(true);
-      return this;
-    }
-
-    public void unsetSuccess() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
-    }
-
     public UnknownSimulationIdException getEx() {
       return this.ex;
     }
 
-    public getTrueSignal_result setEx(UnknownSimulationIdException ex) {
+    public setStagePosition_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -14946,14 +24023,6 @@ public class RemoteSimulationService {
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((java.lang.Double)value);
-        }
-        break;
-
       case EX:
         if (value == null) {
           unsetEx();
@@ -14967,9 +24036,6 @@ public class RemoteSimulationService {
 
     public java.lang.Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case EX:
         return getEx();
 
@@ -14984,8 +24050,6 @@ public class RemoteSimulationService {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case EX:
         return isSetEx();
       }
@@ -14996,26 +24060,17 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof getTrueSignal_result)
-        return this.equals((getTrueSignal_result)that);
+      if (that instanceof setStagePosition_result)
+        return this.equals((setStagePosition_result)that);
       return false;
     }
 
-    public boolean equals(getTrueSignal_result that) {
+    public boolean equals(setStagePosition_result that) {
       if (that == null)
         return false;
       if (this == that)
         return true;
 
-      boolean this_present_success = true;
-      boolean that_present_success = true;
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (this.success != that.success)
-          return false;
-      }
-
       boolean this_present_ex = true && this.isSetEx();
       boolean that_present_ex = true && that.isSetEx();
       if (this_present_ex || that_present_ex) {
@@ -15032,8 +24087,6 @@ public class RemoteSimulationService {
     public int hashCode() {
       int hashCode = 1;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(success);
-
       hashCode = hashCode * 8191 + ((isSetEx()) ? 131071 : 524287);
       if (isSetEx())
         hashCode = hashCode * 8191 + ex.hashCode();
@@ -15042,23 +24095,13 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(getTrueSignal_result other) {
+    public int compareTo(setStagePosition_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = java.lang.Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = java.lang.Boolean.valueOf(isSetEx()).compareTo(other.isSetEx());
       if (lastComparison != 0) {
         return lastComparison;
@@ -15086,13 +24129,9 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("getTrueSignal_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("setStagePosition_result(");
       boolean first = true;
 
-      sb.append("success:");
-      sb.append(this.success);
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("ex:");
       if (this.ex == null) {
         sb.append("null");
@@ -15119,23 +24158,21 @@ public class RemoteSimulationService {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, java.lang.ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class getTrueSignal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getTrueSignal_resultStandardScheme getScheme() {
-        return new getTrueSignal_resultStandardScheme();
+    private static class setStagePosition_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setStagePosition_resultStandardScheme getScheme() {
+        return new setStagePosition_resultStandardScheme();
       }
     }
 
-    private static class getTrueSignal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<getTrueSignal_result> {
+    private static class setStagePosition_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<setStagePosition_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getTrueSignal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setStagePosition_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15145,14 +24182,6 @@ public class RemoteSimulationService {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
-                struct.success = iprot.readDouble();
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // EX
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.ex = new UnknownSimulationIdException();
@@ -15173,15 +24202,10 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getTrueSignal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setStagePosition_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.isSetSuccess()) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          oprot.writeDouble(struct.success);
-          oprot.writeFieldEnd();
-        }
         if (struct.ex != null) {
           oprot.writeFieldBegin(EX_FIELD_DESC);
           struct.ex.write(oprot);
@@ -15192,43 +24216,33 @@ public class RemoteSimulationService {
       }
 
     }
-
-    private static class getTrueSignal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public getTrueSignal_resultTupleScheme getScheme() {
-        return new getTrueSignal_resultTupleScheme();
+
+    private static class setStagePosition_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setStagePosition_resultTupleScheme getScheme() {
+        return new setStagePosition_resultTupleScheme();
       }
     }
 
-    private static class getTrueSignal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<getTrueSignal_result> {
+    private static class setStagePosition_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<setStagePosition_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getTrueSignal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setStagePosition_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetEx()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          oprot.writeDouble(struct.success);
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetEx()) {
           struct.ex.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getTrueSignal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setStagePosition_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(2);
+        java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = iprot.readDouble();
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.ex = new UnknownSimulationIdException();
           struct.ex.read(iprot);
           struct.setExIsSet(true);
@@ -15241,19 +24255,22 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class incrementTimeStep_args implements org.apache.thrift.TBase<incrementTimeStep_args, incrementTimeStep_args._Fields>, java.io.Serializable, Cloneable, Comparable<incrementTimeStep_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("incrementTimeStep_args");
+  public static class setStageTrajectory_args implements org.apache.thrift.TBase<setStageTrajectory_args, setStageTrajectory_args._Fields>, java.io.Serializable, Cloneable, Comparable<setStageTrajectory_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setStageTrajectory_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
+    private static final org.apache.thrift.protocol.TField TRAJECTORY_FIELD_DESC = new org.apache.thrift.protocol.TField("trajectory", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new incrementTimeStep_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new incrementTimeStep_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setStageTrajectory_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setStageTrajectory_argsTupleSchemeFactory();
 
     public int id; // required
+    public java.lang.String trajectory; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      ID((short)1, "id");
+      ID((short)1, "id"),
+      TRAJECTORY((short)2, "trajectory");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -15270,6 +24287,8 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 1: // ID
             return ID;
+          case 2: // TRAJECTORY
+            return TRAJECTORY;
           default:
             return null;
         }
@@ -15317,44 +24336,52 @@ public class RemoteSimulationService {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      tmpMap.put(_Fields.TRAJECTORY, new org.apache.thrift.meta_data.FieldMetaData("trajectory", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(incrementTimeStep_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setStageTrajectory_args.class, metaDataMap);
     }
 
-    public incrementTimeStep_args() {
+    public setStageTrajectory_args() {
     }
 
-    public incrementTimeStep_args(
-      int id)
+    public setStageTrajectory_args(
+      int id,
+      java.lang.String trajectory)
     {
       this();
       this.id = id;
       setIdIsSet(true);
+      this.trajectory = trajectory;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public incrementTimeStep_args(incrementTimeStep_args other) {
+    public setStageTrajectory_args(setStageTrajectory_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
+      if (other.isSetTrajectory()) {
+        this.trajectory = other.trajectory;
+      }
     }
 
-    public incrementTimeStep_args deepCopy() {
-      return new incrementTimeStep_args(this);
+    public setStageTrajectory_args deepCopy() {
+      return new setStageTrajectory_args(this);
     }
 
     @Override
     public void clear() {
       setIdIsSet(false);
       this.id = 0;
+      this.trajectory = null;
     }
 
     public int getId() {
       return this.id;
     }
 
-    public incrementTimeStep_args setId(int id) {
+    public setStageTrajectory_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -15373,6 +24400,30 @@ public class RemoteSimulationService {
       __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
+    public java.lang.String getTrajectory() {
+      return this.trajectory;
+    }
+
+    public setStageTrajectory_args setTrajectory(java.lang.String trajectory) {
+      this.trajectory = trajectory;
+      return this;
+    }
+
+    public void unsetTrajectory() {
+      this.trajectory = null;
+    }
+
+    /** Returns true if field trajectory is set (has been assigned a value) and false otherwise */
+    public boolean isSetTrajectory() {
+      return this.trajectory != null;
+    }
+
+    public void setTrajectoryIsSet(boolean value) {
+      if (!value) {
+        this.trajectory = null;
+      }
+    }
+
     public void setFieldValue(_Fields field, java.lang.Object value) {
       switch (field) {
       case ID:
@@ -15383,6 +24434,14 @@ public class RemoteSimulationService {
         }
         break;
 
+      case TRAJECTORY:
+        if (value == null) {
+          unsetTrajectory();
+        } else {
+          setTrajectory((java.lang.String)value);
+        }
+        break;
+
       }
     }
 
@@ -15391,6 +24450,9 @@ public class RemoteSimulationService {
       case ID:
         return getId();
 
+      case TRAJECTORY:
+        return getTrajectory();
+
       }
       throw new java.lang.IllegalStateException();
     }
@@ -15404,6 +24466,8 @@ public class RemoteSimulationService {
       switch (field) {
       case ID:
         return isSetId();
+      case TRAJECTORY:
+        return isSetTrajectory();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -15412,12 +24476,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof incrementTimeStep_args)
-        return this.equals((incrementTimeStep_args)that);
+      if (that instanceof setStageTrajectory_args)
+        return this.equals((setStageTrajectory_args)that);
       return false;
     }
 
-    public boolean equals(incrementTimeStep_args that) {
+    public boolean equals(setStageTrajectory_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -15432,6 +24496,15 @@ public class RemoteSimulationService {
           return false;
       }
 
+      boolean this_present_trajectory = true && this.isSetTrajectory();
+      boolean that_present_trajectory = true && that.isSetTrajectory();
+      if (this_present_trajectory || that_present_trajectory) {
+        if (!(this_present_trajectory && that_present_trajectory))
+          return false;
+        if (!this.trajectory.equals(that.trajectory))
+          return false;
+      }
+
       return true;
     }
 
@@ -15441,11 +24514,15 @@ public class RemoteSimulationService {
 
       hashCode = hashCode * 8191 + id;
 
+      hashCode = hashCode * 8191 + ((isSetTrajectory()) ? 131071 : 524287);
+      if (isSetTrajectory())
+        hashCode = hashCode * 8191 + trajectory.hashCode();
+
       return hashCode;
     }
 
     @Override
-    public int compareTo(incrementTimeStep_args other) {
+    public int compareTo(setStageTrajectory_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15462,6 +24539,16 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
+      lastComparison = java.lang.Boolean.valueOf(isSetTrajectory()).compareTo(other.isSetTrajectory());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTrajectory()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.trajectory, other.trajectory);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       return 0;
     }
 
@@ -15479,12 +24566,20 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("incrementTimeStep_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("setStageTrajectory_args(");
       boolean first = true;
 
       sb.append("id:");
       sb.append(this.id);
       first = false;
+      if (!first) sb.append(", ");
+      sb.append("trajectory:");
+      if (this.trajectory == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.trajectory);
+      }
+      first = false;
       sb.append(")");
       return sb.toString();
     }
@@ -15512,15 +24607,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class incrementTimeStep_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public incrementTimeStep_argsStandardScheme getScheme() {
-        return new incrementTimeStep_argsStandardScheme();
+    private static class setStageTrajectory_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setStageTrajectory_argsStandardScheme getScheme() {
+        return new setStageTrajectory_argsStandardScheme();
       }
     }
 
-    private static class incrementTimeStep_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<incrementTimeStep_args> {
+    private static class setStageTrajectory_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<setStageTrajectory_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, incrementTimeStep_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setStageTrajectory_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15538,6 +24633,14 @@ public class RemoteSimulationService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
+            case 2: // TRAJECTORY
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.trajectory = iprot.readString();
+                struct.setTrajectoryIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             default:
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
           }
@@ -15549,48 +24652,63 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, incrementTimeStep_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setStageTrajectory_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(ID_FIELD_DESC);
         oprot.writeI32(struct.id);
         oprot.writeFieldEnd();
+        if (struct.trajectory != null) {
+          oprot.writeFieldBegin(TRAJECTORY_FIELD_DESC);
+          oprot.writeString(struct.trajectory);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class incrementTimeStep_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public incrementTimeStep_argsTupleScheme getScheme() {
-        return new incrementTimeStep_argsTupleScheme();
+    private static class setStageTrajectory_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setStageTrajectory_argsTupleScheme getScheme() {
+        return new setStageTrajectory_argsTupleScheme();
       }
     }
 
-    private static class incrementTimeStep_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<incrementTimeStep_args> {
+    private static class setStageTrajectory_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<setStageTrajectory_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, incrementTimeStep_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setStageTrajectory_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTrajectory()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
         if (struct.isSetId()) {
           oprot.writeI32(struct.id);
         }
+        if (struct.isSetTrajectory()) {
+          oprot.writeString(struct.trajectory);
+        }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, incrementTimeStep_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setStageTrajectory_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-        java.util.BitSet incoming = iprot.readBitSet(1);
+        java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
           struct.id = iprot.readI32();
           struct.setIdIsSet(true);
         }
+        if (incoming.get(1)) {
+          struct.trajectory = iprot.readString();
+          struct.setTrajectoryIsSet(true);
+        }
       }
     }
 
@@ -15599,13 +24717,13 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class incrementTimeStep_result implements org.apache.thrift.TBase<incrementTimeStep_result, incrementTimeStep_result._Fields>, java.io.Serializable, Cloneable, Comparable<incrementTimeStep_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("incrementTimeStep_result");
+  public static class setStageTrajectory_result implements org.apache.thrift.TBase<setStageTrajectory_result, setStageTrajectory_result._Fields>, java.io.Serializable, Cloneable, Comparable<setStageTrajectory_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setStageTrajectory_result");
 
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new incrementTimeStep_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new incrementTimeStep_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setStageTrajectory_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setStageTrajectory_resultTupleSchemeFactory();
 
     public UnknownSimulationIdException ex; // required
 
@@ -15674,13 +24792,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(incrementTimeStep_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setStageTrajectory_result.class, metaDataMap);
     }
 
-    public incrementTimeStep_result() {
+    public setStageTrajectory_result() {
     }
 
-    public incrementTimeStep_result(
+    public setStageTrajectory_result(
       UnknownSimulationIdException ex)
     {
       this();
@@ -15690,14 +24808,14 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public incrementTimeStep_result(incrementTimeStep_result other) {
+    public setStageTrajectory_result(setStageTrajectory_result other) {
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public incrementTimeStep_result deepCopy() {
-      return new incrementTimeStep_result(this);
+    public setStageTrajectory_result deepCopy() {
+      return new setStageTrajectory_result(this);
     }
 
     @Override
@@ -15709,7 +24827,7 @@ public class RemoteSimulationService {
       return this.ex;
     }
 
-    public incrementTimeStep_result setEx(UnknownSimulationIdException ex) {
+    public setStageTrajectory_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -15768,12 +24886,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof incrementTimeStep_result)
-        return this.equals((incrementTimeStep_result)that);
+      if (that instanceof setStageTrajectory_result)
+        return this.equals((setStageTrajectory_result)that);
       return false;
     }
 
-    public boolean equals(incrementTimeStep_result that) {
+    public boolean equals(setStageTrajectory_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -15803,7 +24921,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(incrementTimeStep_result other) {
+    public int compareTo(setStageTrajectory_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -15837,7 +24955,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("incrementTimeStep_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("setStageTrajectory_result(");
       boolean first = true;
 
       sb.append("ex:");
@@ -15872,15 +24990,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class incrementTimeStep_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public incrementTimeStep_resultStandardScheme getScheme() {
-        return new incrementTimeStep_resultStandardScheme();
+    private static class setStageTrajectory_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setStageTrajectory_resultStandardScheme getScheme() {
+        return new setStageTrajectory_resultStandardScheme();
       }
     }
 
-    private static class incrementTimeStep_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<incrementTimeStep_result> {
+    private static class setStageTrajectory_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<setStageTrajectory_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, incrementTimeStep_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setStageTrajectory_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -15910,7 +25028,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, incrementTimeStep_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setStageTrajectory_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -15925,16 +25043,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class incrementTimeStep_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public incrementTimeStep_resultTupleScheme getScheme() {
-        return new incrementTimeStep_resultTupleScheme();
+    private static class setStageTrajectory_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setStageTrajectory_resultTupleScheme getScheme() {
+        return new setStageTrajectory_resultTupleScheme();
       }
     }
 
-    private static class incrementTimeStep_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<incrementTimeStep_result> {
+    private static class setStageTrajectory_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<setStageTrajectory_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, incrementTimeStep_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setStageTrajectory_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetEx()) {
@@ -15947,7 +25065,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, incrementTimeStep_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setStageTrajectory_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -15963,22 +25081,22 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class setControlSignal_args implements org.apache.thrift.TBase<setControlSignal_args, setControlSignal_args._Fields>, java.io.Serializable, Cloneable, Comparable<setControlSignal_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setControlSignal_args");
+  public static class setLaserSchedule_args implements org.apache.thrift.TBase<setLaserSchedule_args, setLaserSchedule_args._Fields>, java.io.Serializable, Cloneable, Comparable<setLaserSchedule_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setLaserSchedule_args");
 
     private static final org.apache.thrift.protocol.TField ID_FIELD_DESC = new org.apache.thrift.protocol.TField("id", org.apache.thrift.protocol.TType.I32, (short)1);
-    private static final org.apache.thrift.protocol.TField POWER_FIELD_DESC = new org.apache.thrift.protocol.TField("power", org.apache.thrift.protocol.TType.DOUBLE, (short)2);
+    private static final org.apache.thrift.protocol.TField SCHEDULE_FIELD_DESC = new org.apache.thrift.protocol.TField("schedule", org.apache.thrift.protocol.TType.STRING, (short)2);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setControlSignal_argsStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setControlSignal_argsTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setLaserSchedule_argsStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setLaserSchedule_argsTupleSchemeFactory();
 
     public int id; // required
-    public double power; // required
+    public java.lang.String schedule; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
       ID((short)1, "id"),
-      POWER((short)2, "power");
+      SCHEDULE((short)2, "schedule");
 
       private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -15995,8 +25113,8 @@ public class RemoteSimulationService {
         switch(fieldId) {
           case 1: // ID
             return ID;
-          case 2: // POWER
-            return POWER;
+          case 2: // SCHEDULE
+            return SCHEDULE;
           default:
             return null;
         }
@@ -16038,59 +25156,58 @@ public class RemoteSimulationService {
 
     // isset id assignments
     private static final int __ID_ISSET_ID = 0;
-    private static final int __POWER_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.ID, new org.apache.thrift.meta_data.FieldMetaData("id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
-      tmpMap.put(_Fields.POWER, new org.apache.thrift.meta_data.FieldMetaData("power", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.DOUBLE)));
+      tmpMap.put(_Fields.SCHEDULE, new org.apache.thrift.meta_data.FieldMetaData("schedule", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setControlSignal_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setLaserSchedule_args.class, metaDataMap);
     }
 
-    public setControlSignal_args() {
+    public setLaserSchedule_args() {
     }
 
-    public setControlSignal_args(
+    public setLaserSchedule_args(
       int id,
-      double power)
+      java.lang.String schedule)
     {
       this();
       this.id = id;
       setIdIsSet(true);
-      this.power = power;
-      setPowerIsSet(true);
+      this.schedule = schedule;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public setControlSignal_args(setControlSignal_args other) {
+    public setLaserSchedule_args(setLaserSchedule_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.id = other.id;
-      this.power = other.power;
+      if (other.isSetSchedule()) {
+        this.schedule = other.schedule;
+      }
     }
 
-    public setControlSignal_args deepCopy() {
-      return new setControlSignal_args(this);
+    public setLaserSchedule_args deepCopy() {
+      return new setLaserSchedule_args(this);
     }
 
     @Override
     public void clear() {
       setIdIsSet(false);
       this.id = 0;
-      setPowerIsSet(false);
-      this.power = 0.0;
+      this.schedule = null;
     }
 
     public int getId() {
       return this.id;
     }
 
-    public setControlSignal_args setId(int id) {
+    public setLaserSchedule_args setId(int id) {
       this.id = id;
       setIdIsSet(true);
       return this;
@@ -16109,27 +25226,28 @@ public class RemoteSimulationService {
       __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __ID_ISSET_ID, value);
     }
 
-    public double getPower() {
-      return this.power;
+    public java.lang.String getSchedule() {
+      return this.schedule;
     }
 
-    public setControlSignal_args setPower(double power) {
-      this.power = power;
-      setPowerIsSet(true);
+    public setLaserSchedule_args setSchedule(java.lang.String schedule) {
+      this.schedule = schedule;
       return this;
     }
 
-    public void unsetPower() {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.clearBit(__isset_bitfield, __POWER_ISSET_ID);
+    public void unsetSchedule() {
+      this.schedule = null;
     }
 
-    /** Returns true if field power is set (has been assigned a value) and false otherwise */
-    public boolean isSetPower() {
-      return org.apache.thrift.EncodingUtils.testBit(__isset_bitfield, __POWER_ISSET_ID);
+    /** Returns true if field schedule is set (has been assigned a value) and false otherwise */
+    public boolean isSetSchedule() {
+      return this.schedule != null;
     }
 
-    public void setPowerIsSet(boolean value) {
-      __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __POWER_ISSET_ID, value);
+    public void setScheduleIsSet(boolean value) {
+      if (!value) {
+        this.schedule = null;
+      }
     }
 
     public void setFieldValue(_Fields field, java.lang.Object value) {
@@ -16142,11 +25260,11 @@ public class RemoteSimulationService {
         }
         break;
 
-      case POWER:
+      case SCHEDULE:
         if (value == null) {
-          unsetPower();
+          unsetSchedule();
         } else {
-          setPower((java.lang.Double)value);
+          setSchedule((java.lang.String)value);
         }
         break;
 
@@ -16158,8 +25276,8 @@ public class RemoteSimulationService {
       case ID:
         return getId();
 
-      case POWER:
-        return getPower();
+      case SCHEDULE:
+        return getSchedule();
 
       }
       throw new java.lang.IllegalStateException();
@@ -16174,8 +25292,8 @@ public class RemoteSimulationService {
       switch (field) {
       case ID:
         return isSetId();
-      case POWER:
-        return isSetPower();
+      case SCHEDULE:
+        return isSetSchedule();
       }
       throw new java.lang.IllegalStateException();
     }
@@ -16184,12 +25302,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof setControlSignal_args)
-        return this.equals((setControlSignal_args)that);
+      if (that instanceof setLaserSchedule_args)
+        return this.equals((setLaserSchedule_args)that);
       return false;
     }
 
-    public boolean equals(setControlSignal_args that) {
+    public boolean equals(setLaserSchedule_args that) {
       if (that == null)
         return false;
       if (this == that)
@@ -16204,12 +25322,12 @@ public class RemoteSimulationService {
           return false;
       }
 
-      boolean this_present_power = true;
-      boolean that_present_power = true;
-      if (this_present_power || that_present_power) {
-        if (!(this_present_power && that_present_power))
+      boolean this_present_schedule = true && this.isSetSchedule();
+      boolean that_present_schedule = true && that.isSetSchedule();
+      if (this_present_schedule || that_present_schedule) {
+        if (!(this_present_schedule && that_present_schedule))
           return false;
-        if (this.power != that.power)
+        if (!this.schedule.equals(that.schedule))
           return false;
       }
 
@@ -16222,13 +25340,15 @@ public class RemoteSimulationService {
 
       hashCode = hashCode * 8191 + id;
 
-      hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(power);
+      hashCode = hashCode * 8191 + ((isSetSchedule()) ? 131071 : 524287);
+      if (isSetSchedule())
+        hashCode = hashCode * 8191 + schedule.hashCode();
 
       return hashCode;
     }
 
     @Override
-    public int compareTo(setControlSignal_args other) {
+    public int compareTo(setLaserSchedule_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -16245,12 +25365,12 @@ public class RemoteSimulationService {
           return lastComparison;
         }
       }
-      lastComparison = java.lang.Boolean.valueOf(isSetPower()).compareTo(other.isSetPower());
+      lastComparison = java.lang.Boolean.valueOf(isSetSchedule()).compareTo(other.isSetSchedule());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetPower()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.power, other.power);
+      if (isSetSchedule()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.schedule, other.schedule);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -16272,15 +25392,19 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("setControlSignal_args(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("setLaserSchedule_args(");
       boolean first = true;
 
       sb.append("id:");
       sb.append(this.id);
       first = false;
       if (!first) sb.append(", ");
-      sb.append("power:");
-      sb.append(this.power);
+      sb.append("schedule:");
+      if (this.schedule == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.schedule);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -16309,15 +25433,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class setControlSignal_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public setControlSignal_argsStandardScheme getScheme() {
-        return new setControlSignal_argsStandardScheme();
+    private static class setLaserSchedule_argsStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setLaserSchedule_argsStandardScheme getScheme() {
+        return new setLaserSchedule_argsStandardScheme();
       }
     }
 
-    private static class setControlSignal_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<setControlSignal_args> {
+    private static class setLaserSchedule_argsStandardScheme extends org.apache.thrift.scheme.StandardScheme<setLaserSchedule_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, setControlSignal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setLaserSchedule_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16335,10 +25459,10 @@ public class RemoteSimulationService {
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // POWER
-              if (schemeField.type == org.apache.thrift.protocol.TType.DOUBLE) {
-                struct.power = iprot.readDouble();
-                struct.setPowerIsSet(true);
+            case 2: // SCHEDULE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.schedule = iprot.readString();
+                struct.setScheduleIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -16354,51 +25478,53 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, setControlSignal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setLaserSchedule_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
         oprot.writeFieldBegin(ID_FIELD_DESC);
         oprot.writeI32(struct.id);
         oprot.writeFieldEnd();
-        oprot.writeFieldBegin(POWER_FIELD_DESC);
-        oprot.writeDouble(struct.power);
-        oprot.writeFieldEnd();
+        if (struct.schedule != null) {
+          oprot.writeFieldBegin(SCHEDULE_FIELD_DESC);
+          oprot.writeString(struct.schedule);
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class setControlSignal_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public setControlSignal_argsTupleScheme getScheme() {
-        return new setControlSignal_argsTupleScheme();
+    private static class setLaserSchedule_argsTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setLaserSchedule_argsTupleScheme getScheme() {
+        return new setLaserSchedule_argsTupleScheme();
       }
     }
 
-    private static class setControlSignal_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<setControlSignal_args> {
+    private static class setLaserSchedule_argsTupleScheme extends org.apache.thrift.scheme.TupleScheme<setLaserSchedule_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, setControlSignal_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setLaserSchedule_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetId()) {
           optionals.set(0);
         }
-        if (struct.isSetPower()) {
+        if (struct.isSetSchedule()) {
           optionals.set(1);
         }
         oprot.writeBitSet(optionals, 2);
         if (struct.isSetId()) {
           oprot.writeI32(struct.id);
         }
-        if (struct.isSetPower()) {
-          oprot.writeDouble(struct.power);
+        if (struct.isSetSchedule()) {
+          oprot.writeString(struct.schedule);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, setControlSignal_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setLaserSchedule_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -16406,8 +25532,8 @@ public class RemoteSimulationService {
           struct.setIdIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.power = iprot.readDouble();
-          struct.setPowerIsSet(true);
+          struct.schedule = iprot.readString();
+          struct.setScheduleIsSet(true);
         }
       }
     }
@@ -16417,13 +25543,13 @@ public class RemoteSimulationService {
     }
   }
 
-  public static class setControlSignal_result implements org.apache.thrift.TBase<setControlSignal_result, setControlSignal_result._Fields>, java.io.Serializable, Cloneable, Comparable<setControlSignal_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setControlSignal_result");
+  public static class setLaserSchedule_result implements org.apache.thrift.TBase<setLaserSchedule_result, setLaserSchedule_result._Fields>, java.io.Serializable, Cloneable, Comparable<setLaserSchedule_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("setLaserSchedule_result");
 
     private static final org.apache.thrift.protocol.TField EX_FIELD_DESC = new org.apache.thrift.protocol.TField("ex", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
-    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setControlSignal_resultStandardSchemeFactory();
-    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setControlSignal_resultTupleSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new setLaserSchedule_resultStandardSchemeFactory();
+    private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new setLaserSchedule_resultTupleSchemeFactory();
 
     public UnknownSimulationIdException ex; // required
 
@@ -16492,13 +25618,13 @@ public class RemoteSimulationService {
       tmpMap.put(_Fields.EX, new org.apache.thrift.meta_data.FieldMetaData("ex", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, UnknownSimulationIdException.class)));
       metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setControlSignal_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(setLaserSchedule_result.class, metaDataMap);
     }
 
-    public setControlSignal_result() {
+    public setLaserSchedule_result() {
     }
 
-    public setControlSignal_result(
+    public setLaserSchedule_result(
       UnknownSimulationIdException ex)
     {
       this();
@@ -16508,14 +25634,14 @@ public class RemoteSimulationService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public setControlSignal_result(setControlSignal_result other) {
+    public setLaserSchedule_result(setLaserSchedule_result other) {
       if (other.isSetEx()) {
         this.ex = new UnknownSimulationIdException(other.ex);
       }
     }
 
-    public setControlSignal_result deepCopy() {
-      return new setControlSignal_result(this);
+    public setLaserSchedule_result deepCopy() {
+      return new setLaserSchedule_result(this);
     }
 
     @Override
@@ -16527,7 +25653,7 @@ public class RemoteSimulationService {
       return this.ex;
     }
 
-    public setControlSignal_result setEx(UnknownSimulationIdException ex) {
+    public setLaserSchedule_result setEx(UnknownSimulationIdException ex) {
       this.ex = ex;
       return this;
     }
@@ -16586,12 +25712,12 @@ public class RemoteSimulationService {
     public boolean equals(java.lang.Object that) {
       if (that == null)
         return false;
-      if (that instanceof setControlSignal_result)
-        return this.equals((setControlSignal_result)that);
+      if (that instanceof setLaserSchedule_result)
+        return this.equals((setLaserSchedule_result)that);
       return false;
     }
 
-    public boolean equals(setControlSignal_result that) {
+    public boolean equals(setLaserSchedule_result that) {
       if (that == null)
         return false;
       if (this == that)
@@ -16621,7 +25747,7 @@ public class RemoteSimulationService {
     }
 
     @Override
-    public int compareTo(setControlSignal_result other) {
+    public int compareTo(setLaserSchedule_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -16655,7 +25781,7 @@ public class RemoteSimulationService {
 
     @Override
     public java.lang.String toString() {
-      java.lang.StringBuilder sb = new java.lang.StringBuilder("setControlSignal_result(");
+      java.lang.StringBuilder sb = new java.lang.StringBuilder("setLaserSchedule_result(");
       boolean first = true;
 
       sb.append("ex:");
@@ -16690,15 +25816,15 @@ public class RemoteSimulationService {
       }
     }
 
-    private static class setControlSignal_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public setControlSignal_resultStandardScheme getScheme() {
-        return new setControlSignal_resultStandardScheme();
+    private static class setLaserSchedule_resultStandardSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setLaserSchedule_resultStandardScheme getScheme() {
+        return new setLaserSchedule_resultStandardScheme();
       }
     }
 
-    private static class setControlSignal_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<setControlSignal_result> {
+    private static class setLaserSchedule_resultStandardScheme extends org.apache.thrift.scheme.StandardScheme<setLaserSchedule_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, setControlSignal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, setLaserSchedule_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -16728,7 +25854,7 @@ public class RemoteSimulationService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, setControlSignal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, setLaserSchedule_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -16743,16 +25869,16 @@ public class RemoteSimulationService {
 
     }
 
-    private static class setControlSignal_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
-      public setControlSignal_resultTupleScheme getScheme() {
-        return new setControlSignal_resultTupleScheme();
+    private static class setLaserSchedule_resultTupleSchemeFactory implements org.apache.thrift.scheme.SchemeFactory {
+      public setLaserSchedule_resultTupleScheme getScheme() {
+        return new setLaserSchedule_resultTupleScheme();
       }
     }
 
-    private static class setControlSignal_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<setControlSignal_result> {
+    private static class setLaserSchedule_resultTupleScheme extends org.apache.thrift.scheme.TupleScheme<setLaserSchedule_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, setControlSignal_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, setLaserSchedule_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol oprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet optionals = new java.util.BitSet();
         if (struct.isSetEx()) {
@@ -16765,7 +25891,7 @@ public class RemoteSimulationService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, setControlSignal_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, setLaserSchedule_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
         java.util.BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -19,15 +19,21 @@ package ch.epfl.leb.sass.server;
 
 import ch.epfl.leb.sass.logging.Message;
 import ch.epfl.leb.sass.models.Microscope;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
+import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
 import ch.epfl.leb.sass.simulator.Simulator;
 import ch.epfl.leb.sass.simulator.SimulationManager;
 import ch.epfl.leb.sass.simulator.internal.RPCSimulator;
 import ch.epfl.leb.sass.simulator.internal.DefaultSimulationManager;
 import ch.epfl.leb.sass.utils.images.ImageS;
 import ch.epfl.leb.sass.utils.images.ImageShapeException;
+import ch.epfl.leb.sass.utils.metrics.SimulationMetrics;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 import java.util.List;
 import java.nio.ByteBuffer;
@@ -147,6 +153,34 @@ public class RemoteSimulationServiceHandler implements RemoteSimulationService.I
         return sim.getCameraJsonName();
     }
     
+    /**
+     * Returns the fluorophores whose positions lie inside a rectangle.
+     * 
+     * @param id The simulation ID.
+     * @param xMin The inclusive lower bound in x. [pixels]
+     * @param yMin The inclusive lower bound in y. [pixels]
+     * @param xMax The exclusive upper bound in x. [pixels]
+     * @param yMax The exclusive upper bound in y. [pixels]
+     * @return The fluorophores as a JSON array.
+     * @throws UnknownSimulationIdException
+     */
+    @Override
+    public String getEmittersInRegion(int id, double xMin, double yMin,
+                                      double xMax, double yMax)
+                                      throws UnknownSimulationIdException {
+        Simulator sim = manager.getSimulator(id);
+        if (sim == null) {
+            throw new UnknownSimulationIdException();
+        }
+        
+        JsonArray json = new JsonArray();
+        for (Fluorophore f: sim.getMicroscope().getFluorophoresInRegion(
+                xMin, yMin, xMax, yMax)) {
+            json.add(f.toJson());
+        }
+        return json.toString();
+    }
+    
     /**
      * Returns the name of the JSON key for the fluorescence info.
      * 
@@ -215,6 +249,23 @@ public class RemoteSimulationServiceHandler implements RemoteSimulationService.I
         return sim.getLaserJsonName();
     }
     
+    /**
+     * Returns the timing and throughput statistics of a simulation.
+     * 
+     * @param id The simulation ID.
+     * @return The metrics of the simulation as a JSON string.
+     * @throws UnknownSimulationIdException
+     */
+    @Override
+    public String getMetrics(int id) throws UnknownSimulationIdException {
+        Simulator sim = manager.getSimulator(id);
+        if (sim == null) {
+            throw new UnknownSimulationIdException();
+        }
+        
+        return sim.getMetrics().toJson().toString();
+    }
+    
     /**
      * Advances the simulator by one time step and returns the image.
      * 
@@ -235,7 +286,14 @@ public class RemoteSimulationServiceHandler implements RemoteSimulationService.I
         // Advance the simulation one time step and retrieve the image.  
         try {
             ImageS is = sim.getNextImage();
-            return is.serializeToBuffer();
+            
+            SimulationMetrics metrics = sim.getMetrics();
+            long start = metrics.isEnabled() ? System.nanoTime() : 0L;
+            ByteBuffer buffer = is.serializeToBuffer();
+            if (metrics.isEnabled()) {
+                metrics.lap(SimulationMetrics.Stage.SERIALIZATION, start);
+            }
+            return buffer;
         } catch (ImageShapeException ex) {
             ex.printStackTrace();
             throw new ImageGenerationException();
@@ -278,6 +336,29 @@ public class RemoteSimulationServiceHandler implements RemoteSimulationService.I
         return sim.getObjectSpacePixelSize();
     }
     
+    /**
+     * Returns the number of emitting fluorophores inside a rectangle.
+     * 
+     * @param id The simulation ID.
+     * @param xMin The inclusive lower bound in x. [pixels]
+     * @param yMin The inclusive lower bound in y. [pixels]
+     * @param xMax The exclusive upper bound in x. [pixels]
+     * @param yMax The exclusive upper bound in y. [pixels]
+     * @return The number of fluorophores that are on.
+     * @throws UnknownSimulationIdException 
+     */
+    @Override
+    public int getOnEmitterCountInRegion(int id, double xMin, double yMin,
+                                         double xMax, double yMax)
+                                         throws UnknownSimulationIdException {
+        Simulator sim = manager.getSimulator(id);
+        if (sim == null) {
+            throw new UnknownSimulationIdException();
+        }
+        
+        return sim.getMicroscope().getOnEmitterCount(xMin, yMin, xMax, yMax);
+    }
+    
     /**
      * This method is used to determine whether the server is running.
      * 
@@ -340,6 +421,26 @@ public class RemoteSimulationServiceHandler implements RemoteSimulationService.I
         return sim.getTrueSignal(imageNum);
     }
     
+    /**
+     * Returns the ground truth statistics of a range of time steps.
+     * 
+     * @param id The simulation ID.
+     * @param firstStep The 1-based number of the first time step, inclusive.
+     * @param lastStep The 1-based number of the last time step, exclusive.
+     * @return The statistics of the time steps as a JSON string.
+     * @throws UnknownSimulationIdException 
+     */
+    @Override
+    public String getGroundTruth(int id, int firstStep, int lastStep)
+                  throws UnknownSimulationIdException {
+        Simulator sim = manager.getSimulator(id);
+        if (sim == null) {
+            throw new UnknownSimulationIdException();
+        }
+        
+        return sim.toJsonGroundTruth(firstStep, lastStep).toString();
+    }
+    
     /**
      * Advances the simulation without creating an image.
      * 
@@ -356,6 +457,24 @@ public class RemoteSimulationServiceHandler implements RemoteSimulationService.I
         sim.incrementTimeStep();
     }
     
+    /**
+     * Advances the simulation by several time steps without creating images.
+     * 
+     * @param id The simulation ID.
+     * @param nFrames The number of time steps to advance.
+     * @throws UnknownSimulationIdException 
+     */
+    @Override
+    public void advance(int id, int nFrames)
+                throws UnknownSimulationIdException {
+        Simulator sim = manager.getSimulator(id);
+        if (sim == null) {
+            throw new UnknownSimulationIdException();
+        }
+        
+        sim.advance(nFrames);
+    }
+    
     /**
      * Sets the activation laser power in the simulation.
      * 
@@ -369,6 +488,91 @@ public class RemoteSimulationServiceHandler implements RemoteSimulationService.I
         manager.getSimulator(id).setControlSignal(power);
     }
     
+    /**
+     * Moves the microscope stage.
+     * 
+     * @param id The simulation ID.
+     * @param x The stage's x-position.
+     * @param y The stage's y-position.
+     * @param z The stage's z-position.
+     * @throws UnknownSimulationIdException
+     */
+    @Override
+    public void setStagePosition(int id, double x, double y, double z)
+                throws UnknownSimulationIdException {
+        Simulator sim = manager.getSimulator(id);
+        if (sim == null) {
+            throw new UnknownSimulationIdException();
+        }
+        
+        sim.getMicroscope().setStagePosition(x, y, z);
+    }
+    
+    /**
+     * Moves the microscope stage along a trajectory, one position per image.
+     * 
+     * @param id The simulation ID.
+     * @param trajectory A JSON array of [x, y, z] arrays.
+     * @throws UnknownSimulationIdException
+     */
+    @Override
+    public void setStageTrajectory(int id, String trajectory)
+                throws UnknownSimulationIdException {
+        Simulator sim = manager.getSimulator(id);
+        if (sim == null) {
+            throw new UnknownSimulationIdException();
+        }
+        
+        JsonArray json = new JsonParser().parse(trajectory).getAsJsonArray();
+        double[][] positions = new double[json.size()][];
+        for (int i = 0; i < positions.length; i++) {
+            JsonArray position = json.get(i).getAsJsonArray();
+            positions[i] = new double[position.size()];
+            for (int j = 0; j < positions[i].length; j++) {
+                positions[i][j] = position.get(j).getAsDouble();
+            }
+        }
+        sim.getMicroscope().setStageTrajectory(positions);
+    }
+    
+    /**
+     * Modulates the laser power with a piecewise-constant schedule.
+     * 
+     * @param id The simulation ID.
+     * @param schedule A JSON object with the "durations" and "powers" arrays
+     *                 of the segments and an optional "repeat" flag, or null.
+     * @throws UnknownSimulationIdException
+     */
+    @Override
+    public void setLaserSchedule(int id, String schedule)
+                throws UnknownSimulationIdException {
+        Simulator sim = manager.getSimulator(id);
+        if (sim == null) {
+            throw new UnknownSimulationIdException();
+        }
+        
+        JsonElement json = new JsonParser().parse(schedule);
+        if (json.isJsonNull()) {
+            sim.getMicroscope().setLaserSchedule(null);
+            return;
+        }
+        JsonObject object = json.getAsJsonObject();
+        JsonArray durations = object.getAsJsonArray("durations");
+        JsonArray powers = object.getAsJsonArray("powers");
+        double[] segmentDurations = new double[durations.size()];
+        double[] segmentPowers = new double[powers.size()];
+        for (int i = 0; i < segmentDurations.length; i++) {
+            segmentDurations[i] = durations.get(i).getAsDouble();
+        }
+        for (int i = 0; i < segmentPowers.length; i++) {
+            segmentPowers[i] = powers.get(i).getAsDouble();
+        }
+        boolean repeat = object.has("repeat")
+                         && object.get("repeat").getAsBoolean();
+        sim.getMicroscope().setLaserSchedule(
+                new LaserSchedule(segmentDurations, segmentPowers, repeat));
+    }
+    
     /**
      * Returns messages about changes in the simulation state as a JSON string.
      * 
@@ -23,6 +23,7 @@ import ch.epfl.leb.sass.logging.Message;
 import ch.epfl.leb.sass.models.Microscope;
 import ch.epfl.leb.sass.utils.images.ImageS;
 import ch.epfl.leb.sass.utils.images.ImageShapeException;
+import ch.epfl.leb.sass.utils.metrics.SimulationMetrics;
 
 import com.google.gson.JsonElement;
 
@@ -108,6 +109,13 @@ public interface Simulator {
      */
     public List<Message> getMessages();
     
+    /**
+     * Returns the timing and throughput statistics of the simulation.
+     * 
+     * @return The metrics of the simulation.
+     */
+    public SimulationMetrics getMetrics();
+    
     /**
      * Returns a copy of the Microscope that is controlled by this simulation.
      * 
@@ -173,11 +181,37 @@ public interface Simulator {
      */
     public double getTrueSignal(int image_no);
     
+    /**
+     * Returns the ground truth statistics of a range of time steps as JSON.
+     * 
+     * For every time step, this contains the number of emitting molecules,
+     * the number of molecules in each state and the fraction of bleached
+     * molecules at its beginning, and the number of photons emitted during
+     * it.
+     * 
+     * @param firstStep The 1-based number of the first time step, inclusive.
+     * @param lastStep The 1-based number of the last time step, exclusive.
+     * @return A JSON object with one array element per time step.
+     * @see #getTrueSignal(int)
+     */
+    public JsonElement toJsonGroundTruth(int firstStep, int lastStep);
+    
     /**
      * Increments the simulation by one time step without creating an image.
      */
     public void incrementTimeStep();
     
+    /**
+     * Advances the simulation by several time steps without creating images.
+     * 
+     * Only the states of the fluorophores and the ground truth signal are
+     * updated, so this is much faster than simulating the frames, e.g. to
+     * reach a steady state before images are acquired.
+     * 
+     * @param nFrames The number of time steps to advance.
+     */
+    public void advance(int nFrames);
+    
     /**
      * Sets control signal of the generator (e.g. laser power). This should be
      * used by the controller.
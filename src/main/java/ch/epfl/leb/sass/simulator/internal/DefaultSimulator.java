@@ -22,9 +22,11 @@ import ch.epfl.leb.sass.logging.Message;
 import ch.epfl.leb.sass.logging.Listener;
 import ch.epfl.leb.sass.models.Microscope;
 import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
+import ch.epfl.leb.sass.models.fluorophores.FluorophoreStatistics;
 import ch.epfl.leb.sass.utils.images.ImageS;
 import ch.epfl.leb.sass.utils.images.ImageShapeException;
 import ch.epfl.leb.sass.utils.images.internal.DefaultImageS;
+import ch.epfl.leb.sass.utils.metrics.SimulationMetrics;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -74,7 +76,12 @@ public class DefaultSimulator extends AbstractSimulator {
     private final String STAGE_MEMBER_NAME = "Stage";
        
     private Microscope microscope;
-    private ArrayList<Double> emitterHistory;
+    
+    /**
+     * The frame of the microscope's statistics that precedes the first time
+     * step of this simulation.
+     */
+    private final int firstFrame;
             
     /**
      * Initialize the generator.
@@ -87,8 +94,7 @@ public class DefaultSimulator extends AbstractSimulator {
         int[] res = this.microscope.getResolution();
         stack = new DefaultImageS(res[0], res[1]);
 
-        emitterHistory = new ArrayList<>();
-        emitterHistory.add(0.0);
+        firstFrame = microscope.getStatistics().getFrameCount() - 1;
         
         // Create the fluorescence state STATE_LISTENER and attach it.
         STATE_LISTENER = this.new StateListener();
@@ -182,17 +188,32 @@ public class DefaultSimulator extends AbstractSimulator {
         return microscope;
     }
     
+    /**
+     * Returns the timing and throughput statistics of the simulation.
+     * 
+     * @return The metrics of the simulation's microscope.
+     */
+    @Override
+    public SimulationMetrics getMetrics() {
+        return microscope.getMetrics();
+    }
+    
     /**
      * Generates a new image and adds it to the internal stack.
      * @return newly generated image
      */
     @Override
     public ImageS getNextImage() throws ImageShapeException {
-        // we calculate emitter count first so it corresponds with the beginning
-        // of the frame rather than end of the frame
-        emitterHistory.add(microscope.getOnEmitterCount());
+        // The microscope records the emitter count at the beginning of the
+        // frame rather than the end of the frame.
         ImageS pixels = microscope.simulateFrame();
+        
+        SimulationMetrics metrics = microscope.getMetrics();
+        long start = metrics.isEnabled() ? System.nanoTime() : 0L;
         stack.concatenate(pixels);
+        if (metrics.isEnabled()) {
+            metrics.lap(SimulationMetrics.Stage.STORAGE, start);
+        }
         
         return pixels;
     }
@@ -246,19 +267,57 @@ public class DefaultSimulator extends AbstractSimulator {
     
     @Override
     public double getTrueSignal(int image_no) {
-        return emitterHistory.get(image_no) /
+        if (image_no == 0) {
+            return 0.0;
+        }
+        FluorophoreStatistics statistics = microscope.getStatistics();
+        return statistics.getFrameOnCount(firstFrame + image_no) /
                microscope.getFovSize() * SCALEFACTOR;
     }
     
+    /**
+     * Returns the ground truth statistics of a range of time steps as JSON.
+     * 
+     * The statistics are read from the columns recorded by the microscope,
+     * so the whole range is returned at once.
+     * 
+     * @param firstStep The 1-based number of the first time step, inclusive.
+     * @param lastStep The 1-based number of the last time step, exclusive.
+     * @return A JSON object with one array element per time step.
+     */
+    @Override
+    public JsonElement toJsonGroundTruth(int firstStep, int lastStep) {
+        if (firstStep < 1) {
+            throw new IllegalArgumentException(
+                    "Time steps are numbered from 1.");
+        }
+        JsonObject json = microscope.getStatistics()
+                .toJson(firstFrame + firstStep, firstFrame + lastStep)
+                .getAsJsonObject();
+        json.addProperty("firstStep", firstStep);
+        return json;
+    }
+    
     /**
      * Advance the simulation by one time step (i.e. one frame).
      * 
-     * Simulates a frame but does not create an image.
+     * Advances the fluorophores but does not create an image.
      */
     @Override
     public void incrementTimeStep() {
-        emitterHistory.add(microscope.getOnEmitterCount());
-        microscope.simulateFrame();
+        advance(1);
+    }
+    
+    /**
+     * Advances the simulation by several time steps without rendering them.
+     * 
+     * The ground truth signal is recorded for every time step.
+     * 
+     * @param nFrames The number of time steps to advance.
+     */
+    @Override
+    public void advance(int nFrames) {
+        microscope.advance(nFrames);
     }
     
     /**
@@ -386,6 +445,9 @@ public class DefaultSimulator extends AbstractSimulator {
             try {
                 Message msg = (Message) data;
                 transitions.add(msg);
+                if (microscope.getMetrics().isEnabled()) {
+                    microscope.getMetrics().addTransitions(1);
+                }
             } catch (Exception ex) {
                 String err = "Could not coerce the Listener's message into a " +
                              "known message type.";
@@ -35,6 +35,32 @@ public final class RNG {
     private static Gamma gamma = new Gamma(1.0, 5.0, new MersenneTwister(uniform.nextInt()));
     private static Normal gaussian = new Normal(0.0, 1.0, new MersenneTwister(uniform.nextInt()));
     
+    /**
+     * Generators that override the global ones for the current thread.
+     * 
+     * This allows several independent simulations to be built concurrently,
+     * each one with its own repeatable stream of random numbers.
+     */
+    private static final ThreadLocal<Generators> threadGenerators =
+            new ThreadLocal<>();
+    
+    /**
+     * A set of generators derived from a single seed.
+     */
+    private static final class Generators {
+        private final Random uniform;
+        private final Poisson poisson;
+        private final Gamma gamma;
+        private final Normal gaussian;
+        
+        private Generators(int seed) {
+            uniform = new Random(seed);
+            poisson = new Poisson(1.0, new MersenneTwister(uniform.nextInt()));
+            gamma = new Gamma(1.0, 5.0, new MersenneTwister(uniform.nextInt()));
+            gaussian = new Normal(0.0, 1.0, new MersenneTwister(uniform.nextInt()));
+        }
+    }
+    
     private RNG() { }
     
     /**
@@ -48,12 +74,34 @@ public final class RNG {
         gaussian = new Normal(0.0, 1.0, new MersenneTwister(uniform.nextInt()));
     }
     
+    /**
+     * Gives the calling thread its own generators, independent of the global
+     * ones.
+     * 
+     * Objects capture their generators when they are constructed, so a model
+     * that is built after calling this method keeps using these generators
+     * for its whole lifetime, regardless of the thread that later runs it.
+     * 
+     * @param seed The seed for the calling thread's generators.
+     */
+    public static void setThreadSeed(int seed) {
+        threadGenerators.set(new Generators(seed));
+    }
+    
+    /**
+     * Reverts the calling thread to the global generators.
+     */
+    public static void clearThreadSeed() {
+        threadGenerators.remove();
+    }
+    
     /**
      *
      * @return uniform RNG
      */
     public static Random getUniformGenerator() {
-        return uniform;
+        Generators local = threadGenerators.get();
+        return local == null ? uniform : local.uniform;
     }
     
     /**
@@ -61,7 +109,8 @@ public final class RNG {
      * @return Poisson RNG
      */
     public static Poisson getPoissonGenerator() {
-        return poisson;
+        Generators local = threadGenerators.get();
+        return local == null ? poisson : local.poisson;
     }
     
     /**
@@ -69,7 +118,8 @@ public final class RNG {
      * @return Gamma distribution RNG
      */
     public static Gamma getGammaGenerator() {
-        return gamma;
+        Generators local = threadGenerators.get();
+        return local == null ? gamma : local.gamma;
     }
     
     /**
@@ -77,7 +127,8 @@ public final class RNG {
      * @return Gaussian distribution RNG
      */
     public static Normal getGaussianGenerator() {
-        return gaussian;
+        Generators local = threadGenerators.get();
+        return local == null ? gaussian : local.gaussian;
     }
     
 }
@@ -20,6 +20,7 @@ package ch.epfl.leb.sass.utils.images.internal;
 import ij.ImageStack;
 import ij.ImagePlus;
 import ij.process.FloatProcessor;
+import ij.process.ShortProcessor;
 import ij.io.FileSaver;
 import java.io.File;
 import java.nio.ByteBuffer;
@@ -81,6 +82,26 @@ public class DefaultImageS implements ImageS {
         imp = new ImagePlus(title, images);
     }
     
+    /**
+     * Creates a new DefaultImageS object from 16-bit pixel values.
+     * 
+     * The array is used as the pixels of the image without being copied.
+     * 
+     * @param width The width of the image.
+     * @param height The height of the image.
+     * @param pixels The pixel values; the value at (x, y) is at the index
+     *               y * width + x.
+     */
+    public DefaultImageS(int width, int height, short[] pixels) {
+        if (pixels.length != width * height) {
+            throw new IllegalArgumentException("The number of pixels does " +
+                    "not match the width and height of the image.");
+        }
+        images = new ImageStack(width, height);
+        images.addSlice(new ShortProcessor(width, height, pixels, null));
+        imp = new ImagePlus(title, images);
+    }
+    
     @Override
     public int getBitDepth() {
         if (images.getSize() == 0) {
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.jfr;
+
+import ch.epfl.leb.sass.utils.jfr.internal.JfrEvents;
+
+/**
+ * Emits Java Flight Recorder events for the simulation's activity.
+ * 
+ * The events are only created when the running JVM provides the
+ * {@code jdk.jfr} API (Java 8u262 or newer, or Java 11 and later) and a
+ * recording that enables them is in progress. When no recording is running,
+ * each call only reads a flag that is updated when recordings start and
+ * stop, and allocates nothing. While a recording is running, each begin
+ * method allocates an event, even if the recording does not enable it. This
+ * class does not reference the {@code jdk.jfr} API itself, so it may be
+ * used on any Java 8 runtime.
+ * 
+ * The begin methods return an opaque event, or null if the event is not
+ * recorded, that must be passed to the matching commit method.
+ */
+public final class FlightRecorderEvents {
+    
+    /**
+     * Whether the jdk.jfr API is available in this JVM.
+     */
+    public static final boolean AVAILABLE = isAvailable();
+    
+    private FlightRecorderEvents() {}
+    
+    /**
+     * Starts an event for the simulation of a frame.
+     * 
+     * @return The event, or null if it is not recorded.
+     */
+    public static Object beginFrame() {
+        return AVAILABLE ? JfrEvents.beginFrame() : null;
+    }
+    
+    /**
+     * Commits an event for the simulation of a frame.
+     * 
+     * @param event The event returned by {@link #beginFrame()}.
+     * @param frame The index of the frame.
+     * @param emitters The number of simulated emitters.
+     * @param activeEmitters The number of emitters that emitted photons.
+     * @param stageNanos The durations of the stages in nanoseconds, in the
+     *                   order obstructors, dynamics, PSF, background, noise
+     *                   and conversion.
+     */
+    public static void commitFrame(Object event, long frame, int emitters,
+                                   int activeEmitters, long[] stageNanos) {
+        if (event != null) {
+            JfrEvents.commitFrame(event, frame, emitters, activeEmitters,
+                                  stageNanos);
+        }
+    }
+    
+    /**
+     * Starts an event for the computation of a plane of a PSF.
+     * 
+     * @return The event, or null if it is not recorded.
+     */
+    public static Object beginPsfPlane() {
+        return AVAILABLE ? JfrEvents.beginPsfPlane() : null;
+    }
+    
+    /**
+     * Commits an event for the computation of a plane of a PSF.
+     * 
+     * @param event The event returned by {@link #beginPsfPlane()}.
+     * @param model The name of the PSF model.
+     * @param zPlane The axial position of the plane.
+     * @param sizeX The number of samples of the PSF in x.
+     * @param sizeY The number of samples of the PSF in y.
+     */
+    public static void commitPsfPlane(Object event, String model,
+                                      double zPlane, int sizeX, int sizeY) {
+        if (event != null) {
+            JfrEvents.commitPsfPlane(event, model, zPlane, sizeX, sizeY);
+        }
+    }
+    
+    /**
+     * Starts an event for the creation of a population of fluorophores.
+     * 
+     * @return The event, or null if it is not recorded.
+     */
+    public static Object beginFluorophoreGeneration() {
+        return AVAILABLE ? JfrEvents.beginFluorophoreGeneration() : null;
+    }
+    
+    /**
+     * Commits an event for the creation of a population of fluorophores.
+     * 
+     * @param event The event returned by
+     *              {@link #beginFluorophoreGeneration()}.
+     * @param layout How the fluorophores are positioned, e.g. "Grid2D".
+     * @param fluorophores The number of fluorophores that were created.
+     */
+    public static void commitFluorophoreGeneration(Object event, String layout,
+                                                   int fluorophores) {
+        if (event != null) {
+            JfrEvents.commitFluorophoreGeneration(event, layout, fluorophores);
+        }
+    }
+    
+    /**
+     * Starts an event for a remote procedure call.
+     * 
+     * @return The event, or null if it is not recorded.
+     */
+    public static Object beginRemoteCall() {
+        return AVAILABLE ? JfrEvents.beginRemoteCall() : null;
+    }
+    
+    /**
+     * Commits an event for a remote procedure call.
+     * 
+     * @param event The event returned by {@link #beginRemoteCall()}.
+     * @param method The name of the method that was called.
+     * @param simulationId The ID of the simulation, or -1 if none was given.
+     * @param payloadBytes The number of bytes of strings and binary data
+     *                     that were sent to the client.
+     */
+    public static void commitRemoteCall(Object event, String method,
+                                        int simulationId, long payloadBytes) {
+        if (event != null) {
+            JfrEvents.commitRemoteCall(event, method, simulationId,
+                                       payloadBytes);
+        }
+    }
+    
+    /**
+     * Checks whether the jdk.jfr API can be used.
+     */
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return false;
+        }
+    }
+}
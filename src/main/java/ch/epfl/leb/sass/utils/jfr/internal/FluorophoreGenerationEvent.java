@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The creation of a population of fluorophores.
+ */
+@Name("ch.epfl.leb.sass.FluorophoreGeneration")
+@Label("Fluorophore Generation")
+@Category({"SASS", "Simulation"})
+@Description("The creation of a population of fluorophores and their PSFs.")
+class FluorophoreGenerationEvent extends Event {
+    
+    @Label("Layout")
+    @Description("How the fluorophores are positioned.")
+    String layout;
+    
+    @Label("Fluorophores")
+    int fluorophores;
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * The simulation of one camera frame by a Microscope.
+ */
+@Name("ch.epfl.leb.sass.Frame")
+@Label("Frame Simulation")
+@Category({"SASS", "Simulation"})
+@Description("The simulation of one camera frame.")
+@StackTrace(false)
+class FrameEvent extends Event {
+    
+    @Label("Frame")
+    @Description("The index of the frame within the simulation.")
+    long frame;
+    
+    @Label("Emitters")
+    int emitters;
+    
+    @Label("Active Emitters")
+    @Description("The number of emitters that emitted photons.")
+    int activeEmitters;
+    
+    @Label("Obstructors")
+    @Timespan(Timespan.NANOSECONDS)
+    long obstructors;
+    
+    @Label("Dynamics")
+    @Timespan(Timespan.NANOSECONDS)
+    long dynamics;
+    
+    @Label("PSF Rendering")
+    @Timespan(Timespan.NANOSECONDS)
+    long psf;
+    
+    @Label("Background")
+    @Timespan(Timespan.NANOSECONDS)
+    long background;
+    
+    @Label("Noise")
+    @Timespan(Timespan.NANOSECONDS)
+    long noise;
+    
+    @Label("Conversion")
+    @Timespan(Timespan.NANOSECONDS)
+    long conversion;
+}
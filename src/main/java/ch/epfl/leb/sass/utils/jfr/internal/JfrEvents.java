@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.jfr.internal;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Creates and commits the flight recorder events.
+ * 
+ * This is the only class that is called from outside of this package. It
+ * must only be used when the jdk.jfr API is available.
+ * 
+ * Events are only created while a recording is running. Whether one is
+ * running is tracked by a listener on the flight recorder, so that the
+ * begin methods only read a flag otherwise.
+ * 
+ * @see ch.epfl.leb.sass.utils.jfr.FlightRecorderEvents
+ */
+public final class JfrEvents {
+    
+    /**
+     * Whether a recording is running.
+     */
+    private static volatile boolean recording;
+    
+    static {
+        try {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recordingStateChanged(Recording r) {
+                    updateRecording();
+                }
+            });
+        } catch (SecurityException ex) {
+            // Without the listener, assume that a recording may be running.
+            recording = true;
+        }
+        updateRecording();
+    }
+    
+    private JfrEvents() {}
+    
+    /**
+     * Checks whether any recording is running.
+     * 
+     * The flight recorder is not initialized by this check, so that it is
+     * not started in JVMs that never record.
+     */
+    private static synchronized void updateRecording() {
+        if (!FlightRecorder.isInitialized()) {
+            return;
+        }
+        boolean running = false;
+        for (Recording r : FlightRecorder.getFlightRecorder().getRecordings()) {
+            if (r.getState() == RecordingState.RUNNING) {
+                running = true;
+                break;
+            }
+        }
+        recording = running;
+    }
+    
+    public static Object beginFrame() {
+        if (!recording) {
+            return null;
+        }
+        FrameEvent event = new FrameEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+    
+    public static void commitFrame(Object e, long frame, int emitters,
+                                   int activeEmitters, long[] stageNanos) {
+        FrameEvent event = (FrameEvent) e;
+        event.end();
+        if (event.shouldCommit()) {
+            event.frame = frame;
+            event.emitters = emitters;
+            event.activeEmitters = activeEmitters;
+            event.obstructors = stageNanos[0];
+            event.dynamics = stageNanos[1];
+            event.psf = stageNanos[2];
+            event.background = stageNanos[3];
+            event.noise = stageNanos[4];
+            event.conversion = stageNanos[5];
+            event.commit();
+        }
+    }
+    
+    public static Object beginPsfPlane() {
+        if (!recording) {
+            return null;
+        }
+        PsfPlaneEvent event = new PsfPlaneEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+    
+    public static void commitPsfPlane(Object e, String model, double zPlane,
+                                      int sizeX, int sizeY) {
+        PsfPlaneEvent event = (PsfPlaneEvent) e;
+        event.end();
+        if (event.shouldCommit()) {
+            event.model = model;
+            event.zPlane = zPlane;
+            event.sizeX = sizeX;
+            event.sizeY = sizeY;
+            event.commit();
+        }
+    }
+    
+    public static Object beginFluorophoreGeneration() {
+        if (!recording) {
+            return null;
+        }
+        FluorophoreGenerationEvent event = new FluorophoreGenerationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+    
+    public static void commitFluorophoreGeneration(Object e, String layout,
+                                                   int fluorophores) {
+        FluorophoreGenerationEvent event = (FluorophoreGenerationEvent) e;
+        event.end();
+        if (event.shouldCommit()) {
+            event.layout = layout;
+            event.fluorophores = fluorophores;
+            event.commit();
+        }
+    }
+    
+    public static Object beginRemoteCall() {
+        if (!recording) {
+            return null;
+        }
+        RemoteCallEvent event = new RemoteCallEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+    
+    public static void commitRemoteCall(Object e, String method,
+                                        int simulationId, long payloadBytes) {
+        RemoteCallEvent event = (RemoteCallEvent) e;
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.simulationId = simulationId;
+            event.payloadBytes = payloadBytes;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The computation of one axial plane of a PSF.
+ */
+@Name("ch.epfl.leb.sass.PsfPlane")
+@Label("PSF Plane Computation")
+@Category({"SASS", "PSF"})
+@Description("The computation of one axial plane of a PSF.")
+class PsfPlaneEvent extends Event {
+    
+    @Label("Model")
+    String model;
+    
+    @Label("Z Plane")
+    @Description("The axial position of the plane.")
+    double zPlane;
+    
+    @Label("Size X")
+    int sizeX;
+    
+    @Label("Size Y")
+    int sizeY;
+}
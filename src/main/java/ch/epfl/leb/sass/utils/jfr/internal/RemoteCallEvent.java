@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.jfr.internal;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A call to the RPC server.
+ */
+@Name("ch.epfl.leb.sass.RemoteCall")
+@Label("Remote Call")
+@Category({"SASS", "RPC"})
+@Description("A call to the remote simulation service.")
+@StackTrace(false)
+class RemoteCallEvent extends Event {
+    
+    @Label("Method")
+    String method;
+    
+    @Label("Simulation ID")
+    @Description("The ID of the simulation, or -1 if none was given.")
+    int simulationId;
+    
+    @Label("Payload")
+    @Description("The size of the strings and binary data sent to the client.")
+    @DataAmount(DataAmount.BYTES)
+    long payloadBytes;
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.metrics;
+
+import com.google.gson.JsonObject;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A histogram of latencies with a fixed memory footprint.
+ * 
+ * Latencies are recorded in nanoseconds into logarithmically-spaced buckets.
+ * Each power of two is split into four sub-buckets, so percentiles are
+ * accurate to within about 12%. Recording a value costs a few arithmetic
+ * operations and no allocation.
+ */
+public final class LatencyHistogram implements Serializable {
+    
+    /**
+     * The number of bits used to split each power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 2;
+    
+    /**
+     * The number of sub-buckets per power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    
+    private final long[] counts = new long[64 * SUB_BUCKETS];
+    private long count = 0;
+    private long sum = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+    
+    /**
+     * Adds a latency to the histogram.
+     * 
+     * @param nanos The latency in nanoseconds. Negative values are ignored.
+     */
+    public synchronized void record(long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+        counts[bucketIndex(nanos)]++;
+        count++;
+        sum += nanos;
+        if (nanos < min) {
+            min = nanos;
+        }
+        if (nanos > max) {
+            max = nanos;
+        }
+    }
+    
+    /**
+     * Removes all recorded latencies.
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+    
+    /**
+     * Returns the number of recorded latencies.
+     * 
+     * @return The number of recorded latencies.
+     */
+    public synchronized long getCount() {
+        return count;
+    }
+    
+    /**
+     * Returns the sum of all recorded latencies.
+     * 
+     * @return The total time in nanoseconds.
+     */
+    public synchronized long getTotalNanos() {
+        return sum;
+    }
+    
+    /**
+     * Returns the mean of the recorded latencies.
+     * 
+     * @return The mean latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public synchronized double getMeanNanos() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+    
+    /**
+     * Returns the smallest recorded latency.
+     * 
+     * @return The minimum latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public synchronized long getMinNanos() {
+        return count == 0 ? 0 : min;
+    }
+    
+    /**
+     * Returns the largest recorded latency.
+     * 
+     * @return The maximum latency in nanoseconds.
+     */
+    public synchronized long getMaxNanos() {
+        return max;
+    }
+    
+    /**
+     * Estimates a percentile of the recorded latencies.
+     * 
+     * @param percentile The percentile between 0 and 100.
+     * @return The estimated latency in nanoseconds, or 0 if nothing was
+     *         recorded.
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if ((percentile < 0) || (percentile > 100)) {
+            throw new IllegalArgumentException(
+                    "The percentile must lie between 0 and 100.");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        if (rank == count) {
+            return max;
+        }
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long value = bucketLowerBound(i) + (bucketWidth(i) - 1) / 2;
+                return Math.max(min, Math.min(max, value));
+            }
+        }
+        return max;
+    }
+    
+    /**
+     * Returns a summary of the histogram in microseconds.
+     * 
+     * @return The count, total, mean, min, max and the 50th, 90th and 99th
+     *         percentiles of the latencies.
+     */
+    public synchronized JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("count", count);
+        json.addProperty("totalMicros", sum / 1e3);
+        json.addProperty("meanMicros", getMeanNanos() / 1e3);
+        json.addProperty("minMicros", getMinNanos() / 1e3);
+        json.addProperty("p50Micros", getPercentileNanos(50) / 1e3);
+        json.addProperty("p90Micros", getPercentileNanos(90) / 1e3);
+        json.addProperty("p99Micros", getPercentileNanos(99) / 1e3);
+        json.addProperty("maxMicros", max / 1e3);
+        return json;
+    }
+    
+    /**
+     * Returns the index of the bucket that contains a value.
+     * 
+     * Values below 8 have their own buckets; larger values share a bucket
+     * with those that have the same three most significant bits.
+     * 
+     * @param value A non-negative value.
+     * @return The index of the bucket.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (msb - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((msb - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | sub;
+    }
+    
+    /**
+     * Returns the smallest value that belongs to a bucket.
+     * 
+     * @param index The index of the bucket.
+     * @return The smallest value in the bucket.
+     */
+    static long bucketLowerBound(int index) {
+        int group = index >>> SUB_BUCKET_BITS;
+        long sub = index & (SUB_BUCKETS - 1);
+        if (group == 0) {
+            return sub;
+        }
+        int msb = group + SUB_BUCKET_BITS - 1;
+        return (1L << msb) | (sub << (msb - SUB_BUCKET_BITS));
+    }
+    
+    /**
+     * Returns the number of values that belong to a bucket.
+     * 
+     * @param index The index of the bucket.
+     * @return The width of the bucket.
+     */
+    static long bucketWidth(int index) {
+        int group = index >>> SUB_BUCKET_BITS;
+        if (group <= 1) {
+            return 1;
+        }
+        return 1L << (group - 1);
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.metrics;
+
+import com.google.gson.JsonObject;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects timing and throughput statistics of a running simulation.
+ * 
+ * The time spent in each stage of the frame generation is recorded in a
+ * {@link LatencyHistogram}. Callers should check {@link #isEnabled()} before
+ * reading the clock so that disabled metrics cost nothing more than a field
+ * read.
+ * 
+ * Metrics may be read from a different thread than the one that records
+ * them, e.g. by the RPC server.
+ */
+public final class SimulationMetrics implements Serializable {
+    
+    /**
+     * The stages of the generation of a frame.
+     */
+    public enum Stage {
+        /** Drawing the obstructors, e.g. fiducials. */
+        OBSTRUCTORS,
+        /** Simulating the photophysics of the fluorophores. */
+        DYNAMICS,
+        /** Rendering the fluorophores' PSFs onto the image. */
+        PSF,
+        /** Generating the background signal. */
+        BACKGROUND,
+        /**
+         * Reading out the sensor: adding the background, binning, adding
+         * shot, readout and thermal noise and converting to ADU.
+         */
+        NOISE,
+        /** Creation of the image. */
+        CONVERSION,
+        /** Appending the frame to the simulator's stack. */
+        STORAGE,
+        /** Serializing the frame for transfer to a client. */
+        SERIALIZATION,
+        /** Processing of the frame by an analyzer. */
+        ANALYSIS,
+        /** The whole frame, as returned by the microscope. */
+        FRAME
+    }
+    
+    private volatile boolean enabled = true;
+    
+    private final LatencyHistogram[] histograms =
+            new LatencyHistogram[Stage.values().length];
+    
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong emitters = new AtomicLong();
+    private final AtomicLong transitions = new AtomicLong();
+    
+    /**
+     * The clock time of the first and last frames in nanoseconds.
+     */
+    private volatile long firstFrameNanos;
+    private volatile long lastFrameNanos;
+    
+    public SimulationMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+    
+    /**
+     * Indicates whether metrics are being recorded.
+     * 
+     * @return True if metrics are recorded.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Turns the recording of metrics on or off.
+     * 
+     * @param enabled Whether metrics should be recorded.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    /**
+     * Records the time spent in a stage.
+     * 
+     * @param stage The stage of the frame generation.
+     * @param nanos The time spent in the stage in nanoseconds.
+     */
+    public void record(Stage stage, long nanos) {
+        histograms[stage.ordinal()].record(nanos);
+    }
+    
+    /**
+     * Records the time elapsed since the given clock time.
+     * 
+     * This is convenient for timing successive stages:
+     * {@code t = metrics.lap(Stage.NOISE, t);}
+     * 
+     * @param stage The stage of the frame generation.
+     * @param since The value of {@link System#nanoTime()} at the start of
+     *              the stage.
+     * @return The current value of {@link System#nanoTime()}.
+     */
+    public long lap(Stage stage, long since) {
+        long now = System.nanoTime();
+        record(stage, now - since);
+        return now;
+    }
+    
+    /**
+     * Counts a completed frame.
+     * 
+     * @param numEmitters The number of emitters that were simulated.
+     */
+    public void addFrame(int numEmitters) {
+        long now = System.nanoTime();
+        if (frames.getAndIncrement() == 0) {
+            firstFrameNanos = now;
+        }
+        lastFrameNanos = now;
+        emitters.addAndGet(numEmitters);
+    }
+    
+    /**
+     * Counts fluorophore state transitions.
+     * 
+     * @param numTransitions The number of transitions.
+     */
+    public void addTransitions(long numTransitions) {
+        transitions.addAndGet(numTransitions);
+    }
+    
+    /**
+     * Returns the latency histogram of a stage.
+     * 
+     * @param stage The stage of the frame generation.
+     * @return The histogram of the time spent in the stage.
+     */
+    public LatencyHistogram getHistogram(Stage stage) {
+        return histograms[stage.ordinal()];
+    }
+    
+    /**
+     * Returns the number of frames that were simulated.
+     * 
+     * @return The number of frames.
+     */
+    public long getFrameCount() {
+        return frames.get();
+    }
+    
+    /**
+     * Returns the total number of emitters that were simulated.
+     * 
+     * @return The number of emitters summed over all frames.
+     */
+    public long getEmitterCount() {
+        return emitters.get();
+    }
+    
+    /**
+     * Returns the number of fluorophore state transitions.
+     * 
+     * @return The number of state transitions.
+     */
+    public long getTransitionCount() {
+        return transitions.get();
+    }
+    
+    /**
+     * Returns the simulation throughput.
+     * 
+     * This only accounts for the time spent in the microscope, not the time
+     * that the simulation spends waiting for requests.
+     * 
+     * @return The number of frames per second of simulation time.
+     */
+    public double getFramesPerSecond() {
+        return perSecond(frames.get());
+    }
+    
+    /**
+     * Returns the rate of fluorophore state transitions.
+     * 
+     * @return The number of transitions per second of simulation time.
+     */
+    public double getTransitionsPerSecond() {
+        return perSecond(transitions.get());
+    }
+    
+    /**
+     * Returns the rate at which emitters are simulated.
+     * 
+     * @return The number of emitters per second of simulation time.
+     */
+    public double getEmittersPerSecond() {
+        return perSecond(emitters.get());
+    }
+    
+    /**
+     * Returns the rate at which frames were produced.
+     * 
+     * Unlike {@link #getFramesPerSecond()}, this includes the time spent
+     * outside of the microscope between the first and the last frame.
+     * 
+     * @return The number of frames per second of clock time.
+     */
+    public double getWallClockFramesPerSecond() {
+        long n = frames.get();
+        long elapsed = lastFrameNanos - firstFrameNanos;
+        if ((n < 2) || (elapsed <= 0)) {
+            return 0;
+        }
+        return (n - 1) / (elapsed / 1e9);
+    }
+    
+    /**
+     * Removes all recorded metrics.
+     */
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        frames.set(0);
+        emitters.set(0);
+        transitions.set(0);
+        firstFrameNanos = 0;
+        lastFrameNanos = 0;
+    }
+    
+    /**
+     * Returns the metrics as a JSON object.
+     * 
+     * @return The counters, rates and the latency histogram of each stage.
+     */
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("enabled", enabled);
+        json.addProperty("frames", getFrameCount());
+        json.addProperty("emitters", getEmitterCount());
+        json.addProperty("transitions", getTransitionCount());
+        json.addProperty("framesPerSecond", getFramesPerSecond());
+        json.addProperty("wallClockFramesPerSecond",
+                         getWallClockFramesPerSecond());
+        json.addProperty("emittersPerSecond", getEmittersPerSecond());
+        json.addProperty("transitionsPerSecond", getTransitionsPerSecond());
+        
+        JsonObject stages = new JsonObject();
+        for (Stage stage : Stage.values()) {
+            stages.add(stage.name(), getHistogram(stage).toJson());
+        }
+        json.add("stages", stages);
+        return json;
+    }
+    
+    /**
+     * Divides a count by the total time spent generating frames.
+     */
+    private double perSecond(long n) {
+        long nanos = getHistogram(Stage.FRAME).getTotalNanos();
+        return nanos == 0 ? 0 : n / (nanos / 1e9);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.commandline;
+
+import ch.epfl.leb.sass.IntegrationTest;
+import ch.epfl.leb.sass.ijplugin.IJPluginModel;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ * Integration tests for the BatchRunner class.
+ */
+@Category(IntegrationTest.class)
+public class BatchRunnerIT {
+
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+
+    /**
+     * The file containing the base model of the sweep.
+     */
+    private File modelFile;
+
+    /**
+     * Saves a small simulation model to a temporary file.
+     */
+    @Before
+    public void setUp() throws Exception {
+        IJPluginModel model = new IJPluginModel();
+        model.setCameraNX(16);
+        model.setCameraNY(16);
+        model.setCameraReadoutNoise(1.6);
+        model.setCameraDarkCurrent(0.06);
+        model.setCameraQuantumEfficiency(0.8);
+        model.setCameraAduPerElectron(2.2);
+        model.setCameraEmGain(0);
+        model.setCameraBaseline(100);
+        model.setCameraPixelSize(6.45);
+        model.setCameraThermalNoise(0.05);
+        model.setObjectiveNa(1.3);
+        model.setObjectiveMag(60);
+
+        model.setFluorophoreSimpleText("Simple");
+        model.setFluorophorePalmText("PALM");
+        model.setFluorophoreStormText("STORM");
+        model.setFluorophoreCurrentSelection("Simple");
+        model.setFluorophoreSignal(2500);
+        model.setFluorophoreWavelength(0.6);
+        model.setFluorophoreTOn(3);
+        model.setFluorophoreTOff(100);
+        model.setFluorophoreTBl(10000);
+
+        model.setLaserMinPower(0);
+        model.setLaserMaxPower(500);
+        model.setLaserCurrentPower(1);
+        model.setStageZ(0);
+
+        model.setEmittersRandomButtonText("Random");
+        model.setEmittersGridButtonText("Grid");
+        model.setEmittersCsvFileButtonText("CSV");
+        model.setEmittersCurrentSelection("Random");
+        model.setEmittersRandomNumber(20);
+        model.setEmitters3DCheckBoxEnabled(false);
+        model.setFiducialsNumber(0);
+        model.setFiducialsSignal(0);
+
+        model.setBackgroundUniformButtonText("Uniform");
+        model.setBackgroundRandomButtonText("Random");
+        model.setBackgroundTifFileButtonText("Tif");
+        model.setBackgroundCurrentSelection("Uniform");
+        model.setBackgroundUniformSignal(10);
+
+        model.setPsfGaussian2dText("Gaussian 2D");
+        model.setPsfGaussian3dText("Gaussian 3D");
+        model.setPsfGibsonLanniText("Gibson-Lanni");
+        model.setPsfCurrentSelection("Gaussian 2D");
+
+        modelFile = tempDir.newFile("model.sass");
+        model.write(new FileOutputStream(modelFile));
+    }
+
+    /**
+     * Creates a sweep over the laser power with two repeated values.
+     */
+    private JsonObject createSpec(int threads) {
+        JsonArray powers = new JsonArray();
+        powers.add(new JsonPrimitive(0.5));
+        powers.add(new JsonPrimitive(2.0));
+        JsonArray numbers = new JsonArray();
+        numbers.add(new JsonPrimitive(10));
+        numbers.add(new JsonPrimitive(30));
+
+        JsonObject params = new JsonObject();
+        params.add("laserCurrentPower", powers);
+        params.add("emittersRandomNumber", numbers);
+
+        JsonObject spec = new JsonObject();
+        spec.addProperty("model", modelFile.getName());
+        spec.addProperty("frames", 5);
+        spec.addProperty("threads", threads);
+        spec.addProperty("seed", 7);
+        spec.addProperty("output", "out-" + threads);
+        spec.add("parameters", params);
+        return spec;
+    }
+
+    /**
+     * Test of run method, of class BatchRunner.
+     */
+    @Test
+    public void testRun() throws Exception {
+        BatchRunner runner = new BatchRunner(createSpec(4), tempDir.getRoot());
+        assertEquals(4, runner.getNumRuns());
+
+        ByteArrayOutputStream log = new ByteArrayOutputStream();
+        int failed = runner.run(new PrintStream(log, true));
+        assertEquals(0, failed);
+        assertTrue(log.toString().contains("frames/s"));
+
+        File out = new File(tempDir.getRoot(), "out-4");
+        for (int i = 0; i < 4; i++) {
+            File raw = new File(out, String.format("run-%04d.raw", i));
+            File json = new File(out, String.format("run-%04d.json", i));
+            assertTrue(json.isFile());
+            assertEquals(5 * 16 * 16 * 2, raw.length());
+        }
+    }
+
+    /**
+     * The outputs must not depend on the number of worker threads.
+     */
+    @Test
+    public void testRunIsReproducible() throws Exception {
+        new BatchRunner(createSpec(1), tempDir.getRoot())
+                .run(new PrintStream(new ByteArrayOutputStream()));
+        new BatchRunner(createSpec(4), tempDir.getRoot())
+                .run(new PrintStream(new ByteArrayOutputStream()));
+
+        for (int i = 0; i < 4; i++) {
+            String name = String.format("run-%04d.raw", i);
+            byte[] serial = Files.readAllBytes(
+                    new File(tempDir.getRoot(), "out-1/" + name).toPath());
+            byte[] parallel = Files.readAllBytes(
+                    new File(tempDir.getRoot(), "out-4/" + name).toPath());
+            assertTrue(Arrays.equals(serial, parallel));
+        }
+    }
+
+    /**
+     * Unknown parameters are rejected before anything is simulated.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownParameter() throws Exception {
+        JsonObject spec = createSpec(1);
+        spec.getAsJsonObject("parameters")
+            .add("notAParameter", new JsonPrimitive(1));
+        new BatchRunner(spec, tempDir.getRoot());
+    }
+}
@@ -20,12 +20,20 @@ package ch.epfl.leb.sass.models;
 import ch.epfl.leb.sass.models.components.internal.DefaultObjective;
 import ch.epfl.leb.sass.models.components.internal.DefaultStage;
 import ch.epfl.leb.sass.models.components.internal.DefaultLaser;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
 import ch.epfl.leb.sass.models.components.internal.DefaultCamera;
 import ch.epfl.leb.sass.IntegrationTest;
+import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter;
+import ch.epfl.leb.sass.models.psfs.PSF;
 import ch.epfl.leb.sass.models.psfs.internal.Gaussian2D;
+import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
+import ch.epfl.leb.sass.models.fluorophores.FluorophoreStatistics;
 import ch.epfl.leb.sass.models.photophysics.internal.PalmDynamics;
+import ch.epfl.leb.sass.models.fluorophores.commands.FluorophoreCommandBuilder;
 import ch.epfl.leb.sass.models.fluorophores.commands.internal
                                                     .GenerateFluorophoresGrid2D;
+import ch.epfl.leb.sass.models.fluorophores.commands.internal
+                                            .GenerateFluorophorePopulations2D;
 import ch.epfl.leb.sass.models.obstructors.internal.commands
                                                    .GenerateFiducialsRandom2D;
 import ch.epfl.leb.sass.models.backgrounds.internal.commands
@@ -34,12 +42,17 @@ import ch.epfl.leb.sass.models.illuminations.internal.SquareUniformIllumination;
 import ch.epfl.leb.sass.models.samples.RefractiveIndex;
 import ch.epfl.leb.sass.models.samples.internal.UniformRefractiveIndex;
 import ch.epfl.leb.sass.utils.RNG;
+import ch.epfl.leb.sass.utils.images.ImageS;
+import ch.epfl.leb.sass.utils.metrics.SimulationMetrics;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonArray;
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 
+import java.util.Arrays;
+import java.util.EnumSet;
+
 import org.junit.Test;
 import org.junit.Before;
 import org.junit.experimental.categories.Category;
@@ -74,9 +87,14 @@ public class MicroscopeIT {
             return;
         }
         
-        // The seed determines the outputs of the random number generator.
-        RNG.setSeed(42);
-        
+        microscope = createMicroscope(createCameraBuilder());
+        setupIsDone = true;
+    }
+    
+    /**
+     * Creates the builder of the camera of the test microscope.
+     */
+    private static DefaultCamera.Builder createCameraBuilder() {
         DefaultCamera.Builder cameraBuilder = new DefaultCamera.Builder();
 
         cameraBuilder.nX(32); // Number of pixels in x
@@ -89,6 +107,30 @@ public class MicroscopeIT {
         cameraBuilder.baseline(100);   // ADU
         cameraBuilder.pixelSize(6.45); // microns
         cameraBuilder.thermalNoise(0.05); // electrons/frame/pixel
+        return cameraBuilder;
+    }
+    
+    /**
+     * Assembles the test microscope around a camera.
+     */
+    private static Microscope createMicroscope(
+            DefaultCamera.Builder cameraBuilder) {
+        // Fluorophore positions on a square grid
+        GenerateFluorophoresGrid2D.Builder fluorPosBuilder = 
+                new GenerateFluorophoresGrid2D.Builder();
+        fluorPosBuilder.spacing(4); // pixels
+        
+        return createMicroscope(cameraBuilder, fluorPosBuilder);
+    }
+    
+    /**
+     * Assembles the test microscope around a camera and fluorophores.
+     */
+    private static Microscope createMicroscope(
+            DefaultCamera.Builder cameraBuilder,
+            FluorophoreCommandBuilder fluorPosBuilder) {
+        // The seed determines the outputs of the random number generator.
+        RNG.setSeed(42);
 
         // DefaultObjective
         DefaultObjective.Builder objectiveBuilder = 
@@ -137,11 +179,6 @@ public class MicroscopeIT {
         fluorPropBuilder.kR1(0.004);   // Return rate from first dark state
         fluorPropBuilder.kR2(0.157);   // Return rate from second dark state
 
-        // Fluorophore positions on a square grid
-        GenerateFluorophoresGrid2D.Builder fluorPosBuilder = 
-                new GenerateFluorophoresGrid2D.Builder();
-        fluorPosBuilder.spacing(4); // pixels
-		
         // Add fiducials to the field of view at a random location
         GenerateFiducialsRandom2D.Builder fidBuilder = 
                 new GenerateFiducialsRandom2D.Builder();
@@ -154,7 +191,7 @@ public class MicroscopeIT {
         backgroundBuilder.backgroundSignal(10); // photons
 
         // Assemble the microscope.
-        microscope = new Microscope(
+        return new Microscope(
             cameraBuilder,
             laserBuilder,
             objectiveBuilder,
@@ -165,8 +202,6 @@ public class MicroscopeIT {
             fidBuilder,
             backgroundBuilder,
             illumBuilder);
-        
-        setupIsDone = true;
     }
     
     /**
@@ -224,6 +259,29 @@ public class MicroscopeIT {
         assertEquals(0.42, microscope.getLaserPower(), 0.0);
     }
 
+    /**
+     * Test of setLaserSchedule method, of class Microscope.
+     */
+    @Test
+    public void testSetLaserSchedule() {
+        System.out.println("setLaserSchedule");
+        LaserSchedule schedule = new LaserSchedule(
+                new double[] {0.5, 1.0}, new double[] {2.0, 0.1}, true);
+        microscope.setLaserSchedule(schedule);
+        assertEquals(2.0, microscope.getLaserPower(), 0.0);
+        microscope.simulateFrame();
+        assertEquals(0.1, microscope.getLaserPower(), 0.0);
+        microscope.simulateFrame();
+        microscope.simulateFrame();
+        assertEquals(2.0, microscope.getLaserPower(), 0.0);
+        
+        // Setting the laser power removes the schedule.
+        microscope.setLaserPower(0.42);
+        assertNull(microscope.getLaserSchedule());
+        assertEquals(0.42, microscope.getLaserPower(), 0.0);
+        microscope.simulateFrame();
+    }
+    
     /**
      * Test of getOnEmitterCount method, of class Microscope.
      */
@@ -234,6 +292,339 @@ public class MicroscopeIT {
         assert(result >= 0);
     }
 
+    /**
+     * Test of getFluorophoresInRegion method, of class Microscope.
+     */
+    @Test
+    public void testGetFluorophoresInRegion() {
+        System.out.println("getFluorophoresInRegion");
+        // The whole sample
+        assertEquals(microscope.getFluorophores().size(),
+                     microscope.getFluorophoresInRegion(
+                             -100, -100, 100, 100).size());
+        
+        int count = 0;
+        for (Fluorophore f: microscope.getFluorophores()) {
+            if (f.getX() >= 8 && f.getX() < 16 && f.getY() >= 0
+                    && f.getY() < 24) {
+                count++;
+            }
+        }
+        assertEquals(count,
+                     microscope.getFluorophoresInRegion(8, 0, 16, 24).size());
+        assertEquals(microscope.getOnEmitterCount(),
+                     microscope.getOnEmitterCount(-100, -100, 100, 100), 0.0);
+    }
+
+    /**
+     * Frames are only simulated inside the camera's region of interest.
+     */
+    @Test
+    public void testSimulateFrameRoiAndBinning() {
+        System.out.println("simulateFrameRoiAndBinning");
+        
+        // Reading out the whole sensor explicitly gives the same frames.
+        DefaultCamera.Builder cameraBuilder = createCameraBuilder();
+        Microscope full = createMicroscope(cameraBuilder);
+        short[] expected = full.simulateFrame().getPixelData(0);
+        cameraBuilder.roi(0, 0, 32, 32);
+        Microscope roi = createMicroscope(cameraBuilder);
+        assertArrayEquals(expected, roi.simulateFrame().getPixelData(0));
+        
+        cameraBuilder.roi(8, 4, 16, 24).binning(2);
+        Microscope binned = createMicroscope(cameraBuilder);
+        assertArrayEquals(new int[] {8, 12}, binned.getResolution());
+        assertEquals(49, binned.getFluorophores().size());
+        
+        ImageS frame = binned.simulateFrame();
+        assertEquals(8, frame.getWidth());
+        assertEquals(12, frame.getHeight());
+    }
+
+    /**
+     * The fluorophores that are drawn in the region of interest follow the
+     * stage.
+     */
+    @Test
+    public void testSimulateFrameRoiAndStage() {
+        System.out.println("simulateFrameRoiAndStage");
+        DefaultCamera.Builder cameraBuilder = createCameraBuilder();
+        cameraBuilder.roi(8, 8, 16, 16);
+        Microscope unmoved = createMicroscope(cameraBuilder);
+        short[] expected = unmoved.simulateFrame().getPixelData(0);
+        
+        // Moving the stage by whole pixels moves the images with it.
+        cameraBuilder.roi(16, 16, 16, 16);
+        Microscope moved = createMicroscope(cameraBuilder);
+        double pixelSize = moved.getObjectSpacePixelSize();
+        moved.setStagePosition(8 * pixelSize, 8 * pixelSize, 0);
+        assertArrayEquals(expected, moved.simulateFrame().getPixelData(0));
+    }
+
+    /**
+     * Fluorophores far from the region of interest follow the stage only
+     * once the stage brings them near it.
+     */
+    @Test
+    public void testSimulateFrameRoiAndDeferredStage() {
+        System.out.println("simulateFrameRoiAndDeferredStage");
+        DefaultCamera.Builder cameraBuilder = createCameraBuilder();
+        cameraBuilder.roi(0, 0, 16, 16);
+        Microscope deferred = createMicroscope(cameraBuilder);
+        AbstractEmitter near = (AbstractEmitter)
+                deferred.getFluorophoresInRegion(4, 4, 5, 5).get(0);
+        AbstractEmitter far = (AbstractEmitter)
+                deferred.getFluorophoresInRegion(28, 28, 29, 29).get(0);
+        PSF nearPSF = near.getPSF();
+        PSF farPSF = far.getPSF();
+        
+        double pixelSize = deferred.getObjectSpacePixelSize();
+        deferred.setStagePosition(0.5 * pixelSize, 0, 0);
+        deferred.simulateFrame();
+        assertNotSame(nearPSF, near.getPSF());
+        assertSame(farPSF, far.getPSF());
+        
+        // The far fluorophores are moved when they reach the region.
+        deferred.setStagePosition(-8.25 * pixelSize, -8.25 * pixelSize, 0);
+        short[] result = deferred.simulateFrame().getPixelData(0);
+        assertNotSame(farPSF, far.getPSF());
+        
+        Microscope direct = createMicroscope(cameraBuilder);
+        direct.simulateFrame();
+        direct.setStagePosition(-8.25 * pixelSize, -8.25 * pixelSize, 0);
+        assertArrayEquals(direct.simulateFrame().getPixelData(0), result);
+    }
+
+    /**
+     * Test of setStageTrajectory method, of class Microscope.
+     */
+    @Test
+    public void testSetStageTrajectory() {
+        System.out.println("setStageTrajectory");
+        Microscope instance = createMicroscope(createCameraBuilder());
+        instance.setStageTrajectory(new double[][] {{0.5, 0, 0}, {1.0, 0.2, 0}});
+        
+        // The stage moves when the frames are simulated.
+        assertArrayEquals(new double[] {0, 0, 0},
+                          instance.getStagePosition(), 0.0);
+        instance.simulateFrame();
+        assertArrayEquals(new double[] {0.5, 0, 0},
+                          instance.getStagePosition(), 0.0);
+        instance.simulateFrame();
+        assertArrayEquals(new double[] {1.0, 0.2, 0},
+                          instance.getStagePosition(), 0.0);
+        
+        // The stage stays at the last position of the trajectory.
+        instance.simulateFrame();
+        assertArrayEquals(new double[] {1.0, 0.2, 0},
+                          instance.getStagePosition(), 0.0);
+    }
+    
+    /**
+     * Test of advance method, of class Microscope.
+     */
+    @Test
+    public void testAdvance() {
+        System.out.println("advance");
+        Microscope instance = createMicroscope(createCameraBuilder());
+        instance.setStageTrajectory(new double[][] {{0.5, 0, 0}, {1.0, 0.2, 0}});
+        instance.getMetrics().reset();
+        
+        // The stage follows its trajectory, but no frame is rendered.
+        instance.advance(2);
+        assertArrayEquals(new double[] {1.0, 0.2, 0},
+                          instance.getStagePosition(), 0.0);
+        assertEquals(0, instance.getMetrics().getFrameCount());
+        
+        // The images of the emitters catch up with the stage.
+        ImageS image = instance.simulateFrame();
+        assertEquals(32, image.getWidth());
+        assertEquals(1, instance.getMetrics().getFrameCount());
+    }
+    
+    /**
+     * Returns the mean and variance of the pixels of a frame.
+     */
+    private static double[] meanAndVariance(short[] frame) {
+        double sum = 0, sumSquares = 0;
+        for (short value: frame) {
+            int adu = value & 0xffff;
+            sum += adu;
+            sumSquares += (double) adu * adu;
+        }
+        double mean = sum / frame.length;
+        return new double[] {mean, sumSquares / frame.length - mean * mean};
+    }
+    
+    /**
+     * The read out follows the noise model of the camera.
+     */
+    @Test
+    public void testReadOut() {
+        System.out.println("readOut");
+        float[][] image = new float[32][32];
+        for (float[] row: image) {
+            Arrays.fill(row, 100.0f);
+        }
+        
+        // Shot, readout and thermal noise without EM gain
+        short[] frame = microscope.readOut(image, null);
+        assertEquals(32 * 32, frame.length);
+        double[] stats = meanAndVariance(frame);
+        double electronVariance = 100 + 1.6 * 1.6 + 0.05 * 0.05;
+        assertEquals(100 * 2.2 + 100, stats[0], 3);
+        assertEquals(electronVariance * 2.2 * 2.2, stats[1], 100);
+        
+        // The EM gain doubles the variance of the shot noise.
+        DefaultCamera.Builder cameraBuilder = createCameraBuilder();
+        cameraBuilder.emGain(10);
+        Microscope emccd = createMicroscope(cameraBuilder);
+        stats = meanAndVariance(emccd.readOut(image, null));
+        assertEquals(1000 * 2.2 + 100, stats[0], 40);
+        double excessNoise = stats[1] / (2.2 * 2.2 * 100 * 10 * 10);
+        assertEquals(2.0, excessNoise, 0.4);
+        
+        // The background is added and bright pixels saturate.
+        float[][] background = new float[32][32];
+        background[3][5] = 1e6f;
+        frame = microscope.readOut(image, background);
+        assertEquals(65535, frame[5 * 32 + 3] & 0xffff);
+    }
+    
+    /**
+     * The statistics match a scan over the fluorophores.
+     */
+    @Test
+    public void testGetStatistics() {
+        System.out.println("getStatistics");
+        microscope.setLaserPower(1.0);
+        int region = microscope.addStatisticsRegion(0, 0, 16, 16);
+        FluorophoreStatistics statistics = microscope.getStatistics();
+        int first = statistics.getFrameCount();
+        for (int i = 0; i < 5; i++) {
+            microscope.simulateFrame();
+        }
+        microscope.advance(2);
+        
+        int on = 0;
+        long[] counts = new long[statistics.getNStates()];
+        for (Fluorophore f: microscope.getFluorophores()) {
+            on += f.getOnEmitterCount();
+            f.addStateCounts(counts, 1);
+        }
+        assertEquals(on, microscope.getOnEmitterCount(), 0.0);
+        for (int state = 0; state < counts.length; state++) {
+            assertEquals(counts[state], statistics.getStateCount(state));
+        }
+        assertEquals(microscope.getOnEmitterCount(0, 0, 16, 16),
+                     statistics.getRegionOnCount(region));
+        
+        assertEquals(first + 7, statistics.getFrameCount());
+        double photons = 0;
+        for (int frame = first; frame < first + 5; frame++) {
+            photons += statistics.getFramePhotons(frame);
+        }
+        assertTrue(photons > 0);
+        assertEquals(0, statistics.getFramePhotons(first + 6), 0.0);
+    }
+    
+    /**
+     * Test of initializeSteadyState method, of class Microscope.
+     */
+    @Test
+    public void testInitializeSteadyState() {
+        System.out.println("initializeSteadyState");
+        // The activated fluorophores mostly rest in the long-lived dark state.
+        microscope.setLaserPower(1.0);
+        microscope.initializeSteadyState();
+        int nOn = 0;
+        for (Fluorophore f: microscope.getFluorophores()) {
+            assertFalse(f.isBleached());
+            if (f.isOn()) nOn++;
+        }
+        assertTrue(nOn > 0);
+        assertTrue(nOn < microscope.getFluorophores().size() / 2);
+        
+        // No time at all leaves the fluorophores in their starting state.
+        microscope.initializeStates(0);
+        assertEquals(0, microscope.getOnEmitterCount(), 0.0);
+    }
+    
+    /**
+     * Moving the stage away and back gives the same frames as a microscope
+     * whose stage never moved.
+     */
+    @Test
+    public void testSetStagePosition() {
+        System.out.println("setStagePosition");
+        Microscope moved = createMicroscope(createCameraBuilder());
+        moved.setStagePosition(0.33, -0.71, 0.2);
+        assertArrayEquals(new double[] {0.33, -0.71, 0.2},
+                          moved.getStagePosition(), 0.0);
+        moved.setStagePosition(0, 0, 0);
+        short[] result = moved.simulateFrame().getPixelData(0);
+        
+        Microscope unmoved = createMicroscope(createCameraBuilder());
+        assertArrayEquals(unmoved.simulateFrame().getPixelData(0), result);
+    }
+    
+    /**
+     * Test of setStageTrajectory method with positions that are not in 3D.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetStageTrajectoryWrongDimensions() {
+        System.out.println("setStageTrajectoryWrongDimensions");
+        microscope.setStageTrajectory(new double[][] {{0.5, 0}});
+    }
+    
+    /**
+     * Test of simulateFrame method with a rolling shutter and a readout time.
+     */
+    @Test
+    public void testSimulateFrameRollingShutter() {
+        System.out.println("simulateFrameRollingShutter");
+        DefaultCamera.Builder cameraBuilder = createCameraBuilder();
+        cameraBuilder.timing(0.8, 0.4).lineTime(0.01);
+        Microscope rolling = createMicroscope(cameraBuilder);
+        
+        ImageS image = rolling.simulateFrame();
+        assertEquals(32, image.getWidth());
+        assertEquals(32, image.getHeight());
+    }
+    
+    /**
+     * Test of the constructor with fluorophore populations and a camera whose
+     * frames are not exposed for their whole duration.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testPopulationsRequireUnitFrames() {
+        System.out.println("populationsRequireUnitFrames");
+        DefaultCamera.Builder cameraBuilder = createCameraBuilder();
+        cameraBuilder.timing(0.8, 0.4);
+        GenerateFluorophorePopulations2D.Builder fluorBuilder
+                = new GenerateFluorophorePopulations2D.Builder();
+        fluorBuilder.numFluors(1000).cellSize(4);
+        
+        createMicroscope(cameraBuilder, fluorBuilder);
+    }
+    
+    /**
+     * Test of the constructor with fluorophore populations and a camera with
+     * the default frame timing.
+     */
+    @Test
+    public void testPopulationsWithUnitFrames() {
+        System.out.println("populationsWithUnitFrames");
+        GenerateFluorophorePopulations2D.Builder fluorBuilder
+                = new GenerateFluorophorePopulations2D.Builder();
+        fluorBuilder.numFluors(1000).cellSize(4);
+        Microscope populations
+                = createMicroscope(createCameraBuilder(), fluorBuilder);
+        
+        populations.simulateFrame();
+        populations.advance(2);
+    }
+    
     /**
      * Test of simulateFrame method, of class Microscope.
      */
@@ -316,4 +707,56 @@ public class MicroscopeIT {
         assertEquals(0.0, json.get("y").getAsDouble(), 0.0);
         assertEquals(0.0, json.get("z").getAsDouble(), 0.0);
     }
+    
+    /**
+     * Test of getMetrics method, of class Microscope.
+     */
+    @Test
+    public void testGetMetrics() {
+        System.out.println("getMetrics");
+        
+        SimulationMetrics metrics = microscope.getMetrics();
+        long frames = metrics.getFrameCount();
+        microscope.simulateFrame();
+        
+        assertEquals(frames + 1, metrics.getFrameCount());
+        for (SimulationMetrics.Stage stage : EnumSet.of(
+                SimulationMetrics.Stage.OBSTRUCTORS,
+                SimulationMetrics.Stage.DYNAMICS,
+                SimulationMetrics.Stage.PSF,
+                SimulationMetrics.Stage.BACKGROUND,
+                SimulationMetrics.Stage.NOISE,
+                SimulationMetrics.Stage.CONVERSION,
+                SimulationMetrics.Stage.FRAME)) {
+            assertEquals(frames + 1, metrics.getHistogram(stage).getCount());
+        }
+        assertTrue(metrics.getFramesPerSecond() > 0);
+        
+        // Disabled metrics are left untouched.
+        metrics.setEnabled(false);
+        microscope.simulateFrame();
+        metrics.setEnabled(true);
+        assertEquals(frames + 1, metrics.getFrameCount());
+    }
+    
+    /**
+     * Each microscope holds the footprints of its own emitters, so releasing
+     * them does not affect the frames of another microscope.
+     */
+    @Test
+    public void testGetFootprintCache() {
+        System.out.println("getFootprintCache");
+        Microscope first = createMicroscope(createCameraBuilder());
+        short[] expected = first.simulateFrame().getPixelData(0);
+        Microscope second = createMicroscope(createCameraBuilder());
+        assertNotSame(first.getFootprintCache(), second.getFootprintCache());
+        assertTrue(first.getFootprintCache().getSize() > 0);
+        assertEquals(0, second.getFootprintCache().getSize());
+        
+        first.getFootprintCache().clear();
+        second.getFootprintCache().setCapacity(0);
+        assertArrayEquals(expected, second.simulateFrame().getPixelData(0));
+        assertEquals(0, second.getFootprintCache().getSize());
+        assertEquals(0, first.getFootprintCache().getSize());
+    }
 }
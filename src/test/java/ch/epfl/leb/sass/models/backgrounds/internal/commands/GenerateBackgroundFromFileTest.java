@@ -101,4 +101,19 @@ public class GenerateBackgroundFromFileTest {
         assertArrayEquals(expResult, result);
     }
     
+    /**
+     * Modifying a background does not change those that are generated next,
+     * even by other commands that load the same file.
+     */
+    @Test
+    public void testGenerateBackgroundCopies() {
+        System.out.println("testGenerateBackgroundCopies");
+        builder.file(backgroundFile);
+        GenerateBackgroundFromFile instance = builder.build();
+        
+        instance.generateBackground()[1][1] = -1;
+        assertArrayEquals(expResult, instance.generateBackground());
+        assertArrayEquals(expResult, builder.build().generateBackground());
+    }
+    
 }
@@ -68,5 +68,46 @@ public class GenerateRandomBackgroundTest {
         
         assertTrue("Hello", minValue >= 100 - delta);
         assertTrue("Goodbye", maxValue <= 250 + delta);
-    }    
+    }
+    
+    /**
+     * Modifying a background does not change those that are generated next.
+     */
+    @Test
+    public void testGenerateBackgroundCopies() {
+        System.out.println("testGenerateBackgroundCopies");
+        builder.nX(16).nY(8).max(250).min(100);
+        GenerateRandomBackground bg = builder.build();
+        
+        float[][] first = bg.generateBackground();
+        float expected = first[3][5];
+        first[3][5] = -1;
+        
+        assertEquals(expected, bg.generateBackground()[3][5], 0);
+        assertEquals(expected, builder.build().generateBackground()[3][5], 0);
+    }
+    
+    /**
+     * The cache drops the least recently used images beyond its capacity.
+     */
+    @Test
+    public void testBackgroundCacheCapacity() {
+        System.out.println("testBackgroundCacheCapacity");
+        BackgroundCache<String> cache = new BackgroundCache<>(20);
+        cache.put("a", new float[2][5]);
+        cache.put("b", new float[2][5]);
+        assertEquals(20, cache.getSize());
+        
+        // "a" becomes the most recently used image, so "b" is dropped.
+        assertNotNull(cache.get("a"));
+        cache.put("c", new float[1][5]);
+        assertEquals(15, cache.getSize());
+        assertNull(cache.get("b"));
+        assertNotNull(cache.get("a"));
+        
+        // Images larger than the capacity are not cached.
+        cache.put("d", new float[3][7]);
+        assertNull(cache.get("d"));
+        assertEquals(15, cache.getSize());
+    }
 }
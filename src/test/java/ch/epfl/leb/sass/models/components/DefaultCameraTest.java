@@ -189,4 +189,124 @@ public class DefaultCameraTest {
         assertTrue(String.valueOf(instance.getThermalNoise()).equals(json.get("thermalNoise").getAsString()));
     }
     
+    /**
+     * The whole sensor is read out without binning by default.
+     */
+    @Test
+    public void testDefaultRoi() {
+        System.out.println("defaultRoi");
+        DefaultCamera instance = this.camera;
+        assertEquals(0, instance.getRoiX());
+        assertEquals(0, instance.getRoiY());
+        assertEquals(256, instance.getRoiWidth());
+        assertEquals(256, instance.getRoiHeight());
+        assertEquals(1, instance.getBinning());
+    }
+    
+    /**
+     * Test of the region of interest and binning of class DefaultCamera.
+     */
+    @Test
+    public void testRoiAndBinning() {
+        System.out.println("roiAndBinning");
+        DefaultCamera.Builder builder = new DefaultCamera.Builder();
+        builder.nX(256).nY(128).roi(16, 32, 64, 0).binning(4);
+        DefaultCamera instance = builder.build();
+        
+        assertEquals(16, instance.getRoiX());
+        assertEquals(32, instance.getRoiY());
+        assertEquals(64, instance.getRoiWidth());
+        assertEquals(96, instance.getRoiHeight());
+        assertEquals(4, instance.getBinning());
+        
+        JsonObject json = instance.toJson().getAsJsonObject();
+        assertEquals(96, json.get("roiHeight").getAsInt());
+        assertEquals(4, json.get("binning").getAsInt());
+    }
+    
+    /**
+     * A region of interest outside of the sensor is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRoiOutsideSensor() {
+        System.out.println("roiOutsideSensor");
+        DefaultCamera.Builder builder = new DefaultCamera.Builder();
+        builder.nX(256).nY(256).roi(200, 0, 64, 64).build();
+    }
+    
+    /**
+     * A region of interest that starts at the edge of the sensor and extends
+     * over the rest of it is empty and rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyDefaultRoi() {
+        System.out.println("emptyDefaultRoi");
+        DefaultCamera.Builder builder = new DefaultCamera.Builder();
+        builder.nX(256).nY(256).roi(256, 0, 0, 0).build();
+    }
+    
+    /**
+     * An empty region of interest passes the binning check but is rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyRoiAtEdge() {
+        System.out.println("emptyRoiAtEdge");
+        DefaultCamera.Builder builder = new DefaultCamera.Builder();
+        builder.nX(256).nY(256).roi(0, 256, 64, 0).binning(4).build();
+    }
+    
+    /**
+     * The region of interest must be divisible into binned pixels.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRoiNotMultipleOfBinning() {
+        System.out.println("roiNotMultipleOfBinning");
+        DefaultCamera.Builder builder = new DefaultCamera.Builder();
+        builder.nX(256).nY(256).roi(0, 0, 30, 32).binning(4).build();
+    }
+    
+    /**
+     * Frames are exposed for 1 with a global shutter by default.
+     */
+    @Test
+    public void testDefaultTiming() {
+        System.out.println("defaultTiming");
+        DefaultCamera instance = this.camera;
+        assertEquals(1.0, instance.getExposureTime(), 0.0);
+        assertEquals(0.0, instance.getReadoutTime(), 0.0);
+        assertEquals(0.0, instance.getLineTime(), 0.0);
+        assertTrue(instance.getFrameTiming().isUnitFrame());
+    }
+    
+    /**
+     * The rolling shutter has one exposure window per row of binned pixels.
+     */
+    @Test
+    public void testRollingShutter() {
+        System.out.println("rollingShutter");
+        DefaultCamera.Builder builder = new DefaultCamera.Builder();
+        DefaultCamera instance = builder.nX(64).nY(64).roi(0, 16, 32, 32)
+                                        .binning(2).timing(0.5, 0.5)
+                                        .lineTime(0.01).build();
+        FrameTiming timing = instance.getFrameTiming();
+        assertFalse(timing.isUnitFrame());
+        assertEquals(16, timing.getWindowCount());
+        assertEquals(0, timing.getWindow(17));
+        assertEquals(1, timing.getWindow(18));
+        
+        JsonObject json = instance.toJson().getAsJsonObject();
+        assertEquals(0.5, json.get("exposureTime").getAsDouble(), 0.0);
+        assertEquals(0.01, json.get("lineTime").getAsDouble(), 0.0);
+    }
+    
+    /**
+     * The rolling shutter must reach the last row before the next frame.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRollingShutterTooSlow() {
+        System.out.println("rollingShutterTooSlow");
+        DefaultCamera.Builder builder = new DefaultCamera.Builder();
+        builder.nX(64).nY(64).timing(0.5, 0.1).lineTime(0.01).build();
+    }
+    
 }
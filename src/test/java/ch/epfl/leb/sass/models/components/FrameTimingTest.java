@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.components;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the FrameTiming class.
+ */
+public class FrameTimingTest {
+    
+    /**
+     * A global shutter has a single window that covers the exposure.
+     */
+    @Test
+    public void testGlobalShutter() {
+        System.out.println("globalShutter");
+        FrameTiming timing = new FrameTiming(0.5, 0.25, 0, 0, 64, 1);
+        assertEquals(1, timing.getWindowCount());
+        assertEquals(0.75, timing.getPeriod(), 0.0);
+        assertEquals(0, timing.getWindow(63));
+        assertFalse(timing.isUnitFrame());
+        assertTrue(new FrameTiming(1, 0, 0, 0, 64, 1).isUnitFrame());
+        
+        double[] onTimes = new double[1];
+        timing.addOnTime(0.25, 0.7, 0, onTimes);
+        assertEquals(0.25, onTimes[0], 1e-12);
+    }
+    
+    /**
+     * Test of getWindow method, of class FrameTiming.
+     */
+    @Test
+    public void testGetWindow() {
+        System.out.println("getWindow");
+        FrameTiming timing = new FrameTiming(0.5, 0.5, 0.1, 10, 8, 2);
+        assertEquals(4, timing.getWindowCount());
+        assertEquals(0, timing.getWindow(5));
+        assertEquals(0, timing.getWindow(11));
+        assertEquals(1, timing.getWindow(12));
+        assertEquals(3, timing.getWindow(17));
+        assertEquals(3, timing.getWindow(40));
+        assertEquals(0.3, timing.getWindowStart(3), 1e-12);
+    }
+    
+    /**
+     * The on-time of an interval is split among the windows it overlaps.
+     */
+    @Test
+    public void testAddOnTime() {
+        System.out.println("addOnTime");
+        FrameTiming timing = new FrameTiming(0.5, 0.5, 0.1, 0, 4, 1);
+        
+        // Windows: [0, 0.5], [0.1, 0.6], [0.2, 0.7], [0.3, 0.8]
+        double[] onTimes = new double[4];
+        timing.addOnTime(0.55, 0.65, 0, onTimes);
+        assertEquals(0.0, onTimes[0], 1e-12);
+        assertEquals(0.05, onTimes[1], 1e-12);
+        assertEquals(0.1, onTimes[2], 1e-12);
+        assertEquals(0.1, onTimes[3], 1e-12);
+        
+        // Only the windows from firstWindow on are accumulated.
+        double[] partial = new double[2];
+        timing.addOnTime(0.0, 1.0, 2, partial);
+        assertEquals(0.5, partial[0], 1e-12);
+        assertEquals(0.5, partial[1], 1e-12);
+    }
+    
+    /**
+     * The exposure time must be positive.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroExposure() {
+        System.out.println("zeroExposure");
+        new FrameTiming(0, 1, 0, 0, 64, 1);
+    }
+}
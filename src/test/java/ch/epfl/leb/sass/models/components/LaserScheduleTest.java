@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.components;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the LaserSchedule class.
+ */
+public class LaserScheduleTest {
+    
+    /**
+     * Equal powers share a level.
+     */
+    @Test
+    public void testGetLevelPowers() {
+        System.out.println("getLevelPowers");
+        LaserSchedule schedule = new LaserSchedule(
+                new double[] {0.1, 0.4, 0.5}, new double[] {10, 0, 10}, true);
+        assertArrayEquals(new double[] {10, 0}, schedule.getLevelPowers(), 0.0);
+        assertEquals(1.0, schedule.getPeriod(), 1e-12);
+        assertEquals(0, schedule.getLevel(2));
+        assertEquals(1, schedule.getLevel(4));
+    }
+    
+    /**
+     * A repeating schedule numbers its segments over the repetitions.
+     */
+    @Test
+    public void testRepeatingSegments() {
+        System.out.println("repeatingSegments");
+        LaserSchedule schedule = new LaserSchedule(
+                new double[] {0.25, 0.75}, new double[] {5, 1}, true);
+        assertEquals(0, schedule.getSegment(0.0));
+        assertEquals(1, schedule.getSegment(0.25));
+        assertEquals(4, schedule.getSegment(2.1));
+        assertEquals(2.25, schedule.getSegmentEnd(4), 1e-12);
+        assertEquals(3.0, schedule.getSegmentEnd(5), 1e-12);
+        assertEquals(1.0, schedule.getPower(2.5), 0.0);
+    }
+    
+    /**
+     * A schedule that does not repeat keeps the power of its last segment.
+     */
+    @Test
+    public void testLastSegmentIsKept() {
+        System.out.println("lastSegmentIsKept");
+        LaserSchedule schedule = new LaserSchedule(
+                new double[] {0.25, 0.75}, new double[] {5, 1}, false);
+        assertEquals(1, schedule.getSegment(10.0));
+        assertEquals(Double.POSITIVE_INFINITY, schedule.getSegmentEnd(1), 0.0);
+        assertEquals(0.25, schedule.getSegmentEnd(0), 0.0);
+        assertEquals(1.0, schedule.getPower(10.0), 0.0);
+    }
+    
+    /**
+     * Every segment needs a power.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMismatchedLengths() {
+        System.out.println("mismatchedLengths");
+        new LaserSchedule(new double[] {1, 1}, new double[] {1}, false);
+    }
+    
+    /**
+     * The durations of the segments must be positive.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testZeroDuration() {
+        System.out.println("zeroDuration");
+        new LaserSchedule(new double[] {0}, new double[] {1}, false);
+    }
+}
@@ -17,10 +17,17 @@
  */
 package ch.epfl.leb.sass.models.emitters;
 
+import ch.epfl.leb.sass.models.components.FrameTiming;
 import ch.epfl.leb.sass.models.emitters.internal.Pixel;
 import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter;
+import ch.epfl.leb.sass.models.emitters.internal.FootprintCache;
+import ch.epfl.leb.sass.models.psfs.PSF;
+import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+import ch.epfl.leb.sass.models.psfs.internal.Gaussian2D;
+import ch.epfl.leb.sass.models.psfs.internal.Gaussian3D;
 import java.awt.geom.Point2D;
 import java.util.ArrayList;
+import java.util.Random;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -91,4 +98,259 @@ public class AbstractEmitterTest {
         assertEquals(2, pixels.get(0).y);
     }
     
+    /**
+     * Creates an emitter with the PSF of a builder.
+     */
+    private static AbstractEmitter createEmitter(double x, double y,
+                                                 PSFBuilder builder) {
+        return new AbstractEmitter(x, y, 0, builder) {
+            @Override
+            protected double simulateBrightness() {
+                return 1;
+            }
+        };
+    }
+    
+    /**
+     * Renders an emitter with a brightness of one.
+     */
+    private static float[][] render(AbstractEmitter emitter) {
+        float[][] pixels = new float[32][32];
+        emitter.applyTo(pixels, 0, 0, 1);
+        return pixels;
+    }
+    
+    /**
+     * Test of setStagePosition method, of class AbstractEmitter.
+     */
+    @Test
+    public void testSetStagePosition() {
+        System.out.println("testSetStagePosition");
+        Gaussian3D.Builder builder = new Gaussian3D.Builder();
+        builder.FWHM(3).NA(1.3);
+        AbstractEmitter emitter = createEmitter(10.25, 12.6, builder);
+        float[][] expected = render(emitter);
+        
+        // Whole-pixel displacements shift the image.
+        emitter.setStagePosition(2, -3, 0);
+        float[][] result = render(emitter);
+        for (int x = 0; x < 20; x++) {
+            for (int y = 3; y < 32; y++) {
+                assertEquals(expected[x][y], result[x + 2][y - 3], 1e-6);
+            }
+        }
+        assertTrue(emitter.overlaps(15, 0, 5, 32));
+        assertFalse(emitter.overlaps(0, 17, 32, 15));
+        
+        // Sub-pixel displacements move the emitter within a pixel.
+        emitter.setStagePosition(0.5, 0, 0);
+        expected = render(createEmitter(10.75, 12.6, builder));
+        assertArrayEquals(expected, render(emitter));
+        
+        // Axial displacements defocus the image.
+        emitter.setStagePosition(0, 0, 10);
+        result = render(emitter);
+        assertTrue(result[10][13] < render(createEmitter(10.25, 12.6,
+                builder.stageDisplacement(0)))[10][13]);
+    }
+    
+    /**
+     * Axial stage displacements that the PSF builder rounds to the same
+     * value keep the footprint.
+     */
+    @Test
+    public void testSetStagePositionRounded() {
+        System.out.println("testSetStagePositionRounded");
+        Gaussian2D.Builder builder = new Gaussian2D.Builder();
+        builder.FWHM(3);
+        AbstractEmitter emitter = createEmitter(10.25, 12.6, builder);
+        emitter.setStagePosition(0, 0, 0);
+        PSF psf = emitter.getPSF();
+        
+        // The Gaussian2D PSF does not depend on the stage displacement.
+        emitter.setStagePosition(0, 0, 10);
+        assertSame(psf, emitter.getPSF());
+        
+        emitter.setStagePosition(0.5, 0, 10);
+        assertNotSame(psf, emitter.getPSF());
+    }
+    
+    /**
+     * Renders the pixels of an emitter's footprint that lie inside a region
+     * by checking every pixel.
+     */
+    private static float[][] renderChecked(AbstractEmitter emitter,
+                                           int width, int height, int x0,
+                                           int y0, int shiftX, int shiftY) {
+        float[][] pixels = new float[width][height];
+        for (Pixel p: emitter.getPixelList()) {
+            int x = p.x + shiftX - x0;
+            int y = p.y + shiftY - y0;
+            if (x >= 0 && x < width && y >= 0 && y < height) {
+                pixels[x][y] += p.getSignature();
+            }
+        }
+        return pixels;
+    }
+    
+    /**
+     * Footprints are clipped against the image they are rendered onto.
+     */
+    @Test
+    public void testApplyToClipping() {
+        System.out.println("testApplyToClipping");
+        Gaussian3D.Builder builder = new Gaussian3D.Builder();
+        builder.FWHM(3).NA(1.3);
+        
+        // An emitter on the corner of the frame
+        AbstractEmitter emitter = createEmitter(0.3, 31.6, builder);
+        float[][] pixels = new float[32][32];
+        emitter.applyTo(pixels, 1);
+        assertArrayEquals(renderChecked(emitter, 32, 32, 0, 0, 0, 0), pixels);
+        
+        // The same emitter onto a region of the sensor
+        pixels = new float[8][6];
+        emitter.applyTo(pixels, 0, 28, 1);
+        assertArrayEquals(renderChecked(emitter, 8, 6, 0, 28, 0, 0), pixels);
+        
+        // The clipped footprint follows the stage.
+        emitter.setStagePosition(3, -2, 0);
+        pixels = new float[8][6];
+        emitter.applyTo(pixels, 0, 28, 1);
+        assertArrayEquals(renderChecked(emitter, 8, 6, 0, 28, 3, -2), pixels);
+        
+        // An emitter outside of the frame is not rendered.
+        emitter = createEmitter(-40, 100, builder);
+        pixels = new float[32][32];
+        emitter.applyTo(pixels, 1);
+        assertArrayEquals(new float[32][32], pixels);
+    }
+    
+    /**
+     * Test of overlaps method, of class AbstractEmitter.
+     * 
+     * The emitter overlaps a region exactly when one of its pixels does.
+     */
+    @Test
+    public void testOverlaps() {
+        System.out.println("testOverlaps");
+        Gaussian3D.Builder builder = new Gaussian3D.Builder();
+        builder.FWHM(3).NA(1.3);
+        AbstractEmitter emitter = createEmitter(10.25, 12.6, builder);
+        
+        Random random = new Random(42);
+        for (int n = 0; n < 1000; n++) {
+            int x0 = random.nextInt(24);
+            int y0 = random.nextInt(24);
+            int width = 1 + random.nextInt(4);
+            int height = 1 + random.nextInt(4);
+            boolean expected = false;
+            for (Pixel p: emitter.getPixelList()) {
+                expected |= p.x >= x0 && p.x < x0 + width
+                            && p.y >= y0 && p.y < y0 + height;
+            }
+            assertEquals(expected, emitter.overlaps(x0, y0, width, height));
+        }
+    }
+    
+    /**
+     * Footprints that were released by the cache are computed again when
+     * the emitter is drawn.
+     */
+    @Test
+    public void testFootprintCache() {
+        System.out.println("testFootprintCache");
+        Gaussian3D.Builder builder = new Gaussian3D.Builder();
+        builder.FWHM(3).NA(1.3);
+        AbstractEmitter first = createEmitter(10.25, 12.6, builder);
+        AbstractEmitter second = createEmitter(20.5, 8.1, builder);
+        
+        FootprintCache cache = new FootprintCache();
+        first.setFootprintCache(cache);
+        second.setFootprintCache(cache);
+        assertEquals(0, cache.getSize());
+        float[][] expected = render(first);
+        long size = cache.getSize();
+        assertTrue(size > 0);
+        
+        // Drawing the second emitter releases the first one.
+        cache.setCapacity(size + size / 2);
+        render(second);
+        assertTrue(cache.getSize() <= size + size / 2);
+        
+        assertArrayEquals(expected, render(first));
+        assertEquals(size, cache.getSize());
+        
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertArrayEquals(expected, render(first));
+    }
+    
+    /**
+     * Emitters that are not attached to a cache keep their footprint.
+     */
+    @Test
+    public void testWithoutFootprintCache() {
+        System.out.println("testWithoutFootprintCache");
+        Gaussian3D.Builder builder = new Gaussian3D.Builder();
+        builder.FWHM(3).NA(1.3);
+        AbstractEmitter emitter = createEmitter(10.25, 12.6, builder);
+        FootprintCache cache = new FootprintCache();
+        
+        float[][] expected = render(emitter);
+        assertEquals(0, cache.getSize());
+        emitter.setFootprintCache(cache);
+        assertArrayEquals(expected, render(emitter));
+        assertTrue(cache.getSize() > 0);
+    }
+    
+    /**
+     * Separable PSFs render the same pixels and signatures as a list of
+     * pixels.
+     */
+    @Test
+    public void testSeparableFootprint() {
+        System.out.println("testSeparableFootprint");
+        Gaussian3D.Builder builder = new Gaussian3D.Builder();
+        builder.FWHM(3).NA(1.3).stageDisplacement(2);
+        AbstractEmitter emitter = createEmitter(10.25, 12.6, builder);
+        
+        PSF psf = emitter.getPSF();
+        ArrayList<Pixel> expected = AbstractEmitter.getPixelsWithinRadius(
+                new Point2D.Double(10.25, 12.6), psf.getRadius());
+        psf.generateSignature(expected);
+        ArrayList<Pixel> pixels = emitter.getPixelList();
+        assertEquals(expected.size(), pixels.size());
+        for (int i = 0; i < pixels.size(); i++) {
+            assertEquals(expected.get(i).x, pixels.get(i).x);
+            assertEquals(expected.get(i).y, pixels.get(i).y);
+            assertEquals(expected.get(i).getSignature(),
+                         pixels.get(i).getSignature(), 0);
+        }
+        
+        // Each row of a rolling shutter receives its own brightness.
+        FrameTiming timing = new FrameTiming(1, 31, 1, 0, 32, 1);
+        int firstWindow = Integer.MAX_VALUE;
+        int lastWindow = Integer.MIN_VALUE;
+        for (Pixel p: expected) {
+            firstWindow = Math.min(firstWindow, timing.getWindow(p.y));
+            lastWindow = Math.max(lastWindow, timing.getWindow(p.y));
+        }
+        double[] brightness = new double[lastWindow - firstWindow + 1];
+        for (int i = 0; i < brightness.length; i++) {
+            brightness[i] = 100 + i;
+        }
+        float[][] expectedImage = new float[20][16];
+        for (Pixel p: expected) {
+            if (p.x < 20 && p.y < 16) {
+                expectedImage[p.x][p.y] += brightness[
+                        timing.getWindow(p.y) - firstWindow]
+                        * p.getSignature();
+            }
+        }
+        float[][] image = new float[20][16];
+        emitter.applyTo(image, 0, 0, timing, brightness);
+        assertArrayEquals(expectedImage, image);
+    }
+    
 }
@@ -0,0 +1,215 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the FluorophoreStatistics class.
+ */
+public class FluorophoreStatisticsTest {
+    
+    /**
+     * The current states of the two fluorophores; state 0 is on and state 1
+     * is bleached.
+     */
+    private final int[] states = {0, 1};
+    
+    private Fluorophore f0;
+    private Fluorophore f1;
+    private FluorophoreStatistics instance;
+    
+    /**
+     * Creates a fluorophore whose state is read from the states array.
+     */
+    private Fluorophore createFluorophore(final int index) {
+        Fluorophore f = mock(Fluorophore.class);
+        when(f.getOnEmitterCount()).thenAnswer(new Answer<Integer>() {
+            @Override
+            public Integer answer(InvocationOnMock invocation) {
+                return states[index] == 0 ? 1 : 0;
+            }
+        });
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                long[] counts = invocation.getArgument(0);
+                int weight = invocation.getArgument(1);
+                counts[states[index]] += weight;
+                return null;
+            }
+        }).when(f).addStateCounts(any(long[].class), anyInt());
+        return f;
+    }
+    
+    @Before
+    public void setUp() {
+        f0 = createFluorophore(0);
+        f1 = createFluorophore(1);
+        instance = new FluorophoreStatistics(Arrays.asList(f0, f1), 2);
+    }
+    
+    /**
+     * Changes the state of a fluorophore and updates the statistics.
+     */
+    private void setState(int index, Fluorophore f, int state) {
+        instance.beginUpdate(f);
+        states[index] = state;
+        instance.endUpdate(index, f);
+    }
+    
+    /**
+     * The statistics follow the state changes of the fluorophores.
+     */
+    @Test
+    public void testUpdate() {
+        System.out.println("update");
+        assertEquals(2, instance.getMoleculeCount());
+        assertEquals(1, instance.getOnCount());
+        assertEquals(1, instance.getStateCount(0));
+        assertEquals(0.5, instance.getBleachedFraction(), 0.0);
+        
+        setState(1, f1, 0);
+        assertEquals(2, instance.getOnCount());
+        assertEquals(0.0, instance.getBleachedFraction(), 0.0);
+        
+        setState(0, f0, 1);
+        setState(1, f1, 1);
+        assertEquals(0, instance.getOnCount());
+        assertEquals(2, instance.getStateCount(1));
+        assertEquals(1.0, instance.getBleachedFraction(), 0.0);
+    }
+    
+    /**
+     * Test of addRegion method, of class FluorophoreStatistics.
+     */
+    @Test
+    public void testAddRegion() {
+        System.out.println("addRegion");
+        int region0 = instance.addRegion(new int[] {0});
+        int region1 = instance.addRegion(new int[] {0, 1});
+        assertEquals(2, instance.getRegionCount());
+        assertEquals(1, instance.getRegionOnCount(region0));
+        assertEquals(1, instance.getRegionOnCount(region1));
+        
+        setState(1, f1, 0);
+        assertEquals(1, instance.getRegionOnCount(region0));
+        assertEquals(2, instance.getRegionOnCount(region1));
+        
+        setState(0, f0, 1);
+        assertEquals(0, instance.getRegionOnCount(region0));
+        assertEquals(1, instance.getRegionOnCount(region1));
+    }
+    
+    /**
+     * The history keeps the statistics at the beginning of every frame.
+     */
+    @Test
+    public void testRecordFrame() {
+        System.out.println("recordFrame");
+        assertEquals(0, instance.recordFrame());
+        instance.setPhotons(0, 1000);
+        setState(1, f1, 0);
+        int region = instance.addRegion(new int[] {1});
+        
+        // Grow the columns beyond their initial capacity.
+        for (int frame = 1; frame < 100; frame++) {
+            assertEquals(frame, instance.recordFrame());
+        }
+        setState(0, f0, 1);
+        
+        assertEquals(100, instance.getFrameCount());
+        assertEquals(1, instance.getFrameOnCount(0));
+        assertEquals(2, instance.getFrameOnCount(99));
+        assertEquals(1000, instance.getFramePhotons(0), 0.0);
+        assertEquals(0, instance.getFramePhotons(99), 0.0);
+        assertEquals(0.5, instance.getFrameBleachedFraction(0), 0.0);
+        assertEquals(0.0, instance.getFrameBleachedFraction(1), 0.0);
+        assertEquals(2, instance.getFrameStateCount(1, 0));
+        assertEquals(1, instance.getFrameRegionOnCount(1, region));
+        
+        // The current statistics are not recorded until the next frame.
+        assertEquals(1, instance.getOnCount());
+        assertEquals(2, instance.getFrameOnCount(99));
+    }
+    
+    /**
+     * Regions have no history before they were registered.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testGetFrameRegionOnCountBeforeRegion() {
+        System.out.println("getFrameRegionOnCountBeforeRegion");
+        instance.recordFrame();
+        int region = instance.addRegion(new int[] {0});
+        instance.getFrameRegionOnCount(0, region);
+    }
+    
+    /**
+     * Test of toJson method, of class FluorophoreStatistics.
+     */
+    @Test
+    public void testToJson() {
+        System.out.println("toJson");
+        instance.recordFrame();
+        int region = instance.addRegion(new int[] {0, 1});
+        setState(1, f1, 0);
+        instance.recordFrame();
+        instance.setPhotons(1, 250);
+        
+        JsonObject json = instance.toJson(0, 2).getAsJsonObject();
+        assertEquals(2, json.get("moleculeCount").getAsLong());
+        JsonArray on = json.getAsJsonArray("onCount");
+        assertEquals(2, on.size());
+        assertEquals(1, on.get(0).getAsLong());
+        assertEquals(2, on.get(1).getAsLong());
+        assertEquals(250, json.getAsJsonArray("photons").get(1).getAsDouble(),
+                     0.0);
+        assertEquals(0.5, json.getAsJsonArray("bleachedFraction").get(0)
+                              .getAsDouble(), 0.0);
+        assertEquals(2, json.getAsJsonArray("stateCounts").get(1)
+                            .getAsJsonArray().get(0).getAsLong());
+        JsonArray regions = json.getAsJsonArray("regionOnCounts");
+        assertTrue(regions.get(0).getAsJsonArray().get(region).isJsonNull());
+        assertEquals(2, regions.get(1).getAsJsonArray().get(region)
+                               .getAsLong());
+        
+        assertEquals(1, instance.toJson(1, 2).getAsJsonObject()
+                                .getAsJsonArray("onCount").size());
+    }
+    
+    /**
+     * Ranges outside of the history are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testToJsonInvalidRange() {
+        System.out.println("toJsonInvalidRange");
+        instance.recordFrame();
+        instance.toJson(0, 2);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores.commands.internal;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the EmitterPositions class.
+ */
+public class EmitterPositionsTest {
+    
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+    
+    private static EmitterPositions readCsv(String csv) throws IOException {
+        return EmitterPositions.readCsv(new ByteArrayInputStream(
+                csv.getBytes(StandardCharsets.US_ASCII)));
+    }
+    
+    private static double parse(String number) {
+        byte[] b = number.getBytes(StandardCharsets.US_ASCII);
+        return EmitterPositions.parseDouble(b, 0, b.length);
+    }
+    
+    /**
+     * Test of parseDouble method, of class EmitterPositions.
+     */
+    @Test
+    public void testParseDouble() {
+        System.out.println("testParseDouble");
+        String[] numbers = {"0", "-0", "1", "+2.5", "0.05", "100", "1.50",
+                            "123456789012345", "1234567890123456789",
+                            "3.14159265358979323846", "1e5", "-2.5E-3",
+                            "6.02214076e23", "1e-400", "1e400", ".5", "5.",
+                            "1.0d", "NaN", "-Infinity", "0x1p3"};
+        for (String number: numbers) {
+            assertEquals(number, Double.doubleToLongBits(
+                                     Double.parseDouble(number)),
+                         Double.doubleToLongBits(parse(number)));
+        }
+        
+        Random rnd = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            double value = (rnd.nextDouble() - 0.5) * Math.pow(10, rnd.nextInt(20) - 10);
+            String number = i % 2 == 0 ? Double.toString(value)
+                                       : String.format("%.4f", value);
+            assertEquals(number, Double.parseDouble(number), parse(number), 0.0);
+        }
+    }
+    
+    /**
+     * Invalid numbers are rejected.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void testParseDoubleInvalid() {
+        System.out.println("testParseDoubleInvalid");
+        parse("1.2.3");
+    }
+    
+    /**
+     * Test of readCsv method, of class EmitterPositions.
+     */
+    @Test
+    public void testReadCsv() throws IOException {
+        System.out.println("testReadCsv");
+        EmitterPositions positions = readCsv(
+                "# x,y,z\n"
+              + "1.5,2.5,3.5\r\n"
+              + "\n"
+              + " 4 , 5 \n"
+              + "6,7,8,9,extra\n"
+              + "-1,10");
+        assertEquals(4, positions.size());
+        assertEquals(1.5, positions.getX(0), 0.0);
+        assertEquals(2.5, positions.getY(0), 0.0);
+        assertEquals(3.5, positions.getZ(0), 0.0);
+        assertEquals(4, positions.getX(1), 0.0);
+        assertEquals(5, positions.getY(1), 0.0);
+        assertEquals(0, positions.getZ(1), 0.0);
+        assertEquals(8, positions.getZ(2), 0.0);
+        assertEquals(-1, positions.getX(3), 0.0);
+        assertEquals(10, positions.getY(3), 0.0);
+    }
+    
+    /**
+     * Lines with a single column are rejected.
+     */
+    @Test(expected = NumberFormatException.class)
+    public void testReadCsvMissingColumn() throws IOException {
+        System.out.println("testReadCsvMissingColumn");
+        readCsv("1,2\n3\n");
+    }
+    
+    /**
+     * The CSV reader gives the same values as String.split and
+     * Double.parseDouble.
+     */
+    @Test
+    public void testReadCsvMatchesParseDouble() throws IOException {
+        System.out.println("testReadCsvMatchesParseDouble");
+        URL csv = EmitterPositionsTest.class.getResource("/label_pix_sass.csv");
+        File file = new File(csv.getFile());
+        EmitterPositions positions = EmitterPositions.read(file);
+        
+        int i = 0;
+        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.startsWith("#")) {
+                    continue;
+                }
+                String[] entries = line.split(",");
+                assertEquals(Double.parseDouble(entries[0]),
+                             positions.getX(i), 0.0);
+                assertEquals(Double.parseDouble(entries[1]),
+                             positions.getY(i), 0.0);
+                i++;
+            }
+        }
+        assertEquals(i, positions.size());
+    }
+    
+    /**
+     * Test of writeBinary and readBinary methods, of class EmitterPositions.
+     */
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+        System.out.println("testBinaryRoundTrip");
+        EmitterPositions expected = new EmitterPositions(1);
+        Random rnd = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            expected.add(rnd.nextDouble(), rnd.nextDouble(), rnd.nextDouble());
+        }
+        File file = tempDir.newFile("points.bin");
+        expected.writeBinary(file);
+        assertEquals(EmitterPositions.HEADER_SIZE + 10000 * 24, file.length());
+        
+        EmitterPositions positions = EmitterPositions.read(file);
+        assertEquals(expected.size(), positions.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getX(i), positions.getX(i), 0.0);
+            assertEquals(expected.getY(i), positions.getY(i), 0.0);
+            assertEquals(expected.getZ(i), positions.getZ(i), 0.0);
+        }
+    }
+    
+    /**
+     * Binary files that are shorter than their header says are rejected.
+     */
+    @Test(expected = IOException.class)
+    public void testReadBinaryTruncated() throws IOException {
+        System.out.println("testReadBinaryTruncated");
+        EmitterPositions expected = new EmitterPositions();
+        expected.add(1, 2, 3);
+        expected.add(4, 5, 6);
+        File file = tempDir.newFile("points.bin");
+        expected.writeBinary(file);
+        
+        byte[] truncated = Files.readAllBytes(file.toPath());
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(truncated, 0, truncated.length - 8);
+        }
+        EmitterPositions.readBinary(file);
+    }
+    
+    /**
+     * Test of crop, translate and scale methods, of class EmitterPositions.
+     */
+    @Test
+    public void testTransforms() {
+        System.out.println("testTransforms");
+        EmitterPositions positions = new EmitterPositions();
+        positions.add(1, 1, 1);
+        positions.add(-1, 2, 2);
+        positions.add(3, 3, 3);
+        positions.add(5, 1, 4);
+        
+        positions.crop(0, 0, 4, 4);
+        assertEquals(2, positions.size());
+        assertEquals(1, positions.getX(0), 0.0);
+        assertEquals(3, positions.getX(1), 0.0);
+        assertEquals(3, positions.getMaxX(), 0.0);
+        
+        positions.translate(-0.5, -0.5);
+        positions.scale(2);
+        assertEquals(5, positions.getX(1), 0.0);
+        assertEquals(5, positions.getY(1), 0.0);
+        assertEquals(6, positions.getZ(1), 0.0);
+    }
+}
@@ -17,6 +17,9 @@
 package ch.epfl.leb.sass.models.fluorophores.commands.internal;
 
 import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+import ch.epfl.leb.sass.models.emitters.internal.Pixel;
+import ch.epfl.leb.sass.models.fluorophores.internal.DefaultFluorophore;
+import ch.epfl.leb.sass.models.fluorophores.internal.FluorophorePopulation;
 import ch.epfl.leb.sass.models.components.Camera;
 import ch.epfl.leb.sass.models.components.internal.DefaultCamera;
 import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
@@ -26,10 +29,14 @@ import ch.epfl.leb.sass.models.fluorophores.commands.FluorophoreCommand;
 import ch.epfl.leb.sass.models.illuminations.internal.SquareUniformIllumination;
 import ch.epfl.leb.sass.models.photophysics.internal.SimpleDynamics;
 import ch.epfl.leb.sass.models.psfs.internal.Gaussian2D;
+import ch.epfl.leb.sass.models.psfs.internal.Gaussian3D;
+import ch.epfl.leb.sass.utils.RNG;
 import ch.epfl.leb.sass.models.samples.RefractiveIndex;
 import ch.epfl.leb.sass.models.samples.internal.UniformRefractiveIndex;
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Random;
 
 import org.junit.Test;
 import org.junit.Before;
@@ -140,6 +147,132 @@ public class FluorophoreReceiverIT {
         assertTrue(minY >= 0.0);
     }
 
+    /**
+     * Test of generatePopulationsRandom2D method, of class FluorophoreReceiver.
+     */
+    @Test
+    public void testGeneratePopulationsRandom2D() {
+        System.out.println("generatePopulationsRandom2D");
+        GenerateFluorophorePopulations2D.Builder fluorBuilder
+                = new GenerateFluorophorePopulations2D.Builder();
+        fluorBuilder.numFluors(100000).cellSize(3);
+        fluorBuilder.camera(camera)
+                    .psfBuilder(psfBuilder)
+                    .fluorDynamics(fluorDynamics)
+                    .illumination(illumination);
+        List<Fluorophore> populations =
+                fluorBuilder.build().generateFluorophores();
+        
+        // 11 x 11 cells of up to 3 x 3 pixels cover the 32 x 32 sensor.
+        assertEquals(121, populations.size());
+        int total = 0;
+        for (Fluorophore f: populations) {
+            FluorophorePopulation population = (FluorophorePopulation) f;
+            total += population.getCount();
+            assertTrue(f.getX() > 0 && f.getX() < 32);
+            assertTrue(f.getY() > 0 && f.getY() < 32);
+        }
+        assertEquals(100000, total);
+        
+        // The last cells are only 2 pixels wide.
+        FluorophorePopulation corner =
+                (FluorophorePopulation) populations.get(120);
+        assertEquals(31, corner.getX(), 0.0);
+        assertEquals(31, corner.getY(), 0.0);
+        assertEquals(100000 * 4 / 1024.0, corner.getCount(), 100);
+    }
+    
+    /**
+     * Fluorophores whose footprints are computed in parallel are the same as
+     * fluorophores that are created one after another.
+     */
+    @Test
+    public void testParallelConstructionMatchesSerial() {
+        ArrayList<Fluorophore> fluorophores =
+                FluorophoreReceiver.generateFluorophoresRandom2D(
+                        1000, camera, illumination, psfBuilder, fluorDynamics);
+        assertEquals(1000, fluorophores.size());
+        
+        int firstId = ((DefaultFluorophore) fluorophores.get(0)).getId();
+        for (int i = 0; i < fluorophores.size(); i++) {
+            DefaultFluorophore actual = (DefaultFluorophore) fluorophores.get(i);
+            assertEquals(firstId + i, actual.getId());
+            
+            DefaultFluorophore expected = new DefaultFluorophore(
+                    psfBuilder,
+                    illumination,
+                    fluorDynamics.getSignal(),
+                    fluorDynamics.getStateSystem(),
+                    fluorDynamics.getStartingState(),
+                    actual.getX(), actual.getY(), actual.getZ());
+            ArrayList<Pixel> expPixels = expected.getPixelList();
+            ArrayList<Pixel> pixels = actual.getPixelList();
+            assertEquals(expPixels.size(), pixels.size());
+            for (int j = 0; j < pixels.size(); j++) {
+                assertEquals(expPixels.get(j).x, pixels.get(j).x);
+                assertEquals(expPixels.get(j).y, pixels.get(j).y);
+                assertEquals(expPixels.get(j).getSignature(),
+                             pixels.get(j).getSignature(), 0.0);
+            }
+        }
+    }
+
+    /**
+     * The serial and the parallel computation of the footprints give the
+     * same footprints and consecutive IDs for the same positions.
+     */
+    @Test
+    public void testCreateFluorophoresSerialAndParallel() {
+        System.out.println("createFluorophoresSerialAndParallel");
+        Gaussian3D.Builder builder3D = new Gaussian3D.Builder();
+        builder3D.FWHM(3).NA(1.3).stageDisplacement(0);
+        
+        RNG.setSeed(42);
+        Random rnd = RNG.getUniformGenerator();
+        EmitterPositions positions = new EmitterPositions();
+        for (int i = 0; i < 500; i++) {
+            positions.add(32 * rnd.nextDouble(), 32 * rnd.nextDouble(),
+                          4 * rnd.nextDouble() - 2);
+        }
+        
+        for (PSFBuilder builder: new PSFBuilder[] {psfBuilder, builder3D}) {
+            ArrayList<Fluorophore> serial =
+                    FluorophoreReceiver.createFluorophores(
+                            positions, illumination, builder, fluorDynamics,
+                            false);
+            ArrayList<Fluorophore> parallel =
+                    FluorophoreReceiver.createFluorophores(
+                            positions, illumination, builder, fluorDynamics,
+                            true);
+            assertEquals(positions.size(), serial.size());
+            assertEquals(positions.size(), parallel.size());
+            
+            int serialId = ((DefaultFluorophore) serial.get(0)).getId();
+            int parallelId = ((DefaultFluorophore) parallel.get(0)).getId();
+            assertEquals(serialId + positions.size(), parallelId);
+            for (int i = 0; i < positions.size(); i++) {
+                DefaultFluorophore expected =
+                        (DefaultFluorophore) serial.get(i);
+                DefaultFluorophore actual =
+                        (DefaultFluorophore) parallel.get(i);
+                assertEquals(serialId + i, expected.getId());
+                assertEquals(parallelId + i, actual.getId());
+                assertEquals(expected.getFootprintRadius(),
+                             actual.getFootprintRadius(), 0.0);
+                
+                ArrayList<Pixel> expPixels = expected.getPixelList();
+                ArrayList<Pixel> pixels = actual.getPixelList();
+                assertEquals(expPixels.size(), pixels.size());
+                for (int j = 0; j < pixels.size(); j++) {
+                    assertEquals(expPixels.get(j).x, pixels.get(j).x);
+                    assertEquals(expPixels.get(j).y, pixels.get(j).y);
+                    assertEquals(expPixels.get(j).getSignature(),
+                                 pixels.get(j).getSignature(), 0.0);
+                }
+            }
+        }
+    }
+
     /**
      * Test of generateFluorophoresRandom3D method, of class FluorophoreReceiver.
      */
@@ -17,6 +17,8 @@
  */
 package ch.epfl.leb.sass.models.fluorophores.internal;
 
+import ch.epfl.leb.sass.models.components.FrameTiming;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
 import ch.epfl.leb.sass.models.psfs.PSF;
 import ch.epfl.leb.sass.models.psfs.PSFBuilder;
 import ch.epfl.leb.sass.models.photophysics.StateSystem;
@@ -58,6 +60,8 @@ public class DefaultFluorophoreTest {
         dummyIllumination = mock(Illumination.class);
         dummyStateSystem = mock(StateSystem.class);
         dummyPSFBuilder = mock(PSFBuilder.class);
+        when(dummyPSFBuilder.build(anyDouble(), anyDouble(), anyDouble()))
+                .thenCallRealMethod();
         dummyPSF = mock(PSF.class);
         msg = new FluorophoreStateTransition(42, 42.42, 42, 43);
     }
@@ -217,6 +221,74 @@ public class DefaultFluorophoreTest {
         assertTrue("false".equals(json.get("emitting").getAsString()));
     }
     
+    /**
+     * Test of simulateBrightness method with a frame timing, of class
+     * DefaultFluorophore.
+     */
+    @Test
+    public void testSimulateBrightnessTiming() {
+        System.out.println("testSimulateBrightnessTiming");
+        double x = 1.5; double y = -2.5; double z = 3.0;
+        int startState = 0;
+        double signal = 1000;
+        when(dummyPSFBuilder.build()).thenReturn(dummyPSF);
+        when(dummyPSFBuilder.eX(x)).thenReturn(dummyPSFBuilder);
+        when(dummyPSFBuilder.eY(y)).thenReturn(dummyPSFBuilder);
+        when(dummyPSFBuilder.eZ(z)).thenReturn(dummyPSFBuilder);
+        when(dummyPSF.getRadius()).thenReturn(1.0);
+        Mockito.doNothing()
+               .when(dummyPSF)
+               .generateSignature(ArgumentMatchers.any(ArrayList.class));
+        
+        // The fluorophore never leaves the emitting state.
+        double[][][] rates = {{{0}, {0}}, {{0}, {0}}};
+        DefaultFluorophore testFluor = new DefaultFluorophore(
+            dummyPSFBuilder, dummyIllumination, signal,
+            new StateSystem(2, rates), startState, x, y, z);
+        
+        // The camera only collects the photons of the first half of the frame.
+        FrameTiming timing = new FrameTiming(0.5, 0.5, 0, 0, 64, 1);
+        double[] photons = testFluor.simulateBrightness(timing);
+        assertEquals(1, photons.length);
+        assertEquals(500, photons[0], 5 * Math.sqrt(500));
+        assertEquals(1.0, testFluor.getOnTimeThisFrame(), 1e-12);
+    }
+    
+    /**
+     * Test of setLaserSchedule method, of class DefaultFluorophore.
+     */
+    @Test
+    public void testSetLaserSchedule() {
+        System.out.println("testSetLaserSchedule");
+        double x = 1.5; double y = -2.5; double z = 3.0;
+        int startState = 0;
+        double signal = 1000;
+        when(dummyPSFBuilder.build()).thenReturn(dummyPSF);
+        when(dummyPSFBuilder.eX(x)).thenReturn(dummyPSFBuilder);
+        when(dummyPSFBuilder.eY(y)).thenReturn(dummyPSFBuilder);
+        when(dummyPSFBuilder.eZ(z)).thenReturn(dummyPSFBuilder);
+        when(dummyPSF.getRadius()).thenReturn(1.0);
+        when(dummyIllumination.getRelativeIrradiance(x, y, z)).thenReturn(1.0);
+        Mockito.doNothing()
+               .when(dummyPSF)
+               .generateSignature(ArgumentMatchers.any(ArrayList.class));
+        
+        // The fluorophore only bleaches under illumination.
+        double[][][] rates = {{{0}, {0, 1}}, {{0}, {0}}};
+        DefaultFluorophore testFluor = new DefaultFluorophore(
+            dummyPSFBuilder, dummyIllumination, signal,
+            new StateSystem(2, rates), startState, x, y, z);
+        
+        // The laser is off for 1.5 frames, then bleaches it at once.
+        testFluor.setLaserSchedule(new LaserSchedule(
+                new double[] {1.5, 1}, new double[] {0, 1e12}, false));
+        testFluor.simulateBrightness();
+        assertEquals(1.0, testFluor.getOnTimeThisFrame(), 0.0);
+        testFluor.simulateBrightness();
+        assertEquals(0.5, testFluor.getOnTimeThisFrame(), 1e-9);
+        assertTrue(testFluor.isBleached());
+    }
+    
     /**
      * A test class that implements basic Listener capabilities.
      */
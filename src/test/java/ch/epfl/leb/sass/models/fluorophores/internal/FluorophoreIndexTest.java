@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores.internal;
+
+import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the FluorophoreIndex class.
+ */
+public class FluorophoreIndexTest {
+    
+    private static Fluorophore fluorophore(double x, double y) {
+        Fluorophore f = mock(Fluorophore.class);
+        when(f.getX()).thenReturn(x);
+        when(f.getY()).thenReturn(y);
+        return f;
+    }
+    
+    /**
+     * Test of query method, of class FluorophoreIndex.
+     */
+    @Test
+    public void testQuery() {
+        System.out.println("testQuery");
+        Random rnd = new Random(3);
+        List<Fluorophore> fluorophores = new ArrayList<>();
+        double[] xs = new double[2000];
+        double[] ys = new double[2000];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = 128 * rnd.nextDouble();
+            ys[i] = 64 * rnd.nextDouble() - 10;
+            fluorophores.add(fluorophore(xs[i], ys[i]));
+        }
+        FluorophoreIndex index = new FluorophoreIndex(fluorophores);
+        assertEquals(2000, index.size());
+        
+        for (int q = 0; q < 50; q++) {
+            double xMin = 160 * rnd.nextDouble() - 16;
+            double yMin = 80 * rnd.nextDouble() - 20;
+            double xMax = xMin + 40 * rnd.nextDouble();
+            double yMax = yMin + 40 * rnd.nextDouble();
+            
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < xs.length; i++) {
+                if (xs[i] >= xMin && xs[i] < xMax
+                        && ys[i] >= yMin && ys[i] < yMax) {
+                    expected.add(i);
+                }
+            }
+            int[] result = index.query(xMin, yMin, xMax, yMax);
+            assertEquals(expected.size(), result.length);
+            for (int i = 0; i < result.length; i++) {
+                assertEquals((int) expected.get(i), result[i]);
+            }
+        }
+    }
+    
+    /**
+     * Test of getFluorophores method, of class FluorophoreIndex.
+     */
+    @Test
+    public void testGetFluorophores() {
+        System.out.println("testGetFluorophores");
+        List<Fluorophore> fluorophores = new ArrayList<>();
+        fluorophores.add(fluorophore(1, 1));
+        fluorophores.add(fluorophore(5, 5));
+        fluorophores.add(fluorophore(2, 3));
+        FluorophoreIndex index = new FluorophoreIndex(fluorophores);
+        
+        List<Fluorophore> result = index.getFluorophores(0, 0, 3, 4);
+        assertEquals(2, result.size());
+        assertSame(fluorophores.get(0), result.get(0));
+        assertSame(fluorophores.get(2), result.get(1));
+        
+        // The upper bounds are exclusive.
+        assertEquals(0, index.getFluorophores(0, 0, 1, 1).size());
+        assertEquals(1, index.getFluorophores(5, 5, 6, 6).size());
+    }
+    
+    /**
+     * An empty index returns nothing.
+     */
+    @Test
+    public void testEmpty() {
+        System.out.println("testEmpty");
+        FluorophoreIndex index =
+                new FluorophoreIndex(new ArrayList<Fluorophore>());
+        assertEquals(0, index.query(-10, -10, 10, 10).length);
+    }
+}
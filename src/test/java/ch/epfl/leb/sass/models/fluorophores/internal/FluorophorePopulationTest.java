@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.fluorophores.internal;
+
+import ch.epfl.leb.sass.models.emitters.internal.AbstractEmitter.Footprint;
+import ch.epfl.leb.sass.models.illuminations.Illumination;
+import ch.epfl.leb.sass.models.photophysics.StateSystem;
+import ch.epfl.leb.sass.models.psfs.PSF;
+import ch.epfl.leb.sass.models.psfs.PSFBuilder;
+
+import cern.jet.random.Binomial;
+import cern.jet.random.engine.MersenneTwister;
+
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+import org.mockito.ArgumentMatchers;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the FluorophorePopulation class.
+ */
+public class FluorophorePopulationTest {
+    
+    private PSFBuilder dummyPSFBuilder;
+    private Footprint footprint;
+    private Binomial binomial;
+    
+    @Before
+    public void setUp() {
+        dummyPSFBuilder = mock(PSFBuilder.class);
+        when(dummyPSFBuilder.build(anyDouble(), anyDouble(), anyDouble()))
+                .thenCallRealMethod();
+        PSF dummyPSF = mock(PSF.class);
+        when(dummyPSFBuilder.eX(anyDouble())).thenReturn(dummyPSFBuilder);
+        when(dummyPSFBuilder.eY(anyDouble())).thenReturn(dummyPSFBuilder);
+        when(dummyPSFBuilder.eZ(anyDouble())).thenReturn(dummyPSFBuilder);
+        when(dummyPSFBuilder.build()).thenReturn(dummyPSF);
+        when(dummyPSF.getRadius()).thenReturn(1.0);
+        doNothing().when(dummyPSF)
+                   .generateSignature(ArgumentMatchers.any(ArrayList.class));
+        footprint = new Footprint(5.5, 5.5, 0, dummyPSFBuilder);
+        binomial = new Binomial(1, 0.5, new MersenneTwister(42));
+    }
+    
+    /**
+     * Creates a population of a system with an on, an off and a bleached
+     * state.
+     */
+    private FluorophorePopulation createPopulation(int count, double kBl) {
+        double[][][] rates = {
+            {{0}, {30}, {kBl}},
+            {{10}, {0}, {0}},
+            {{0}, {0}, {0}}
+        };
+        StateSystem stateSystem = new StateSystem(3, rates);
+        return new FluorophorePopulation(
+                mock(Illumination.class), 100, stateSystem, 1, count,
+                5.5, 5.5, 0, dummyPSFBuilder, footprint, 1, binomial);
+    }
+    
+    /**
+     * The molecules relax to the stationary distribution of the states and
+     * emit the corresponding number of photons.
+     */
+    @Test
+    public void testSimulateBrightness() {
+        System.out.println("simulateBrightness");
+        FluorophorePopulation population = createPopulation(100000, 0);
+        assertEquals(0, population.getOnEmitterCount());
+        assertFalse(population.isOn());
+        
+        double photons = 0;
+        for (int i = 0; i < 20; i++) {
+            photons = population.simulateBrightness();
+            int[] counts = population.getStateCounts();
+            assertEquals(100000, counts[0] + counts[1] + counts[2]);
+        }
+        
+        // One molecule in four is on at equilibrium.
+        assertEquals(25000, population.getOnEmitterCount(), 1000);
+        assertEquals(25000, population.getOnTimeThisFrame(), 1000);
+        assertEquals(25000 * 100, photons, 100000);
+        assertTrue(population.isOn());
+        assertFalse(population.isBleached());
+    }
+    
+    /**
+     * Test of initializeState method, of class FluorophorePopulation.
+     */
+    @Test
+    public void testInitializeState() {
+        System.out.println("initializeState");
+        FluorophorePopulation population = createPopulation(100000, 0);
+        population.initializeState(new double[] {0.25, 0.75, 0});
+        int[] counts = population.getStateCounts();
+        assertEquals(100000, counts[0] + counts[1] + counts[2]);
+        assertEquals(25000, counts[0], 1000);
+        assertEquals(0, counts[2]);
+        
+        population.initializeState(new double[] {0, 0, 1});
+        assertTrue(population.isBleached());
+    }
+    
+    /**
+     * Bleached molecules stay bleached.
+     */
+    @Test
+    public void testBleaching() {
+        System.out.println("bleaching");
+        FluorophorePopulation population = createPopulation(1000, 5);
+        for (int i = 0; i < 50; i++) {
+            population.simulateBrightness();
+        }
+        assertTrue(population.isBleached());
+        assertEquals(1000, population.getStateCounts()[2]);
+        assertEquals(0.0, population.simulateBrightness(), 0.0);
+    }
+    
+    /**
+     * Test of toJson method, of class FluorophorePopulation.
+     */
+    @Test
+    public void testToJson() {
+        System.out.println("toJson");
+        FluorophorePopulation population = createPopulation(10, 0);
+        JsonObject json = population.toJson().getAsJsonObject();
+        assertEquals(10, json.get("count").getAsInt());
+        assertEquals(10, json.getAsJsonArray("stateCounts").get(1).getAsInt());
+        assertEquals(0, json.get("onEmitterCount").getAsInt());
+        assertEquals(5.5, json.get("x").getAsDouble(), 0.0);
+    }
+}
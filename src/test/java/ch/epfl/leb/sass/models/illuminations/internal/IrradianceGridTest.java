@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.illuminations.internal;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the IrradianceGrid class.
+ */
+public class IrradianceGridTest {
+    
+    /**
+     * A profile that is linear in each coordinate.
+     */
+    private static class LinearProfile implements IrradianceGrid.Profile {
+        @Override
+        public double getRelativeIrradiance(double x, double y, double z) {
+            return 1 + 2 * x - 3 * y + 0.5 * z + x * y * z;
+        }
+    }
+    
+    /**
+     * Trilinear interpolation reproduces a trilinear profile exactly.
+     */
+    @Test
+    public void testGetValue() {
+        System.out.println("getValue");
+        LinearProfile profile = new LinearProfile();
+        IrradianceGrid grid = new IrradianceGrid(profile,
+                0, 10, 6, -5, 5, 3, 0, 4, 5);
+        
+        double[][] points = {{0, -5, 0}, {10, 5, 4}, {3.3, 1.2, 0.7},
+                             {9.99, -4.2, 3.5}, {2, 0, 1}};
+        for (double[] p: points) {
+            assertTrue(grid.contains(p[0], p[1], p[2]));
+            assertEquals(profile.getRelativeIrradiance(p[0], p[1], p[2]),
+                         grid.getValue(p[0], p[1], p[2]), 1e-9);
+        }
+    }
+    
+    /**
+     * Points outside of the grid take the value of the nearest boundary.
+     */
+    @Test
+    public void testOutside() {
+        System.out.println("outside");
+        LinearProfile profile = new LinearProfile();
+        IrradianceGrid grid = new IrradianceGrid(profile,
+                0, 10, 6, -5, 5, 3, 0, 4, 5);
+        assertFalse(grid.contains(-1, 0, 0));
+        assertFalse(grid.contains(0, 0, 4.1));
+        assertEquals(profile.getRelativeIrradiance(0, 2, 4),
+                     grid.getValue(-1, 2, 10), 1e-9);
+    }
+    
+    /**
+     * Axes with one grid point are constant.
+     */
+    @Test
+    public void testSinglePointAxes() {
+        System.out.println("singlePointAxes");
+        IrradianceGrid grid = new IrradianceGrid(new LinearProfile(),
+                0, 10, 1, 0, 10, 1, 0, 4, 5);
+        // The x and y samples are taken at the center of the range.
+        assertEquals(1 + 10 - 15 + 0.5 * 2 + 25 * 2,
+                     grid.getValue(0, 10, 2), 1e-9);
+    }
+    
+    /**
+     * Grids with fewer than one point per axis are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyGrid() {
+        System.out.println("emptyGrid");
+        new IrradianceGrid(new LinearProfile(), 0, 1, 0, 0, 1, 1, 0, 1, 1);
+    }
+}
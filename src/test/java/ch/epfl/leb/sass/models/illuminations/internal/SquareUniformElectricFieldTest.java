@@ -28,7 +28,10 @@ import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 /**
  * Unit tests for the SquareUniformElectricField.
@@ -50,6 +53,40 @@ public class SquareUniformElectricFieldTest {
         builder = new SquareUniformElectricField.Builder();
         builder.height(height).width(width).orientation(orientation)
                .refractiveIndex(dummyRefractiveIndex).wavelength(wavelength);
+        
+        // The primitive getN methods delegate to the stubbed Complex getN.
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                Object[] args = invocation.getArguments();
+                Complex n = dummyRefractiveIndex.getN(
+                        (Double) args[0], (Double) args[1], (Double) args[2]);
+                double[] result = (double[]) args[3];
+                result[0] = n.getReal();
+                result[1] = n.getImaginary();
+                return null;
+            }
+        }).when(dummyRefractiveIndex).getN(
+                anyDouble(), anyDouble(), anyDouble(), any(double[].class));
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                Object[] args = invocation.getArguments();
+                double[] x = (double[]) args[0];
+                double[] y = (double[]) args[1];
+                double[] z = (double[]) args[2];
+                double[] re = (double[]) args[4];
+                double[] im = (double[]) args[5];
+                for (int i = 0; i < (Integer) args[3]; i++) {
+                    Complex n = dummyRefractiveIndex.getN(x[i], y[i], z[i]);
+                    re[i] = n.getReal();
+                    im[i] = n.getImaginary();
+                }
+                return null;
+            }
+        }).when(dummyRefractiveIndex).getN(
+                any(double[].class), any(double[].class), any(double[].class),
+                anyInt(), any(double[].class), any(double[].class));
     }
 
     /**
@@ -217,6 +254,76 @@ public class SquareUniformElectricFieldTest {
         
     }
     
+    /**
+     * Test of the primitive getEx method, of class SquareUniformElectricField.
+     */
+    @Test
+    public void testGetExPrimitive() {
+        System.out.println("testGetExPrimitive");
+        SquareUniformElectricField instance = builder.build();
+        
+        when(dummyRefractiveIndex.getN(10, 20, 1))
+           .thenReturn(new Complex(1.0, 0.5));
+        Complex expResult = instance.getEx(10, 20, 1);
+        double[] e = new double[2];
+        instance.getEx(10, 20, 1, e);
+        assertEquals(expResult.getReal(), e[0], 0.0);
+        assertEquals(expResult.getImaginary(), e[1], 0.0);
+        
+        // Outside the illumination area
+        instance.getEx(-10, 20, 1, e);
+        assertEquals(0, e[0], 0.0);
+        assertEquals(0, e[1], 0.0);
+        
+        // No z-component
+        e[0] = 1;
+        e[1] = 1;
+        instance.getEz(10, 20, 1, e);
+        assertEquals(0, e[0], 0.0);
+        assertEquals(0, e[1], 0.0);
+    }
+    
+    /**
+     * Test of the batch getEx and getEy methods, of class
+     * SquareUniformElectricField.
+     */
+    @Test
+    public void testGetExBatch() {
+        System.out.println("testGetExBatch");
+        Vector3D diagonal = new Vector3D(1, 1, 0);
+        SquareUniformElectricField instance = builder.orientation(diagonal)
+                                                     .build();
+        
+        double[] x = {10, 10, -10, 5};
+        double[] y = {20, 20, 20, 45};
+        double[] z = {0, 2, 1, 3};
+        for (int i = 0; i < x.length; i++) {
+            when(dummyRefractiveIndex.getN(x[i], y[i], z[i]))
+               .thenReturn(new Complex(1.33, 0.01 * i));
+        }
+        
+        double[] re = new double[x.length];
+        double[] im = new double[x.length];
+        instance.getEx(x, y, z, x.length, re, im);
+        for (int i = 0; i < x.length; i++) {
+            Complex expResult = instance.getEx(x[i], y[i], z[i]);
+            assertEquals(expResult.getReal(), re[i], 0.0);
+            assertEquals(expResult.getImaginary(), im[i], 0.0);
+        }
+        
+        instance.getEy(x, y, z, x.length, re, im);
+        for (int i = 0; i < x.length; i++) {
+            Complex expResult = instance.getEy(x[i], y[i], z[i]);
+            assertEquals(expResult.getReal(), re[i], 0.0);
+            assertEquals(expResult.getImaginary(), im[i], 0.0);
+        }
+        
+        // Points outside the illumination area have no field.
+        assertEquals(0, re[2], 0.0);
+        assertEquals(0, re[3], 0.0);
+        assertTrue(re[1] != 0);
+    }
+    
     /**
      * Test of getRefractiveIndexMethod, of class SquareUniformElectricField.
      */
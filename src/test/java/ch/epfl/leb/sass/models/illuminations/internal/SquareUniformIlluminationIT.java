@@ -88,6 +88,39 @@ public class SquareUniformIlluminationIT {
         assertEquals(expResult, result, 0.0);
     }
 
+    /**
+     * The precomputed irradiance agrees with the exact one and follows
+     * changes in power.
+     */
+    @Test
+    public void testGetIrradianceFromGrid() {
+        System.out.println("testGetIrradianceFromGrid");
+        SquareUniformIllumination.Builder builder
+                = new SquareUniformIllumination.Builder();
+        builder.height(height)
+               .orientation(orientation)
+               .power(initPower)
+               .refractiveIndex(refractiveIndex)
+               .wavelength(wavelength)
+               .width(width)
+               .irradianceGrid(1, 1, 201, 2.0);
+        SquareUniformIllumination gridded = builder.build();
+        IrradianceGrid grid = gridded.getIrradianceGrid();
+        assertNotNull(grid);
+        
+        for (double z = 0; z <= 3.0; z += 0.13) {
+            double expResult = instance.getIrradiance(5.0, 7.0, z);
+            assertEquals(expResult, gridded.getIrradiance(5.0, 7.0, z),
+                         1e-3 * expResult);
+        }
+        
+        gridded.setPower(10.0);
+        assertSame(grid, gridded.getIrradianceGrid());
+        assertEquals(10.0 * instance.getIrradiance(5.0, 7.0, 0.5),
+                     gridded.getIrradiance(5.0, 7.0, 0.5),
+                     1e-2 * instance.getIrradiance(5.0, 7.0, 0.5));
+    }
+
     /**
      * Test of getPower method, of class SquareUniformIllumination.
      */
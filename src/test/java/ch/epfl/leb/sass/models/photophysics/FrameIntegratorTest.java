@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.photophysics;
+
+import cern.jet.random.Gamma;
+import cern.jet.random.engine.MersenneTwister;
+
+import java.util.Random;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the FrameIntegrator class.
+ */
+public class FrameIntegratorTest {
+    
+    /**
+     * Creates a state system with constant transition rates.
+     */
+    private static StateSystem createStateSystem(double[][] rates) {
+        int n = rates.length;
+        double[][][] scaling = new double[n][n][];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                scaling[i][j] = new double[] {rates[i][j]};
+            }
+        }
+        return new StateSystem(n, scaling);
+    }
+    
+    /**
+     * Test of expm method, of class FrameIntegrator.
+     */
+    @Test
+    public void testExpm() {
+        System.out.println("expm");
+        // Two-state generator with rates a and b.
+        double a = 30, b = 10;
+        double[][] q = {{-a, a}, {b, -b}};
+        double[][] result = FrameIntegrator.expm(q);
+        
+        double decay = Math.exp(-(a + b));
+        assertEquals((b + a * decay) / (a + b), result[0][0], 1e-12);
+        assertEquals((a - a * decay) / (a + b), result[0][1], 1e-12);
+        assertEquals((b - b * decay) / (a + b), result[1][0], 1e-12);
+        assertEquals((a + b * decay) / (a + b), result[1][1], 1e-12);
+    }
+    
+    /**
+     * The sampled frames of a symmetric two-state system match the exact
+     * statistics.
+     */
+    @Test
+    public void testTwoStateSystem() {
+        System.out.println("twoStateSystem");
+        double k = 50;
+        StateSystem system = createStateSystem(new double[][] {{0, k},
+                                                               {k, 0}});
+        FrameIntegrator integrator = system.getFrameIntegrator();
+        assertEquals(k, integrator.getExpectedTransitions(0), 1e-9);
+        assertTrue(integrator.isWorthwhile(0));
+        
+        Random random = new Random(1);
+        Gamma gamma = new Gamma(1.0, 1.0, new MersenneTwister(1));
+        int frames = 20000;
+        int endsOn = 0;
+        double onTime = 0;
+        for (int i = 0; i < frames; i++) {
+            int outcome = integrator.sampleOutcome(0, random.nextDouble());
+            double t = integrator.sampleOnTime(0, outcome, gamma);
+            assertTrue(t >= 0 && t <= 1);
+            onTime += t;
+            if (integrator.getEndState(outcome) == 0) endsOn++;
+        }
+        
+        double expEndsOn = (1 + Math.exp(-2 * k)) / 2;
+        double expOnTime = 0.5 + (1 - Math.exp(-2 * k)) / (4 * k);
+        assertEquals(expEndsOn, (double) endsOn / frames, 0.02);
+        assertEquals(expOnTime, onTime / frames, 0.005);
+    }
+    
+    /**
+     * The on-time distribution matches the one obtained by stepping through
+     * every transition of a system with a long-lived dark state.
+     */
+    @Test
+    public void testMatchesStepping() {
+        System.out.println("matchesStepping");
+        double[][] rates = {{0, 40, 0.5}, {20, 0, 0}, {0.2, 0, 0}};
+        StateSystem system = createStateSystem(rates);
+        FrameIntegrator integrator = system.getFrameIntegrator();
+        
+        Random random = new Random(2);
+        Gamma gamma = new Gamma(1.0, 1.0, new MersenneTwister(2));
+        int frames = 20000;
+        double[] integrated = new double[2];
+        double[] stepped = new double[2];
+        int[] integratedEnds = new int[3];
+        int[] steppedEnds = new int[3];
+        for (int i = 0; i < frames; i++) {
+            int outcome = integrator.sampleOutcome(0, random.nextDouble());
+            double t = integrator.sampleOnTime(0, outcome, gamma);
+            integrated[0] += t;
+            integrated[1] += t * t;
+            integratedEnds[integrator.getEndState(outcome)]++;
+            
+            // Gillespie simulation of the same frame
+            int state = 0;
+            double remaining = 1.0;
+            t = 0;
+            while (true) {
+                double total = 0;
+                for (double rate: rates[state]) total += rate;
+                double dwell = -Math.log(1 - random.nextDouble()) / total;
+                if (dwell > remaining) {
+                    if (state == 0) t += remaining;
+                    break;
+                }
+                if (state == 0) t += dwell;
+                remaining -= dwell;
+                double u = random.nextDouble() * total;
+                int next = 0;
+                while (u >= rates[state][next]) u -= rates[state][next++];
+                state = next;
+            }
+            stepped[0] += t;
+            stepped[1] += t * t;
+            steppedEnds[state]++;
+        }
+        
+        assertEquals(stepped[0] / frames, integrated[0] / frames, 0.01);
+        assertEquals(stepped[1] / frames, integrated[1] / frames, 0.01);
+        for (int s = 0; s < 3; s++) {
+            assertEquals((double) steppedEnds[s] / frames,
+                         (double) integratedEnds[s] / frames, 0.02);
+        }
+    }
+    
+    /**
+     * A fluorophore that cannot leave the emitting state stays on.
+     */
+    @Test
+    public void testNoTransitions() {
+        System.out.println("noTransitions");
+        StateSystem system = createStateSystem(new double[][] {{0, 0},
+                                                               {1, 0}});
+        FrameIntegrator integrator = system.getFrameIntegrator();
+        assertFalse(integrator.isWorthwhile(0));
+        
+        Gamma gamma = new Gamma(1.0, 1.0, new MersenneTwister(3));
+        int outcome = integrator.sampleOutcome(0, 0.99);
+        assertEquals(0, integrator.getEndState(outcome));
+        assertEquals(1.0, integrator.sampleOnTime(0, outcome, gamma), 0.0);
+    }
+    
+    /**
+     * The frame statistics are recomputed when the rates change.
+     */
+    @Test
+    public void testRecalculateLifetimes() {
+        System.out.println("recalculateLifetimes");
+        double[][][] scaling = {{{0}, {0, 100}}, {{100}, {0}}};
+        StateSystem system = new StateSystem(2, scaling);
+        FrameIntegrator first = system.getFrameIntegrator();
+        assertSame(first, system.getFrameIntegrator());
+        
+        system.recalculate_lifetimes(2.0);
+        FrameIntegrator second = system.getFrameIntegrator();
+        assertNotSame(first, second);
+        assertTrue(second.getExpectedTransitions(0)
+                   > first.getExpectedTransitions(0));
+    }
+}
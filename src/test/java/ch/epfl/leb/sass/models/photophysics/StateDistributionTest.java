@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.models.photophysics;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for the StateDistribution class.
+ */
+public class StateDistributionTest {
+    
+    /**
+     * Creates a state system with constant transition rates.
+     */
+    private static StateSystem createStateSystem(double[][] rates) {
+        int n = rates.length;
+        double[][][] scaling = new double[n][n][];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                scaling[i][j] = new double[] {rates[i][j]};
+            }
+        }
+        return new StateSystem(n, scaling);
+    }
+    
+    /**
+     * Test of atTime method, of class StateDistribution.
+     */
+    @Test
+    public void testAtTime() {
+        System.out.println("atTime");
+        double a = 2, b = 1;
+        StateSystem system = createStateSystem(new double[][] {{0, a, 0},
+                                                               {b, 0, 0},
+                                                               {0, 0, 0}});
+        assertArrayEquals(new double[] {1, 0, 0},
+                          StateDistribution.atTime(system, 0, 0), 1e-12);
+        
+        double t = 0.3;
+        double decay = Math.exp(-(a + b) * t);
+        assertArrayEquals(
+                new double[] {(b + a * decay) / (a + b),
+                              (a - a * decay) / (a + b), 0},
+                StateDistribution.atTime(system, 0, t), 1e-12);
+        assertArrayEquals(new double[] {b / (a + b), a / (a + b), 0},
+                          StateDistribution.atTime(system, 0, 100), 1e-9);
+    }
+    
+    /**
+     * Without bleaching, the quasi-stationary distribution is the stationary
+     * distribution.
+     */
+    @Test
+    public void testQuasiStationaryWithoutBleaching() {
+        System.out.println("quasiStationaryWithoutBleaching");
+        double a = 2, b = 1;
+        StateSystem system = createStateSystem(new double[][] {{0, a, 0},
+                                                               {b, 0, 0},
+                                                               {0, 0, 0}});
+        assertArrayEquals(new double[] {b / (a + b), a / (a + b), 0},
+                          StateDistribution.quasiStationary(system, 0), 1e-9);
+        assertArrayEquals(new double[] {b / (a + b), a / (a + b), 0},
+                          StateDistribution.quasiStationary(system, 1), 1e-9);
+    }
+    
+    /**
+     * With bleaching, the quasi-stationary distribution is the long time
+     * distribution of the unbleached fluorophores.
+     */
+    @Test
+    public void testQuasiStationaryWithBleaching() {
+        System.out.println("quasiStationaryWithBleaching");
+        StateSystem system = createStateSystem(new double[][] {{0, 1, 0.5},
+                                                               {1, 0, 0},
+                                                               {0, 0, 0}});
+        double[] longTime = StateDistribution.atTime(system, 0, 200);
+        double survival = longTime[0] + longTime[1];
+        assertTrue(survival > 0);
+        
+        double[] result = StateDistribution.quasiStationary(system, 0);
+        assertEquals(longTime[0] / survival, result[0], 1e-6);
+        assertEquals(longTime[1] / survival, result[1], 1e-6);
+        assertEquals(0, result[2], 0);
+        
+        // A bleached fluorophore stays bleached.
+        assertArrayEquals(new double[] {0, 0, 1},
+                          StateDistribution.quasiStationary(system, 2), 0);
+    }
+    
+    /**
+     * Test of sample method, of class StateDistribution.
+     */
+    @Test
+    public void testSample() {
+        System.out.println("sample");
+        double[] distribution = {0.25, 0, 0.75, 0};
+        assertEquals(0, StateDistribution.sample(distribution, 0.0));
+        assertEquals(0, StateDistribution.sample(distribution, 0.2));
+        assertEquals(2, StateDistribution.sample(distribution, 0.25));
+        assertEquals(2, StateDistribution.sample(distribution, 0.99));
+        // Rounding errors never select a state of zero probability.
+        assertEquals(1, StateDistribution.sample(new double[] {0.25, 0.7, 0},
+                                                 0.999));
+    }
+}
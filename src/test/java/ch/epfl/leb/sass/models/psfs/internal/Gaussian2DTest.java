@@ -123,6 +123,56 @@ public class Gaussian2DTest {
         builder.eX(0).eY(0).eZ(0);
         psf = builder.build();
         
-        assertEquals(psf.getRadius(), 1.2740 * 3, 0.0001);
+        // 99% of the energy of the pixelated Gaussian
+        double sigma = Math.sqrt(1.2740 * 1.2740 + 1.0 / 12);
+        assertEquals(sigma * Math.sqrt(-2 * Math.log(0.01)), psf.getRadius(),
+                     0.0001);
+    }
+    
+    /**
+     * Test of getRadius method, of class Gaussian2D, with a smaller energy
+     * fraction.
+     */
+    @Test
+    public void testGetRadiusEnergyFraction() {
+        System.out.println("testGetRadiusEnergyFraction");
+        double sigma = Math.sqrt(1.2740 * 1.2740 + 1.0 / 12);
+        
+        PSF psf = new Gaussian2D.Builder().FWHM(3).energyFraction(0.5)
+                                          .build();
+        assertEquals(sigma * Math.sqrt(2 * Math.log(2)), psf.getRadius(),
+                     0.0001);
+    }
+    
+    /**
+     * Energy fractions outside of (0, 1) are rejected.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testEnergyFractionInvalid() {
+        System.out.println("testEnergyFractionInvalid");
+        new Gaussian2D.Builder().energyFraction(1);
+    }
+    
+    /**
+     * Test of generateSignatureX and generateSignatureY methods, of class
+     * Gaussian2D.
+     * 
+     * The product of the signatures of a column and a row is the signature
+     * of their pixel.
+     */
+    @Test
+    public void testGenerateSignatureXY() throws Exception {
+        System.out.println("testGenerateSignatureXY");
+        Gaussian2D psf = new Gaussian2D.Builder().FWHM(3).eX(0.3).eY(-1.6).build();
+        double[] signaturesX = new double[7];
+        double[] signaturesY = new double[5];
+        psf.generateSignatureX(-3, signaturesX);
+        psf.generateSignatureY(-4, signaturesY);
+        for (int i = 0; i < signaturesX.length; i++) {
+            for (int j = 0; j < signaturesY.length; j++) {
+                assertEquals(psf.generatePixelSignature(i - 3, j - 4),
+                             signaturesX[i] * signaturesY[j], 0);
+            }
+        }
     }
 }
@@ -44,6 +44,28 @@ public class Gaussian3DTest {
         this.builder = builder;
     }
 
+    /**
+     * Building a PSF at a given position gives the same PSF as setting the
+     * position on the builder, and leaves the builder unchanged.
+     */
+    @Test
+    public void testBuildAtPosition() throws Exception {
+        System.out.println("testBuildAtPosition");
+        builder.eX(0).eY(0).eZ(0);
+        double expected = builder.build().generatePixelSignature(0, 0);
+        
+        PSF psf = builder.build(-0.4, -0.4, 1.5);
+        builder.eX(-0.4).eY(-0.4).eZ(1.5);
+        assertEquals(builder.build().generatePixelSignature(0, 0),
+                     psf.generatePixelSignature(0, 0), 0.0);
+        assertEquals(builder.build().getRadius(), psf.getRadius(), 0.0);
+        
+        builder.eX(0).eY(0).eZ(0);
+        builder.build(-0.4, -0.4, 1.5);
+        assertEquals(expected, builder.build().generatePixelSignature(0, 0),
+                     0.0);
+    }
+
     /**
      * Test of generatePixelSignature method, of class Gaussian3D.
      */
@@ -159,7 +181,56 @@ public class Gaussian3DTest {
         builder.eX(0).eY(0).eZ(0);
         psf = builder.build();
         
-        double actualRadius = 5 * 1.2740;
-        assertEquals(psf.getRadius(), actualRadius, 0.0001);
-    }  
+        // 99.99% of the energy of the pixelated Gaussian
+        double sigma = Math.sqrt(1.2740 * 1.2740 + 1.0 / 12);
+        double actualRadius = sigma * Math.sqrt(-2 * Math.log(1e-4));
+        assertEquals(actualRadius, psf.getRadius(), 0.0001);
+    }
+    
+    /**
+     * The radius grows with the width of the PSF when it is out of focus.
+     */
+    @Test
+    public void testGetRadiusOutOfFocus() {
+        System.out.println("testGetRadiusOutOfFocus");
+        double sigma0 = fwhm / 2.3548;
+        double zR = 2 * sigma0 / numericalAperture;
+        double z = 2;
+        
+        builder.eX(0).eY(0).eZ(z).stageDisplacement(-z / 2);
+        PSF psf = builder.build();
+        
+        // The stage displacement adds to the emitter's z-position
+        double defocus = z / 2 / zR;
+        double sigma = sigma0 * Math.sqrt(1 + defocus * defocus);
+        double variance = sigma * sigma + 1.0 / 12;
+        double actualRadius = Math.sqrt(-2 * variance * Math.log(1e-4));
+        assertEquals(actualRadius, psf.getRadius(), 0.0001);
+        
+        builder.eZ(0).stageDisplacement(0);
+        assertTrue(psf.getRadius() > builder.build().getRadius());
+    }
+    
+    /**
+     * Test of generateSignatureX and generateSignatureY methods, of class
+     * Gaussian3D.
+     * 
+     * The product of the signatures of a column and a row is the signature
+     * of their pixel.
+     */
+    @Test
+    public void testGenerateSignatureXY() throws Exception {
+        System.out.println("testGenerateSignatureXY");
+        Gaussian3D psf = new Gaussian3D.Builder().FWHM(3).NA(1.3).stageDisplacement(1).eX(0.3).eY(-1.6).build();
+        double[] signaturesX = new double[7];
+        double[] signaturesY = new double[5];
+        psf.generateSignatureX(-3, signaturesX);
+        psf.generateSignatureY(-4, signaturesY);
+        for (int i = 0; i < signaturesX.length; i++) {
+            for (int j = 0; j < signaturesY.length; j++) {
+                assertEquals(psf.generatePixelSignature(i - 3, j - 4),
+                             signaturesX[i] * signaturesY[j], 0);
+            }
+        }
+    }
 }
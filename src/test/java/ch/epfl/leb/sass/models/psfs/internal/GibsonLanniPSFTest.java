@@ -158,6 +158,31 @@ public class GibsonLanniPSFTest {
         assertEquals(psf.getRadius(), 24.6, 0.1);
     }
     
+    /**
+     * Test of getRadius method, of class GibsonLanniPSF, with a smaller energy
+     * fraction.
+     */
+    @Test
+    public void testGetRadiusEnergyFraction() throws Exception {
+        System.out.println("testGetRadiusEnergyFraction");
+        this.builder.eX(0).eY(0).eZ(2).energyFraction(0.9);
+        PSF psf = builder.build();
+        double radius = psf.getRadius();
+        assertEquals(14.0, radius, 0.1);
+        
+        // The pixels within the radius receive about 90% of the photons
+        double sum = 0;
+        int r = (int) radius;
+        for (int x = -r; x <= r; x++) {
+            for (int y = -r; y <= r; y++) {
+                if (x * x + y * y <= radius * radius) {
+                    sum += psf.generatePixelSignature(x, y);
+                }
+            }
+        }
+        assertEquals(0.9, sum, 0.02);
+    }
+    
     /**
      * Test of getRadius method, of class GibsonLanniPSF, with maxRadius small.
      */
@@ -169,4 +194,81 @@ public class GibsonLanniPSFTest {
         assertEquals(psf.getRadius(), 3, 0.1);
     }
     
+    /**
+     * The planes computed with a cached basis are the same as those
+     * computed with a new one.
+     */
+    @Test
+    public void testCachedBasis() {
+        System.out.println("testCachedBasis");
+        GibsonLanniPSF.clearCache();
+        this.builder.eX(0.3).eY(-0.2).eZ(2);
+        GibsonLanniPSF first = this.builder.build();
+        double expected = first.generatePixelSignature(1, 1);
+        
+        // Compute another plane first so that the basis is reused.
+        GibsonLanniPSF.clearCache();
+        this.builder.eZ(0.5).build();
+        this.builder.eZ(2);
+        GibsonLanniPSF.clearPlanes();
+        GibsonLanniPSF second = this.builder.build();
+        assertEquals(expected, second.generatePixelSignature(1, 1), 0);
+    }
+    
+    /**
+     * Stage displacements are rounded to the nearest axial plane, so nearby
+     * stage positions give the same PSF.
+     */
+    @Test
+    public void testRoundStageDisplacement() {
+        System.out.println("testRoundStageDisplacement");
+        assertEquals(-2.0, this.builder.roundStageDisplacement(-2.001), 1e-12);
+        assertEquals(-2.005, this.builder.roundStageDisplacement(-2.004),
+                     1e-12);
+        
+        this.builder.eX(0.3).eY(-0.2).eZ(2).stageDisplacement(-2);
+        double expected = this.builder.build().generatePixelSignature(1, 1);
+        this.builder.stageDisplacement(-2.001);
+        assertEquals(expected,
+                     this.builder.build().generatePixelSignature(1, 1), 0);
+        this.builder.stageDisplacement(-2.5);
+        assertNotEquals(expected,
+                        this.builder.build().generatePixelSignature(1, 1), 0);
+    }
+    
+    /**
+     * The signatures of a whole footprint are the same as those of its
+     * individual pixels and move with the emitter by whole pixels.
+     */
+    @Test
+    public void testGenerateSignatureSubpixel() {
+        System.out.println("testGenerateSignatureSubpixel");
+        this.builder.eX(0.3).eY(-0.2).eZ(2);
+        GibsonLanniPSF psf = this.builder.build();
+        this.builder.eX(1.3).eY(0.8).eZ(2);
+        GibsonLanniPSF shifted = this.builder.build();
+        
+        ArrayList<Pixel> pixels = new ArrayList();
+        for (int x = -20; x <= 20; x++) {
+            for (int y = -20; y <= 20; y++) {
+                pixels.add(new Pixel(x, y, 0.0));
+            }
+        }
+        psf.generateSignature(pixels);
+        
+        double sum = 0;
+        for (Pixel pixel : pixels) {
+            assertEquals(psf.generatePixelSignature(pixel.x, pixel.y),
+                         pixel.getSignature(), 1e-9);
+            assertEquals(shifted.generatePixelSignature(pixel.x + 1,
+                                                        pixel.y + 1),
+                         pixel.getSignature(), 1e-9);
+            sum += pixel.getSignature();
+        }
+        assertEquals(1.0, sum, 0.05);
+        
+        // Pixels beyond the grid of the PSF receive no signal.
+        assertEquals(0.0, psf.generatePixelSignature(100, 0), 0);
+    }
+    
 }
@@ -17,6 +17,8 @@
  */
 package ch.epfl.leb.sass.models.samples.internal;
 
+import ch.epfl.leb.sass.models.samples.RefractiveIndex;
+
 import org.apache.commons.math3.complex.Complex;
 
 import org.junit.Before;
@@ -57,4 +59,59 @@ public class UniformRefractiveIndexTest {
         assertTrue(expResult.equals(result));
     }
     
+    /**
+     * Test of the primitive getN methods, of class UniformRefractiveIndex.
+     */
+    @Test
+    public void testGetNPrimitive() {
+        double[] n = new double[2];
+        refractiveIndex.getN(1.0, 2.1, 377.42, n);
+        assertEquals(1.0, n[0], 0.0);
+        assertEquals(0.5, n[1], 0.0);
+        assertEquals(0.5, refractiveIndex.getImaginaryN(1.0, 2.1, 377.42),
+                     0.0);
+        
+        double[] x = {0, 1.0, 1.0};
+        double[] y = {0, 0, 2.1};
+        double[] z = {0, 0, 377.42};
+        double[] re = new double[4];
+        double[] im = new double[4];
+        refractiveIndex.getN(x, y, z, 3, re, im);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(1.0, re[i], 0.0);
+            assertEquals(0.5, im[i], 0.0);
+        }
+        
+        // Entries beyond count are left untouched.
+        assertEquals(0.0, re[3], 0.0);
+    }
+    
+    /**
+     * Implementations that only provide the Complex method get the primitive
+     * methods from the interface.
+     */
+    @Test
+    public void testGetNDefaultPrimitive() {
+        System.out.println("testGetNDefaultPrimitive");
+        RefractiveIndex custom = new RefractiveIndex() {
+            @Override
+            public Complex getN(double x, double y, double z) {
+                return new Complex(x, z);
+            }
+        };
+        
+        double[] n = new double[2];
+        custom.getN(1.5, 0, 2.5, n);
+        assertEquals(1.5, n[0], 0.0);
+        assertEquals(2.5, n[1], 0.0);
+        assertEquals(2.5, custom.getImaginaryN(1.5, 0, 2.5), 0.0);
+        
+        double[] re = new double[2];
+        double[] im = new double[2];
+        custom.getN(new double[] {1, 2}, new double[2], new double[] {3, 4},
+                    2, re, im);
+        assertArrayEquals(new double[] {1, 2}, re, 0.0);
+        assertArrayEquals(new double[] {3, 4}, im, 0.0);
+    }
+    
 }
@@ -647,6 +647,24 @@ public class RPCServerIT {
         assert(result2 >= 0);
     }
     
+    /**
+     * Test of getGroundTruth method, of class RemoteSimulationServiceHandler.
+     */
+    @Test
+    public void testGetGroundTruth() throws UnknownSimulationIdException,
+                                            TException {
+        System.out.println("testGetGroundTruth");
+        
+        RemoteSimulationService.Client client = rpcClient.getClient();
+        client.advance(sims[0].getId(), 3);
+        String result = client.getGroundTruth(sims[0].getId(), 1, 4);
+        
+        JsonObject json = new JsonParser().parse(result).getAsJsonObject();
+        assertEquals(1, json.get("firstStep").getAsInt());
+        assertEquals(3, json.getAsJsonArray("onCount").size());
+        assertEquals(3, json.getAsJsonArray("stateCounts").size());
+    }
+    
     /**
      * Test of incrementTimeStep method,
      * of class RemoteSimulationServiceHandler.
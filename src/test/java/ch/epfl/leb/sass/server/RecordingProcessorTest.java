@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.server;
+
+import java.nio.ByteBuffer;
+
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.transport.TMemoryBuffer;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the RecordingProcessor class.
+ */
+public class RecordingProcessorTest {
+    
+    /**
+     * The method name, simulation ID and payload of a call are recorded.
+     */
+    @Test
+    public void testRecorders() throws Exception {
+        System.out.println("testRecorders");
+        RemoteSimulationServiceHandler handler =
+                mock(RemoteSimulationServiceHandler.class);
+        when(handler.getNextImage(5)).thenReturn(ByteBuffer.allocate(100));
+        RemoteSimulationService.Processor processor =
+                new RemoteSimulationService.Processor(handler);
+        
+        TMemoryBuffer request = new TMemoryBuffer(64);
+        new RemoteSimulationService.Client(new TBinaryProtocol(request))
+                .send_getNextImage(5);
+        
+        RecordingProcessor.InputRecorder input =
+                new RecordingProcessor.InputRecorder(
+                        new TBinaryProtocol(request));
+        RecordingProcessor.OutputRecorder output =
+                new RecordingProcessor.OutputRecorder(
+                        new TBinaryProtocol(new TMemoryBuffer(256)));
+        assertTrue(processor.process(input, output));
+        
+        verify(handler).getNextImage(5);
+        assertEquals("getNextImage", input.method);
+        assertEquals(5, input.simulationId);
+        assertEquals(100, output.payloadBytes);
+    }
+    
+    /**
+     * Calls through the wrapper reach the wrapped processor.
+     */
+    @Test
+    public void testProcess() throws Exception {
+        System.out.println("testProcess");
+        RemoteSimulationServiceHandler handler =
+                mock(RemoteSimulationServiceHandler.class);
+        RecordingProcessor processor = new RecordingProcessor(
+                new RemoteSimulationService.Processor(handler));
+        
+        TMemoryBuffer request = new TMemoryBuffer(64);
+        new RemoteSimulationService.Client(new TBinaryProtocol(request))
+                .send_incrementTimeStep(3);
+        
+        assertTrue(processor.process(new TBinaryProtocol(request),
+                new TBinaryProtocol(new TMemoryBuffer(64))));
+        verify(handler).incrementTimeStep(3);
+    }
+}
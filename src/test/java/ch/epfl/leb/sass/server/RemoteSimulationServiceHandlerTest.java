@@ -17,16 +17,26 @@
  */
 package ch.epfl.leb.sass.server;
 
+import ch.epfl.leb.sass.models.Microscope;
+import ch.epfl.leb.sass.models.components.LaserSchedule;
+import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
 import ch.epfl.leb.sass.simulator.internal.DefaultSimulationManager;
 import ch.epfl.leb.sass.simulator.internal.RPCSimulator;
 import ch.epfl.leb.sass.utils.images.ImageS;
 import ch.epfl.leb.sass.utils.images.ImageShapeException;
 import ch.epfl.leb.sass.utils.images.internal.DefaultImageS;
+import ch.epfl.leb.sass.utils.metrics.SimulationMetrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 import org.junit.Test;
 import static org.junit.Assert.*;
+import org.mockito.ArgumentCaptor;
 import static org.mockito.Mockito.*;
 
 /**
@@ -64,7 +74,9 @@ public class RemoteSimulationServiceHandlerTest {
         System.out.println("getNextImage");
 
         // Instructs the wrapped simulator to return the ImageJ test image.
+        SimulationMetrics metrics = new SimulationMetrics();
         when(this.mockSimulator.getNextImage()).thenReturn(is);
+        when(this.mockSimulator.getMetrics()).thenReturn(metrics);
         when(this.mockManager.getSimulator(SIM_ID)).thenReturn(mockSimulator);
         ByteBuffer bufferedImage = this.handler.getNextImage(SIM_ID);
         
@@ -73,8 +85,141 @@ public class RemoteSimulationServiceHandlerTest {
         bufferedImage.get(result);
         
         assertArrayEquals(expResult, result);
+        assertEquals(1, metrics.getHistogram(
+                SimulationMetrics.Stage.SERIALIZATION).getCount());
 
     }
+    
+    /**
+     * Test of getMetrics method, of class RemoteSimulationServiceHandler.
+     */
+    @Test
+    public void testGetMetrics() throws UnknownSimulationIdException {
+        System.out.println("getMetrics");
+        
+        SimulationMetrics metrics = new SimulationMetrics();
+        metrics.record(SimulationMetrics.Stage.FRAME, 2000000);
+        metrics.addFrame(10);
+        when(this.mockSimulator.getMetrics()).thenReturn(metrics);
+        when(this.mockManager.getSimulator(SIM_ID)).thenReturn(mockSimulator);
+        
+        JsonObject json = new JsonParser().parse(this.handler.getMetrics(SIM_ID))
+                                          .getAsJsonObject();
+        assertEquals(1, json.get("frames").getAsLong());
+        assertEquals(500, json.get("framesPerSecond").getAsDouble(), 1e-9);
+        assertEquals(1, json.getAsJsonObject("stages")
+                            .getAsJsonObject("FRAME")
+                            .get("count").getAsLong());
+    }
+    
+    /**
+     * Test of getEmittersInRegion method, of class RemoteSimulationServiceHandler.
+     */
+    @Test
+    public void testGetEmittersInRegion() throws UnknownSimulationIdException {
+        System.out.println("getEmittersInRegion");
+        
+        Fluorophore fluor = mock(Fluorophore.class);
+        JsonObject fluorJson = new JsonObject();
+        fluorJson.addProperty("x", 1.5);
+        when(fluor.toJson()).thenReturn(fluorJson);
+        Microscope microscope = mock(Microscope.class);
+        when(microscope.getFluorophoresInRegion(0, 0, 4, 4))
+                .thenReturn(Arrays.asList(fluor));
+        when(this.mockSimulator.getMicroscope()).thenReturn(microscope);
+        when(this.mockManager.getSimulator(SIM_ID)).thenReturn(mockSimulator);
+        
+        JsonArray json = new JsonParser()
+                .parse(this.handler.getEmittersInRegion(SIM_ID, 0, 0, 4, 4))
+                .getAsJsonArray();
+        assertEquals(1, json.size());
+        assertEquals(1.5, json.get(0).getAsJsonObject().get("x").getAsDouble(),
+                     0.0);
+    }
+    
+    /**
+     * Test of getOnEmitterCountInRegion method, of class RemoteSimulationServiceHandler.
+     */
+    @Test
+    public void testGetOnEmitterCountInRegion()
+            throws UnknownSimulationIdException {
+        System.out.println("getOnEmitterCountInRegion");
+        
+        Microscope microscope = mock(Microscope.class);
+        when(microscope.getOnEmitterCount(1, 2, 3, 4)).thenReturn(7);
+        when(this.mockSimulator.getMicroscope()).thenReturn(microscope);
+        when(this.mockManager.getSimulator(SIM_ID)).thenReturn(mockSimulator);
+        
+        assertEquals(7, this.handler.getOnEmitterCountInRegion(SIM_ID, 1, 2, 3, 4));
+    }
+    
+    /**
+     * Test of setStagePosition method, of class RemoteSimulationServiceHandler.
+     */
+    @Test
+    public void testSetStagePosition() throws UnknownSimulationIdException {
+        System.out.println("setStagePosition");
+        
+        Microscope microscope = mock(Microscope.class);
+        when(this.mockSimulator.getMicroscope()).thenReturn(microscope);
+        when(this.mockManager.getSimulator(SIM_ID)).thenReturn(mockSimulator);
+        
+        this.handler.setStagePosition(SIM_ID, 1.0, 2.0, -0.5);
+        verify(microscope).setStagePosition(1.0, 2.0, -0.5);
+    }
+    
+    /**
+     * Test of setStageTrajectory method, of class RemoteSimulationServiceHandler.
+     */
+    @Test
+    public void testSetStageTrajectory() throws UnknownSimulationIdException {
+        System.out.println("setStageTrajectory");
+        
+        Microscope microscope = mock(Microscope.class);
+        when(this.mockSimulator.getMicroscope()).thenReturn(microscope);
+        when(this.mockManager.getSimulator(SIM_ID)).thenReturn(mockSimulator);
+        
+        this.handler.setStageTrajectory(SIM_ID, "[[0, 0, 0], [0.1, 0.2, 0.3]]");
+        ArgumentCaptor<double[][]> positions =
+                ArgumentCaptor.forClass(double[][].class);
+        verify(microscope).setStageTrajectory(positions.capture());
+        assertEquals(2, positions.getValue().length);
+        assertArrayEquals(new double[] {0.1, 0.2, 0.3},
+                          positions.getValue()[1], 0.0);
+    }
+    
+    /**
+     * Test of setLaserSchedule method, of class RemoteSimulationServiceHandler.
+     */
+    @Test
+    public void testSetLaserSchedule() throws UnknownSimulationIdException {
+        System.out.println("setLaserSchedule");
+        
+        Microscope microscope = mock(Microscope.class);
+        when(this.mockSimulator.getMicroscope()).thenReturn(microscope);
+        when(this.mockManager.getSimulator(SIM_ID)).thenReturn(mockSimulator);
+        
+        this.handler.setLaserSchedule(SIM_ID,
+                "{\"durations\": [0.2, 0.8], \"powers\": [5, 0], "
+                + "\"repeat\": true}");
+        ArgumentCaptor<LaserSchedule> schedule =
+                ArgumentCaptor.forClass(LaserSchedule.class);
+        verify(microscope).setLaserSchedule(schedule.capture());
+        assertTrue(schedule.getValue().isRepeating());
+        assertEquals(5.0, schedule.getValue().getPower(1.1), 0.0);
+        
+        this.handler.setLaserSchedule(SIM_ID, "null");
+        verify(microscope).setLaserSchedule(null);
+    }
+    
+    /**
+     * Test of getMetrics method for an unknown simulation.
+     */
+    @Test(expected = UnknownSimulationIdException.class)
+    public void testGetMetricsUnknownId() throws UnknownSimulationIdException {
+        System.out.println("getMetricsUnknownId");
+        this.handler.getMetrics(SIM_ID + 1);
+    }
 
     /**
      * Test of getServerStatus method, of class RemoteSimulationServiceHandler.
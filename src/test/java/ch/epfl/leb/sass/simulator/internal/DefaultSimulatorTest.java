@@ -20,6 +20,8 @@ import ch.epfl.leb.sass.logging.Message;
 import ch.epfl.leb.sass.logging.MessageType;
 import ch.epfl.leb.sass.logging.internal.FluorophoreStateTransition;
 import ch.epfl.leb.sass.models.Microscope;
+import ch.epfl.leb.sass.models.fluorophores.Fluorophore;
+import ch.epfl.leb.sass.models.fluorophores.FluorophoreStatistics;
 
 import org.junit.Test;
 import org.junit.Rule;
@@ -28,6 +30,8 @@ import org.junit.rules.TemporaryFolder;
 import static org.junit.Assert.*;
 
 import static org.mockito.Mockito.*;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -39,6 +43,8 @@ import java.io.File;
 import java.io.IOException;
 import java.io.FileInputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -76,10 +82,59 @@ public class DefaultSimulatorTest {
                                               nextState);
         
         dummyMicroscope = mock(Microscope.class);
+        when(dummyMicroscope.getStatistics()).thenReturn(
+                new FluorophoreStatistics(new ArrayList<Fluorophore>(), 2));
         
     }
     
     
+    /**
+     * Test of advance method, of class DefaultSimulator.
+     */
+    @Test
+    public void testAdvance() {
+        System.out.println("testAdvance");
+        int[] res = {32, 32};
+        when(dummyMicroscope.getResolution()).thenReturn(res);
+        when(dummyMicroscope.getFovSize()).thenReturn(1.0);
+        
+        // The microscope records a frame of statistics for every time step
+        // while the number of emitting molecules drops from 3 to 1.
+        final Fluorophore fluor = mock(Fluorophore.class);
+        when(fluor.getOnEmitterCount()).thenReturn(3, 2, 1);
+        final FluorophoreStatistics statistics = new FluorophoreStatistics(
+                Arrays.asList(fluor), 2);
+        when(dummyMicroscope.getStatistics()).thenReturn(statistics);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) {
+                int nFrames = invocation.getArgument(0);
+                for (int i = 0; i < nFrames; i++) {
+                    statistics.recordFrame();
+                    statistics.beginUpdate(fluor);
+                    statistics.endUpdate(0, fluor);
+                }
+                return null;
+            }
+        }).when(dummyMicroscope).advance(anyInt());
+        DefaultSimulator sim = new DefaultSimulator(dummyMicroscope);
+        
+        sim.advance(3);
+        
+        // No frame is rendered, but the ground truth of every step is kept.
+        verify(dummyMicroscope).advance(3);
+        verify(dummyMicroscope, never()).simulateFrame();
+        assertEquals(0.0, sim.getTrueSignal(0), 0.0);
+        assertEquals(3 * sim.getTrueSignal(3), sim.getTrueSignal(1), 1e-9);
+        assertEquals(0, sim.getImageCount());
+        
+        JsonObject json = sim.toJsonGroundTruth(2, 4).getAsJsonObject();
+        assertEquals(2, json.get("firstStep").getAsInt());
+        assertEquals(2, json.getAsJsonArray("onCount").size());
+        assertEquals(2, json.getAsJsonArray("onCount").get(0).getAsLong());
+        assertEquals(1, json.getAsJsonArray("onCount").get(1).getAsLong());
+    }
+    
     /**
      * Test of saveMessages method, of class DefaultSimulator.
      */
@@ -65,6 +65,29 @@ public class DefaultImageSTest {
         assertEquals(expResult, result);
     }
 
+    /**
+     * Test of the constructor from 16-bit pixels, of class DefaultImageS.
+     */
+    @Test
+    public void testShortPixels() {
+        System.out.println("shortPixels");
+        short[] pixels = {1, 2, 3, (short) 65535, 5, 6};
+        DefaultImageS image = new DefaultImageS(3, 2, pixels);
+        assertEquals(3, image.getWidth());
+        assertEquals(2, image.getHeight());
+        assertEquals(1, image.getSize());
+        assertArrayEquals(pixels, image.getPixelData(0));
+    }
+    
+    /**
+     * The number of pixels must match the shape of the image.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testShortPixelsShape() {
+        System.out.println("shortPixelsShape");
+        new DefaultImageS(3, 3, new short[6]);
+    }
+    
     /**
      * Test of getTitle method, of class DefaultImageS.
      */
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.jfr;
+
+import java.io.File;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Tests for the FlightRecorderEvents class.
+ */
+public class FlightRecorderEventsTest {
+    
+    @Rule
+    public TemporaryFolder tempDir = new TemporaryFolder();
+    
+    /**
+     * Committing a missing event does nothing.
+     */
+    @Test
+    public void testCommitNull() {
+        System.out.println("testCommitNull");
+        FlightRecorderEvents.commitFrame(null, 0, 0, 0, new long[6]);
+        FlightRecorderEvents.commitPsfPlane(null, "test", 0, 0, 0);
+        FlightRecorderEvents.commitFluorophoreGeneration(null, "test", 0);
+        FlightRecorderEvents.commitRemoteCall(null, "test", 0, 0);
+    }
+    
+    /**
+     * Test of commitFrame and commitRemoteCall, of class FlightRecorderEvents.
+     */
+    @Test
+    public void testRecording() throws Exception {
+        System.out.println("testRecording");
+        assumeTrue(FlightRecorderEvents.AVAILABLE);
+        
+        // No events are created before a recording is started.
+        assertNull(FlightRecorderEvents.beginFrame());
+        
+        File file = tempDir.newFile("test.jfr");
+        Recording recording = new Recording();
+        recording.enable("ch.epfl.leb.sass.Frame");
+        recording.enable("ch.epfl.leb.sass.RemoteCall");
+        recording.disable("ch.epfl.leb.sass.PsfPlane");
+        recording.start();
+        
+        Object frame = FlightRecorderEvents.beginFrame();
+        assertNotNull(frame);
+        FlightRecorderEvents.commitFrame(frame, 3, 100, 42,
+                                         new long[] {1, 2, 3, 4, 5, 6});
+        Object call = FlightRecorderEvents.beginRemoteCall();
+        assertNotNull(call);
+        FlightRecorderEvents.commitRemoteCall(call, "getNextImage", 7, 2048);
+        
+        // Disabled events are not created.
+        assertNull(FlightRecorderEvents.beginPsfPlane());
+        
+        recording.stop();
+        assertNull(FlightRecorderEvents.beginFrame());
+        recording.dump(file.toPath());
+        recording.close();
+        
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file.toPath());
+        RecordedEvent frameEvent = null;
+        RecordedEvent callEvent = null;
+        for (RecordedEvent event: events) {
+            String name = event.getEventType().getName();
+            if (name.equals("ch.epfl.leb.sass.Frame")) {
+                frameEvent = event;
+            } else if (name.equals("ch.epfl.leb.sass.RemoteCall")) {
+                callEvent = event;
+            }
+        }
+        
+        assertNotNull(frameEvent);
+        assertEquals(3L, frameEvent.getLong("frame"));
+        assertEquals(100, frameEvent.getInt("emitters"));
+        assertEquals(42, frameEvent.getInt("activeEmitters"));
+        assertEquals(3L, frameEvent.getDuration("psf").toNanos());
+        assertEquals(6L, frameEvent.getDuration("conversion").toNanos());
+        
+        assertNotNull(callEvent);
+        assertEquals("getNextImage", callEvent.getString("method"));
+        assertEquals(7, callEvent.getInt("simulationId"));
+        assertEquals(2048L, callEvent.getLong("payloadBytes"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.metrics;
+
+import com.google.gson.JsonObject;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the LatencyHistogram class.
+ */
+public class LatencyHistogramTest {
+    
+    /**
+     * Every value must fall inside the bucket that it is assigned to.
+     */
+    @Test
+    public void testBuckets() {
+        System.out.println("buckets");
+        long[] values = {0, 1, 3, 4, 7, 8, 9, 15, 16, 1000, 123456789,
+                         Long.MAX_VALUE / 3};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long lower = LatencyHistogram.bucketLowerBound(index);
+            long width = LatencyHistogram.bucketWidth(index);
+            assertTrue(value >= lower);
+            assertTrue(value - lower < width);
+            
+            // Buckets are at most 25% as wide as the values they contain.
+            assertTrue(width == 1 || 4 * width <= lower);
+        }
+    }
+    
+    /**
+     * Test of record and the getters, of class LatencyHistogram.
+     */
+    @Test
+    public void testRecord() {
+        System.out.println("record");
+        LatencyHistogram instance = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            instance.record(i * 1000);
+        }
+        instance.record(-5);
+        
+        assertEquals(1000, instance.getCount());
+        assertEquals(1000, instance.getMinNanos());
+        assertEquals(1000000, instance.getMaxNanos());
+        assertEquals(500500.0, instance.getMeanNanos(), 1e-9);
+        assertEquals(500000, instance.getPercentileNanos(50), 500000 * 0.125);
+        assertEquals(990000, instance.getPercentileNanos(99), 990000 * 0.125);
+        assertEquals(1000000, instance.getPercentileNanos(100));
+        assertEquals(1000, instance.getPercentileNanos(0));
+    }
+    
+    /**
+     * Test of reset method, of class LatencyHistogram.
+     */
+    @Test
+    public void testReset() {
+        System.out.println("reset");
+        LatencyHistogram instance = new LatencyHistogram();
+        instance.record(42);
+        instance.reset();
+        
+        assertEquals(0, instance.getCount());
+        assertEquals(0, instance.getMinNanos());
+        assertEquals(0, instance.getMaxNanos());
+        assertEquals(0, instance.getPercentileNanos(50));
+    }
+    
+    /**
+     * Test of toJson method, of class LatencyHistogram.
+     */
+    @Test
+    public void testToJson() {
+        System.out.println("toJson");
+        LatencyHistogram instance = new LatencyHistogram();
+        instance.record(2000);
+        instance.record(4000);
+        
+        JsonObject json = instance.toJson();
+        assertEquals(2, json.get("count").getAsLong());
+        assertEquals(6.0, json.get("totalMicros").getAsDouble(), 1e-9);
+        assertEquals(3.0, json.get("meanMicros").getAsDouble(), 1e-9);
+        assertEquals(2.0, json.get("minMicros").getAsDouble(), 1e-9);
+        assertEquals(4.0, json.get("maxMicros").getAsDouble(), 1e-9);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2017-2018 Laboratory of Experimental Biophysics
+ * Ecole Polytechnique Federale de Lausanne
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ch.epfl.leb.sass.utils.metrics;
+
+import com.google.gson.JsonObject;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the SimulationMetrics class.
+ */
+public class SimulationMetricsTest {
+    
+    /**
+     * Test of the rates, of class SimulationMetrics.
+     */
+    @Test
+    public void testRates() {
+        System.out.println("rates");
+        SimulationMetrics instance = new SimulationMetrics();
+        assertEquals(0, instance.getFramesPerSecond(), 0);
+        
+        // Two frames of 250 ms each with 10 emitters and 5 transitions.
+        for (int i = 0; i < 2; i++) {
+            instance.record(SimulationMetrics.Stage.FRAME, 250000000L);
+            instance.addFrame(10);
+            instance.addTransitions(5);
+        }
+        
+        assertEquals(2, instance.getFrameCount());
+        assertEquals(20, instance.getEmitterCount());
+        assertEquals(10, instance.getTransitionCount());
+        assertEquals(4, instance.getFramesPerSecond(), 1e-9);
+        assertEquals(40, instance.getEmittersPerSecond(), 1e-9);
+        assertEquals(20, instance.getTransitionsPerSecond(), 1e-9);
+    }
+    
+    /**
+     * Test of lap method, of class SimulationMetrics.
+     */
+    @Test
+    public void testLap() {
+        System.out.println("lap");
+        SimulationMetrics instance = new SimulationMetrics();
+        long start = System.nanoTime();
+        long end = instance.lap(SimulationMetrics.Stage.NOISE, start);
+        
+        LatencyHistogram histogram =
+                instance.getHistogram(SimulationMetrics.Stage.NOISE);
+        assertEquals(1, histogram.getCount());
+        assertEquals(end - start, histogram.getTotalNanos());
+        assertEquals(0, instance.getHistogram(SimulationMetrics.Stage.PSF)
+                                .getCount());
+    }
+    
+    /**
+     * Test of reset method, of class SimulationMetrics.
+     */
+    @Test
+    public void testReset() {
+        System.out.println("reset");
+        SimulationMetrics instance = new SimulationMetrics();
+        instance.record(SimulationMetrics.Stage.FRAME, 1000);
+        instance.addFrame(3);
+        instance.addTransitions(2);
+        instance.reset();
+        
+        assertEquals(0, instance.getFrameCount());
+        assertEquals(0, instance.getEmitterCount());
+        assertEquals(0, instance.getTransitionCount());
+        assertEquals(0, instance.getHistogram(SimulationMetrics.Stage.FRAME)
+                                .getCount());
+    }
+    
+    /**
+     * Test of toJson method, of class SimulationMetrics.
+     */
+    @Test
+    public void testToJson() {
+        System.out.println("toJson");
+        SimulationMetrics instance = new SimulationMetrics();
+        instance.setEnabled(false);
+        
+        JsonObject json = instance.toJson();
+        assertFalse(json.get("enabled").getAsBoolean());
+        assertEquals(0, json.get("frames").getAsLong());
+        JsonObject stages = json.getAsJsonObject("stages");
+        for (SimulationMetrics.Stage stage : SimulationMetrics.Stage.values()) {
+            assertTrue(stages.has(stage.name()));
+        }
+    }
+}
@@ -48,6 +48,13 @@ service RemoteSimulationService {
    */
   string getCameraJsonName(1: i32 id) throws (1: UnknownSimulationIdException ex),
 
+  /**
+   * Returns the fluorophores whose positions lie inside a rectangle as a
+   * JSON string. The bounds are in pixels; the lower bounds are inclusive
+   * and the upper bounds exclusive.
+   */
+  string getEmittersInRegion(1: i32 id, 2: double xMin, 3: double yMin, 4: double xMax, 5: double yMax) throws (1: UnknownSimulationIdException ex),
+
   /**
    * Gets the name of the JSON key for the fluoresence information.
    */
@@ -68,6 +75,12 @@ service RemoteSimulationService {
    */
   string getLaserJsonName(1: i32 id) throws (1: UnknownSimulationIdException ex),
 
+  /**
+   * Returns the timing and throughput statistics of the simulation as a
+   * JSON string.
+   */
+  string getMetrics(1: i32 id) throws (1: UnknownSimulationIdException ex),
+
   /**
    * Increments the simulation by one time step and returns an image.
    */
@@ -86,6 +99,13 @@ service RemoteSimulationService {
    */
   double getObjectSpacePixelSize(1: i32 id) throws (1: UnknownSimulationIdException ex),
 
+  /**
+   * Returns the number of emitting fluorophores inside a rectangle. The
+   * bounds are in pixels; the lower bounds are inclusive and the upper
+   * bounds exclusive.
+   */
+  i32 getOnEmitterCountInRegion(1: i32 id, 2: double xMin, 3: double yMin, 4: double xMax, 5: double yMax) throws (1: UnknownSimulationIdException ex),
+
   /**
    * Returns the simulation server's current status.
    */
@@ -106,15 +126,49 @@ service RemoteSimulationService {
    */
   double getTrueSignal(1: i32 id, 2: i32 imageNum) throws (1: UnknownSimulationIdException ex),
 
+  /**
+   * Returns the ground truth statistics of the time steps in
+   * [firstStep, lastStep) as a JSON string.
+   */
+  string getGroundTruth(1: i32 id, 2: i32 firstStep, 3: i32 lastStep) throws (1: UnknownSimulationIdException ex),
+
   /**
    * Advances the simulation without creating a new image.
    */
   void incrementTimeStep(1: i32 id) throws (1: UnknownSimulationIdException ex),
 
+  /**
+   * Advances the simulation by several time steps without creating images.
+   * Only the fluorophores and the ground truth signal are updated.
+   */
+  void advance(1: i32 id, 2: i32 nFrames) throws (1: UnknownSimulationIdException ex),
+
   /**
    * Changes the simulation's control signal.
    */
-  void setControlSignal(1: i32 id, 2: double power) throws (1: UnknownSimulationIdException ex)
+  void setControlSignal(1: i32 id, 2: double power) throws (1: UnknownSimulationIdException ex),
+
+  /**
+   * Moves the microscope stage. The images of the emitters follow the stage
+   * from the next image on. Lateral positions are in the units of the
+   * object space pixel size. Any stage trajectory is cancelled.
+   */
+  void setStagePosition(1: i32 id, 2: double x, 3: double y, 4: double z) throws (1: UnknownSimulationIdException ex),
+
+  /**
+   * Moves the microscope stage along a trajectory, one position per image.
+   * The trajectory is a JSON array of [x, y, z] arrays. The stage stays at
+   * the last position once the trajectory is finished.
+   */
+  void setStageTrajectory(1: i32 id, 2: string trajectory) throws (1: UnknownSimulationIdException ex),
+
+  /**
+   * Modulates the laser power with a piecewise-constant schedule that starts
+   * with the next image. The schedule is a JSON object with the "durations"
+   * and "powers" arrays of its segments and an optional "repeat" flag; null
+   * removes it. Changing the control signal also removes it.
+   */
+  void setLaserSchedule(1: i32 id, 2: string schedule) throws (1: UnknownSimulationIdException ex),
 
   /**
    * Returns information about changes in the state of the simulation